@@ -0,0 +1,45 @@
+package com.nhl.whoshotbackend.config;
+
+import com.nhl.whoshotbackend.service.DataStatusService;
+import com.nhl.whoshotbackend.service.SyncLeaseService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports readiness of season data through Actuator health (as the "data" component).
+ * OUT_OF_SERVICE until data has been restored from a snapshot or synced from upstream; after a failed sync
+ * the details carry its error and when the startup sync is retried.
+ */
+@Component("data")
+public class DataHealthIndicator implements HealthIndicator {
+
+    private final DataStatusService dataStatusService;
+    private final SyncLeaseService syncLeaseService;
+
+    public DataHealthIndicator(DataStatusService dataStatusService, SyncLeaseService syncLeaseService) {
+        this.dataStatusService = dataStatusService;
+        this.syncLeaseService = syncLeaseService;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = dataStatusService.isReady() ? Health.up() : Health.outOfService();
+        builder.withDetail("syncInProgress", dataStatusService.isSyncInProgress());
+        builder.withDetail("syncLeader", syncLeaseService.isLeader());
+        if (dataStatusService.getSource() != null) {
+            builder.withDetail("source", dataStatusService.getSource());
+            builder.withDetail("dataAsOf", dataStatusService.getDataAsOf().toString());
+        }
+        if (dataStatusService.getLastSyncCompleted() != null) {
+            builder.withDetail("lastSyncCompleted", dataStatusService.getLastSyncCompleted().toString());
+        }
+        if (dataStatusService.getLastSyncError() != null) {
+            builder.withDetail("lastSyncError", dataStatusService.getLastSyncError());
+        }
+        if (dataStatusService.getNextSyncRetry() != null) {
+            builder.withDetail("nextSyncRetry", dataStatusService.getNextSyncRetry().toString());
+        }
+        return builder.build();
+    }
+}
@@ -1,49 +1,185 @@
 package com.nhl.whoshotbackend.config;
 
-import com.nhl.whoshotbackend.service.DataIntegrationService;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.service.DataStatusService;
 import com.nhl.whoshotbackend.service.NhlApiService;
 import com.nhl.whoshotbackend.service.StatisticsService;
+import com.nhl.whoshotbackend.service.SyncLeaseService;
+import com.nhl.whoshotbackend.service.SyncService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Initializes data on application startup.
- * Syncs data for the current season by default.
+ * Serves whatever season data is already available locally (SQLite, or a snapshot when the database
+ * is empty) as soon as it is queryable, and syncs the current season from the NHL API in the background.
+ * When replicas share a database only the holder of the sync lease restores and syncs; the others load
+ * what is stored and follow the data versions the leader publishes. The leader's restore and recalculation
+ * write through {@link SyncService}, fenced by the lease like every sync, and startup waits for them.
+ * A failed startup sync is retried with a doubling delay until one succeeds, so an instance started while
+ * upstream is unreachable does not stay without data.
  */
 @Component
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
 
-    private final DataIntegrationService dataIntegrationService;
     private final StatisticsService statisticsService;
+    private final DataStatusService dataStatusService;
     private final NhlApiService nhlApiService;
+    private final SyncLeaseService syncLeaseService;
+    private final SyncService syncService;
+    private final TaskScheduler taskScheduler;
+    private final long retryDelayMs;
+    private final long maxRetryDelayMs;
 
     public DataInitializer(
-            DataIntegrationService dataIntegrationService,
             StatisticsService statisticsService,
-            NhlApiService nhlApiService) {
-        this.dataIntegrationService = dataIntegrationService;
+            DataStatusService dataStatusService,
+            NhlApiService nhlApiService,
+            SyncLeaseService syncLeaseService,
+            SyncService syncService,
+            TaskScheduler taskScheduler,
+            @Value("${nhl.sync.initial-retry.delay-ms:30000}") long retryDelayMs,
+            @Value("${nhl.sync.initial-retry.max-delay-ms:900000}") long maxRetryDelayMs) {
         this.statisticsService = statisticsService;
+        this.dataStatusService = dataStatusService;
         this.nhlApiService = nhlApiService;
+        this.syncLeaseService = syncLeaseService;
+        this.syncService = syncService;
+        this.taskScheduler = taskScheduler;
+        this.retryDelayMs = retryDelayMs;
+        this.maxRetryDelayMs = maxRetryDelayMs;
     }
 
     @Override
     public void run(String... args) {
         String currentSeason = nhlApiService.getCurrentSeason();
-        log.info("=== Starting initial data synchronization for season {} ===", currentSeason);
 
+        if (!syncLeaseService.acquire()) {
+            // Another replica fetches and writes; serve what it has stored and refresh as it publishes
+            log.info("Replica {} holds the sync lease; following its published data",
+                    syncLeaseService.getHolderId().orElse("unknown"));
+            long dataVersion = syncLeaseService.getDataVersion();
+            loadStoredData(currentSeason, false);
+            syncLeaseService.markRefreshed(dataVersion);
+            return;
+        }
+
+        Optional<Instant> snapshotCreatedAt = restoreSnapshot(currentSeason);
+        if (snapshotCreatedAt.isPresent()) {
+            dataStatusService.markReady(DataStatusService.SOURCE_SNAPSHOT, snapshotCreatedAt.get());
+        } else {
+            loadStoredData(currentSeason, true);
+        }
+
+        // Never block startup on upstream; stored data is served while the sync runs on the sync executors
+        syncSeason(currentSeason, retryDelayMs);
+    }
+
+    /**
+     * Restore a season from its local snapshot and rebuild derived state and in-memory indexes.
+     */
+    private Optional<Instant> restoreSnapshot(String season) {
         try {
-            // Sync all data from NHL API for current season
-            dataIntegrationService.syncStandings(currentSeason);
-            dataIntegrationService.syncPlayerStats(currentSeason);
+            return syncService.restoreSnapshot(season).join();
+        } catch (Exception e) {
+            log.warn("Could not restore snapshot for season {}; serving stored data only", season, e);
+            return Optional.empty();
+        }
+    }
 
-            // Calculate hot ratings and streaks for current season
-            statisticsService.calculateHotRatings(currentSeason);
+    /**
+     * Build in-memory indexes from data already in SQLite and mark it ready if there is any.
+     * The data age is taken from the most recent team update.
+     * @param recalculate Whether to recalculate ratings first; followers must not write
+     */
+    private void loadStoredData(String season, boolean recalculate) {
+        try {
+            List<Team> teams = statisticsService.getStandings(season);
+            if (teams.isEmpty()) {
+                log.info("No stored data for season {}; waiting for the initial sync", season);
+                return;
+            }
+            if (recalculate) {
+                syncService.recalculateStored(season).join();
+            } else {
+                statisticsService.refreshIndexes(season);
+            }
 
-            log.info("=== Initial data synchronization completed successfully for season {} ===", currentSeason);
+            Instant dataAsOf = teams.stream()
+                    .map(Team::getLastUpdated)
+                    .filter(Objects::nonNull)
+                    .max(String::compareTo)
+                    .map(this::parseTimestamp)
+                    .orElse(Instant.EPOCH);
+            dataStatusService.markReady(DataStatusService.SOURCE_DATABASE, dataAsOf);
         } catch (Exception e) {
-            log.error("Error during initial data synchronization. Application will continue but may have incomplete data.", e);
+            log.warn("Could not load stored data for season {}; waiting for the initial sync", season, e);
         }
     }
+
+    private Instant parseTimestamp(String timestamp) {
+        try {
+            return LocalDateTime.parse(timestamp).atZone(ZoneId.systemDefault()).toInstant();
+        } catch (DateTimeParseException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    /**
+     * Sync a season from the NHL API, recalculate ratings and write a fresh snapshot; retry if that fails.
+     * @param retryDelayMs Delay before retrying if this attempt fails
+     */
+    private void syncSeason(String season, long retryDelayMs) {
+        log.info("=== Starting initial data synchronization for season {} ===", season);
+        CompletableFuture<Void> sync;
+        try {
+            sync = syncService.syncSeason(season);
+        } catch (RuntimeException e) {
+            sync = CompletableFuture.failedFuture(e);
+        }
+        sync.whenComplete((ignored, e) -> {
+            if (e == null) {
+                log.info("=== Initial data synchronization completed successfully for season {} ===", season);
+            } else {
+                log.error("Error during initial data synchronization. Application will continue but may have incomplete data.", e);
+                scheduleRetry(season, retryDelayMs);
+            }
+        });
+    }
+
+    /**
+     * Retry the startup sync after a delay, unless this replica has lost the sync lease or another sync
+     * has succeeded by then.
+     */
+    private void scheduleRetry(String season, long delayMs) {
+        Instant at = Instant.now().plusMillis(delayMs);
+        dataStatusService.syncRetryScheduled(at);
+        log.warn("Retrying initial data synchronization for season {} in {} s", season, delayMs / 1000);
+        taskScheduler.schedule(() -> {
+            if (!syncLeaseService.isLeader()) {
+                dataStatusService.syncRetryScheduled(null);
+                log.info("Replica no longer holds the sync lease; not retrying the initial sync");
+                return;
+            }
+            if (dataStatusService.getLastSyncError() == null) {
+                dataStatusService.syncRetryScheduled(null);
+                log.info("A sync has succeeded since; not retrying the initial sync");
+                return;
+            }
+            syncSeason(season, Math.min(delayMs * 2, maxRetryDelayMs));
+        }, at);
+    }
 }
@@ -0,0 +1,94 @@
+package com.nhl.whoshotbackend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named hot/cold rule sets, bound from nhl.rules.
+ * Each set has a hot, a cold and a point-streak rule for players and for teams; a rule a set leaves out
+ * keeps its default. The active set decides the flags stored on players and teams, and every set is
+ * evaluated together on each recalculation.
+ */
+@Component
+@ConfigurationProperties(prefix = "nhl.rules")
+@Data
+public class HotColdRuleProperties {
+
+    public static final String DEFAULT_RULE_SET = "default";
+
+    private String active = DEFAULT_RULE_SET; // Rule set whose flags are stored on players and teams
+    private Map<String, RuleSet> sets = new LinkedHashMap<>(Map.of(DEFAULT_RULE_SET, new RuleSet()));
+
+    /**
+     * What a rule measures. Windowed metrics are taken over the most recent games.
+     */
+    public enum Metric {
+        POINTS_PER_GAME(false, true),
+        GOALS_PER_GAME(false, true),
+        SHOTS_PER_GAME(false, true),
+        POINT_STREAK(false, false),
+        WIN_STREAK(true, false),
+        LOSS_STREAK(true, false),
+        WIN_PERCENTAGE(true, true);
+
+        private final boolean team;
+        private final boolean windowed;
+
+        Metric(boolean team, boolean windowed) {
+            this.team = team;
+            this.windowed = windowed;
+        }
+
+        public boolean isTeam() {
+            return team;
+        }
+
+        public boolean isWindowed() {
+            return windowed;
+        }
+    }
+
+    /**
+     * How a metric is compared with a rule's threshold.
+     */
+    public enum Comparison {
+        GT, GE, LT, LE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private Metric metric;
+        private int window; // Most recent games a windowed metric is taken over
+        private int minGames; // Games needed in the window (or played, for streaks) before the rule can match
+        private Comparison comparison;
+        private double threshold;
+    }
+
+    @Data
+    public static class PlayerRules {
+        private Rule hot = new Rule(Metric.POINTS_PER_GAME, 3, 3, Comparison.GT, 1.5);
+        private Rule cold = new Rule(Metric.POINTS_PER_GAME, 4, 4, Comparison.LT, 0.2);
+        private Rule pointStreak = new Rule(Metric.POINT_STREAK, 0, 0, Comparison.GE, 5);
+    }
+
+    @Data
+    public static class TeamRules {
+        private Rule hot = new Rule(Metric.WIN_STREAK, 0, 0, Comparison.GE, 3);
+        private Rule cold = new Rule(Metric.LOSS_STREAK, 0, 0, Comparison.GE, 3);
+        private Rule pointStreak = new Rule(Metric.WIN_STREAK, 0, 0, Comparison.GE, 5);
+    }
+
+    @Data
+    public static class RuleSet {
+        private PlayerRules player = new PlayerRules();
+        private TeamRules team = new TeamRules();
+    }
+}
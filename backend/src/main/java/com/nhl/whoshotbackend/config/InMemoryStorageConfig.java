@@ -0,0 +1,46 @@
+package com.nhl.whoshotbackend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Configuration for the in-memory storage engine ("memory" profile).
+ * The datasource and JPA are disabled in application-memory.yml; the repositories are the
+ * concurrent map-based implementations in the repository.memory package.
+ */
+@Configuration
+@Profile("memory")
+public class InMemoryStorageConfig {
+
+    /**
+     * Transaction manager without a resource: the in-memory engine applies each write immediately,
+     * so @Transactional methods and transaction templates only demarcate work.
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new AbstractPlatformTransactionManager() {
+
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+            }
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+            }
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.nhl.whoshotbackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+
+/**
+ * Makes every read-write transaction take SQLite's write lock as soon as it begins, as BEGIN IMMEDIATE would.
+ * In WAL mode a transaction that reads first and writes later fails with SQLITE_BUSY_SNAPSHOT, without waiting
+ * for busy_timeout, if another connection (a lease heartbeat, another replica) committed in between.
+ * Taking the lock first makes such writers queue behind each other instead. Read-only transactions are left
+ * deferred, so reads never wait for writers.
+ * Registered with the JPA transaction manager as a transaction execution listener.
+ */
+@Component
+@Profile("!memory")
+@Slf4j
+public class SqliteWriteTransactions implements TransactionExecutionListener {
+
+    // A write to the lease table that changes nothing; any write statement takes the database write lock
+    private static final String TAKE_WRITE_LOCK = "UPDATE sync_leases SET expires_at = expires_at WHERE 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SqliteWriteTransactions(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(TAKE_WRITE_LOCK);
+        } catch (DataAccessException e) {
+            // Leave the transaction to fail, and roll back, on its own first write
+            log.warn("Could not take the database write lock at transaction start: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.nhl.whoshotbackend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executors that keep sync work apart from request serving (bulkheads).
+ * - fetch: upstream NHL API calls; a full queue makes the submitting sync thread fetch itself
+ * - persist: every database write, rating recalculation included; one thread since SQLite has a single writer
+ * - compute: in-memory index rebuilds and snapshots, reading committed data only
+ * Sync therefore holds at most two pooled JDBC connections, leaving the rest to reads.
+ * Thread priorities are not used since HotSpot ignores them on Linux by default; the bounded pools and queues
+ * are what keep sync from starving request threads. Pool sizes, active and queued tasks are published as "executor.*" metrics tagged with name=sync.fetch, sync.persist and sync.compute,
+ * plus "executor.queue.capacity".
+ */
+@Component
+@Slf4j
+public class SyncExecutors {
+
+    private final ThreadPoolExecutor fetchPool;
+    private final ThreadPoolExecutor persistPool;
+    private final ThreadPoolExecutor computePool;
+    private final ExecutorService fetch;
+    private final ExecutorService persist;
+    private final ExecutorService compute;
+
+    public SyncExecutors(
+            MeterRegistry meterRegistry,
+            @Value("${nhl.sync.executors.fetch.threads:4}") int fetchThreads,
+            @Value("${nhl.sync.executors.fetch.queue:64}") int fetchQueue,
+            @Value("${nhl.sync.executors.persist.queue:8}") int persistQueue,
+            @Value("${nhl.sync.executors.compute.threads:1}") int computeThreads,
+            @Value("${nhl.sync.executors.compute.queue:8}") int computeQueue) {
+        this.fetchPool = newPool("sync-fetch-", fetchThreads, fetchQueue, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.persistPool = newPool("sync-persist-", 1, persistQueue, new ThreadPoolExecutor.AbortPolicy());
+        this.computePool = newPool("sync-compute-", computeThreads, computeQueue, new ThreadPoolExecutor.AbortPolicy());
+        this.fetch = monitor(meterRegistry, fetchPool, "sync.fetch", fetchQueue);
+        this.persist = monitor(meterRegistry, persistPool, "sync.persist", persistQueue);
+        this.compute = monitor(meterRegistry, computePool, "sync.compute", computeQueue);
+    }
+
+    /**
+     * Run database writes on the persist executor.
+     * @throws java.util.concurrent.RejectedExecutionException if too many syncs are already queued
+     */
+    public <T> CompletableFuture<T> persist(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, persist);
+    }
+
+    /**
+     * Run a recomputation on the compute executor.
+     * @throws java.util.concurrent.RejectedExecutionException if too many recomputations are already queued
+     */
+    public <T> CompletableFuture<T> compute(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, compute);
+    }
+
+    /**
+     * Fetch a batch from upstream on the fetch executor and wait for all of it, keeping input order.
+     * A failed fetch yields null, as the NHL API client does for a failed request.
+     */
+    public <K, R> List<R> fetchAll(List<K> keys, Function<K, R> fetcher) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            futures.add(CompletableFuture.supplyAsync(() -> fetcher.apply(key), fetch)
+                    .exceptionally(e -> {
+                        log.warn("Upstream fetch failed for {}: {}", key, e.getMessage());
+                        return null;
+                    }));
+        }
+        List<R> results = new ArrayList<>(keys.size());
+        for (CompletableFuture<R> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchPool.shutdownNow();
+        persistPool.shutdownNow();
+        computePool.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor newPool(String threadNamePrefix, int threads, int queueCapacity,
+                                              RejectedExecutionHandler rejectionHandler) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, rejectionHandler);
+    }
+
+    private static ExecutorService monitor(MeterRegistry meterRegistry, ThreadPoolExecutor pool, String name,
+                                           int queueCapacity) {
+        Gauge.builder("executor.queue.capacity", () -> queueCapacity)
+                .description("The maximum number of tasks that can be queued")
+                .tag("name", name)
+                .register(meterRegistry);
+        return ExecutorServiceMetrics.monitor(meterRegistry, pool, name);
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhl.whoshotbackend.config;
+
+import com.nhl.whoshotbackend.service.DataStatusService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration.
+ * Adds data freshness headers to API responses so clients can tell stored data from freshly synced data.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    public static final String DATA_AGE_HEADER = "X-Data-Age"; // Seconds since the data was pulled from upstream
+    public static final String DATA_SOURCE_HEADER = "X-Data-Source"; // database, snapshot or sync
+    public static final String SYNC_IN_PROGRESS_HEADER = "X-Data-Sync-In-Progress";
+
+    private final DataStatusService dataStatusService;
+
+    public WebConfig(DataStatusService dataStatusService) {
+        this.dataStatusService = dataStatusService;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                Long dataAgeSeconds = dataStatusService.getDataAgeSeconds();
+                if (dataAgeSeconds != null) {
+                    response.setHeader(DATA_AGE_HEADER, String.valueOf(dataAgeSeconds));
+                    response.setHeader(DATA_SOURCE_HEADER, dataStatusService.getSource());
+                }
+                response.setHeader(SYNC_IN_PROGRESS_HEADER, String.valueOf(dataStatusService.isSyncInProgress()));
+                return true;
+            }
+        }).addPathPatterns("/api/**").excludePathPatterns("/api/assets/**");
+    }
+}
@@ -0,0 +1,93 @@
+package com.nhl.whoshotbackend.controller;
+
+import com.nhl.whoshotbackend.service.AssetCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * REST controller serving team logos and player headshots from the local asset cache.
+ * Assets are keyed by their upstream URL, which is versioned by NHL (season, team, player),
+ * so responses are cached by browsers as immutable.
+ */
+@RestController
+@RequestMapping("/api/assets")
+@Tag(name = "Assets", description = "Cached team logos and player headshots")
+@Slf4j
+@CrossOrigin(origins = "*")
+public class AssetController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Tomcat request attributes for zero-copy sendfile transfer
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AssetCacheService assetCacheService;
+
+    public AssetController(AssetCacheService assetCacheService) {
+        this.assetCacheService = assetCacheService;
+    }
+
+    /**
+     * Serve a cached logo or headshot, fetching it from the NHL asset host on first use.
+     */
+    @GetMapping
+    @Operation(summary = "Get asset", description = "Returns a team logo or player headshot from the local cache, optionally resized to a thumbnail size")
+    public void getAsset(
+            @RequestParam String url,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Path asset;
+        try {
+            asset = assetCacheService.getAsset(url, size);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        } catch (Exception e) {
+            log.warn("Could not fetch asset {}: {}", url, e.getMessage());
+            response.sendError(HttpServletResponse.SC_BAD_GATEWAY, "Asset could not be fetched");
+            return;
+        }
+
+        // The cache file name is a hash of URL and size, so it doubles as a strong ETag
+        String etag = "\"" + asset.getFileName() + "\"";
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long length = Files.size(asset);
+        response.setContentType(assetCacheService.getContentType(asset));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setContentLengthLong(length);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Let Tomcat transfer the file with sendfile, without copying it through the JVM heap
+            request.setAttribute(SENDFILE_FILENAME, asset.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(asset, StandardOpenOption.READ)) {
+            OutputStream output = response.getOutputStream();
+            channel.transferTo(0, length, Channels.newChannel(output));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.nhl.whoshotbackend.controller;
+
+import com.nhl.whoshotbackend.dto.ChangeFeed;
+import com.nhl.whoshotbackend.service.ChangeLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST controller for the change log.
+ * Consumers poll with the nextSince of their previous page to receive only what changed.
+ */
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Changes", description = "Incremental feed of hot/cold, rating and streak changes")
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ChangeLogController {
+
+    private final ChangeLogService changeLogService;
+
+    public ChangeLogController(ChangeLogService changeLogService) {
+        this.changeLogService = changeLogService;
+    }
+
+    /**
+     * Get changes recorded after a version.
+     */
+    @GetMapping
+    @Operation(summary = "Get changes since a version", description = "Returns change log entries after the given version in version order, optionally for one season; pass nextSince to fetch the next page")
+    public ResponseEntity<?> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) String season,
+            @RequestParam(defaultValue = "500") int limit) {
+        log.info("GET /api/changes?since={}&season={}&limit={}", since, season, limit);
+        try {
+            ChangeFeed feed = changeLogService.getChangesSince(since, season, limit);
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.nhl.whoshotbackend.controller;
 
-import com.nhl.whoshotbackend.service.DataIntegrationService;
-import com.nhl.whoshotbackend.service.StatisticsService;
+import com.nhl.whoshotbackend.service.ArchiveService;
+import com.nhl.whoshotbackend.service.StreakStateService;
+import com.nhl.whoshotbackend.service.SyncLeaseService;
+import com.nhl.whoshotbackend.service.SyncService;
 import com.nhl.whoshotbackend.util.SeasonValidator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * REST controller for data synchronization endpoints.
+ * Endpoints that write are only served by the replica holding the sync lease; others answer 409.
+ * The work runs on the bounded sync executors and the response completes asynchronously, so a sync
+ * never holds a Tomcat thread; when the sync queues are full the request is refused with 503.
  */
 @RestController
 @RequestMapping("/api/data")
@@ -21,14 +31,20 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class DataController {
 
-    private final DataIntegrationService dataIntegrationService;
-    private final StatisticsService statisticsService;
+    private final StreakStateService streakStateService;
+    private final ArchiveService archiveService;
+    private final SyncLeaseService syncLeaseService;
+    private final SyncService syncService;
 
     public DataController(
-            DataIntegrationService dataIntegrationService,
-            StatisticsService statisticsService) {
-        this.dataIntegrationService = dataIntegrationService;
-        this.statisticsService = statisticsService;
+            StreakStateService streakStateService,
+            ArchiveService archiveService,
+            SyncLeaseService syncLeaseService,
+            SyncService syncService) {
+        this.streakStateService = streakStateService;
+        this.archiveService = archiveService;
+        this.syncLeaseService = syncLeaseService;
+        this.syncService = syncService;
     }
 
     /**
@@ -36,40 +52,24 @@ public class DataController {
      */
     @PostMapping("/sync")
     @Operation(summary = "Sync data", description = "Manually trigger data synchronization from NHL API for a specific season")
-    public ResponseEntity<Map<String, String>> syncData(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> syncData(
             @RequestParam(required = false) String season) {
         log.info("POST /api/data/sync - Manual sync triggered for season: {}", season != null ? season : "current");
-        try {
-            // Validate season if provided
-            if (season != null && !SeasonValidator.isValidSeasonId(season)) {
-                return ResponseEntity.badRequest().body(Map.of(
-                        "status", "error",
-                        "message", "Invalid season ID. Must be in format YYYYYYYY (e.g., 20252026)"
-                ));
-            }
-
-            dataIntegrationService.syncStandings(season);
-            dataIntegrationService.syncPlayerStats(season);
-
-            // Get actual season ID for calculateHotRatings
-            String actualSeasonId = season;
-            if (actualSeasonId == null) {
-                actualSeasonId = SeasonValidator.getCurrentSeasonId();
-            }
-            statisticsService.calculateHotRatings(actualSeasonId);
-
-            String seasonDisplay = season != null ? SeasonValidator.formatSeason(season) : "current";
-            return ResponseEntity.ok(Map.of(
-                    "status", "success",
-                    "message", "Data synchronization completed successfully for " + seasonDisplay + " season"
-            ));
-        } catch (Exception e) {
-            log.error("Error during manual sync", e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "status", "error",
-                    "message", "Data synchronization failed: " + e.getMessage()
-            ));
+        // Validate season if provided
+        if (season != null && !SeasonValidator.isValidSeasonId(season)) {
+            return CompletableFuture.completedFuture(invalidSeason());
+        }
+        if (season != null && archiveService.isArchived(season)) {
+            return CompletableFuture.completedFuture(archivedSeason(season));
+        }
+        if (!syncLeaseService.acquire()) {
+            return CompletableFuture.completedFuture(notLeader());
         }
+
+        String seasonDisplay = season != null ? SeasonValidator.formatSeason(season) : "current";
+        return respond(() -> syncService.syncSeason(season),
+                "Data synchronization completed successfully for " + seasonDisplay + " season",
+                "Data synchronization failed: ");
     }
 
     /**
@@ -77,21 +77,14 @@ public class DataController {
      */
     @PostMapping("/sync/standings")
     @Operation(summary = "Sync standings", description = "Sync only team standings data")
-    public ResponseEntity<Map<String, String>> syncStandings() {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> syncStandings() {
         log.info("POST /api/data/sync/standings");
-        try {
-            dataIntegrationService.syncStandings();
-            return ResponseEntity.ok(Map.of(
-                    "status", "success",
-                    "message", "Standings synchronized successfully"
-            ));
-        } catch (Exception e) {
-            log.error("Error syncing standings", e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "status", "error",
-                    "message", "Standings sync failed: " + e.getMessage()
-            ));
+        if (!syncLeaseService.acquire()) {
+            return CompletableFuture.completedFuture(notLeader());
         }
+        return respond(syncService::syncStandings,
+                "Standings synchronized successfully",
+                "Standings sync failed: ");
     }
 
     /**
@@ -99,38 +92,155 @@ public class DataController {
      */
     @PostMapping("/sync/players")
     @Operation(summary = "Sync player stats", description = "Sync player statistics for a specific season or current season")
-    public ResponseEntity<Map<String, String>> syncPlayers(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> syncPlayers(
             @RequestParam(required = false) String season) {
         log.info("POST /api/data/sync/players - Season: {}", season != null ? season : "current");
+        // Validate season if provided
+        if (season != null && !SeasonValidator.isValidSeasonId(season)) {
+            return CompletableFuture.completedFuture(invalidSeason());
+        }
+        if (season != null && archiveService.isArchived(season)) {
+            return CompletableFuture.completedFuture(archivedSeason(season));
+        }
+        if (!syncLeaseService.acquire()) {
+            return CompletableFuture.completedFuture(notLeader());
+        }
+
+        String seasonDisplay = season != null ? SeasonValidator.formatSeason(season) : "current";
+        return respond(() -> syncService.syncPlayers(season),
+                "Player stats synchronized successfully for " + seasonDisplay + " season",
+                "Player stats sync failed: ");
+    }
+
+    /**
+     * Compare stored streak state with a full recomputation from game logs.
+     */
+    @GetMapping("/streak-state/verify")
+    @Operation(summary = "Verify streak state", description = "Compare incrementally maintained streak state with a full recomputation for a season")
+    public ResponseEntity<?> verifyStreakState(
+            @RequestParam(required = false) String season) {
+        String actualSeasonId = season != null ? season : SeasonValidator.getCurrentSeasonId();
+        log.info("GET /api/data/streak-state/verify - Season: {}", actualSeasonId);
+        if (!SeasonValidator.isValidSeasonId(actualSeasonId)) {
+            return invalidSeason();
+        }
+        return ResponseEntity.ok(streakStateService.verifySeason(actualSeasonId));
+    }
+
+    /**
+     * Rebuild streak state from a full rescan and recalculate ratings.
+     */
+    @PostMapping("/streak-state/rebuild")
+    @Operation(summary = "Rebuild streak state", description = "Rebuild streak state for a season from a full rescan of game logs and team games")
+    public CompletableFuture<ResponseEntity<Map<String, String>>> rebuildStreakState(
+            @RequestParam(required = false) String season) {
+        String actualSeasonId = season != null ? season : SeasonValidator.getCurrentSeasonId();
+        log.info("POST /api/data/streak-state/rebuild - Season: {}", actualSeasonId);
+        if (!SeasonValidator.isValidSeasonId(actualSeasonId)) {
+            return CompletableFuture.completedFuture(invalidSeason());
+        }
+        if (archiveService.isArchived(actualSeasonId)) {
+            return CompletableFuture.completedFuture(archivedSeason(actualSeasonId));
+        }
+        if (!syncLeaseService.acquire()) {
+            return CompletableFuture.completedFuture(notLeader());
+        }
+        return respond(() -> syncService.rebuildStreakState(actualSeasonId),
+                "Streak state rebuilt for " + SeasonValidator.formatSeason(actualSeasonId) + " season",
+                "Streak state rebuild failed: ");
+    }
+
+    /**
+     * Archive a finished season into a read-only memory-mapped file and remove it from the database.
+     */
+    @PostMapping("/archive")
+    @Operation(summary = "Archive season", description = "Freeze a finished season into an immutable memory-mapped archive and drop its rows from the database")
+    public CompletableFuture<ResponseEntity<Map<String, String>>> archiveSeason(@RequestParam String season) {
+        log.info("POST /api/data/archive - Season: {}", season);
+        if (!syncLeaseService.acquire()) {
+            return CompletableFuture.completedFuture(notLeader());
+        }
+        try {
+            return syncService.archiveSeason(season)
+                    .thenApply(archive -> ResponseEntity.ok(Map.of(
+                            "status", "success",
+                            "message", "Archived " + SeasonValidator.formatSeason(season) + " season: "
+                                    + archive.playerCount() + " players, " + archive.teamCount() + " teams, "
+                                    + archive.gameLogCount() + " game logs"
+                    )))
+                    .exceptionally(e -> {
+                        Throwable cause = unwrap(e);
+                        if (cause instanceof IllegalArgumentException) {
+                            return ResponseEntity.badRequest().body(Map.of(
+                                    "status", "error",
+                                    "message", cause.getMessage()
+                            ));
+                        }
+                        log.error("Error archiving season {}", season, cause);
+                        return ResponseEntity.internalServerError().body(Map.of(
+                                "status", "error",
+                                "message", "Season archive failed: " + cause.getMessage()
+                        ));
+                    });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(syncQueueFull());
+        }
+    }
+
+    /**
+     * Start sync work and map its outcome to a response.
+     */
+    private CompletableFuture<ResponseEntity<Map<String, String>>> respond(
+            Supplier<CompletableFuture<Void>> work, String successMessage, String failurePrefix) {
         try {
-            // Validate season if provided
-            if (season != null && !SeasonValidator.isValidSeasonId(season)) {
-                return ResponseEntity.badRequest().body(Map.of(
-                        "status", "error",
-                        "message", "Invalid season ID. Must be in format YYYYYYYY (e.g., 20252026)"
-                ));
-            }
-
-            dataIntegrationService.syncPlayerStats(season);
-
-            // Get actual season ID for calculateHotRatings
-            String actualSeasonId = season;
-            if (actualSeasonId == null) {
-                actualSeasonId = SeasonValidator.getCurrentSeasonId();
-            }
-            statisticsService.calculateHotRatings(actualSeasonId);
-
-            String seasonDisplay = season != null ? SeasonValidator.formatSeason(season) : "current";
-            return ResponseEntity.ok(Map.of(
-                    "status", "success",
-                    "message", "Player stats synchronized successfully for " + seasonDisplay + " season"
-            ));
-        } catch (Exception e) {
-            log.error("Error syncing player stats", e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "status", "error",
-                    "message", "Player stats sync failed: " + e.getMessage()
-            ));
+            return work.get()
+                    .thenApply(ignored -> ResponseEntity.ok(Map.of(
+                            "status", "success",
+                            "message", successMessage
+                    )))
+                    .exceptionally(e -> {
+                        Throwable cause = unwrap(e);
+                        log.error(failurePrefix + "{}", cause.getMessage(), cause);
+                        return ResponseEntity.internalServerError().body(Map.of(
+                                "status", "error",
+                                "message", failurePrefix + cause.getMessage()
+                        ));
+                    });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(syncQueueFull());
         }
     }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private ResponseEntity<Map<String, String>> invalidSeason() {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", "Invalid season ID. Must be in format YYYYYYYY (e.g., 20252026)"
+        ));
+    }
+
+    private ResponseEntity<Map<String, String>> syncQueueFull() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                "status", "error",
+                "message", "Too much sync work is already queued; try again later"
+        ));
+    }
+
+    private ResponseEntity<Map<String, String>> notLeader() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "status", "error",
+                "message", "Sync is handled by replica " + syncLeaseService.getHolderId().orElse("unknown")
+                        + "; this replica (" + syncLeaseService.getInstanceId() + ") only serves reads"
+        ));
+    }
+
+    private ResponseEntity<Map<String, String>> archivedSeason(String season) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", SeasonValidator.formatSeason(season) + " season is archived and can no longer be changed"
+        ));
+    }
 }
@@ -0,0 +1,78 @@
+package com.nhl.whoshotbackend.controller;
+
+import com.nhl.whoshotbackend.service.ExportService;
+import com.nhl.whoshotbackend.service.NhlApiService;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for bulk data export endpoints.
+ */
+@RestController
+@RequestMapping("/api/export")
+@Tag(name = "Export", description = "Bulk data export as NDJSON or CSV")
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final ExportService exportService;
+    private final NhlApiService nhlApiService;
+
+    public ExportController(ExportService exportService, NhlApiService nhlApiService) {
+        this.exportService = exportService;
+        this.nhlApiService = nhlApiService;
+    }
+
+    /**
+     * Stream a full data set for one or more seasons.
+     */
+    @GetMapping("/{dataset}")
+    @Operation(summary = "Export data set", description = "Streams players, teams, games or game-logs for one or more seasons as NDJSON (default) or CSV")
+    public ResponseEntity<?> export(
+            @PathVariable String dataset,
+            @RequestParam(required = false) List<String> seasons,
+            @RequestParam(defaultValue = ExportService.FORMAT_NDJSON) String format) {
+        List<String> actualSeasons = seasons != null && !seasons.isEmpty() ? seasons : List.of(nhlApiService.getCurrentSeason());
+        log.info("GET /api/export/{}?seasons={}&format={}", dataset, actualSeasons, format);
+
+        if (!ExportService.DATASETS.contains(dataset)) {
+            return badRequest("Unknown dataset. Must be one of " + ExportService.DATASETS);
+        }
+        if (!ExportService.FORMAT_NDJSON.equals(format) && !ExportService.FORMAT_CSV.equals(format)) {
+            return badRequest("Unknown format. Must be ndjson or csv");
+        }
+        for (String season : actualSeasons) {
+            if (!SeasonValidator.isValidSeasonId(season)) {
+                return badRequest("Invalid season ID. Must be in format YYYYYYYY (e.g., 20252026)");
+            }
+        }
+
+        boolean csv = ExportService.FORMAT_CSV.equals(format);
+        String fileName = dataset + "-" + String.join("-", actualSeasons) + (csv ? ".csv" : ".ndjson");
+        StreamingResponseBody body = outputStream -> exportService.export(dataset, actualSeasons, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(csv ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    private ResponseEntity<Map<String, String>> badRequest(String message) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", message
+        ));
+    }
+}
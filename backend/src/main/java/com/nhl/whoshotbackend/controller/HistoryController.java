@@ -0,0 +1,134 @@
+package com.nhl.whoshotbackend.controller;
+
+import com.nhl.whoshotbackend.service.HistoryService;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * REST controller for point-in-time queries: hot lists, streaks and standings as they stood on a given date.
+ * The season defaults to the one the date falls in.
+ */
+@RestController
+@RequestMapping("/api/history")
+@Tag(name = "History", description = "Hot lists, streaks and standings as of a past date")
+@Slf4j
+@CrossOrigin(origins = "*")
+public class HistoryController {
+
+    private final HistoryService historyService;
+
+    public HistoryController(HistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    /**
+     * Get players ordered by hot rating as of a date.
+     */
+    @GetMapping("/players/hot")
+    @Operation(summary = "Get hot players as of a date", description = "Returns players ordered by hot rating, with their hot, cold and point-streak flags, counting only games played on or before the date")
+    public ResponseEntity<?> getHotPlayers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : SeasonValidator.getSeasonIdForDate(date);
+        log.info("GET /api/history/players/hot?date={}&season={}", date, actualSeason);
+        if (!SeasonValidator.isValidSeasonId(actualSeason)) {
+            return invalidSeason(actualSeason);
+        }
+        return ResponseEntity.ok(historyService.getHotPlayers(actualSeason, date));
+    }
+
+    /**
+     * Get players with a point streak running on a date.
+     */
+    @GetMapping("/players/point-streaks")
+    @Operation(summary = "Get player point streaks as of a date", description = "Returns players with a point streak running on the date, longest first")
+    public ResponseEntity<?> getPlayerPointStreaks(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : SeasonValidator.getSeasonIdForDate(date);
+        log.info("GET /api/history/players/point-streaks?date={}&season={}", date, actualSeason);
+        if (!SeasonValidator.isValidSeasonId(actualSeason)) {
+            return invalidSeason(actualSeason);
+        }
+        return ResponseEntity.ok(historyService.getPlayerPointStreaks(actualSeason, date));
+    }
+
+    /**
+     * Get player point standings as of a date.
+     */
+    @GetMapping("/players/standings")
+    @Operation(summary = "Get player standings as of a date", description = "Returns players ordered by points scored on or before the date")
+    public ResponseEntity<?> getPlayerStandings(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : SeasonValidator.getSeasonIdForDate(date);
+        log.info("GET /api/history/players/standings?date={}&season={}", date, actualSeason);
+        if (!SeasonValidator.isValidSeasonId(actualSeason)) {
+            return invalidSeason(actualSeason);
+        }
+        return ResponseEntity.ok(historyService.getPlayerStandings(actualSeason, date));
+    }
+
+    /**
+     * Get team standings as of a date.
+     */
+    @GetMapping("/teams/standings")
+    @Operation(summary = "Get team standings as of a date", description = "Returns teams ordered by points from regular-season games played on or before the date")
+    public ResponseEntity<?> getStandings(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : SeasonValidator.getSeasonIdForDate(date);
+        log.info("GET /api/history/teams/standings?date={}&season={}", date, actualSeason);
+        if (!SeasonValidator.isValidSeasonId(actualSeason)) {
+            return invalidSeason(actualSeason);
+        }
+        return ResponseEntity.ok(historyService.getStandings(actualSeason, date));
+    }
+
+    /**
+     * Get teams with a win streak running on a date.
+     */
+    @GetMapping("/teams/win-streaks")
+    @Operation(summary = "Get team win streaks as of a date", description = "Returns teams with a win streak running on the date, longest first")
+    public ResponseEntity<?> getTeamWinStreaks(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : SeasonValidator.getSeasonIdForDate(date);
+        log.info("GET /api/history/teams/win-streaks?date={}&season={}", date, actualSeason);
+        if (!SeasonValidator.isValidSeasonId(actualSeason)) {
+            return invalidSeason(actualSeason);
+        }
+        return ResponseEntity.ok(historyService.getTeamWinStreaks(actualSeason, date));
+    }
+
+    /**
+     * Get teams with a loss streak running on a date.
+     */
+    @GetMapping("/teams/loss-streaks")
+    @Operation(summary = "Get team loss streaks as of a date", description = "Returns teams with a loss streak running on the date, longest first")
+    public ResponseEntity<?> getTeamLossStreaks(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : SeasonValidator.getSeasonIdForDate(date);
+        log.info("GET /api/history/teams/loss-streaks?date={}&season={}", date, actualSeason);
+        if (!SeasonValidator.isValidSeasonId(actualSeason)) {
+            return invalidSeason(actualSeason);
+        }
+        return ResponseEntity.ok(historyService.getTeamLossStreaks(actualSeason, date));
+    }
+
+    private ResponseEntity<Map<String, String>> invalidSeason(String season) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", "Invalid season: " + season + ". Must be in format YYYYYYYY (e.g., 20252026)"
+        ));
+    }
+}
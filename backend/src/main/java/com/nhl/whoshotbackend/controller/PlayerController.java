@@ -1,15 +1,29 @@
 package com.nhl.whoshotbackend.controller;
 
+import com.nhl.whoshotbackend.dto.PlayerSplits;
+import com.nhl.whoshotbackend.dto.StatRank;
+import com.nhl.whoshotbackend.dto.TrendPoint;
 import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.repository.KeysetPage;
+import com.nhl.whoshotbackend.repository.ListQuery;
+import com.nhl.whoshotbackend.service.ListQueries;
 import com.nhl.whoshotbackend.service.NhlApiService;
+import com.nhl.whoshotbackend.service.PlayerSearchService;
+import com.nhl.whoshotbackend.service.PlayerSplitService;
+import com.nhl.whoshotbackend.service.RankIndexService;
 import com.nhl.whoshotbackend.service.StatisticsService;
+import com.nhl.whoshotbackend.service.TrendService;
+import com.nhl.whoshotbackend.service.WindowedRatingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for player-related endpoints.
@@ -18,26 +32,53 @@ import java.util.List;
 @RequestMapping("/api/players")
 @Tag(name = "Players", description = "Player statistics and information")
 @Slf4j
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = KeysetPage.NEXT_CURSOR_HEADER)
 public class PlayerController {
 
+    private static final int MAX_BATCH_SIZE = 100; // Most players per batch request
+    private static final int MAX_WINDOW_LIMIT = 100; // Most players per windowed rating request
+    private static final int MAX_SEARCH_LIMIT = 50; // Most results per player search
+
     private final StatisticsService statisticsService;
     private final NhlApiService nhlApiService;
+    private final WindowedRatingService windowedRatingService;
+    private final RankIndexService rankIndexService;
+    private final PlayerSearchService playerSearchService;
+    private final TrendService trendService;
+    private final PlayerSplitService playerSplitService;
 
-    public PlayerController(StatisticsService statisticsService, NhlApiService nhlApiService) {
+    public PlayerController(
+            StatisticsService statisticsService,
+            NhlApiService nhlApiService,
+            WindowedRatingService windowedRatingService,
+            RankIndexService rankIndexService,
+            PlayerSearchService playerSearchService,
+            TrendService trendService,
+            PlayerSplitService playerSplitService) {
         this.statisticsService = statisticsService;
         this.nhlApiService = nhlApiService;
+        this.windowedRatingService = windowedRatingService;
+        this.rankIndexService = rankIndexService;
+        this.playerSearchService = playerSearchService;
+        this.trendService = trendService;
+        this.playerSplitService = playerSplitService;
     }
 
     /**
      * Get player point standings for a season.
      */
     @GetMapping("/standings")
-    @Operation(summary = "Get player standings", description = "Returns all players ordered by points for a given season")
-    public ResponseEntity<List<Player>> getStandings(
-            @RequestParam(required = false) String season) {
+    @Operation(summary = "Get player standings", description = "Returns all players ordered by points for a given season; fields= selects a subset of columns")
+    public ResponseEntity<?> getStandings(
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
-        log.info("GET /api/players/standings?season={}", actualSeason);
+        log.info("GET /api/players/standings?season={}&fields={}&limit={}&cursor={}", actualSeason, fields, limit, cursor);
+        if (fields != null || limit != null || cursor != null) {
+            return list(ListQueries.playerStandings(actualSeason), fields, limit, cursor);
+        }
         List<Player> standings = statisticsService.getPlayerStandings(actualSeason);
         return ResponseEntity.ok(standings);
     }
@@ -47,10 +88,16 @@ public class PlayerController {
      */
     @GetMapping("/point-streaks")
     @Operation(summary = "Get point streaks", description = "Returns players with active point streaks for a given season")
-    public ResponseEntity<List<Player>> getPointStreaks(
-            @RequestParam(required = false) String season) {
+    public ResponseEntity<?> getPointStreaks(
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
-        log.info("GET /api/players/point-streaks?season={}", actualSeason);
+        log.info("GET /api/players/point-streaks?season={}&fields={}&limit={}&cursor={}", actualSeason, fields, limit, cursor);
+        if (fields != null || limit != null || cursor != null) {
+            return list(ListQueries.playerPointStreaks(actualSeason), fields, limit, cursor);
+        }
         List<Player> players = statisticsService.getPlayerPointStreaks(actualSeason);
         return ResponseEntity.ok(players);
     }
@@ -60,14 +107,94 @@ public class PlayerController {
      */
     @GetMapping("/hot")
     @Operation(summary = "Get hot players", description = "Returns players who are 'hot' based on recent performance for a given season")
-    public ResponseEntity<List<Player>> getHotPlayers(
-            @RequestParam(required = false) String season) {
+    public ResponseEntity<?> getHotPlayers(
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
-        log.info("GET /api/players/hot?season={}", actualSeason);
+        log.info("GET /api/players/hot?season={}&fields={}&limit={}&cursor={}", actualSeason, fields, limit, cursor);
+        if (fields != null || limit != null || cursor != null) {
+            return list(ListQueries.hotPlayers(actualSeason), fields, limit, cursor);
+        }
         List<Player> players = statisticsService.getHotPlayers(actualSeason);
         return ResponseEntity.ok(players);
     }
 
+    /**
+     * Get the league's top players by points per game over a window of games.
+     * The window is either each player's last N games or all games between two dates.
+     */
+    @GetMapping("/hot/window")
+    @Operation(summary = "Get windowed hot ratings", description = "Returns top players by points per game over their last N games or between two dates for a given season")
+    public ResponseEntity<?> getWindowedRatings(
+            @RequestParam(required = false) String season,
+            @RequestParam(defaultValue = "5") int games,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "1") int minGames) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/players/hot/window?season={}&games={}&from={}&to={}&limit={}&minGames={}",
+                actualSeason, games, from, to, limit, minGames);
+
+        if (games < 1) {
+            return badRequest("Invalid games: " + games + ". Must be at least 1");
+        }
+        if (limit < 1 || limit > MAX_WINDOW_LIMIT) {
+            return badRequest("Invalid limit: " + limit + ". Must be between 1 and " + MAX_WINDOW_LIMIT);
+        }
+        if (minGames < 0) {
+            return badRequest("Invalid minGames: " + minGames + ". Must not be negative");
+        }
+
+        if (from != null || to != null) {
+            if (from == null || to == null) {
+                return badRequest("Invalid date range: from and to must be given together");
+            }
+            if (from.isAfter(to)) {
+                return badRequest("Invalid date range: from " + from + " is after to " + to);
+            }
+            return ResponseEntity.ok(windowedRatingService.getTopByDateRange(actualSeason, from, to, limit, minGames));
+        }
+        return ResponseEntity.ok(windowedRatingService.getTopByLastGames(actualSeason, games, limit, minGames));
+    }
+
+    /**
+     * Search players by name across all loaded seasons.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search players", description = "Returns players whose full, first or last name starts with the query (accent-insensitive)")
+    public ResponseEntity<?> searchPlayers(
+            @RequestParam String q,
+            @RequestParam(required = false) String season,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /api/players/search?q={}&season={}&limit={}", q, season, limit);
+        if (q.isBlank()) {
+            return badRequest("Invalid q: must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            return badRequest("Invalid limit: " + limit + ". Must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return ResponseEntity.ok(playerSearchService.search(q, season, limit));
+    }
+
+    /**
+     * Get several players by ID in one request.
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Get players by IDs", description = "Returns several players of a given season in the order requested; unknown IDs are skipped")
+    public ResponseEntity<?> getPlayers(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/players/batch?ids={}&season={}", ids, actualSeason);
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            return badRequest("Invalid ids: between 1 and " + MAX_BATCH_SIZE + " player IDs are allowed, got " + ids.size());
+        }
+        return ResponseEntity.ok(statisticsService.getPlayers(ids, actualSeason));
+    }
+
     /**
      * Get specific player by ID and season.
      */
@@ -82,4 +209,76 @@ public class PlayerController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Get a player's league ranks and percentiles across all stats for a season.
+     */
+    @GetMapping("/{playerId}/ranks")
+    @Operation(summary = "Get player ranks", description = "Returns a player's league rank and percentile for every stat in a given season")
+    public ResponseEntity<List<StatRank>> getPlayerRanks(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/players/{}/ranks?season={}", playerId, actualSeason);
+        return rankIndexService.getPlayerRanks(playerId, actualSeason)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get a player's hot rating and point streak after each game of a season.
+     */
+    @GetMapping("/{playerId}/trend")
+    @Operation(summary = "Get player trend", description = "Returns a player's rolling hot rating and point streak after every game in a given season")
+    public ResponseEntity<List<TrendPoint>> getPlayerTrend(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/players/{}/trend?season={}", playerId, actualSeason);
+        return trendService.getPlayerTrend(playerId, actualSeason)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get a player's home/away, opponent and month splits for a season.
+     */
+    @GetMapping("/{playerId}/splits")
+    @Operation(summary = "Get player splits", description = "Returns a player's production at home vs away, against each opponent and in each calendar month of a given season")
+    public ResponseEntity<PlayerSplits> getPlayerSplits(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/players/{}/splits?season={}", playerId, actualSeason);
+        return playerSplitService.getPlayerSplits(playerId, actualSeason)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Respond with one page of a list query (optionally with only the requested fields), or 400 for bad parameters.
+     * The cursor of the next page, if any, is returned in the X-Next-Cursor header.
+     */
+    private ResponseEntity<?> list(ListQuery<?> query, String fields, Integer limit, String cursor) {
+        try {
+            KeysetPage<?> page = statisticsService.list(query, fields, limit, cursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    private ResponseEntity<Map<String, String>> badRequest(String message) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", message
+        ));
+    }
 }
@@ -0,0 +1,139 @@
+package com.nhl.whoshotbackend.controller;
+
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.service.HotColdRuleService;
+import com.nhl.whoshotbackend.service.NhlApiService;
+import com.nhl.whoshotbackend.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * REST controller for the configured hot/cold rule sets.
+ * The active rule set sets the flags stored on players and teams; the others can be queried here.
+ */
+@RestController
+@RequestMapping("/api/rule-sets")
+@Tag(name = "Rule Sets", description = "Configurable hot, cold and point-streak rules")
+@Slf4j
+@CrossOrigin(origins = "*")
+public class RuleSetController {
+
+    private final HotColdRuleService hotColdRuleService;
+    private final StatisticsService statisticsService;
+    private final NhlApiService nhlApiService;
+
+    public RuleSetController(
+            HotColdRuleService hotColdRuleService,
+            StatisticsService statisticsService,
+            NhlApiService nhlApiService) {
+        this.hotColdRuleService = hotColdRuleService;
+        this.statisticsService = statisticsService;
+        this.nhlApiService = nhlApiService;
+    }
+
+    /**
+     * Get the configured rule sets.
+     */
+    @GetMapping
+    @Operation(summary = "Get rule sets", description = "Returns every configured hot/cold rule set and the name of the active one")
+    public ResponseEntity<Map<String, Object>> getRuleSets() {
+        log.info("GET /api/rule-sets");
+        return ResponseEntity.ok(Map.of(
+                "active", hotColdRuleService.getActive(),
+                "ruleSets", hotColdRuleService.getRuleSets()
+        ));
+    }
+
+    /**
+     * Get players a rule set flags as hot, cold or on a point streak.
+     */
+    @GetMapping("/{name}/players")
+    @Operation(summary = "Get players flagged by a rule set", description = "Returns players flagged hot, cold or point-streak (flag=) by a named rule set for a given season, ordered by points")
+    public ResponseEntity<?> getFlaggedPlayers(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "hot") String flag,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/rule-sets/{}/players?flag={}&season={}", name, flag, actualSeason);
+        if (!hotColdRuleService.getRuleSets().containsKey(name)) {
+            return unknownRuleSet(name);
+        }
+        Predicate<HotColdRuleService.Flags> selected = selectFlag(flag);
+        if (selected == null) {
+            return invalidFlag(flag);
+        }
+
+        HotColdRuleService.RuleSetResult result = statisticsService.getRuleEvaluation(actualSeason).ruleSets().get(name);
+        List<Long> playerIds = result.players().entrySet().stream()
+                .filter(entry -> selected.test(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        List<Player> players = statisticsService.getPlayers(playerIds, actualSeason).stream()
+                .sorted(Comparator.comparing(Player::getPoints, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+        return ResponseEntity.ok(players);
+    }
+
+    /**
+     * Get teams a rule set flags as hot, cold or on a point streak.
+     */
+    @GetMapping("/{name}/teams")
+    @Operation(summary = "Get teams flagged by a rule set", description = "Returns teams flagged hot, cold or point-streak (flag=) by a named rule set for a given season, ordered by points")
+    public ResponseEntity<?> getFlaggedTeams(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "hot") String flag,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/rule-sets/{}/teams?flag={}&season={}", name, flag, actualSeason);
+        if (!hotColdRuleService.getRuleSets().containsKey(name)) {
+            return unknownRuleSet(name);
+        }
+        Predicate<HotColdRuleService.Flags> selected = selectFlag(flag);
+        if (selected == null) {
+            return invalidFlag(flag);
+        }
+
+        HotColdRuleService.RuleSetResult result = statisticsService.getRuleEvaluation(actualSeason).ruleSets().get(name);
+        List<String> teamCodes = result.teams().entrySet().stream()
+                .filter(entry -> selected.test(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        List<Team> teams = statisticsService.getTeams(teamCodes, actualSeason).stream()
+                .sorted(Comparator.comparing(Team::getPoints, Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+        return ResponseEntity.ok(teams);
+    }
+
+    private static Predicate<HotColdRuleService.Flags> selectFlag(String flag) {
+        return switch (flag) {
+            case "hot" -> HotColdRuleService.Flags::hot;
+            case "cold" -> HotColdRuleService.Flags::cold;
+            case "point-streak" -> HotColdRuleService.Flags::pointStreak;
+            default -> null;
+        };
+    }
+
+    private ResponseEntity<Map<String, String>> unknownRuleSet(String name) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "status", "error",
+                "message", "Unknown rule set: " + name
+        ));
+    }
+
+    private ResponseEntity<Map<String, String>> invalidFlag(String flag) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", "Invalid flag: " + flag + ". Must be hot, cold or point-streak"
+        ));
+    }
+}
@@ -1,8 +1,15 @@
 package com.nhl.whoshotbackend.controller;
 
+import com.nhl.whoshotbackend.dto.ClubStats;
+import com.nhl.whoshotbackend.dto.StatRank;
 import com.nhl.whoshotbackend.entity.Player;
 import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.KeysetPage;
+import com.nhl.whoshotbackend.repository.ListQuery;
+import com.nhl.whoshotbackend.service.ClubStatsService;
+import com.nhl.whoshotbackend.service.ListQueries;
 import com.nhl.whoshotbackend.service.NhlApiService;
+import com.nhl.whoshotbackend.service.RankIndexService;
 import com.nhl.whoshotbackend.service.StatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for team-related endpoints.
@@ -19,26 +27,42 @@ import java.util.List;
 @RequestMapping("/api/teams")
 @Tag(name = "Teams", description = "Team statistics and information")
 @Slf4j
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = KeysetPage.NEXT_CURSOR_HEADER)
 public class TeamController {
 
+    private static final int MAX_BATCH_SIZE = 64; // Most teams per batch request
+
     private final StatisticsService statisticsService;
     private final NhlApiService nhlApiService;
+    private final RankIndexService rankIndexService;
+    private final ClubStatsService clubStatsService;
 
-    public TeamController(StatisticsService statisticsService, NhlApiService nhlApiService) {
+    public TeamController(
+            StatisticsService statisticsService,
+            NhlApiService nhlApiService,
+            RankIndexService rankIndexService,
+            ClubStatsService clubStatsService) {
         this.statisticsService = statisticsService;
         this.nhlApiService = nhlApiService;
+        this.rankIndexService = rankIndexService;
+        this.clubStatsService = clubStatsService;
     }
 
     /**
      * Get team standings for a season.
      */
     @GetMapping("/standings")
-    @Operation(summary = "Get team standings", description = "Returns all teams ordered by points for a given season")
-    public ResponseEntity<List<Team>> getStandings(
-            @RequestParam(required = false) String season) {
+    @Operation(summary = "Get team standings", description = "Returns all teams ordered by points for a given season; fields= selects a subset of columns")
+    public ResponseEntity<?> getStandings(
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
-        log.info("GET /api/teams/standings?season={}", actualSeason);
+        log.info("GET /api/teams/standings?season={}&fields={}&limit={}&cursor={}", actualSeason, fields, limit, cursor);
+        if (fields != null || limit != null || cursor != null) {
+            return list(ListQueries.teamStandings(actualSeason), fields, limit, cursor);
+        }
         List<Team> standings = statisticsService.getStandings(actualSeason);
         return ResponseEntity.ok(standings);
     }
@@ -48,10 +72,16 @@ public class TeamController {
      */
     @GetMapping("/win-streaks")
     @Operation(summary = "Get team win streaks", description = "Returns teams with active win streaks for a given season")
-    public ResponseEntity<List<Team>> getWinStreaks(
-            @RequestParam(required = false) String season) {
+    public ResponseEntity<?> getWinStreaks(
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
-        log.info("GET /api/teams/win-streaks?season={}", actualSeason);
+        log.info("GET /api/teams/win-streaks?season={}&fields={}&limit={}&cursor={}", actualSeason, fields, limit, cursor);
+        if (fields != null || limit != null || cursor != null) {
+            return list(ListQueries.teamWinStreaks(actualSeason), fields, limit, cursor);
+        }
         List<Team> teams = statisticsService.getTeamWinStreaks(actualSeason);
         return ResponseEntity.ok(teams);
     }
@@ -61,14 +91,36 @@ public class TeamController {
      */
     @GetMapping("/loss-streaks")
     @Operation(summary = "Get team loss streaks", description = "Returns teams with active loss streaks for a given season")
-    public ResponseEntity<List<Team>> getLossStreaks(
-            @RequestParam(required = false) String season) {
+    public ResponseEntity<?> getLossStreaks(
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
-        log.info("GET /api/teams/loss-streaks?season={}", actualSeason);
+        log.info("GET /api/teams/loss-streaks?season={}&fields={}&limit={}&cursor={}", actualSeason, fields, limit, cursor);
+        if (fields != null || limit != null || cursor != null) {
+            return list(ListQueries.teamLossStreaks(actualSeason), fields, limit, cursor);
+        }
         List<Team> teams = statisticsService.getTeamLossStreaks(actualSeason);
         return ResponseEntity.ok(teams);
     }
 
+    /**
+     * Get several teams by code in one request.
+     */
+    @GetMapping("/batch")
+    @Operation(summary = "Get teams by codes", description = "Returns several teams of a given season in the order requested; unknown codes are skipped")
+    public ResponseEntity<?> getTeams(
+            @RequestParam List<String> codes,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/teams/batch?codes={}&season={}", codes, actualSeason);
+        if (codes.isEmpty() || codes.size() > MAX_BATCH_SIZE) {
+            return badRequest("Invalid codes: between 1 and " + MAX_BATCH_SIZE + " team codes are allowed, got " + codes.size());
+        }
+        return ResponseEntity.ok(statisticsService.getTeams(codes, actualSeason));
+    }
+
     /**
      * Get specific team by code and season.
      */
@@ -88,13 +140,76 @@ public class TeamController {
      * Get players on a team for a season.
      */
     @GetMapping("/{teamCode}/players")
-    @Operation(summary = "Get team roster", description = "Returns all players on a specific team for a given season")
-    public ResponseEntity<List<Player>> getTeamPlayers(
+    @Operation(summary = "Get team roster", description = "Returns all players on a specific team for a given season, ordered by points")
+    public ResponseEntity<?> getTeamPlayers(
             @PathVariable String teamCode,
-            @RequestParam(required = false) String season) {
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
-        log.info("GET /api/teams/{}/players?season={}", teamCode, actualSeason);
+        log.info("GET /api/teams/{}/players?season={}&fields={}&limit={}&cursor={}", teamCode, actualSeason, fields, limit, cursor);
+        if (fields != null || limit != null || cursor != null) {
+            return list(ListQueries.teamPlayers(teamCode, actualSeason), fields, limit, cursor);
+        }
         List<Player> players = statisticsService.getTeamPlayers(teamCode, actualSeason);
         return ResponseEntity.ok(players);
     }
+
+    /**
+     * Get a team's league ranks and percentiles across all stats for a season.
+     */
+    @GetMapping("/{teamCode}/ranks")
+    @Operation(summary = "Get team ranks", description = "Returns a team's league rank and percentile for every stat in a given season")
+    public ResponseEntity<List<StatRank>> getTeamRanks(
+            @PathVariable String teamCode,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/teams/{}/ranks?season={}", teamCode, actualSeason);
+        return rankIndexService.getTeamRanks(teamCode, actualSeason)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get a team's skater and goalie aggregates for a season.
+     */
+    @GetMapping("/{teamCode}/club-stats")
+    @Operation(summary = "Get team club stats", description = "Returns a team's skater (TOI, power play, faceoffs) and goalie aggregates for a given season, as stored by the last sync")
+    public ResponseEntity<ClubStats> getClubStats(
+            @PathVariable String teamCode,
+            @RequestParam(required = false) String season) {
+        String actualSeason = season != null ? season : nhlApiService.getCurrentSeason();
+        log.info("GET /api/teams/{}/club-stats?season={}", teamCode, actualSeason);
+        return clubStatsService.getClubStats(teamCode, actualSeason)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Respond with one page of a list query (optionally with only the requested fields), or 400 for bad parameters.
+     * The cursor of the next page, if any, is returned in the X-Next-Cursor header.
+     */
+    private ResponseEntity<?> list(ListQuery<?> query, String fields, Integer limit, String cursor) {
+        try {
+            KeysetPage<?> page = statisticsService.list(query, fields, limit, cursor);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    private ResponseEntity<Map<String, String>> badRequest(String message) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", message
+        ));
+    }
 }
@@ -0,0 +1,27 @@
+package com.nhl.whoshotbackend.dto;
+
+import com.nhl.whoshotbackend.entity.ChangeLogEntry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the change log after a version.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeed {
+
+    private Long since; // Version the page starts after
+
+    private Long nextSince; // Version to pass as since for the next page
+
+    private Long latestVersion; // Latest version in the whole change log, 0 if it is empty
+
+    private Boolean hasMore; // true when more entries follow this page
+
+    private List<ChangeLogEntry> changes;
+}
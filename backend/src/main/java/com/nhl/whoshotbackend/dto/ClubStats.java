@@ -0,0 +1,26 @@
+package com.nhl.whoshotbackend.dto;
+
+import com.nhl.whoshotbackend.entity.ClubGoalieStats;
+import com.nhl.whoshotbackend.entity.ClubSkaterStats;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A club's skater and goalie aggregates (time on ice, power play, faceoffs, goaltending) for a season.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubStats {
+
+    private String teamCode;
+
+    private String season;
+
+    private List<ClubSkaterStats> skaters; // Ordered by points
+
+    private List<ClubGoalieStats> goalies; // Ordered by games played
+}
@@ -0,0 +1,44 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A player's season totals, hot rating, point streak and flags as they stood on a given date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerAsOf {
+
+    private Long playerId;
+
+    private String fullName;
+
+    private String teamCode; // Current team, not necessarily the team on that date
+
+    private String positionCode;
+
+    private String headshotUrl;
+
+    private String date; // ISO date the figures are as of
+
+    private Integer gamesPlayed;
+
+    private Integer goals;
+
+    private Integer assists;
+
+    private Integer points;
+
+    private Double hotRating; // Points per game over the recent games before the date
+
+    private Integer currentPointStreak;
+
+    private Boolean hot;
+
+    private Boolean cold;
+
+    private Boolean pointStreak;
+}
@@ -0,0 +1,30 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A player matched by name search, described by their most recent loaded season.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSearchResult {
+
+    private Long playerId;
+
+    private String fullName;
+
+    private String teamCode;
+
+    private String positionCode;
+
+    private String headshotUrl;
+
+    private String season; // Most recent loaded season for the player
+
+    private List<String> seasons; // All loaded seasons for the player, oldest first
+}
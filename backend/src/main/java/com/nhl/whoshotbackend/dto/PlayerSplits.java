@@ -0,0 +1,28 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A player's season splits: home vs away, each opponent and each calendar month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSplits {
+
+    private Long playerId;
+
+    private String season;
+
+    private SplitLine home;
+
+    private SplitLine away;
+
+    private List<SplitLine> byOpponent; // Ordered by opponent team code
+
+    private List<SplitLine> byMonth; // In calendar order
+}
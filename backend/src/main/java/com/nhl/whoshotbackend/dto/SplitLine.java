@@ -0,0 +1,34 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A player's production over one split (home, away, an opponent or a calendar month).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SplitLine {
+
+    private String split; // "home", "away", an opponent team code or a month (e.g., "2025-10")
+
+    private Integer gamesPlayed;
+
+    private Integer goals;
+
+    private Integer assists;
+
+    private Integer points;
+
+    private Integer plusMinus;
+
+    private Integer shots;
+
+    private Integer wins; // Games the player's team won
+
+    private Double pointsPerGame;
+
+    private Integer averageTimeOnIce; // In seconds per game
+}
@@ -0,0 +1,26 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * League rank and percentile of a single stat for one player or team.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatRank {
+
+    private String stat; // Stat name (e.g., "goals")
+
+    private Double value;
+
+    private Integer rank; // 1 = best; tied values share the same rank
+
+    private Integer outOf; // Number of players or teams with a value for this stat
+
+    private Integer tiedWith; // Number of others with exactly the same value
+
+    private Double percentile; // Share of the league ranked below, ties counted as half (0-100)
+}
@@ -0,0 +1,26 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of comparing incrementally maintained streak state with a full recomputation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreakConsistencyReport {
+
+    private String season;
+
+    private int playersChecked;
+
+    private int teamsChecked;
+
+    private boolean consistent; // true when no mismatches were found
+
+    private List<String> mismatches; // One entry per player or team whose state differs
+}
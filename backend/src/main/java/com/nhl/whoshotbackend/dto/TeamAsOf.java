@@ -0,0 +1,50 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A team's regular-season record, streaks and flags as they stood on a given date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamAsOf {
+
+    private String teamCode;
+
+    private String teamName;
+
+    private String logoUrl;
+
+    private String date; // ISO date the figures are as of
+
+    private Integer gamesPlayed;
+
+    private Integer wins;
+
+    private Integer losses;
+
+    private Integer overtimeLosses;
+
+    private Integer points;
+
+    private Integer goalsFor;
+
+    private Integer goalsAgainst;
+
+    private Integer goalDifferential;
+
+    private Integer currentWinStreak;
+
+    private Integer currentLossStreak;
+
+    private Double last10GamesWinPercentage;
+
+    private Boolean hot;
+
+    private Boolean cold;
+
+    private Boolean pointStreak;
+}
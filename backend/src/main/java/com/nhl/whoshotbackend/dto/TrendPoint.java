@@ -0,0 +1,22 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A player's rolling hot rating and point streak after one game.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendPoint {
+
+    private String gameDate; // ISO format (e.g., "2025-10-08")
+
+    private Double hotRating; // Points per game over the rolling window ending at this game
+
+    private Integer windowGames; // Games in that window
+
+    private Integer pointStreak; // Consecutive games with a point, ending at this game
+}
@@ -0,0 +1,40 @@
+package com.nhl.whoshotbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A player's production over a window of games (last N games or a date range).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WindowedRating {
+
+    private Long playerId;
+
+    private String fullName;
+
+    private String teamCode;
+
+    private String positionCode;
+
+    private String headshotUrl;
+
+    private Integer gamesPlayed; // Games inside the window
+
+    private Integer goals;
+
+    private Integer points;
+
+    private Integer shots;
+
+    private Double pointsPerGame;
+
+    private Double goalsPerGame;
+
+    private Double shotsPerGame;
+
+    private Integer averageTimeOnIce; // In seconds per game
+}
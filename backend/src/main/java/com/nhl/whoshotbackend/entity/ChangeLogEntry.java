@@ -0,0 +1,46 @@
+package com.nhl.whoshotbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing one change to a player's or team's flags, hot rating or streaks between two recalculations.
+ * The change log is append-only until a season is archived, which removes its entries but the latest; the version orders
+ * all entries and only ever increases.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_season_version", columnList = "season, version")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version; // Position in the change log
+
+    @Column(nullable = false)
+    private String season; // Season ID (e.g., "20252026")
+
+    @Column(nullable = false)
+    private String entityType; // PLAYER or TEAM
+
+    @Column(nullable = false)
+    private String entityId; // Player ID or team code
+
+    @Column(nullable = false)
+    private String changeType; // HOT_ENTERED, HOT_LEFT, COLD_ENTERED, COLD_LEFT, POINT_STREAK_ENTERED, POINT_STREAK_LEFT, HOT_RATING_CHANGED, WIN_STREAK_CHANGED, LOSS_STREAK_CHANGED
+
+    @Column
+    private Double oldValue; // Previous rating or streak length, null for flag changes and new entries
+
+    @Column
+    private Double newValue; // New rating or streak length, null for flag changes
+
+    @Column(nullable = false)
+    private String recordedAt; // When the recalculation that produced the change ran (ISO format)
+}
@@ -0,0 +1,76 @@
+package com.nhl.whoshotbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding a goalie's season aggregates for one club, from the NHL club-stats endpoint.
+ * Uses composite key (playerId + teamCode + season); a traded goalie has one row per club.
+ */
+@Entity
+@Table(name = "club_goalie_stats", indexes = {
+        @Index(name = "idx_club_goalie_stats_team_season", columnList = "teamCode, season")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ClubSkaterStats.ClubStatsKey.class)
+public class ClubGoalieStats {
+
+    @Id
+    private Long playerId; // NHL API player ID
+
+    @Id
+    private String teamCode; // Three-letter team code
+
+    @Id
+    @Column(nullable = false)
+    private String season; // Season ID (e.g., "20252026")
+
+    @Column
+    private String firstName;
+
+    @Column
+    private String lastName;
+
+    @Column
+    private Integer gamesPlayed;
+
+    @Column
+    private Integer gamesStarted;
+
+    @Column
+    private Integer wins;
+
+    @Column
+    private Integer losses;
+
+    @Column
+    private Integer overtimeLosses;
+
+    @Column
+    private Double goalsAgainstAverage;
+
+    @Column
+    private Double savePercentage; // Fraction, e.g. 0.912
+
+    @Column
+    private Integer shotsAgainst;
+
+    @Column
+    private Integer saves;
+
+    @Column
+    private Integer goalsAgainst;
+
+    @Column
+    private Integer shutouts;
+
+    @Column
+    private Integer timeOnIce; // Total seconds
+
+    @Column
+    private String lastUpdated;
+}
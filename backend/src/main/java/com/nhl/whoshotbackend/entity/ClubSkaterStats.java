@@ -0,0 +1,102 @@
+package com.nhl.whoshotbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Entity holding a skater's season aggregates for one club, from the NHL club-stats endpoint.
+ * Uses composite key (playerId + teamCode + season); a traded skater has one row per club.
+ */
+@Entity
+@Table(name = "club_skater_stats", indexes = {
+        @Index(name = "idx_club_skater_stats_team_season", columnList = "teamCode, season")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(ClubSkaterStats.ClubStatsKey.class)
+public class ClubSkaterStats {
+
+    @Id
+    private Long playerId; // NHL API player ID
+
+    @Id
+    private String teamCode; // Three-letter team code
+
+    @Id
+    @Column(nullable = false)
+    private String season; // Season ID (e.g., "20252026")
+
+    @Column
+    private String firstName;
+
+    @Column
+    private String lastName;
+
+    @Column
+    private String positionCode; // C, L, R, D
+
+    @Column
+    private Integer gamesPlayed;
+
+    @Column
+    private Integer goals;
+
+    @Column
+    private Integer assists;
+
+    @Column
+    private Integer points;
+
+    @Column
+    private Integer plusMinus;
+
+    @Column
+    private Integer penaltyMinutes;
+
+    @Column
+    private Integer powerPlayGoals;
+
+    @Column
+    private Integer shorthandedGoals;
+
+    @Column
+    private Integer gameWinningGoals;
+
+    @Column
+    private Integer overtimeGoals;
+
+    @Column
+    private Integer shots;
+
+    @Column
+    private Double shootingPercentage; // Fraction, e.g. 0.125
+
+    @Column
+    private Double avgTimeOnIce; // Seconds per game
+
+    @Column
+    private Double avgShifts; // Shifts per game
+
+    @Column
+    private Double faceoffWinPercentage; // Fraction, 0 for skaters who took no faceoffs
+
+    @Column
+    private String lastUpdated;
+
+    /**
+     * Composite key class for the club stats entities.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClubStatsKey implements Serializable {
+        private Long playerId;
+        private String teamCode;
+        private String season;
+    }
+}
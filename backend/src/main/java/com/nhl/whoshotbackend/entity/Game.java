@@ -0,0 +1,92 @@
+package com.nhl.whoshotbackend.entity;
+
+import com.nhl.whoshotbackend.dto.TeamGame;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing a single NHL game, stored once from the league schedule.
+ * Per-team views (win/loss from one team's perspective) are derived with {@link #toTeamGame(String)}.
+ */
+@Entity
+@Table(name = "games", indexes = {
+        @Index(name = "idx_games_season_date", columnList = "season, gameDate"),
+        @Index(name = "idx_games_home_team", columnList = "homeTeamCode, season"),
+        @Index(name = "idx_games_away_team", columnList = "awayTeamCode, season")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Game {
+
+    public static final int REGULAR_SEASON = 2;
+
+    @Id
+    private Long gameId; // NHL game ID (e.g., 2025020001)
+
+    @Column(nullable = false)
+    private String season; // Season ID (e.g., "20252026")
+
+    @Column(nullable = false)
+    private String gameDate;
+
+    @Column
+    private Integer gameType; // 2 = Regular season, 3 = Playoffs
+
+    @Column
+    private String gameState; // FUT, PRE, LIVE, CRIT, FINAL, OFF
+
+    @Column(nullable = false)
+    private String homeTeamCode;
+
+    @Column(nullable = false)
+    private String awayTeamCode;
+
+    @Column
+    private Integer homeScore;
+
+    @Column
+    private Integer awayScore;
+
+    @Column
+    private String periodType; // REG, OT or SO for the last period played
+
+    @Column
+    private String lastUpdated;
+
+    /**
+     * Check if the game has finished.
+     */
+    public boolean isCompleted() {
+        return "FINAL".equals(gameState) || "OFF".equals(gameState);
+    }
+
+    /**
+     * Derive the game from one team's perspective.
+     * @param teamCode Home or away team code
+     */
+    public TeamGame toTeamGame(String teamCode) {
+        boolean isHomeTeam = homeTeamCode.equals(teamCode);
+        Integer teamScore = isHomeTeam ? homeScore : awayScore;
+        Integer opponentScore = isHomeTeam ? awayScore : homeScore;
+        int goalsFor = teamScore != null ? teamScore : 0;
+        int goalsAgainst = opponentScore != null ? opponentScore : 0;
+        boolean won = goalsFor > goalsAgainst;
+        boolean isOvertimeOrShootout = "OT".equals(periodType) || "SO".equals(periodType);
+
+        TeamGame teamGame = new TeamGame();
+        teamGame.setGameId(gameId);
+        teamGame.setTeamCode(teamCode);
+        teamGame.setGameDate(gameDate);
+        teamGame.setOpponentTeamCode(isHomeTeam ? awayTeamCode : homeTeamCode);
+        teamGame.setHomeGame(isHomeTeam);
+        teamGame.setGoalsFor(goalsFor);
+        teamGame.setGoalsAgainst(goalsAgainst);
+        teamGame.setWon(won);
+        teamGame.setOvertimeLoss(!won && isOvertimeOrShootout);
+        teamGame.setGameType(gameType != null && gameType == REGULAR_SEASON ? "REGULAR" : "PLAYOFFS");
+        return teamGame;
+    }
+}
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
  * Used for calculating point streaks and hot/cold ratings.
  */
 @Entity
-@Table(name = "game_logs")
+@Table(name = "game_logs", indexes = {
+        // Export reads a season in (gameId, playerId) keyset chunks
+        @Index(name = "idx_game_logs_game_player", columnList = "gameId, playerId")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
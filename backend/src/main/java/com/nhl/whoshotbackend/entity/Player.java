@@ -12,7 +12,13 @@ import java.io.Serializable;
  * Uses composite key (playerId + season) to support multiple seasons.
  */
 @Entity
-@Table(name = "players")
+@Table(name = "players", indexes = {
+        // Keyset pagination of the list endpoints seeks on (season, sort column)
+        @Index(name = "idx_players_season_points", columnList = "season, points"),
+        @Index(name = "idx_players_season_point_streak", columnList = "season, currentPointStreak"),
+        @Index(name = "idx_players_season_hot_rating", columnList = "season, hotRating"),
+        @Index(name = "idx_players_team_season", columnList = "teamCode, season, points")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -101,6 +107,24 @@ public class Player {
     @Column
     private String headshotUrl; // Player headshot image URL
 
+    @Column
+    private Integer sweaterNumber;
+
+    @Column
+    private String shootsCatches; // L or R
+
+    @Column
+    private Integer heightInInches;
+
+    @Column
+    private Integer weightInPounds;
+
+    @Column
+    private String birthDate; // ISO format (e.g., "1997-01-13")
+
+    @Column
+    private String birthCountry; // Three-letter country code
+
     /**
      * Composite key class for Player entity.
      */
@@ -0,0 +1,66 @@
+package com.nhl.whoshotbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding a player's incrementally maintained streak state for a season.
+ * Updated in O(1) as each new game log is ingested; rebuilt from game logs only as a repair path.
+ * Uses composite key (playerId + season).
+ */
+@Entity
+@Table(name = "player_streak_states")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(Player.PlayerKey.class)
+public class PlayerStreakState {
+
+    @Id
+    private Long playerId;
+
+    @Id
+    @Column(nullable = false)
+    private String season; // Season ID (e.g., "20252026")
+
+    @Column
+    private Integer gamesCounted; // Games applied to this state
+
+    @Column
+    private Long lastGameId; // Most recent game applied
+
+    @Column
+    private String lastGameDate; // Date of the most recent game applied
+
+    @Column
+    private Integer currentPointStreak;
+
+    @Column
+    private Integer longestPointStreak; // Longest point streak this season
+
+    @Column
+    private Integer windowGames; // Games in the rolling window (at most the window size)
+
+    @Column
+    private Integer windowPoints; // Sum of points over the rolling window
+
+    @Column
+    private Integer windowGoals; // Sum of goals over the rolling window
+
+    @Column
+    private Integer windowShots; // Sum of shots over the rolling window
+
+    @Column
+    private String recentPoints; // Per-game points in the window, oldest first (e.g., "1,0,2")
+
+    @Column
+    private String recentGoals; // Per-game goals in the window, oldest first
+
+    @Column
+    private String recentShots; // Per-game shots in the window, oldest first
+
+    @Column
+    private String lastUpdated;
+}
@@ -0,0 +1,37 @@
+package com.nhl.whoshotbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding the lease that elects which replica syncs from the NHL API.
+ * Replicas sharing one database compete for the row with a conditional update; the holder renews it
+ * with a heartbeat and bumps the data version after every sync so the other replicas refresh their caches.
+ */
+@Entity
+@Table(name = "sync_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncLease {
+
+    @Id
+    private String name; // Lease name (e.g., "season-sync")
+
+    @Column
+    private String holderId; // Instance ID of the current holder, null when released
+
+    @Column(nullable = false)
+    private Long expiresAt; // Epoch millis after which another replica may take over
+
+    @Column(nullable = false)
+    private Long dataVersion; // Bumped by the holder each time it publishes new data
+
+    @Column
+    private String dataSeason; // Season of the most recently published data
+
+    @Column
+    private Long dataPublishedAt; // Epoch millis when the most recent data was published
+}
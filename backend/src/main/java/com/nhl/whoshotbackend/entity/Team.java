@@ -12,7 +12,10 @@ import java.io.Serializable;
  * Uses composite key (teamCode + season) to support multiple seasons.
  */
 @Entity
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+        // Keyset pagination of the list endpoints seeks on (season, sort column)
+        @Index(name = "idx_teams_season_points", columnList = "season, points")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,60 @@
+package com.nhl.whoshotbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding a team's incrementally maintained streak state for a season.
+ * Updated in O(1) as each new team game is ingested; rebuilt from team games only as a repair path.
+ * Uses composite key (teamCode + season).
+ */
+@Entity
+@Table(name = "team_streak_states")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(Team.TeamKey.class)
+public class TeamStreakState {
+
+    @Id
+    private String teamCode;
+
+    @Id
+    @Column(nullable = false)
+    private String season; // Season ID (e.g., "20252026")
+
+    @Column
+    private Integer gamesCounted; // Games applied to this state
+
+    @Column
+    private Long lastGameId; // Most recent game applied
+
+    @Column
+    private String lastGameDate; // Date of the most recent game applied
+
+    @Column
+    private Integer currentWinStreak;
+
+    @Column
+    private Integer currentLossStreak;
+
+    @Column
+    private Integer longestWinStreak; // Longest win streak this season
+
+    @Column
+    private Integer longestLossStreak; // Longest loss streak this season
+
+    @Column
+    private Integer windowGames; // Games in the rolling window (at most the window size)
+
+    @Column
+    private Integer windowWins; // Wins over the rolling window
+
+    @Column
+    private String recentResults; // Results in the window, oldest first (e.g., "WLWW")
+
+    @Column
+    private String lastUpdated;
+}
@@ -0,0 +1,38 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.ChangeLogEntry;
+
+import java.util.List;
+
+/**
+ * Storage for ChangeLogEntry entities. Entries are only ever appended, and removed only when their season is archived.
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface ChangeLogRepository {
+
+    /**
+     * Append change log entries; each is assigned the next version.
+     */
+    <S extends ChangeLogEntry> List<S> saveAll(Iterable<S> entries);
+
+    /**
+     * Get up to a limit of entries after a version, in version order.
+     */
+    List<ChangeLogEntry> findChangesSince(Long version, int limit);
+
+    /**
+     * Get up to a limit of a season's entries after a version, in version order.
+     */
+    List<ChangeLogEntry> findSeasonChangesSince(String season, Long version, int limit);
+
+    /**
+     * Get the latest version in the change log, or null if it is empty.
+     */
+    Long findLatestVersion();
+
+    /**
+     * Delete all entries of a season except the latest entry of the whole log, which is kept so that
+     * versions are never handed out again to new entries.
+     */
+    int deleteBySeason(String season);
+}
@@ -0,0 +1,33 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.ClubGoalieStats;
+
+import java.util.List;
+
+/**
+ * Storage for ClubGoalieStats entities.
+ * Note: Uses composite key (playerId + teamCode + season).
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface ClubGoalieStatsRepository {
+
+    /**
+     * Insert or update goalie club stats.
+     */
+    <S extends ClubGoalieStats> List<S> saveAll(Iterable<S> stats);
+
+    /**
+     * Get a club's goalie stats for a season ordered by games played, most first.
+     */
+    List<ClubGoalieStats> findByTeamCodeAndSeasonOrderByGamesPlayedDesc(String teamCode, String season);
+
+    /**
+     * Delete a club's goalie stats for a season.
+     */
+    int deleteByTeamCodeAndSeason(String teamCode, String season);
+
+    /**
+     * Delete every club's goalie stats for a season.
+     */
+    int deleteBySeason(String season);
+}
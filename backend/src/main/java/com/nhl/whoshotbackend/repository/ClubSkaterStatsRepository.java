@@ -0,0 +1,33 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.ClubSkaterStats;
+
+import java.util.List;
+
+/**
+ * Storage for ClubSkaterStats entities.
+ * Note: Uses composite key (playerId + teamCode + season).
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface ClubSkaterStatsRepository {
+
+    /**
+     * Insert or update skater club stats.
+     */
+    <S extends ClubSkaterStats> List<S> saveAll(Iterable<S> stats);
+
+    /**
+     * Get a club's skater stats for a season ordered by points, highest first.
+     */
+    List<ClubSkaterStats> findByTeamCodeAndSeasonOrderByPointsDesc(String teamCode, String season);
+
+    /**
+     * Delete a club's skater stats for a season.
+     */
+    int deleteByTeamCodeAndSeason(String teamCode, String season);
+
+    /**
+     * Delete every club's skater stats for a season.
+     */
+    int deleteBySeason(String season);
+}
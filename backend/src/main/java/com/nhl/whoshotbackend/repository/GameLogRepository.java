@@ -1,18 +1,25 @@
 package com.nhl.whoshotbackend.repository;
 
 import com.nhl.whoshotbackend.entity.GameLog;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
- * Repository for GameLog entities.
+ * Storage for GameLog entities.
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
  */
-@Repository
-public interface GameLogRepository extends JpaRepository<GameLog, Long> {
+public interface GameLogRepository {
+
+    /**
+     * Insert or update game logs; new game logs are assigned an ID.
+     */
+    <S extends GameLog> List<S> saveAll(Iterable<S> gameLogs);
+
+    /**
+     * Delete game logs.
+     */
+    void deleteAll(Iterable<? extends GameLog> gameLogs);
 
     /**
      * Get game logs for a specific player, ordered by date descending.
@@ -22,6 +29,44 @@ public interface GameLogRepository extends JpaRepository<GameLog, Long> {
     /**
      * Get the last N game logs for a player.
      */
-    @Query(value = "SELECT * FROM game_logs WHERE player_id = :playerId ORDER BY game_date DESC LIMIT :limit", nativeQuery = true)
-    List<GameLog> findLastNGamesByPlayer(@Param("playerId") Long playerId, @Param("limit") int limit);
+    List<GameLog> findLastNGamesByPlayer(Long playerId, int limit);
+
+    /**
+     * Get the IDs of games that already have game logs within a game ID range.
+     */
+    List<Long> findDistinctGameIdsBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Get the highest game ID with game logs within a game ID range, or null if there are none.
+     */
+    Long findMaxGameIdBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Get a player's game logs within a game ID range (one season), ordered by date ascending.
+     */
+    List<GameLog> findByPlayerIdAndGameIdBetweenOrderByGameDateAscGameIdAsc(Long playerId, Long firstGameId, Long lastGameId);
+
+    /**
+     * Get all game logs within a game ID range (one season).
+     */
+    List<GameLog> findByGameIdBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Stream the stored columns of all game logs within a game ID range (one season),
+     * ordered by player ID, game date and game ID. Close the stream inside a transaction.
+     */
+    Stream<GameLogRow> streamRowsByGameIdBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Get the next chunk of game logs within a game ID range (one season) for export, ordered by game and player ID.
+     * @param afterGameId Game ID of the last game log of the previous chunk, or 0 for the first chunk
+     * @param afterPlayerId Player ID of the last game log of the previous chunk, or 0 for the first chunk
+     * @param limit Maximum number of game logs
+     */
+    List<GameLog> findExportChunk(long firstGameId, long lastGameId, long afterGameId, long afterPlayerId, int limit);
+
+    /**
+     * Delete all game logs within a game ID range (one season).
+     */
+    int deleteByGameIdBetween(Long firstGameId, Long lastGameId);
 }
@@ -0,0 +1,24 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.GameLog;
+
+/**
+ * The columns of a game log that the columnar game log store keeps, read without loading entities.
+ */
+public record GameLogRow(
+        Long playerId,
+        Long gameId,
+        String gameDate,
+        Integer goals,
+        Integer assists,
+        Integer points,
+        Integer shots,
+        Integer plusMinus,
+        Integer timeOnIce) {
+
+    public static GameLogRow of(GameLog gameLog) {
+        return new GameLogRow(gameLog.getPlayerId(), gameLog.getGameId(), gameLog.getGameDate(), gameLog.getGoals(),
+                gameLog.getAssists(), gameLog.getPoints(), gameLog.getShots(), gameLog.getPlusMinus(),
+                gameLog.getTimeOnIce());
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.Game;
+
+import java.util.List;
+
+/**
+ * Storage for Game entities.
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface GameRepository {
+
+    /**
+     * Insert or update games.
+     */
+    <S extends Game> List<S> saveAll(Iterable<S> games);
+
+    /**
+     * Get all games of a given type for a season, ordered by date.
+     */
+    List<Game> findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(String season, Integer gameType);
+
+    /**
+     * Get a team's games of a given type for a season (home or away), ordered by date.
+     */
+    List<Game> findTeamGames(String season, String teamCode, Integer gameType);
+
+    /**
+     * Get the IDs of completed games of a given type for a season.
+     */
+    List<Long> findCompletedGameIds(String season, Integer gameType);
+
+    /**
+     * Get the date of the latest completed game in a season.
+     */
+    String findLastCompletedGameDate(String season);
+
+    /**
+     * Get the next chunk of a season's games for export, ordered by date and game ID.
+     * @param afterGameDate Date of the last game of the previous chunk, or "" for the first chunk
+     * @param afterGameId ID of the last game of the previous chunk, or 0 for the first chunk
+     * @param limit Maximum number of games
+     */
+    List<Game> findExportChunk(String season, String afterGameDate, long afterGameId, int limit);
+}
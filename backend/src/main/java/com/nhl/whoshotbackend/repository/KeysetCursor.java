@@ -0,0 +1,40 @@
+package com.nhl.whoshotbackend.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page: the row's sort value and its tiebreaker ID.
+ * Encoded as URL-safe Base64 of "sortValue|id" (an empty sort value stands for null),
+ * so clients treat it as opaque.
+ * @param sortValue Sort attribute value as text, or null
+ * @param id Tiebreaker ID as text
+ */
+public record KeysetCursor(String sortValue, String id) {
+
+    /**
+     * Build the cursor pointing after a row.
+     */
+    public static KeysetCursor after(Object sortValue, Object id) {
+        return new KeysetCursor(sortValue != null ? sortValue.toString() : null, id.toString());
+    }
+
+    public String encode() {
+        String text = (sortValue != null ? sortValue : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}.
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        String text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = text.indexOf('|');
+        if (separator < 0 || separator == text.length() - 1) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String sortValue = text.substring(0, separator);
+        return new KeysetCursor(sortValue.isEmpty() ? null : sortValue, text.substring(separator + 1));
+    }
+}
@@ -0,0 +1,13 @@
+package com.nhl.whoshotbackend.repository;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list query.
+ * @param items Rows of this page
+ * @param nextCursor Cursor for the next page, or null if this is the last page
+ */
+public record KeysetPage<R>(List<R> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+}
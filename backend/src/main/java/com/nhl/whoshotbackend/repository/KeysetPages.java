@@ -0,0 +1,117 @@
+package com.nhl.whoshotbackend.repository;
+
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset pagination over rows already in memory (season archives and the in-memory storage engine).
+ * Uses the same (sort DESC NULLS LAST, id ASC) order and cursors as the database queries.
+ */
+public final class KeysetPages {
+
+    private KeysetPages() {
+    }
+
+    /**
+     * Comparator putting rows in list query order.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Comparator<T> order(ListQuery<T> query) {
+        Comparator<T> bySort = Comparator.comparing(
+                row -> (Comparable<Object>) new BeanWrapperImpl(row).getPropertyValue(query.sortAttribute()),
+                Comparator.nullsLast(Comparator.<Comparable<Object>>reverseOrder()));
+        return bySort.thenComparing(row -> (Comparable<Object>) new BeanWrapperImpl(row).getPropertyValue(query.idAttribute()));
+    }
+
+    /**
+     * Cut one page out of rows that are already in list query order.
+     * @param after Cursor to start after, or null for the first page
+     * @param limit Page size, or null for all remaining rows
+     * @throws IllegalArgumentException if the cursor does not match the query's key types
+     */
+    public static <T> KeysetPage<T> page(List<T> orderedRows, ListQuery<T> query, KeysetCursor after, Integer limit) {
+        List<T> rows = new ArrayList<>();
+        for (T row : orderedRows) {
+            if (after == null || isAfter(new BeanWrapperImpl(row), query, after)) {
+                rows.add(row);
+                if (limit != null && rows.size() > limit) {
+                    break;
+                }
+            }
+        }
+        if (limit == null || rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<T> page = new ArrayList<>(rows.subList(0, limit));
+        BeanWrapperImpl last = new BeanWrapperImpl(page.get(limit - 1));
+        KeysetCursor next = KeysetCursor.after(
+                last.getPropertyValue(query.sortAttribute()), last.getPropertyValue(query.idAttribute()));
+        return new KeysetPage<>(page, next.encode());
+    }
+
+    /**
+     * Reduce a page of entities to the requested fields.
+     */
+    public static <T> KeysetPage<Map<String, Object>> selectFields(KeysetPage<T> page, List<String> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(page.items().size());
+        for (T item : page.items()) {
+            BeanWrapperImpl entity = new BeanWrapperImpl(item);
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, entity.getPropertyValue(field));
+            }
+            rows.add(row);
+        }
+        return new KeysetPage<>(rows, page.nextCursor());
+    }
+
+    /**
+     * Parse a cursor component into the attribute's Java type.
+     */
+    @SuppressWarnings("unchecked")
+    public static Comparable<Object> parse(String value, Class<?> type) {
+        try {
+            Object parsed;
+            if (type == Integer.class) {
+                parsed = Integer.valueOf(value);
+            } else if (type == Long.class) {
+                parsed = Long.valueOf(value);
+            } else if (type == Double.class) {
+                parsed = Double.valueOf(value);
+            } else if (type == String.class) {
+                parsed = value;
+            } else {
+                throw new IllegalArgumentException("Unsupported cursor key type " + type.getSimpleName());
+            }
+            return (Comparable<Object>) parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Whether a row comes strictly after the cursor: a lower sort value, the same sort value and
+     * a higher ID, or a null sort value (nulls sort last).
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> boolean isAfter(BeanWrapperImpl row, ListQuery<T> query, KeysetCursor after) {
+        Comparable<Object> sort = (Comparable<Object>) row.getPropertyValue(query.sortAttribute());
+        Comparable<Object> id = (Comparable<Object>) row.getPropertyValue(query.idAttribute());
+        Comparable<Object> afterId = parse(after.id(), row.getPropertyType(query.idAttribute()));
+
+        if (after.sortValue() == null) {
+            return sort == null && id.compareTo(afterId) > 0;
+        }
+        if (sort == null) {
+            return true;
+        }
+        int comparison = sort.compareTo(parse(after.sortValue(), row.getPropertyType(query.sortAttribute())));
+        return comparison < 0 || (comparison == 0 && id.compareTo(afterId) > 0);
+    }
+}
@@ -0,0 +1,32 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Definition of a list endpoint's query: which rows of an entity it returns and in what order.
+ * Rows are ordered by the sort attribute descending, then by the ID attribute ascending, so the
+ * order is total and stable. Archived seasons are answered from the season archive instead of the database.
+ * @param entityType Entity class
+ * @param season Season ID the query reads (e.g., "20252026")
+ * @param sortAttribute Attribute sorted on, descending (e.g., "points")
+ * @param idAttribute Unique (within the filter) tiebreaker attribute, ascending (e.g., "playerId")
+ * @param filter Builds the WHERE predicate
+ * @param rowFilter Same filter evaluated on an entity, for in-memory storage
+ * @param archiveRows Same rows, in the same order, read from an archived season
+ */
+public record ListQuery<T>(
+        Class<T> entityType,
+        String season,
+        String sortAttribute,
+        String idAttribute,
+        BiFunction<CriteriaBuilder, Root<T>, Predicate> filter,
+        java.util.function.Predicate<T> rowFilter,
+        Function<SeasonArchive, List<T>> archiveRows) {
+}
@@ -0,0 +1,38 @@
+package com.nhl.whoshotbackend.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage running {@link ListQuery} definitions, with sparse fieldsets and keyset pagination:
+ * a page starts strictly after the cursor's (sort value, ID) position, so rows inserted or removed
+ * by a concurrent sync never shift later pages.
+ * Implemented with the Criteria API on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface ListQueryRepository {
+
+    /**
+     * Check field names against the entity's persistent attributes.
+     * @throws IllegalArgumentException naming the first unknown field
+     */
+    void validateFields(Class<?> entityType, List<String> fields);
+
+    /**
+     * Run a list query returning full entities.
+     * @param after Cursor to start after, or null for the first page
+     * @param limit Page size, or null for all remaining rows
+     * @throws IllegalArgumentException if the cursor does not match the query's key types
+     */
+    <T> KeysetPage<T> findPage(ListQuery<T> query, KeysetCursor after, Integer limit);
+
+    /**
+     * Run a list query selecting only the given columns.
+     * @param fields Attribute names, already validated with {@link #validateFields(Class, List)}
+     * @param after Cursor to start after, or null for the first page
+     * @param limit Page size, or null for all remaining rows
+     * @return One map per row with the fields in the order requested
+     * @throws IllegalArgumentException if the cursor does not match the query's key types
+     */
+    <T> KeysetPage<Map<String, Object>> selectFields(ListQuery<T> query, List<String> fields,
+                                                     KeysetCursor after, Integer limit);
+}
@@ -1,18 +1,32 @@
 package com.nhl.whoshotbackend.repository;
 
 import com.nhl.whoshotbackend.entity.Player;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Repository for Player entities.
+ * Storage for Player entities.
  * Note: Uses composite key (playerId + season).
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
  */
-@Repository
-public interface PlayerRepository extends JpaRepository<Player, Player.PlayerKey> {
+public interface PlayerRepository {
+
+    /**
+     * Find a player by ID and season.
+     */
+    Optional<Player> findById(Player.PlayerKey key);
+
+    /**
+     * Get all players of all seasons.
+     */
+    List<Player> findAll();
+
+    /**
+     * Insert or update players.
+     */
+    <S extends Player> List<S> saveAll(Iterable<S> players);
 
     /**
      * Get all players for a season ordered by points descending.
@@ -22,17 +36,32 @@ public interface PlayerRepository extends JpaRepository<Player, Player.PlayerKey
     /**
      * Get players with current point streaks for a season, ordered by streak length.
      */
-    @Query("SELECT p FROM Player p WHERE p.season = ?1 AND p.currentPointStreak > 0 ORDER BY p.currentPointStreak DESC")
     List<Player> findPlayersWithPointStreaks(String season);
 
     /**
      * Get "hot" players for a season ordered by hot rating descending.
      */
-    @Query("SELECT p FROM Player p WHERE p.season = ?1 AND p.hotRating IS NOT NULL ORDER BY p.hotRating DESC")
     List<Player> findHotPlayers(String season);
 
     /**
-     * Find players by team code for a specific season.
+     * Find players by team code for a specific season, ordered by points descending, then player ID.
+     */
+    List<Player> findByTeamCodeAndSeasonOrderByPointsDescPlayerIdAsc(String teamCode, String season);
+
+    /**
+     * Get several players of a season in one lookup.
+     */
+    List<Player> findBySeasonAndPlayerIdIn(String season, Collection<Long> playerIds);
+
+    /**
+     * Get the next chunk of a season's players for export, ordered by player ID.
+     * @param afterPlayerId Last player ID of the previous chunk, or 0 for the first chunk
+     * @param limit Maximum number of players
+     */
+    List<Player> findExportChunk(String season, long afterPlayerId, int limit);
+
+    /**
+     * Delete all players of a season.
      */
-    List<Player> findByTeamCodeAndSeason(String teamCode, String season);
+    int deleteBySeason(String season);
 }
@@ -0,0 +1,33 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.PlayerStreakState;
+
+import java.util.List;
+
+/**
+ * Storage for PlayerStreakState entities.
+ * Note: Uses composite key (playerId + season).
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface PlayerStreakStateRepository {
+
+    /**
+     * Insert or update a player streak state.
+     */
+    <S extends PlayerStreakState> S save(S state);
+
+    /**
+     * Insert or update player streak states.
+     */
+    <S extends PlayerStreakState> List<S> saveAll(Iterable<S> states);
+
+    /**
+     * Get all player streak states for a season.
+     */
+    List<PlayerStreakState> findBySeason(String season);
+
+    /**
+     * Delete all player streak states of a season.
+     */
+    int deleteBySeason(String season);
+}
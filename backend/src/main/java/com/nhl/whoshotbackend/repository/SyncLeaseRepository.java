@@ -0,0 +1,52 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.SyncLease;
+
+import java.util.Optional;
+
+/**
+ * Storage for SyncLease entities.
+ * Acquisition, renewal and publishing are single conditional updates so concurrent replicas cannot both win.
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface SyncLeaseRepository {
+
+    /**
+     * Find a lease by name.
+     */
+    Optional<SyncLease> findById(String name);
+
+    /**
+     * Insert or update a lease.
+     */
+    <S extends SyncLease> S save(S lease);
+
+    /**
+     * Create a free lease unless one with that name already exists; never touches an existing lease.
+     */
+    int createIfMissing(String name);
+
+    /**
+     * Acquire or renew a lease if it is free, expired or already held by the given holder.
+     * @return 1 if the holder now holds the lease, 0 otherwise
+     */
+    int tryAcquire(String name, String holderId, long now, long expiresAt);
+
+    /**
+     * Release a lease if it is held by the given holder.
+     */
+    int release(String name, String holderId);
+
+    /**
+     * Bump the data version of a lease if it is held by the given holder and has not expired.
+     * @return 1 if the version was published, 0 if the holder lost the lease
+     */
+    int publishDataVersion(String name, String holderId, String season, long publishedAt);
+
+    /**
+     * Check that a lease is held by the given holder and has not expired, and extend it, so the database's
+     * write lock is held from the check until the surrounding transaction ends.
+     * @return 1 if the holder still holds the lease, 0 otherwise
+     */
+    int fence(String name, String holderId, long now, long expiresAt);
+}
@@ -1,19 +1,32 @@
 package com.nhl.whoshotbackend.repository;
 
 import com.nhl.whoshotbackend.entity.Team;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * Repository for Team entities.
+ * Storage for Team entities.
  * Note: Uses composite key (teamCode + season).
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
  */
-@Repository
-public interface TeamRepository extends JpaRepository<Team, Team.TeamKey> {
+public interface TeamRepository {
+
+    /**
+     * Find a team by code and season.
+     */
+    Optional<Team> findById(Team.TeamKey key);
+
+    /**
+     * Insert or update a team.
+     */
+    <S extends Team> S save(S team);
+
+    /**
+     * Insert or update teams.
+     */
+    <S extends Team> List<S> saveAll(Iterable<S> teams);
 
     /**
      * Find a team by its three-letter team code and season.
@@ -25,15 +38,35 @@ public interface TeamRepository extends JpaRepository<Team, Team.TeamKey> {
      */
     List<Team> findBySeasonOrderByPointsDesc(String season);
 
+    /**
+     * Count teams stored for a season.
+     */
+    long countBySeason(String season);
+
+    /**
+     * Get several teams of a season in one lookup.
+     */
+    List<Team> findBySeasonAndTeamCodeIn(String season, Collection<String> teamCodes);
+
     /**
      * Get teams with current win streaks for a season, ordered by streak length.
      */
-    @Query("SELECT t FROM Team t WHERE t.season = ?1 AND t.currentWinStreak > 0 ORDER BY t.currentWinStreak DESC")
     List<Team> findTeamsWithWinStreaks(String season);
 
     /**
      * Get teams with current loss streaks for a season, ordered by streak length.
      */
-    @Query("SELECT t FROM Team t WHERE t.season = ?1 AND t.currentLossStreak > 0 ORDER BY t.currentLossStreak DESC")
     List<Team> findTeamsWithLossStreaks(String season);
+
+    /**
+     * Get the next chunk of a season's teams for export, ordered by team code.
+     * @param afterTeamCode Last team code of the previous chunk, or "" for the first chunk
+     * @param limit Maximum number of teams
+     */
+    List<Team> findExportChunk(String season, String afterTeamCode, int limit);
+
+    /**
+     * Delete all teams of a season.
+     */
+    int deleteBySeason(String season);
 }
@@ -0,0 +1,40 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage for TeamStreakState entities.
+ * Note: Uses composite key (teamCode + season).
+ * Implemented with Spring Data JPA on SQLite, or by the in-memory engine under the "memory" profile.
+ */
+public interface TeamStreakStateRepository {
+
+    /**
+     * Find a team's streak state by code and season.
+     */
+    Optional<TeamStreakState> findById(Team.TeamKey key);
+
+    /**
+     * Insert or update a team streak state.
+     */
+    <S extends TeamStreakState> S save(S state);
+
+    /**
+     * Insert or update team streak states.
+     */
+    <S extends TeamStreakState> List<S> saveAll(Iterable<S> states);
+
+    /**
+     * Get all team streak states for a season.
+     */
+    List<TeamStreakState> findBySeason(String season);
+
+    /**
+     * Delete all team streak states of a season.
+     */
+    int deleteBySeason(String season);
+}
@@ -0,0 +1,49 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.ChangeLogEntry;
+import com.nhl.whoshotbackend.repository.ChangeLogRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link ChangeLogRepository}.
+ */
+@Repository
+@Profile("!memory")
+public interface JpaChangeLogRepository extends JpaRepository<ChangeLogEntry, Long>, ChangeLogRepository {
+
+    /**
+     * Get up to a limit of entries after a version, in version order.
+     */
+    @Query(value = "SELECT * FROM change_log WHERE version > :version ORDER BY version LIMIT :limit", nativeQuery = true)
+    List<ChangeLogEntry> findChangesSince(@Param("version") Long version, @Param("limit") int limit);
+
+    /**
+     * Get up to a limit of a season's entries after a version, in version order.
+     */
+    @Query(value = "SELECT * FROM change_log WHERE season = :season AND version > :version ORDER BY version LIMIT :limit",
+            nativeQuery = true)
+    List<ChangeLogEntry> findSeasonChangesSince(@Param("season") String season, @Param("version") Long version,
+                                                @Param("limit") int limit);
+
+    /**
+     * Get the latest version in the change log, or null if it is empty.
+     */
+    @Query("SELECT MAX(c.version) FROM ChangeLogEntry c")
+    Long findLatestVersion();
+
+    /**
+     * Delete all entries of a season except the latest entry of the whole log in one statement.
+     * SQLite assigns the next version after the highest one left, so keeping it keeps versions increasing.
+     */
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.season = ?1 "
+            + "AND c.version < (SELECT MAX(m.version) FROM ChangeLogEntry m)")
+    int deleteBySeason(String season);
+}
@@ -0,0 +1,41 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.ClubGoalieStats;
+import com.nhl.whoshotbackend.entity.ClubSkaterStats;
+import com.nhl.whoshotbackend.repository.ClubGoalieStatsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link ClubGoalieStatsRepository}.
+ * Note: Uses composite key (playerId + teamCode + season).
+ */
+@Repository
+@Profile("!memory")
+public interface JpaClubGoalieStatsRepository
+        extends JpaRepository<ClubGoalieStats, ClubSkaterStats.ClubStatsKey>, ClubGoalieStatsRepository {
+
+    /**
+     * Get a club's goalie stats for a season ordered by games played, most first.
+     */
+    List<ClubGoalieStats> findByTeamCodeAndSeasonOrderByGamesPlayedDesc(String teamCode, String season);
+
+    /**
+     * Delete a club's goalie stats for a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM ClubGoalieStats s WHERE s.teamCode = ?1 AND s.season = ?2")
+    int deleteByTeamCodeAndSeason(String teamCode, String season);
+
+    /**
+     * Delete every club's goalie stats for a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM ClubGoalieStats s WHERE s.season = ?1")
+    int deleteBySeason(String season);
+}
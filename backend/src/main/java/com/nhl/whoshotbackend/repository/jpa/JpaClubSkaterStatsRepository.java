@@ -0,0 +1,40 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.ClubSkaterStats;
+import com.nhl.whoshotbackend.repository.ClubSkaterStatsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link ClubSkaterStatsRepository}.
+ * Note: Uses composite key (playerId + teamCode + season).
+ */
+@Repository
+@Profile("!memory")
+public interface JpaClubSkaterStatsRepository
+        extends JpaRepository<ClubSkaterStats, ClubSkaterStats.ClubStatsKey>, ClubSkaterStatsRepository {
+
+    /**
+     * Get a club's skater stats for a season ordered by points, highest first.
+     */
+    List<ClubSkaterStats> findByTeamCodeAndSeasonOrderByPointsDesc(String teamCode, String season);
+
+    /**
+     * Delete a club's skater stats for a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM ClubSkaterStats s WHERE s.teamCode = ?1 AND s.season = ?2")
+    int deleteByTeamCodeAndSeason(String teamCode, String season);
+
+    /**
+     * Delete every club's skater stats for a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM ClubSkaterStats s WHERE s.season = ?1")
+    int deleteBySeason(String season);
+}
@@ -0,0 +1,84 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameLogRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link GameLogRepository}.
+ */
+@Repository
+@Profile("!memory")
+public interface JpaGameLogRepository extends JpaRepository<GameLog, Long>, GameLogRepository {
+
+    /**
+     * Get game logs for a specific player, ordered by date descending.
+     */
+    List<GameLog> findByPlayerIdOrderByGameDateDesc(Long playerId);
+
+    /**
+     * Get the last N game logs for a player.
+     */
+    @Query(value = "SELECT * FROM game_logs WHERE player_id = :playerId ORDER BY game_date DESC LIMIT :limit", nativeQuery = true)
+    List<GameLog> findLastNGamesByPlayer(@Param("playerId") Long playerId, @Param("limit") int limit);
+
+    /**
+     * Get the IDs of games that already have game logs within a game ID range.
+     */
+    @Query("SELECT DISTINCT g.gameId FROM GameLog g WHERE g.gameId BETWEEN ?1 AND ?2")
+    List<Long> findDistinctGameIdsBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Get the highest game ID with game logs within a game ID range, or null if there are none.
+     */
+    @Query("SELECT MAX(g.gameId) FROM GameLog g WHERE g.gameId BETWEEN ?1 AND ?2")
+    Long findMaxGameIdBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Get a player's game logs within a game ID range (one season), ordered by date ascending.
+     */
+    List<GameLog> findByPlayerIdAndGameIdBetweenOrderByGameDateAscGameIdAsc(Long playerId, Long firstGameId, Long lastGameId);
+
+    /**
+     * Get all game logs within a game ID range (one season).
+     */
+    List<GameLog> findByGameIdBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Stream the stored columns of all game logs within a game ID range as rows, without entities.
+     * Rows are read forward-only; close the stream inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.nhl.whoshotbackend.repository.GameLogRow(g.playerId, g.gameId, g.gameDate, g.goals, "
+            + "g.assists, g.points, g.shots, g.plusMinus, g.timeOnIce) FROM GameLog g WHERE g.gameId BETWEEN ?1 AND ?2 "
+            + "ORDER BY g.playerId ASC, g.gameDate ASC, g.gameId ASC")
+    Stream<GameLogRow> streamRowsByGameIdBetween(Long firstGameId, Long lastGameId);
+
+    /**
+     * Get the next chunk of game logs within a game ID range for export, seeking on (game ID, player ID)
+     * past the previous chunk's last game log.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT g FROM GameLog g WHERE g.gameId BETWEEN ?1 AND ?2 "
+            + "AND (g.gameId > ?3 OR (g.gameId = ?3 AND g.playerId > ?4)) ORDER BY g.gameId ASC, g.playerId ASC LIMIT ?5")
+    List<GameLog> findExportChunk(long firstGameId, long lastGameId, long afterGameId, long afterPlayerId, int limit);
+
+    /**
+     * Delete all game logs within a game ID range (one season) in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM GameLog g WHERE g.gameId BETWEEN ?1 AND ?2")
+    int deleteByGameIdBetween(Long firstGameId, Long lastGameId);
+}
@@ -0,0 +1,52 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link GameRepository}.
+ */
+@Repository
+@Profile("!memory")
+public interface JpaGameRepository extends JpaRepository<Game, Long>, GameRepository {
+
+    /**
+     * Get all games of a given type for a season, ordered by date.
+     */
+    List<Game> findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(String season, Integer gameType);
+
+    /**
+     * Get a team's games of a given type for a season (home or away), ordered by date.
+     */
+    @Query("SELECT g FROM Game g WHERE g.season = ?1 AND g.gameType = ?3 AND (g.homeTeamCode = ?2 OR g.awayTeamCode = ?2) ORDER BY g.gameDate ASC, g.gameId ASC")
+    List<Game> findTeamGames(String season, String teamCode, Integer gameType);
+
+    /**
+     * Get the IDs of completed games of a given type for a season.
+     */
+    @Query("SELECT g.gameId FROM Game g WHERE g.season = ?1 AND g.gameType = ?2 AND g.gameState IN ('FINAL', 'OFF')")
+    List<Long> findCompletedGameIds(String season, Integer gameType);
+
+    /**
+     * Get the date of the latest completed game in a season.
+     */
+    @Query("SELECT MAX(g.gameDate) FROM Game g WHERE g.season = ?1 AND g.gameState IN ('FINAL', 'OFF')")
+    String findLastCompletedGameDate(String season);
+
+    /**
+     * Get the next chunk of a season's games for export, seeking on (season, date) past the previous chunk's last game.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT g FROM Game g WHERE g.season = ?1 AND (g.gameDate > ?2 OR (g.gameDate = ?2 AND g.gameId > ?3)) "
+            + "ORDER BY g.gameDate ASC, g.gameId ASC LIMIT ?4")
+    List<Game> findExportChunk(String season, String afterGameDate, long afterGameId, int limit);
+}
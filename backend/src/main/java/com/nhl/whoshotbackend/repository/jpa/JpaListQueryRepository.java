@@ -0,0 +1,180 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.repository.KeysetCursor;
+import com.nhl.whoshotbackend.repository.KeysetPage;
+import com.nhl.whoshotbackend.repository.KeysetPages;
+import com.nhl.whoshotbackend.repository.ListQuery;
+import com.nhl.whoshotbackend.repository.ListQueryRepository;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Criteria API (SQLite) implementation of {@link ListQueryRepository}.
+ * Each page is an index seek on (season, sort attribute) rather than an OFFSET scan.
+ * Archived seasons are paged in memory over the archive's precomputed leaderboards,
+ * with the same ordering and cursors.
+ * A plain component rather than a @Repository, so invalid fields and cursors reach callers as the
+ * IllegalArgumentException the interface documents instead of a translated data access exception.
+ */
+@Component
+@Profile("!memory")
+public class JpaListQueryRepository implements ListQueryRepository {
+
+    private final EntityManager entityManager;
+    private final SeasonArchiveStore seasonArchiveStore;
+
+    public JpaListQueryRepository(EntityManager entityManager, SeasonArchiveStore seasonArchiveStore) {
+        this.entityManager = entityManager;
+        this.seasonArchiveStore = seasonArchiveStore;
+    }
+
+    @Override
+    public void validateFields(Class<?> entityType, List<String> fields) {
+        Set<String> attributes = entityManager.getMetamodel().entity(entityType).getSingularAttributes().stream()
+                .map(Attribute::getName)
+                .collect(Collectors.toSet());
+        for (String field : fields) {
+            if (!attributes.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "' for " + entityType.getSimpleName());
+            }
+        }
+    }
+
+    @Override
+    public <T> KeysetPage<T> findPage(ListQuery<T> query, KeysetCursor after, Integer limit) {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(query.season());
+        if (archive.isPresent()) {
+            return archivePage(query, archive.get(), after, limit);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteria = cb.createQuery(query.entityType());
+        Root<T> root = criteria.from(query.entityType());
+        criteria.select(root)
+                .where(where(cb, root, query, after))
+                .orderBy(orderBy(cb, root, query));
+
+        List<T> rows = limit(entityManager.createQuery(criteria), limit).getResultList();
+        if (limit == null || rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<T> page = rows.subList(0, limit);
+        BeanWrapperImpl last = new BeanWrapperImpl(page.get(limit - 1));
+        KeysetCursor next = KeysetCursor.after(
+                last.getPropertyValue(query.sortAttribute()), last.getPropertyValue(query.idAttribute()));
+        return new KeysetPage<>(new ArrayList<>(page), next.encode());
+    }
+
+    @Override
+    public <T> KeysetPage<Map<String, Object>> selectFields(ListQuery<T> query, List<String> fields,
+                                                            KeysetCursor after, Integer limit) {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(query.season());
+        if (archive.isPresent()) {
+            return KeysetPages.selectFields(archivePage(query, archive.get(), after, limit), fields);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<T> root = criteria.from(query.entityType());
+
+        // The sort and ID values are selected after the requested fields to build the next cursor
+        List<Selection<?>> selections = new ArrayList<>(fields.size() + 2);
+        for (String field : fields) {
+            selections.add(root.get(field));
+        }
+        selections.add(root.get(query.sortAttribute()));
+        selections.add(root.get(query.idAttribute()));
+        criteria.multiselect(selections)
+                .where(where(cb, root, query, after))
+                .orderBy(orderBy(cb, root, query));
+
+        List<Tuple> tuples = limit(entityManager.createQuery(criteria), limit).getResultList();
+        boolean hasMore = limit != null && tuples.size() > limit;
+        int pageSize = hasMore ? limit : tuples.size();
+
+        List<Map<String, Object>> rows = new ArrayList<>(pageSize);
+        for (int rowIndex = 0; rowIndex < pageSize; rowIndex++) {
+            Tuple tuple = tuples.get(rowIndex);
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                row.put(fields.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Tuple last = tuples.get(pageSize - 1);
+            nextCursor = KeysetCursor.after(last.get(fields.size()), last.get(fields.size() + 1)).encode();
+        }
+        return new KeysetPage<>(rows, nextCursor);
+    }
+
+    /**
+     * Page over an archived season's rows, which already come in list order.
+     */
+    private <T> KeysetPage<T> archivePage(ListQuery<T> query, SeasonArchive archive, KeysetCursor after, Integer limit) {
+        return KeysetPages.page(query.archiveRows().apply(archive), query, after, limit);
+    }
+
+    /**
+     * Query filter, plus the keyset condition when a cursor is given.
+     * Rows come in (sort DESC NULLS LAST, id ASC) order, so the rows after (v, id) are those with
+     * a lower sort value, the same sort value and a higher ID, or a null sort value.
+     */
+    private <T> Predicate where(CriteriaBuilder cb, Root<T> root, ListQuery<T> query, KeysetCursor after) {
+        Predicate filter = query.filter().apply(cb, root);
+        if (after == null) {
+            return filter;
+        }
+
+        Path<Comparable<Object>> sort = root.get(query.sortAttribute());
+        Path<Comparable<Object>> id = root.get(query.idAttribute());
+        Comparable<Object> afterId = KeysetPages.parse(after.id(), id.getJavaType());
+
+        if (after.sortValue() == null) {
+            // Already in the null tail: only the remaining null rows follow
+            return cb.and(filter, cb.isNull(sort), cb.greaterThan(id, afterId));
+        }
+        Comparable<Object> afterSort = KeysetPages.parse(after.sortValue(), sort.getJavaType());
+        return cb.and(filter, cb.or(
+                cb.lessThan(sort, afterSort),
+                cb.and(cb.equal(sort, afterSort), cb.greaterThan(id, afterId)),
+                cb.isNull(sort)));
+    }
+
+    private <T> List<Order> orderBy(CriteriaBuilder cb, Root<T> root, ListQuery<T> query) {
+        // SQLite sorts nulls last when descending, matching the keyset condition
+        return List.of(cb.desc(root.get(query.sortAttribute())), cb.asc(root.get(query.idAttribute())));
+    }
+
+    /**
+     * Fetch one row more than the page size to tell whether another page follows.
+     */
+    private <R> TypedQuery<R> limit(TypedQuery<R> query, Integer limit) {
+        return limit != null ? query.setMaxResults(limit + 1) : query;
+    }
+}
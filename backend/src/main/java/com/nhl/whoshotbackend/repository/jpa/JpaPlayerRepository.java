@@ -0,0 +1,65 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link PlayerRepository}.
+ * Note: Uses composite key (playerId + season).
+ */
+@Repository
+@Profile("!memory")
+public interface JpaPlayerRepository extends JpaRepository<Player, Player.PlayerKey>, PlayerRepository {
+
+    /**
+     * Get all players for a season ordered by points descending.
+     */
+    List<Player> findBySeasonOrderByPointsDesc(String season);
+
+    /**
+     * Get players with current point streaks for a season, ordered by streak length.
+     */
+    @Query("SELECT p FROM Player p WHERE p.season = ?1 AND p.currentPointStreak > 0 ORDER BY p.currentPointStreak DESC")
+    List<Player> findPlayersWithPointStreaks(String season);
+
+    /**
+     * Get "hot" players for a season ordered by hot rating descending.
+     */
+    @Query("SELECT p FROM Player p WHERE p.season = ?1 AND p.hotRating IS NOT NULL ORDER BY p.hotRating DESC")
+    List<Player> findHotPlayers(String season);
+
+    /**
+     * Find players by team code for a specific season, ordered by points descending, then player ID.
+     */
+    List<Player> findByTeamCodeAndSeasonOrderByPointsDescPlayerIdAsc(String teamCode, String season);
+
+    /**
+     * Get several players of a season with a single IN query.
+     */
+    List<Player> findBySeasonAndPlayerIdIn(String season, Collection<Long> playerIds);
+
+    /**
+     * Get the next chunk of a season's players for export, seeking past the previous chunk's last player ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Player p WHERE p.season = ?1 AND p.playerId > ?2 ORDER BY p.playerId ASC LIMIT ?3")
+    List<Player> findExportChunk(String season, long afterPlayerId, int limit);
+
+    /**
+     * Delete all players of a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM Player p WHERE p.season = ?1")
+    int deleteBySeason(String season);
+}
@@ -0,0 +1,33 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.PlayerStreakState;
+import com.nhl.whoshotbackend.repository.PlayerStreakStateRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link PlayerStreakStateRepository}.
+ * Note: Uses composite key (playerId + season).
+ */
+@Repository
+@Profile("!memory")
+public interface JpaPlayerStreakStateRepository extends JpaRepository<PlayerStreakState, Player.PlayerKey>, PlayerStreakStateRepository {
+
+    /**
+     * Get all player streak states for a season.
+     */
+    List<PlayerStreakState> findBySeason(String season);
+
+    /**
+     * Delete all player streak states of a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM PlayerStreakState s WHERE s.season = ?1")
+    int deleteBySeason(String season);
+}
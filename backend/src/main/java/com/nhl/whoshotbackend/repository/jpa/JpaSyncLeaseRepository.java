@@ -0,0 +1,57 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.SyncLease;
+import com.nhl.whoshotbackend.repository.SyncLeaseRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link SyncLeaseRepository}.
+ * SQLite serializes writers, so each conditional update is atomic across processes sharing the database file.
+ */
+@Repository
+@Profile("!memory")
+public interface JpaSyncLeaseRepository extends JpaRepository<SyncLease, String>, SyncLeaseRepository {
+
+    /**
+     * Create a free lease in one statement; a concurrent creation by another replica is ignored.
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO sync_leases (name, holder_id, expires_at, data_version) VALUES (?1, NULL, 0, 0)",
+            nativeQuery = true)
+    int createIfMissing(String name);
+
+    /**
+     * Acquire or renew a lease in one statement.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SyncLease l SET l.holderId = ?2, l.expiresAt = ?4 "
+            + "WHERE l.name = ?1 AND (l.holderId = ?2 OR l.holderId IS NULL OR l.expiresAt < ?3)")
+    int tryAcquire(String name, String holderId, long now, long expiresAt);
+
+    /**
+     * Release a lease held by the given holder.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SyncLease l SET l.holderId = NULL, l.expiresAt = 0 WHERE l.name = ?1 AND l.holderId = ?2")
+    int release(String name, String holderId);
+
+    /**
+     * Bump the data version of a lease held by the given holder and not yet expired.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SyncLease l SET l.dataVersion = l.dataVersion + 1, l.dataSeason = ?3, l.dataPublishedAt = ?4 "
+            + "WHERE l.name = ?1 AND l.holderId = ?2 AND l.expiresAt >= ?4")
+    int publishDataVersion(String name, String holderId, String season, long publishedAt);
+
+    /**
+     * Check a lease is still held and extend it, flushing pending writes first; the update takes SQLite's
+     * write lock, so no other replica can take the lease over before the surrounding transaction commits.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SyncLease l SET l.expiresAt = ?4 WHERE l.name = ?1 AND l.holderId = ?2 AND l.expiresAt >= ?3")
+    int fence(String name, String holderId, long now, long expiresAt);
+}
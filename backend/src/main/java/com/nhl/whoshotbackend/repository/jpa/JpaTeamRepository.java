@@ -0,0 +1,71 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link TeamRepository}.
+ * Note: Uses composite key (teamCode + season).
+ */
+@Repository
+@Profile("!memory")
+public interface JpaTeamRepository extends JpaRepository<Team, Team.TeamKey>, TeamRepository {
+
+    /**
+     * Find a team by its three-letter team code and season.
+     */
+    Optional<Team> findByTeamCodeAndSeason(String teamCode, String season);
+
+    /**
+     * Get all teams for a season ordered by points descending (standings).
+     */
+    List<Team> findBySeasonOrderByPointsDesc(String season);
+
+    /**
+     * Count teams stored for a season.
+     */
+    long countBySeason(String season);
+
+    /**
+     * Get several teams of a season with a single IN query.
+     */
+    List<Team> findBySeasonAndTeamCodeIn(String season, Collection<String> teamCodes);
+
+    /**
+     * Get teams with current win streaks for a season, ordered by streak length.
+     */
+    @Query("SELECT t FROM Team t WHERE t.season = ?1 AND t.currentWinStreak > 0 ORDER BY t.currentWinStreak DESC")
+    List<Team> findTeamsWithWinStreaks(String season);
+
+    /**
+     * Get teams with current loss streaks for a season, ordered by streak length.
+     */
+    @Query("SELECT t FROM Team t WHERE t.season = ?1 AND t.currentLossStreak > 0 ORDER BY t.currentLossStreak DESC")
+    List<Team> findTeamsWithLossStreaks(String season);
+
+    /**
+     * Get the next chunk of a season's teams for export, seeking past the previous chunk's last team code.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM Team t WHERE t.season = ?1 AND t.teamCode > ?2 ORDER BY t.teamCode ASC LIMIT ?3")
+    List<Team> findExportChunk(String season, String afterTeamCode, int limit);
+
+    /**
+     * Delete all teams of a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM Team t WHERE t.season = ?1")
+    int deleteBySeason(String season);
+}
@@ -0,0 +1,33 @@
+package com.nhl.whoshotbackend.repository.jpa;
+
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
+import com.nhl.whoshotbackend.repository.TeamStreakStateRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA (SQLite) implementation of {@link TeamStreakStateRepository}.
+ * Note: Uses composite key (teamCode + season).
+ */
+@Repository
+@Profile("!memory")
+public interface JpaTeamStreakStateRepository extends JpaRepository<TeamStreakState, Team.TeamKey>, TeamStreakStateRepository {
+
+    /**
+     * Get all team streak states for a season.
+     */
+    List<TeamStreakState> findBySeason(String season);
+
+    /**
+     * Delete all team streak states of a season in one statement.
+     */
+    @Modifying
+    @Query("DELETE FROM TeamStreakState s WHERE s.season = ?1")
+    int deleteBySeason(String season);
+}
@@ -0,0 +1,72 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.ChangeLogEntry;
+import com.nhl.whoshotbackend.repository.ChangeLogRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory implementation of {@link ChangeLogRepository}.
+ * Entries are kept in a sorted map keyed by version, so reading after a version is a tail view.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryChangeLogRepository implements ChangeLogRepository {
+
+    private final AtomicLong nextVersion = new AtomicLong(1);
+    private final ConcurrentSkipListMap<Long, ChangeLogEntry> entries = new ConcurrentSkipListMap<>();
+
+    @Override
+    public <S extends ChangeLogEntry> List<S> saveAll(Iterable<S> newEntries) {
+        List<S> saved = new ArrayList<>();
+        for (S entry : newEntries) {
+            if (entry.getVersion() == null) {
+                entry.setVersion(nextVersion.getAndIncrement());
+            }
+            entries.put(entry.getVersion(), entry);
+            saved.add(entry);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<ChangeLogEntry> findChangesSince(Long version, int limit) {
+        return entries.tailMap(version, false).values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<ChangeLogEntry> findSeasonChangesSince(String season, Long version, int limit) {
+        return entries.tailMap(version, false).values().stream()
+                .filter(entry -> season.equals(entry.getSeason()))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Long findLatestVersion() {
+        return entries.isEmpty() ? null : entries.lastKey();
+    }
+
+    @Override
+    public int deleteBySeason(String season) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        // Matches the JPA engine, which keeps the latest entry so versions are not reused
+        Long latestVersion = entries.lastKey();
+        int deleted = 0;
+        for (ChangeLogEntry entry : entries.headMap(latestVersion).values()) {
+            if (season.equals(entry.getSeason()) && entries.remove(entry.getVersion(), entry)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
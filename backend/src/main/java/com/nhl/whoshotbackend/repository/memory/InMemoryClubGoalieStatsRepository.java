@@ -0,0 +1,61 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.ClubGoalieStats;
+import com.nhl.whoshotbackend.repository.ClubGoalieStatsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of {@link ClubGoalieStatsRepository}: stats indexed by season and team code, then player ID.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryClubGoalieStatsRepository implements ClubGoalieStatsRepository {
+
+    private final Map<String, Map<Long, ClubGoalieStats>> clubs = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends ClubGoalieStats> List<S> saveAll(Iterable<S> stats) {
+        List<S> saved = new ArrayList<>();
+        for (S stat : stats) {
+            clubs.computeIfAbsent(key(stat.getTeamCode(), stat.getSeason()), k -> new ConcurrentHashMap<>())
+                    .put(stat.getPlayerId(), stat);
+            saved.add(stat);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<ClubGoalieStats> findByTeamCodeAndSeasonOrderByGamesPlayedDesc(String teamCode, String season) {
+        return clubs.getOrDefault(key(teamCode, season), Map.of()).values().stream()
+                .sorted(Orderings.descending(ClubGoalieStats::getGamesPlayed))
+                .toList();
+    }
+
+    @Override
+    public int deleteByTeamCodeAndSeason(String teamCode, String season) {
+        Map<Long, ClubGoalieStats> removed = clubs.remove(key(teamCode, season));
+        return removed != null ? removed.size() : 0;
+    }
+
+    @Override
+    public int deleteBySeason(String season) {
+        int deleted = 0;
+        for (String key : List.copyOf(clubs.keySet())) {
+            if (key.startsWith(season + ":")) {
+                Map<Long, ClubGoalieStats> removed = clubs.remove(key);
+                deleted += removed != null ? removed.size() : 0;
+            }
+        }
+        return deleted;
+    }
+
+    private static String key(String teamCode, String season) {
+        return season + ":" + teamCode;
+    }
+}
@@ -0,0 +1,141 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameLogRow;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link GameLogRepository}.
+ * Game logs are indexed by season (derived from the game ID), then player ID, then game log ID,
+ * so game ID range queries only visit the seasons they overlap.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryGameLogRepository implements GameLogRepository {
+
+    private static final Comparator<GameLog> BY_DATE = Orderings.ascending(GameLog::getGameDate)
+            .thenComparing(GameLog::getGameId);
+
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Map<String, Map<Long, Map<Long, GameLog>>> seasons = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends GameLog> List<S> saveAll(Iterable<S> gameLogs) {
+        List<S> saved = new ArrayList<>();
+        for (S gameLog : gameLogs) {
+            if (gameLog.getId() == null) {
+                gameLog.setId(nextId.getAndIncrement());
+            }
+            seasons.computeIfAbsent(SeasonValidator.getSeasonIdForGame(gameLog.getGameId()), s -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(gameLog.getPlayerId(), p -> new ConcurrentHashMap<>())
+                    .put(gameLog.getId(), gameLog);
+            saved.add(gameLog);
+        }
+        return saved;
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends GameLog> gameLogs) {
+        for (GameLog gameLog : gameLogs) {
+            Map<Long, Map<Long, GameLog>> players = seasons.get(SeasonValidator.getSeasonIdForGame(gameLog.getGameId()));
+            Map<Long, GameLog> playerGameLogs = players != null ? players.get(gameLog.getPlayerId()) : null;
+            if (playerGameLogs != null && gameLog.getId() != null) {
+                playerGameLogs.remove(gameLog.getId());
+            }
+        }
+    }
+
+    @Override
+    public List<GameLog> findByPlayerIdOrderByGameDateDesc(Long playerId) {
+        return seasons.values().stream()
+                .flatMap(players -> players.getOrDefault(playerId, Map.of()).values().stream())
+                .sorted(Orderings.descending(GameLog::getGameDate))
+                .toList();
+    }
+
+    @Override
+    public List<GameLog> findLastNGamesByPlayer(Long playerId, int limit) {
+        return findByPlayerIdOrderByGameDateDesc(playerId).stream()
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findDistinctGameIdsBetween(Long firstGameId, Long lastGameId) {
+        return between(firstGameId, lastGameId)
+                .map(GameLog::getGameId)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public Long findMaxGameIdBetween(Long firstGameId, Long lastGameId) {
+        return between(firstGameId, lastGameId)
+                .map(GameLog::getGameId)
+                .max(Long::compare)
+                .orElse(null);
+    }
+
+    @Override
+    public List<GameLog> findByPlayerIdAndGameIdBetweenOrderByGameDateAscGameIdAsc(Long playerId, Long firstGameId, Long lastGameId) {
+        return overlappingSeasons(firstGameId, lastGameId)
+                .flatMap(players -> players.getOrDefault(playerId, Map.of()).values().stream())
+                .filter(gameLog -> gameLog.getGameId() >= firstGameId && gameLog.getGameId() <= lastGameId)
+                .sorted(BY_DATE)
+                .toList();
+    }
+
+    @Override
+    public List<GameLog> findByGameIdBetween(Long firstGameId, Long lastGameId) {
+        return between(firstGameId, lastGameId).toList();
+    }
+
+    @Override
+    public Stream<GameLogRow> streamRowsByGameIdBetween(Long firstGameId, Long lastGameId) {
+        return between(firstGameId, lastGameId)
+                .sorted(Comparator.comparing(GameLog::getPlayerId).thenComparing(BY_DATE))
+                .map(GameLogRow::of);
+    }
+
+    @Override
+    public List<GameLog> findExportChunk(long firstGameId, long lastGameId, long afterGameId, long afterPlayerId, int limit) {
+        return between(firstGameId, lastGameId)
+                .filter(gameLog -> gameLog.getGameId() > afterGameId
+                        || (gameLog.getGameId() == afterGameId && gameLog.getPlayerId() > afterPlayerId))
+                .sorted(Comparator.comparing(GameLog::getGameId).thenComparing(GameLog::getPlayerId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int deleteByGameIdBetween(Long firstGameId, Long lastGameId) {
+        List<GameLog> gameLogs = findByGameIdBetween(firstGameId, lastGameId);
+        deleteAll(gameLogs);
+        return gameLogs.size();
+    }
+
+    private Stream<GameLog> between(long firstGameId, long lastGameId) {
+        return overlappingSeasons(firstGameId, lastGameId)
+                .flatMap(players -> players.values().stream())
+                .flatMap(gameLogs -> gameLogs.values().stream())
+                .filter(gameLog -> gameLog.getGameId() >= firstGameId && gameLog.getGameId() <= lastGameId);
+    }
+
+    private Stream<Map<Long, Map<Long, GameLog>>> overlappingSeasons(long firstGameId, long lastGameId) {
+        return seasons.entrySet().stream()
+                .filter(season -> SeasonValidator.getFirstGameId(season.getKey()) <= lastGameId
+                        && SeasonValidator.getLastGameId(season.getKey()) >= firstGameId)
+                .map(Map.Entry::getValue);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of {@link GameRepository}: games indexed by season, then game ID.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryGameRepository implements GameRepository {
+
+    private static final Set<String> COMPLETED_STATES = Set.of("FINAL", "OFF");
+    private static final Comparator<Game> BY_DATE = Orderings.ascending(Game::getGameDate)
+            .thenComparing(Game::getGameId);
+
+    private final Map<String, Map<Long, Game>> seasons = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends Game> List<S> saveAll(Iterable<S> games) {
+        List<S> saved = new ArrayList<>();
+        for (S game : games) {
+            seasons.computeIfAbsent(game.getSeason(), s -> new ConcurrentHashMap<>()).put(game.getGameId(), game);
+            saved.add(game);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Game> findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(String season, Integer gameType) {
+        return season(season).values().stream()
+                .filter(game -> Objects.equals(gameType, game.getGameType()))
+                .sorted(BY_DATE)
+                .toList();
+    }
+
+    @Override
+    public List<Game> findTeamGames(String season, String teamCode, Integer gameType) {
+        return season(season).values().stream()
+                .filter(game -> Objects.equals(gameType, game.getGameType()))
+                .filter(game -> teamCode.equals(game.getHomeTeamCode()) || teamCode.equals(game.getAwayTeamCode()))
+                .sorted(BY_DATE)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findCompletedGameIds(String season, Integer gameType) {
+        return season(season).values().stream()
+                .filter(game -> Objects.equals(gameType, game.getGameType()) && isCompleted(game))
+                .map(Game::getGameId)
+                .toList();
+    }
+
+    @Override
+    public String findLastCompletedGameDate(String season) {
+        return season(season).values().stream()
+                .filter(InMemoryGameRepository::isCompleted)
+                .map(Game::getGameDate)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    @Override
+    public List<Game> findExportChunk(String season, String afterGameDate, long afterGameId, int limit) {
+        return season(season).values().stream()
+                .filter(game -> {
+                    int comparison = game.getGameDate().compareTo(afterGameDate);
+                    return comparison > 0 || (comparison == 0 && game.getGameId() > afterGameId);
+                })
+                .sorted(BY_DATE)
+                .limit(limit)
+                .toList();
+    }
+
+    private Map<Long, Game> season(String season) {
+        return seasons.getOrDefault(season, Map.of());
+    }
+
+    private static boolean isCompleted(Game game) {
+        return game.getGameState() != null && COMPLETED_STATES.contains(game.getGameState());
+    }
+}
@@ -0,0 +1,93 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.KeysetCursor;
+import com.nhl.whoshotbackend.repository.KeysetPage;
+import com.nhl.whoshotbackend.repository.KeysetPages;
+import com.nhl.whoshotbackend.repository.ListQuery;
+import com.nhl.whoshotbackend.repository.ListQueryRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of {@link ListQueryRepository}.
+ * Filters and sorts a season's rows from the in-memory engine (or the season archive) and pages
+ * over them with the same ordering and cursors as the database queries.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryListQueryRepository implements ListQueryRepository {
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+
+    public InMemoryListQueryRepository(PlayerRepository playerRepository, TeamRepository teamRepository,
+                                       SeasonArchiveStore seasonArchiveStore) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+    }
+
+    @Override
+    public void validateFields(Class<?> entityType, List<String> fields) {
+        Set<String> attributes = Arrays.stream(BeanUtils.getPropertyDescriptors(entityType))
+                .map(PropertyDescriptor::getName)
+                .filter(name -> !"class".equals(name))
+                .collect(Collectors.toSet());
+        for (String field : fields) {
+            if (!attributes.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "' for " + entityType.getSimpleName());
+            }
+        }
+    }
+
+    @Override
+    public <T> KeysetPage<T> findPage(ListQuery<T> query, KeysetCursor after, Integer limit) {
+        return KeysetPages.page(rows(query), query, after, limit);
+    }
+
+    @Override
+    public <T> KeysetPage<Map<String, Object>> selectFields(ListQuery<T> query, List<String> fields,
+                                                            KeysetCursor after, Integer limit) {
+        return KeysetPages.selectFields(findPage(query, after, limit), fields);
+    }
+
+    /**
+     * All rows of the query in list order.
+     */
+    private <T> List<T> rows(ListQuery<T> query) {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(query.season());
+        if (archive.isPresent()) {
+            return query.archiveRows().apply(archive.get());
+        }
+
+        List<?> seasonRows;
+        if (query.entityType() == Player.class) {
+            seasonRows = playerRepository.findBySeasonOrderByPointsDesc(query.season());
+        } else if (query.entityType() == Team.class) {
+            seasonRows = teamRepository.findBySeasonOrderByPointsDesc(query.season());
+        } else {
+            throw new IllegalArgumentException("Unsupported list entity " + query.entityType().getSimpleName());
+        }
+        return seasonRows.stream()
+                .map(query.entityType()::cast)
+                .filter(query.rowFilter())
+                .sorted(KeysetPages.order(query))
+                .toList();
+    }
+}
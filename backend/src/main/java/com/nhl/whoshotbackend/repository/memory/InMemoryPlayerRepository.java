@@ -0,0 +1,108 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link PlayerRepository}: players indexed by season, then player ID.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryPlayerRepository implements PlayerRepository {
+
+    private static final Comparator<Player> BY_ID = Comparator.comparing(Player::getPlayerId);
+
+    private final Map<String, Map<Long, Player>> seasons = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Player> findById(Player.PlayerKey key) {
+        return Optional.ofNullable(season(key.getSeason()).get(key.getPlayerId()));
+    }
+
+    @Override
+    public List<Player> findAll() {
+        return seasons.values().stream()
+                .flatMap(players -> players.values().stream())
+                .toList();
+    }
+
+    @Override
+    public <S extends Player> List<S> saveAll(Iterable<S> players) {
+        List<S> saved = new ArrayList<>();
+        for (S player : players) {
+            seasons.computeIfAbsent(player.getSeason(), s -> new ConcurrentHashMap<>())
+                    .put(player.getPlayerId(), player);
+            saved.add(player);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Player> findBySeasonOrderByPointsDesc(String season) {
+        return sorted(season(season).values().stream(), Orderings.descending(Player::getPoints));
+    }
+
+    @Override
+    public List<Player> findPlayersWithPointStreaks(String season) {
+        return sorted(season(season).values().stream()
+                        .filter(player -> player.getCurrentPointStreak() != null && player.getCurrentPointStreak() > 0),
+                Orderings.descending(Player::getCurrentPointStreak));
+    }
+
+    @Override
+    public List<Player> findHotPlayers(String season) {
+        return sorted(season(season).values().stream().filter(player -> player.getHotRating() != null),
+                Orderings.descending(Player::getHotRating));
+    }
+
+    @Override
+    public List<Player> findByTeamCodeAndSeasonOrderByPointsDescPlayerIdAsc(String teamCode, String season) {
+        return sorted(season(season).values().stream().filter(player -> Objects.equals(teamCode, player.getTeamCode())),
+                Orderings.descending(Player::getPoints));
+    }
+
+    @Override
+    public List<Player> findBySeasonAndPlayerIdIn(String season, Collection<Long> playerIds) {
+        Map<Long, Player> players = season(season);
+        return playerIds.stream()
+                .distinct()
+                .map(players::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Player> findExportChunk(String season, long afterPlayerId, int limit) {
+        return season(season).values().stream()
+                .filter(player -> player.getPlayerId() > afterPlayerId)
+                .sorted(BY_ID)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int deleteBySeason(String season) {
+        Map<Long, Player> removed = seasons.remove(season);
+        return removed != null ? removed.size() : 0;
+    }
+
+    private Map<Long, Player> season(String season) {
+        return seasons.getOrDefault(season, Map.of());
+    }
+
+    private static List<Player> sorted(Stream<Player> players, Comparator<Player> order) {
+        return players.sorted(order.thenComparing(BY_ID)).toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.PlayerStreakState;
+import com.nhl.whoshotbackend.repository.PlayerStreakStateRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of {@link PlayerStreakStateRepository}: states indexed by season, then player ID.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryPlayerStreakStateRepository implements PlayerStreakStateRepository {
+
+    private final Map<String, Map<Long, PlayerStreakState>> seasons = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends PlayerStreakState> S save(S state) {
+        seasons.computeIfAbsent(state.getSeason(), s -> new ConcurrentHashMap<>()).put(state.getPlayerId(), state);
+        return state;
+    }
+
+    @Override
+    public <S extends PlayerStreakState> List<S> saveAll(Iterable<S> states) {
+        List<S> saved = new ArrayList<>();
+        for (S state : states) {
+            saved.add(save(state));
+        }
+        return saved;
+    }
+
+    @Override
+    public List<PlayerStreakState> findBySeason(String season) {
+        return List.copyOf(seasons.getOrDefault(season, Map.of()).values());
+    }
+
+    @Override
+    public int deleteBySeason(String season) {
+        Map<Long, PlayerStreakState> removed = seasons.remove(season);
+        return removed != null ? removed.size() : 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.SyncLease;
+import com.nhl.whoshotbackend.repository.SyncLeaseRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * In-memory implementation of {@link SyncLeaseRepository}: leases by name.
+ * Nothing is shared between processes, so the only instance always wins its own lease.
+ */
+@Repository
+@Profile("memory")
+public class InMemorySyncLeaseRepository implements SyncLeaseRepository {
+
+    private final Map<String, SyncLease> leases = new HashMap<>();
+
+    @Override
+    public synchronized Optional<SyncLease> findById(String name) {
+        SyncLease lease = leases.get(name);
+        return lease != null ? Optional.of(copy(lease)) : Optional.empty();
+    }
+
+    @Override
+    public synchronized <S extends SyncLease> S save(S lease) {
+        leases.put(lease.getName(), copy(lease));
+        return lease;
+    }
+
+    @Override
+    public synchronized int createIfMissing(String name) {
+        if (leases.containsKey(name)) {
+            return 0;
+        }
+        leases.put(name, new SyncLease(name, null, 0L, 0L, null, null));
+        return 1;
+    }
+
+    @Override
+    public synchronized int tryAcquire(String name, String holderId, long now, long expiresAt) {
+        SyncLease lease = leases.get(name);
+        if (lease == null || !(Objects.equals(lease.getHolderId(), holderId)
+                || lease.getHolderId() == null || lease.getExpiresAt() < now)) {
+            return 0;
+        }
+        lease.setHolderId(holderId);
+        lease.setExpiresAt(expiresAt);
+        return 1;
+    }
+
+    @Override
+    public synchronized int release(String name, String holderId) {
+        SyncLease lease = leases.get(name);
+        if (lease == null || !Objects.equals(lease.getHolderId(), holderId)) {
+            return 0;
+        }
+        lease.setHolderId(null);
+        lease.setExpiresAt(0L);
+        return 1;
+    }
+
+    @Override
+    public synchronized int publishDataVersion(String name, String holderId, String season, long publishedAt) {
+        SyncLease lease = leases.get(name);
+        if (lease == null || !Objects.equals(lease.getHolderId(), holderId) || lease.getExpiresAt() < publishedAt) {
+            return 0;
+        }
+        lease.setDataVersion(lease.getDataVersion() + 1);
+        lease.setDataSeason(season);
+        lease.setDataPublishedAt(publishedAt);
+        return 1;
+    }
+
+    @Override
+    public synchronized int fence(String name, String holderId, long now, long expiresAt) {
+        SyncLease lease = leases.get(name);
+        if (lease == null || !Objects.equals(lease.getHolderId(), holderId) || lease.getExpiresAt() < now) {
+            return 0;
+        }
+        lease.setExpiresAt(expiresAt);
+        return 1;
+    }
+
+    // Callers get snapshots, as they would from the database
+    private static SyncLease copy(SyncLease lease) {
+        return new SyncLease(lease.getName(), lease.getHolderId(), lease.getExpiresAt(),
+                lease.getDataVersion(), lease.getDataSeason(), lease.getDataPublishedAt());
+    }
+}
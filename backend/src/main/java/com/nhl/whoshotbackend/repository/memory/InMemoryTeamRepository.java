@@ -0,0 +1,110 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link TeamRepository}: teams indexed by season, then team code.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryTeamRepository implements TeamRepository {
+
+    private static final Comparator<Team> BY_CODE = Comparator.comparing(Team::getTeamCode);
+
+    private final Map<String, Map<String, Team>> seasons = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Team> findById(Team.TeamKey key) {
+        return findByTeamCodeAndSeason(key.getTeamCode(), key.getSeason());
+    }
+
+    @Override
+    public <S extends Team> S save(S team) {
+        seasons.computeIfAbsent(team.getSeason(), s -> new ConcurrentHashMap<>()).put(team.getTeamCode(), team);
+        return team;
+    }
+
+    @Override
+    public <S extends Team> List<S> saveAll(Iterable<S> teams) {
+        List<S> saved = new ArrayList<>();
+        for (S team : teams) {
+            saved.add(save(team));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Team> findByTeamCodeAndSeason(String teamCode, String season) {
+        return Optional.ofNullable(season(season).get(teamCode));
+    }
+
+    @Override
+    public List<Team> findBySeasonOrderByPointsDesc(String season) {
+        return sorted(season(season).values().stream(), Orderings.descending(Team::getPoints));
+    }
+
+    @Override
+    public long countBySeason(String season) {
+        return season(season).size();
+    }
+
+    @Override
+    public List<Team> findBySeasonAndTeamCodeIn(String season, Collection<String> teamCodes) {
+        Map<String, Team> teams = season(season);
+        return teamCodes.stream()
+                .distinct()
+                .map(teams::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Team> findTeamsWithWinStreaks(String season) {
+        return sorted(season(season).values().stream()
+                        .filter(team -> team.getCurrentWinStreak() != null && team.getCurrentWinStreak() > 0),
+                Orderings.descending(Team::getCurrentWinStreak));
+    }
+
+    @Override
+    public List<Team> findTeamsWithLossStreaks(String season) {
+        return sorted(season(season).values().stream()
+                        .filter(team -> team.getCurrentLossStreak() != null && team.getCurrentLossStreak() > 0),
+                Orderings.descending(Team::getCurrentLossStreak));
+    }
+
+    @Override
+    public List<Team> findExportChunk(String season, String afterTeamCode, int limit) {
+        return season(season).values().stream()
+                .filter(team -> team.getTeamCode().compareTo(afterTeamCode) > 0)
+                .sorted(BY_CODE)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int deleteBySeason(String season) {
+        Map<String, Team> removed = seasons.remove(season);
+        return removed != null ? removed.size() : 0;
+    }
+
+    private Map<String, Team> season(String season) {
+        return seasons.getOrDefault(season, Map.of());
+    }
+
+    private static List<Team> sorted(Stream<Team> teams, Comparator<Team> order) {
+        return teams.sorted(order.thenComparing(BY_CODE)).toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
+import com.nhl.whoshotbackend.repository.TeamStreakStateRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of {@link TeamStreakStateRepository}: states indexed by season, then team code.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryTeamStreakStateRepository implements TeamStreakStateRepository {
+
+    private final Map<String, Map<String, TeamStreakState>> seasons = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<TeamStreakState> findById(Team.TeamKey key) {
+        return Optional.ofNullable(seasons.getOrDefault(key.getSeason(), Map.of()).get(key.getTeamCode()));
+    }
+
+    @Override
+    public <S extends TeamStreakState> S save(S state) {
+        seasons.computeIfAbsent(state.getSeason(), s -> new ConcurrentHashMap<>()).put(state.getTeamCode(), state);
+        return state;
+    }
+
+    @Override
+    public <S extends TeamStreakState> List<S> saveAll(Iterable<S> states) {
+        List<S> saved = new ArrayList<>();
+        for (S state : states) {
+            saved.add(save(state));
+        }
+        return saved;
+    }
+
+    @Override
+    public List<TeamStreakState> findBySeason(String season) {
+        return List.copyOf(seasons.getOrDefault(season, Map.of()).values());
+    }
+
+    @Override
+    public int deleteBySeason(String season) {
+        Map<String, TeamStreakState> removed = seasons.remove(season);
+        return removed != null ? removed.size() : 0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.nhl.whoshotbackend.repository.memory;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Orderings matching the SQL ORDER BY clauses of the JPA repositories.
+ */
+final class Orderings {
+
+    private Orderings() {
+    }
+
+    /**
+     * ORDER BY value DESC, with nulls last as in SQLite.
+     */
+    static <T, V extends Comparable<? super V>> Comparator<T> descending(Function<T, V> value) {
+        return Comparator.comparing(value, Comparator.nullsLast(Comparator.reverseOrder()));
+    }
+
+    /**
+     * ORDER BY value ASC, with nulls first as in SQLite.
+     */
+    static <T, V extends Comparable<? super V>> Comparator<T> ascending(Function<T, V> value) {
+        return Comparator.comparing(value, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.ChangeLogRepository;
+import com.nhl.whoshotbackend.repository.ClubGoalieStatsRepository;
+import com.nhl.whoshotbackend.repository.ClubSkaterStatsRepository;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.PlayerStreakStateRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.repository.TeamStreakStateRepository;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Service freezing finished seasons into immutable memory-mapped archives.
+ * Once a season is archived its teams, players and game logs are served from the archive file
+ * and deleted from SQLite, so the live database only holds seasons that can still change.
+ * Player splits are rebuilt from the archived game logs. Club stats and change log entries are not archived:
+ * they are deleted with the season and are no longer available for it.
+ * Games stay in the database; they are small and back the schedule-based features.
+ */
+@Service
+@Slf4j
+public class ArchiveService {
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final GameLogRepository gameLogRepository;
+    private final PlayerStreakStateRepository playerStreakStateRepository;
+    private final TeamStreakStateRepository teamStreakStateRepository;
+    private final ClubSkaterStatsRepository clubSkaterStatsRepository;
+    private final ClubGoalieStatsRepository clubGoalieStatsRepository;
+    private final ChangeLogRepository changeLogRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+    private final GameLogStore gameLogStore;
+    private final PlayerSearchService playerSearchService;
+    private final PlayerSplitService playerSplitService;
+    private final NhlApiService nhlApiService;
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArchiveService(
+            TeamRepository teamRepository,
+            PlayerRepository playerRepository,
+            GameLogRepository gameLogRepository,
+            PlayerStreakStateRepository playerStreakStateRepository,
+            TeamStreakStateRepository teamStreakStateRepository,
+            ClubSkaterStatsRepository clubSkaterStatsRepository,
+            ClubGoalieStatsRepository clubGoalieStatsRepository,
+            ChangeLogRepository changeLogRepository,
+            SeasonArchiveStore seasonArchiveStore,
+            GameLogStore gameLogStore,
+            PlayerSearchService playerSearchService,
+            PlayerSplitService playerSplitService,
+            NhlApiService nhlApiService,
+            ObjectProvider<JdbcTemplate> jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.gameLogRepository = gameLogRepository;
+        this.playerStreakStateRepository = playerStreakStateRepository;
+        this.teamStreakStateRepository = teamStreakStateRepository;
+        this.clubSkaterStatsRepository = clubSkaterStatsRepository;
+        this.clubGoalieStatsRepository = clubGoalieStatsRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+        this.gameLogStore = gameLogStore;
+        this.playerSearchService = playerSearchService;
+        this.playerSplitService = playerSplitService;
+        this.nhlApiService = nhlApiService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Check whether a season is archived (and therefore read-only).
+     */
+    public boolean isArchived(String season) {
+        return seasonArchiveStore.isArchived(season);
+    }
+
+    /**
+     * Archive a finished season and remove its rows from the database.
+     * The archive is written and mapped before anything is deleted, so the season stays readable throughout.
+     * The season's club stats and change log entries are deleted in the same transaction as its other rows.
+     * @param season Season ID (e.g., "20242025")
+     * @return The opened archive
+     * @throws IllegalArgumentException if the season is not finished, already archived or has no stored data
+     */
+    public SeasonArchive archiveSeason(String season) throws IOException {
+        if (!SeasonValidator.isValidSeasonId(season)) {
+            throw new IllegalArgumentException("Invalid season ID. Must be in format YYYYYYYY (e.g., 20242025)");
+        }
+        if (season.compareTo(nhlApiService.getCurrentSeason()) >= 0) {
+            throw new IllegalArgumentException("Only finished seasons can be archived; "
+                    + SeasonValidator.formatSeason(season) + " is current or upcoming");
+        }
+        if (seasonArchiveStore.isArchived(season)) {
+            throw new IllegalArgumentException(SeasonValidator.formatSeason(season) + " season is already archived");
+        }
+        if (teamRepository.countBySeason(season) == 0) {
+            throw new IllegalArgumentException("No stored data for " + SeasonValidator.formatSeason(season) + " season");
+        }
+
+        long startNanos = System.nanoTime();
+        long firstGameId = SeasonValidator.getFirstGameId(season);
+        long lastGameId = SeasonValidator.getLastGameId(season);
+        List<Team> teams = teamRepository.findBySeasonOrderByPointsDesc(season);
+        List<Player> players = playerRepository.findBySeasonOrderByPointsDesc(season);
+        List<GameLog> gameLogs = gameLogRepository.findByGameIdBetween(firstGameId, lastGameId);
+        SeasonArchive.write(seasonArchiveStore.pathFor(season), season, teams, players, gameLogs);
+        SeasonArchive archive = seasonArchiveStore.open(season);
+
+        // Reads now go to the archive; drop the season from the database
+        transactionTemplate.executeWithoutResult(status -> {
+            playerStreakStateRepository.deleteBySeason(season);
+            teamStreakStateRepository.deleteBySeason(season);
+            clubSkaterStatsRepository.deleteBySeason(season);
+            clubGoalieStatsRepository.deleteBySeason(season);
+            changeLogRepository.deleteBySeason(season);
+            gameLogRepository.deleteByGameIdBetween(firstGameId, lastGameId);
+            playerRepository.deleteBySeason(season);
+            teamRepository.deleteBySeason(season);
+        });
+        // Reclaim the freed pages (there is no database file with the in-memory storage engine)
+        jdbcTemplate.ifAvailable(jdbc -> jdbc.execute("VACUUM"));
+        gameLogStore.load(season);
+        playerSearchService.rebuild();
+        playerSplitService.invalidate(season);
+
+        log.info("Archived season {}: {} teams, {} players, {} game logs in {} ms ({} KB)",
+                season, teams.size(), players.size(), gameLogs.size(),
+                (System.nanoTime() - startNanos) / 1_000_000, archive.sizeBytes() / 1024);
+        return archive;
+    }
+}
@@ -0,0 +1,291 @@
+package com.nhl.whoshotbackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service caching NHL team logos and player headshots on local disk.
+ * Each upstream image is fetched once and stored under a name derived from its URL;
+ * raster images can also be stored resized to the thumbnail sizes used by the UI.
+ * Only URLs on the configured asset host are accepted, redirects included, and responses larger than the
+ * configured limit are rejected before they are buffered or decoded.
+ */
+@Service
+@Slf4j
+public class AssetCacheService {
+
+    private static final Set<Integer> THUMBNAIL_SIZES = Set.of(32, 48, 64, 96, 200);
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg");
+    private static final int MAX_REDIRECTS = 3;
+    private static final long MAX_PIXELS = 4096L * 4096; // Largest raster image decoded for resizing
+
+    private final RestTemplate restTemplate;
+    private final Map<String, Object> fetchLocks = new ConcurrentHashMap<>();
+
+    @Value("${nhl.assets.cache-dir:asset-cache}")
+    private String cacheDir;
+
+    @Value("${nhl.assets.allowed-host:assets.nhle.com}")
+    private String allowedHost;
+
+    @Value("${nhl.assets.max-bytes:5242880}")
+    private long maxBytes;
+
+    public AssetCacheService(
+            @Value("${nhl.api.connection-timeout:10000}") int connectionTimeout,
+            @Value("${nhl.api.read-timeout:30000}") int readTimeout) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                connection.setInstanceFollowRedirects(false); // Redirects are followed in fetch, checking each hop
+            }
+        };
+        factory.setConnectTimeout(connectionTimeout);
+        factory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(factory);
+    }
+
+    /**
+     * Get the content type of a cached asset from its file extension.
+     */
+    public String getContentType(Path asset) {
+        return CONTENT_TYPES.get(extension(asset.getFileName().toString()));
+    }
+
+    /**
+     * Get an asset from the disk cache, fetching (and resizing) it on first use.
+     * @param url Upstream image URL on the allowed asset host
+     * @param size Thumbnail edge length in pixels, or null for the original image (ignored for SVG)
+     * @return Path of the cached file
+     * @throws IllegalArgumentException if the URL or size is not allowed
+     */
+    public Path getAsset(String url, Integer size) throws IOException {
+        String extension = validate(url, size);
+        boolean resize = size != null && !"svg".equals(extension);
+
+        String key = sha256(url) + (resize ? "_" + size : "") + "." + extension;
+        Path asset = Paths.get(cacheDir).resolve(key);
+        if (Files.exists(asset)) {
+            return asset;
+        }
+
+        // One fetch per asset even when many requests miss at once
+        synchronized (fetchLocks.computeIfAbsent(key, k -> new Object())) {
+            try {
+                if (Files.exists(asset)) {
+                    return asset;
+                }
+                byte[] image = fetch(url);
+                if (resize) {
+                    image = resize(image, size, extension);
+                }
+                write(asset, image);
+                log.debug("Cached asset {} as {}", url, asset);
+                return asset;
+            } finally {
+                fetchLocks.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Check the URL and size, returning the normalized file extension.
+     */
+    private String validate(String url, Integer size) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid asset URL: " + url);
+        }
+        if (!isAllowed(uri)) {
+            throw new IllegalArgumentException("Asset URL must be an https URL on " + allowedHost);
+        }
+        String extension = extension(uri.getPath());
+        if (!CONTENT_TYPES.containsKey(extension)) {
+            throw new IllegalArgumentException("Unsupported asset type: " + extension);
+        }
+        if (size != null && !THUMBNAIL_SIZES.contains(size)) {
+            throw new IllegalArgumentException("Unsupported thumbnail size: " + size + ". Allowed: " + THUMBNAIL_SIZES);
+        }
+        return extension;
+    }
+
+    private boolean isAllowed(URI uri) {
+        return "https".equals(uri.getScheme()) && allowedHost.equalsIgnoreCase(uri.getHost()) && uri.getPath() != null;
+    }
+
+    /**
+     * Fetch an asset, following redirects only while they stay on the allowed host.
+     */
+    private byte[] fetch(String url) throws IOException {
+        URI uri = URI.create(url);
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            log.info("Fetching asset from: {}", uri);
+            Response response = restTemplate.execute(uri, HttpMethod.GET, null, this::read);
+            if (response == null) {
+                throw new IOException("No asset response from " + uri);
+            }
+            if (response.redirect() == null) {
+                return response.body();
+            }
+            URI target = uri.resolve(response.redirect());
+            if (!isAllowed(target)) {
+                throw new IOException("Asset redirect from " + uri + " leaves " + allowedHost + ": " + target);
+            }
+            uri = target;
+        }
+        throw new IOException("Too many redirects fetching " + url);
+    }
+
+    /**
+     * Read a response body of at most the configured size, or the target of a redirect.
+     */
+    private Response read(ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode().is3xxRedirection()) {
+            URI location = response.getHeaders().getLocation();
+            if (location == null) {
+                throw new IOException("Asset redirect without a location");
+            }
+            return new Response(null, location);
+        }
+        long contentLength = response.getHeaders().getContentLength();
+        if (contentLength > maxBytes) {
+            throw new IOException("Asset of " + contentLength + " bytes exceeds the limit of " + maxBytes);
+        }
+        byte[] body;
+        try (InputStream input = response.getBody()) {
+            // The length header may be missing or wrong, so stop reading one byte past the limit
+            body = input.readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE));
+        }
+        if (body.length > maxBytes) {
+            throw new IOException("Asset exceeds the limit of " + maxBytes + " bytes");
+        }
+        if (body.length == 0) {
+            throw new IOException("Empty asset response");
+        }
+        return new Response(body, null);
+    }
+
+    /**
+     * Scale a raster image to fit a square of the given size, keeping the original if it cannot be decoded.
+     */
+    private byte[] resize(byte[] image, int size, String extension) throws IOException {
+        checkDimensions(image);
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(image));
+        if (source == null || (source.getWidth() <= size && source.getHeight() <= size)) {
+            return image;
+        }
+
+        double scale = Math.min((double) size / source.getWidth(), (double) size / source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        int type = "png".equals(extension) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage thumbnail = new BufferedImage(width, height, type);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "png".equals(extension) ? "png" : "jpg", output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Reject images whose header declares more pixels than are decoded, before decoding them.
+     */
+    private static void checkDimensions(byte[] image) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return; // Not decodable, so the original is kept
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException("Image of " + pixels + " pixels exceeds the limit of " + MAX_PIXELS);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Write through a temporary file so readers never see a partially written asset.
+     */
+    private void write(Path asset, byte[] image) throws IOException {
+        Files.createDirectories(asset.getParent());
+        Path temp = Files.createTempFile(asset.getParent(), "asset", ".tmp");
+        try {
+            Files.write(temp, image);
+            Files.move(temp, asset, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * A fetched body, or the location a redirect points to.
+     */
+    private record Response(byte[] body, URI redirect) {
+    }
+
+    private static String extension(String path) {
+        int dot = path.lastIndexOf('.');
+        String extension = dot >= 0 ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return "jpeg".equals(extension) ? "jpg" : extension;
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
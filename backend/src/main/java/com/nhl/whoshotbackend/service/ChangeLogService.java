@@ -0,0 +1,192 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.ChangeFeed;
+import com.nhl.whoshotbackend.entity.ChangeLogEntry;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.ChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service keeping the append-only change log of what each recalculation changed: players and teams entering or
+ * leaving the hot, cold and point-streak lists, hot rating deltas and team win/loss streak changes.
+ * Each recalculation is diffed against a per-season baseline of the values it last published, and the
+ * entries are written in the recalculation's transaction, so consumers can poll for changes since a version
+ * instead of re-reading whole lists.
+ */
+@Service
+@Slf4j
+public class ChangeLogService {
+
+    public static final String PLAYER = "PLAYER";
+    public static final String TEAM = "TEAM";
+    static final int MAX_PAGE_SIZE = 1000; // Most entries returned per request
+
+    private final ChangeLogRepository changeLogRepository;
+    private final Map<String, Baseline> baselines = new ConcurrentHashMap<>(); // Season -> values of the last diff
+
+    public ChangeLogService(ChangeLogRepository changeLogRepository) {
+        this.changeLogRepository = changeLogRepository;
+    }
+
+    /**
+     * Make a season's stored values the baseline of its next diff, replacing any earlier baseline.
+     * Used by follower replicas after each refresh, so a replica that takes over the sync diffs against
+     * the last published data.
+     */
+    public void rememberBaseline(String season, List<Player> players, List<Team> teams) {
+        baselines.put(season, Baseline.of(players, teams));
+    }
+
+    /**
+     * Make a season's stored values the baseline of its next diff unless it already has one.
+     * Called before a recalculation overwrites them.
+     */
+    public void seedBaseline(String season, List<Player> players, List<Team> teams) {
+        baselines.computeIfAbsent(season, key -> Baseline.of(players, teams));
+    }
+
+    /**
+     * Append the differences between a season's baseline and its recalculated players and teams to the change log.
+     * Runs inside the recalculation's transaction so the entries commit with it; the recalculated values become
+     * the new baseline once it commits.
+     * @return Number of entries appended
+     */
+    public int recordChanges(String season, List<Player> players, List<Team> teams) {
+        Baseline previous = baselines.getOrDefault(season, Baseline.EMPTY);
+        Baseline current = Baseline.of(players, teams);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        current.players().forEach((playerId, values) -> {
+            PlayerValues old = previous.players().getOrDefault(playerId, PlayerValues.NONE);
+            String entityId = String.valueOf(playerId);
+            flag(entries, season, PLAYER, entityId, "HOT", old.hot(), values.hot(), timestamp);
+            flag(entries, season, PLAYER, entityId, "COLD", old.cold(), values.cold(), timestamp);
+            flag(entries, season, PLAYER, entityId, "POINT_STREAK", old.pointStreak(), values.pointStreak(), timestamp);
+            if (!Objects.equals(old.hotRating(), values.hotRating())) {
+                entries.add(new ChangeLogEntry(null, season, PLAYER, entityId, "HOT_RATING_CHANGED",
+                        old.hotRating(), values.hotRating(), timestamp));
+            }
+        });
+        current.teams().forEach((teamCode, values) -> {
+            TeamValues old = previous.teams().getOrDefault(teamCode, TeamValues.NONE);
+            flag(entries, season, TEAM, teamCode, "HOT", old.hot(), values.hot(), timestamp);
+            flag(entries, season, TEAM, teamCode, "COLD", old.cold(), values.cold(), timestamp);
+            flag(entries, season, TEAM, teamCode, "POINT_STREAK", old.pointStreak(), values.pointStreak(), timestamp);
+            if (old.winStreak() != values.winStreak()) {
+                entries.add(new ChangeLogEntry(null, season, TEAM, teamCode, "WIN_STREAK_CHANGED",
+                        (double) old.winStreak(), (double) values.winStreak(), timestamp));
+            }
+            if (old.lossStreak() != values.lossStreak()) {
+                entries.add(new ChangeLogEntry(null, season, TEAM, teamCode, "LOSS_STREAK_CHANGED",
+                        (double) old.lossStreak(), (double) values.lossStreak(), timestamp));
+            }
+        });
+
+        if (!entries.isEmpty()) {
+            changeLogRepository.saveAll(entries);
+        }
+        afterCommit(() -> baselines.put(season, current));
+        log.info("Recorded {} changes for season {}", entries.size(), season);
+        return entries.size();
+    }
+
+    /**
+     * Get a page of the change log after a version, optionally for one season only.
+     * @param since Version to start after (0 for the beginning of the log)
+     * @param season Season ID, or null for all seasons
+     * @param limit Page size
+     * @throws IllegalArgumentException if since is negative or the limit is out of range
+     */
+    public ChangeFeed getChangesSince(long since, String season, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Since must not be negative");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Long latestVersion = changeLogRepository.findLatestVersion();
+        List<ChangeLogEntry> changes = season != null
+                ? changeLogRepository.findSeasonChangesSince(season, since, limit)
+                : changeLogRepository.findChangesSince(since, limit);
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        return new ChangeFeed(since, nextSince, latestVersion != null ? latestVersion : 0L,
+                changes.size() == limit, changes);
+    }
+
+    private static void flag(List<ChangeLogEntry> entries, String season, String entityType, String entityId,
+                             String list, boolean was, boolean is, String timestamp) {
+        if (was != is) {
+            entries.add(new ChangeLogEntry(null, season, entityType, entityId, list + (is ? "_ENTERED" : "_LEFT"),
+                    null, null, timestamp));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record PlayerValues(boolean hot, boolean cold, boolean pointStreak, Double hotRating) {
+
+        static final PlayerValues NONE = new PlayerValues(false, false, false, null);
+
+        static PlayerValues of(Player player) {
+            return new PlayerValues(Boolean.TRUE.equals(player.getHot()), Boolean.TRUE.equals(player.getCold()),
+                    Boolean.TRUE.equals(player.getPointStreak()), player.getHotRating());
+        }
+    }
+
+    private record TeamValues(boolean hot, boolean cold, boolean pointStreak, int winStreak, int lossStreak) {
+
+        static final TeamValues NONE = new TeamValues(false, false, false, 0, 0);
+
+        static TeamValues of(Team team) {
+            return new TeamValues(Boolean.TRUE.equals(team.getHot()), Boolean.TRUE.equals(team.getCold()),
+                    Boolean.TRUE.equals(team.getPointStreak()),
+                    team.getCurrentWinStreak() != null ? team.getCurrentWinStreak() : 0,
+                    team.getCurrentLossStreak() != null ? team.getCurrentLossStreak() : 0);
+        }
+    }
+
+    /**
+     * A copy of the values of every player and team in a season that the change log diffs.
+     */
+    private record Baseline(Map<Long, PlayerValues> players, Map<String, TeamValues> teams) {
+
+        static final Baseline EMPTY = new Baseline(Map.of(), Map.of());
+
+        static Baseline of(List<Player> players, List<Team> teams) {
+            Map<Long, PlayerValues> playerValues = new HashMap<>();
+            for (Player player : players) {
+                playerValues.put(player.getPlayerId(), PlayerValues.of(player));
+            }
+            Map<String, TeamValues> teamValues = new HashMap<>();
+            for (Team team : teams) {
+                teamValues.put(team.getTeamCode(), TeamValues.of(team));
+            }
+            return new Baseline(playerValues, teamValues);
+        }
+    }
+}
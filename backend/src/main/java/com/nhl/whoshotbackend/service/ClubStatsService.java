@@ -0,0 +1,194 @@
+package com.nhl.whoshotbackend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.nhl.whoshotbackend.config.SyncExecutors;
+import com.nhl.whoshotbackend.dto.ClubStats;
+import com.nhl.whoshotbackend.entity.ClubGoalieStats;
+import com.nhl.whoshotbackend.entity.ClubSkaterStats;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.ClubGoalieStatsRepository;
+import com.nhl.whoshotbackend.repository.ClubSkaterStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service ingesting per-club skater and goalie aggregates from the NHL club-stats endpoint.
+ * One request per club (32 per season) replaces per-player lookups. Each club's response is hashed,
+ * and a club whose response has not changed since the last sync is not rewritten.
+ * Requests are only answered from the stored tables; nothing is fetched at request time.
+ */
+@Service
+@Slf4j
+public class ClubStatsService {
+
+    private final NhlApiService nhlApiService;
+    private final StatisticsService statisticsService;
+    private final ClubSkaterStatsRepository clubSkaterStatsRepository;
+    private final ClubGoalieStatsRepository clubGoalieStatsRepository;
+    private final SyncExecutors syncExecutors;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, String> responseHashes = new ConcurrentHashMap<>(); // "season:teamCode" -> hash of last stored response
+
+    public ClubStatsService(
+            NhlApiService nhlApiService,
+            StatisticsService statisticsService,
+            ClubSkaterStatsRepository clubSkaterStatsRepository,
+            ClubGoalieStatsRepository clubGoalieStatsRepository,
+            SyncExecutors syncExecutors,
+            PlatformTransactionManager transactionManager) {
+        this.nhlApiService = nhlApiService;
+        this.statisticsService = statisticsService;
+        this.clubSkaterStatsRepository = clubSkaterStatsRepository;
+        this.clubGoalieStatsRepository = clubGoalieStatsRepository;
+        this.syncExecutors = syncExecutors;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Fetch club stats of every team in a season concurrently and store the clubs whose figures changed.
+     * @param season Season ID (e.g., "20252026")
+     * @return Number of clubs whose stats were rewritten
+     */
+    public int syncClubStats(String season) {
+        List<String> teamCodes = statisticsService.getStandings(season).stream()
+                .map(Team::getTeamCode)
+                .toList();
+        if (teamCodes.isEmpty()) {
+            log.info("No teams stored for season {}; skipping club stats", season);
+            return 0;
+        }
+
+        boolean currentSeason = season.equals(nhlApiService.getCurrentSeason());
+        List<JsonNode> responses = syncExecutors.fetchAll(teamCodes, teamCode -> currentSeason
+                ? nhlApiService.getClubStats(teamCode)
+                : nhlApiService.getClubStats(teamCode, season));
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        int updated = 0;
+        int unchanged = 0;
+        for (int i = 0; i < teamCodes.size(); i++) {
+            String teamCode = teamCodes.get(i);
+            JsonNode response = responses.get(i);
+            if (response == null) {
+                continue;
+            }
+            String cacheKey = season + ":" + teamCode;
+            String hash = hash(response);
+            if (hash.equals(responseHashes.get(cacheKey))) {
+                unchanged++;
+                continue;
+            }
+
+            List<ClubSkaterStats> skaters = parseSkaters(response, teamCode, season, timestamp);
+            List<ClubGoalieStats> goalies = parseGoalies(response, teamCode, season, timestamp);
+            transactionTemplate.executeWithoutResult(status -> {
+                // Replace the club's rows so skaters traded away do not linger
+                clubSkaterStatsRepository.deleteByTeamCodeAndSeason(teamCode, season);
+                clubGoalieStatsRepository.deleteByTeamCodeAndSeason(teamCode, season);
+                clubSkaterStatsRepository.saveAll(skaters);
+                clubGoalieStatsRepository.saveAll(goalies);
+            });
+            responseHashes.put(cacheKey, hash);
+            updated++;
+        }
+
+        log.info("Club stats sync completed for season {}. Updated: {}, unchanged: {}, failed: {}",
+                season, updated, unchanged, teamCodes.size() - updated - unchanged);
+        return updated;
+    }
+
+    /**
+     * Get a club's stored skater and goalie stats for a season.
+     * @return The club stats, or empty if none are stored for the team
+     */
+    public Optional<ClubStats> getClubStats(String teamCode, String season) {
+        List<ClubSkaterStats> skaters = clubSkaterStatsRepository.findByTeamCodeAndSeasonOrderByPointsDesc(teamCode, season);
+        List<ClubGoalieStats> goalies = clubGoalieStatsRepository.findByTeamCodeAndSeasonOrderByGamesPlayedDesc(teamCode, season);
+        if (skaters.isEmpty() && goalies.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ClubStats(teamCode, season, skaters, goalies));
+    }
+
+    private List<ClubSkaterStats> parseSkaters(JsonNode response, String teamCode, String season, String timestamp) {
+        List<ClubSkaterStats> skaters = new ArrayList<>();
+        for (JsonNode node : response.path("skaters")) {
+            ClubSkaterStats stats = new ClubSkaterStats();
+            stats.setPlayerId(node.path("playerId").asLong());
+            stats.setTeamCode(teamCode);
+            stats.setSeason(season);
+            stats.setFirstName(node.path("firstName").path("default").asText(null));
+            stats.setLastName(node.path("lastName").path("default").asText(null));
+            stats.setPositionCode(node.path("positionCode").asText(null));
+            stats.setGamesPlayed(node.path("gamesPlayed").asInt());
+            stats.setGoals(node.path("goals").asInt());
+            stats.setAssists(node.path("assists").asInt());
+            stats.setPoints(node.path("points").asInt());
+            stats.setPlusMinus(node.path("plusMinus").asInt());
+            stats.setPenaltyMinutes(node.path("penaltyMinutes").asInt());
+            stats.setPowerPlayGoals(node.path("powerPlayGoals").asInt());
+            stats.setShorthandedGoals(node.path("shorthandedGoals").asInt());
+            stats.setGameWinningGoals(node.path("gameWinningGoals").asInt());
+            stats.setOvertimeGoals(node.path("overtimeGoals").asInt());
+            stats.setShots(node.path("shots").asInt());
+            stats.setShootingPercentage(node.path("shootingPctg").asDouble());
+            stats.setAvgTimeOnIce(node.path("avgTimeOnIcePerGame").asDouble());
+            stats.setAvgShifts(node.path("avgShiftsPerGame").asDouble());
+            stats.setFaceoffWinPercentage(node.path("faceoffWinPctg").asDouble());
+            stats.setLastUpdated(timestamp);
+            skaters.add(stats);
+        }
+        return skaters;
+    }
+
+    private List<ClubGoalieStats> parseGoalies(JsonNode response, String teamCode, String season, String timestamp) {
+        List<ClubGoalieStats> goalies = new ArrayList<>();
+        for (JsonNode node : response.path("goalies")) {
+            ClubGoalieStats stats = new ClubGoalieStats();
+            stats.setPlayerId(node.path("playerId").asLong());
+            stats.setTeamCode(teamCode);
+            stats.setSeason(season);
+            stats.setFirstName(node.path("firstName").path("default").asText(null));
+            stats.setLastName(node.path("lastName").path("default").asText(null));
+            stats.setGamesPlayed(node.path("gamesPlayed").asInt());
+            stats.setGamesStarted(node.path("gamesStarted").asInt());
+            stats.setWins(node.path("wins").asInt());
+            stats.setLosses(node.path("losses").asInt());
+            stats.setOvertimeLosses(node.path("overtimeLosses").asInt());
+            stats.setGoalsAgainstAverage(node.path("goalsAgainstAverage").asDouble());
+            stats.setSavePercentage(node.path("savePercentage").asDouble());
+            stats.setShotsAgainst(node.path("shotsAgainst").asInt());
+            stats.setSaves(node.path("saves").asInt());
+            stats.setGoalsAgainst(node.path("goalsAgainst").asInt());
+            stats.setShutouts(node.path("shutouts").asInt());
+            stats.setTimeOnIce(node.path("timeOnIce").asInt());
+            stats.setLastUpdated(timestamp);
+            goalies.add(stats);
+        }
+        return goalies;
+    }
+
+    private static String hash(JsonNode response) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(response.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
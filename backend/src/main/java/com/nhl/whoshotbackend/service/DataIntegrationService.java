@@ -1,22 +1,34 @@
 package com.nhl.whoshotbackend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.nhl.whoshotbackend.config.SyncExecutors;
+import com.nhl.whoshotbackend.dto.TeamGame;
+import com.nhl.whoshotbackend.entity.Game;
 import com.nhl.whoshotbackend.entity.GameLog;
 import com.nhl.whoshotbackend.entity.Player;
 import com.nhl.whoshotbackend.entity.Team;
-import com.nhl.whoshotbackend.entity.TeamGame;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
 import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameRepository;
 import com.nhl.whoshotbackend.repository.PlayerRepository;
-import com.nhl.whoshotbackend.repository.TeamGameRepository;
 import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.util.SeasonValidator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Service responsible for fetching data from NHL API and persisting to database.
@@ -25,23 +37,43 @@ import java.util.List;
 @Slf4j
 public class DataIntegrationService {
 
+    private static final String GAME_LOG_SOURCE_BOXSCORE = "boxscore";
+    private static final String[] BOXSCORE_SKATER_GROUPS = {"forwards", "defense"};
+    private static final String[] ROSTER_GROUPS = {"forwards", "defensemen", "goalies"};
+    private static final int SEASON_START_MONTH = 10; // Regular seasons start in October
+    private static final int SEASON_END_MONTH = 6; // and are over by the end of June
+    private static final int SCHEDULE_LOOKAHEAD_DAYS = 7; // Also store the coming week's games for "next game"
+    private static final int BOXSCORE_FETCH_BATCH = 32; // Boxscores fetched concurrently before they are persisted
+
     private final NhlApiService nhlApiService;
     private final TeamRepository teamRepository;
     private final PlayerRepository playerRepository;
     private final GameLogRepository gameLogRepository;
-    private final TeamGameRepository teamGameRepository;
+    private final GameRepository gameRepository;
+    private final StreakStateService streakStateService;
+    private final PlayerSplitService playerSplitService;
+    private final SyncExecutors syncExecutors;
+
+    @Value("${nhl.sync.game-log-source:boxscore}")
+    private String gameLogSource;
 
     public DataIntegrationService(
             NhlApiService nhlApiService,
             TeamRepository teamRepository,
             PlayerRepository playerRepository,
             GameLogRepository gameLogRepository,
-            TeamGameRepository teamGameRepository) {
+            GameRepository gameRepository,
+            StreakStateService streakStateService,
+            PlayerSplitService playerSplitService,
+            SyncExecutors syncExecutors) {
         this.nhlApiService = nhlApiService;
         this.teamRepository = teamRepository;
         this.playerRepository = playerRepository;
         this.gameLogRepository = gameLogRepository;
-        this.teamGameRepository = teamGameRepository;
+        this.gameRepository = gameRepository;
+        this.streakStateService = streakStateService;
+        this.playerSplitService = playerSplitService;
+        this.syncExecutors = syncExecutors;
     }
 
     /**
@@ -87,6 +119,20 @@ public class DataIntegrationService {
 
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
 
+            // Sync the season's games once from the league schedule and append newly
+            // completed games to both teams' streak state
+            LeagueGamesSync leagueGames = syncLeagueGames(actualSeasonId);
+            List<TeamGame> newTeamGames = new ArrayList<>();
+            for (Game game : leagueGames.newlyCompletedGames()) {
+                newTeamGames.add(game.toTeamGame(game.getHomeTeamCode()));
+                newTeamGames.add(game.toTeamGame(game.getAwayTeamCode()));
+            }
+            if (!newTeamGames.isEmpty()) {
+                streakStateService.applyTeamGames(newTeamGames);
+            }
+            List<Game> seasonGames = gameRepository.findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(
+                    actualSeasonId, Game.REGULAR_SEASON);
+
             JsonNode standings = standingsData.get("standings");
             for (JsonNode teamNode : standings) {
                 String teamCode = teamNode.path("teamAbbrev").path("default").asText();
@@ -101,15 +147,11 @@ public class DataIntegrationService {
                 team.setSeason(actualSeasonId); // Set season
                 team.setLastUpdated(timestamp);
 
-                // Sync team games from schedule to get game-by-game results
-                syncTeamGames(teamCode, actualSeasonId);
-
-                // Calculate streaks from team games
+                // Read streaks from the incrementally maintained team state
                 calculateTeamStreaks(team);
 
-                // Get schedule data to find next game
-                JsonNode scheduleData = nhlApiService.getTeamSchedule(teamCode, actualSeasonId);
-                setNextGame(team, scheduleData);
+                // Find next game from the stored league schedule
+                setNextGame(team, seasonGames, leagueGames.regularSeasonOver());
 
                 teamRepository.save(team);
                 log.debug("Saved team: {} for season: {}", team.getTeamCode(), actualSeasonId);
@@ -142,7 +184,7 @@ public class DataIntegrationService {
             // Read from config
             actualSeasonId = nhlApiService.getAllSkaterStats().path("seasonId").asText();
             if (actualSeasonId == null || actualSeasonId.isEmpty()) {
-                actualSeasonId = com.nhl.whoshotbackend.util.SeasonValidator.getCurrentSeasonId();
+                actualSeasonId = SeasonValidator.getCurrentSeasonId();
             }
         }
 
@@ -185,40 +227,45 @@ public class DataIntegrationService {
 
             log.info("Player statistics sync completed. Total players: {}", playersToSave.size());
 
-            // Fetch headshots and game logs for each player
-            log.info("Starting headshot and game log synchronization for {} players...", playersToSave.size());
-            int gameLogsFetched = 0;
-            int headshotsFetched = 0;
-            for (Player player : playersToSave) {
-                try {
-                    // Fetch headshot URL from player info
-                    JsonNode playerInfo = nhlApiService.getPlayerInfo(player.getPlayerId());
-                    if (playerInfo != null && playerInfo.has("headshot")) {
-                        String headshotUrl = playerInfo.path("headshot").asText();
-                        if (headshotUrl != null && !headshotUrl.isEmpty()) {
-                            player.setHeadshotUrl(headshotUrl);
-                            headshotsFetched++;
-                        }
-                    }
+            // Boxscore mode ingests each new game once instead of each player's whole log
+            boolean boxscoreGameLogs = false;
+            if (GAME_LOG_SOURCE_BOXSCORE.equals(gameLogSource)) {
+                int gamesIngested = syncGameLogsFromBoxscores(actualSeasonId);
+                if (gamesIngested >= 0) {
+                    boxscoreGameLogs = true;
+                } else {
+                    log.warn("No completed games known for season {}. Falling back to per-player game logs", actualSeasonId);
+                }
+            }
 
-                    // Fetch game logs
-                    syncPlayerGameLogs(player.getPlayerId(), actualSeasonId);
-                    gameLogsFetched++;
+            // Fetch headshots and biographical data from team rosters for players without a headshot
+            int headshotsFetched = enrichPlayersFromRosters(playersToSave, actualSeasonId);
 
-                    if (gameLogsFetched % 50 == 0) {
-                        log.info("Progress: {} / {} players (headshots: {}, game logs: {})",
-                                gameLogsFetched, playersToSave.size(), headshotsFetched, gameLogsFetched);
+            // Fetch game logs for each player in per-player mode
+            int gameLogsFetched = 0;
+            if (!boxscoreGameLogs) {
+                log.info("Starting game log synchronization for {} players...", playersToSave.size());
+                for (Player player : playersToSave) {
+                    try {
+                        syncPlayerGameLogs(player.getPlayerId(), actualSeasonId);
+                        gameLogsFetched++;
+
+                        if (gameLogsFetched % 50 == 0) {
+                            log.info("Progress: {} / {} players (game logs: {})",
+                                    gameLogsFetched, playersToSave.size(), gameLogsFetched);
+                        }
+                    } catch (Exception e) {
+                        log.warn("Could not fetch data for player {}: {}", player.getPlayerId(), e.getMessage());
                     }
-                } catch (Exception e) {
-                    log.warn("Could not fetch data for player {}: {}", player.getPlayerId(), e.getMessage());
                 }
             }
 
             // Save players again with headshots
             playerRepository.saveAll(playersToSave);
 
-            log.info("Player data synchronization completed. Headshots: {} / {}, Game logs: {} / {}",
-                    headshotsFetched, playersToSave.size(), gameLogsFetched, playersToSave.size());
+            log.info("Player data synchronization completed. Headshots: {} / {}, Game logs: {}",
+                    headshotsFetched, playersToSave.size(),
+                    boxscoreGameLogs ? "from boxscores" : gameLogsFetched + " / " + playersToSave.size());
 
         } catch (Exception e) {
             log.error("Error syncing player stats", e);
@@ -263,12 +310,162 @@ public class DataIntegrationService {
             gameLogRepository.deleteAll(gameLogRepository.findByPlayerIdOrderByGameDateDesc(playerId));
             gameLogRepository.saveAll(gameLogsToSave);
 
+            // The whole log was replaced, so rebuild the player's streak state and splits from it
+            streakStateService.repairPlayerState(playerId, seasonId);
+            playerSplitService.replacePlayer(playerId, seasonId, gameLogsToSave);
+
             log.debug("Game logs synced for player: {} season: {}. Total games: {}", playerId, seasonId, gameLogsToSave.size());
         } catch (Exception e) {
             log.warn("Could not sync game logs for player: {} season: {}: {}", playerId, seasonId, e.getMessage());
         }
     }
 
+    /**
+     * Sync game logs from boxscores for every completed game that has not been ingested yet.
+     * Completed games come from the league schedule stored by {@link #syncLeagueGames(String)}.
+     * A boxscore contains every skater line for both teams, so each game is fetched exactly once.
+     * @param seasonId The season ID (e.g., "20252026")
+     * @return Number of games ingested, or -1 if no completed games are known for the season
+     */
+    @Transactional
+    public int syncGameLogsFromBoxscores(String seasonId) {
+        long firstGameId = SeasonValidator.getFirstGameId(seasonId);
+        long lastGameId = SeasonValidator.getLastGameId(seasonId);
+
+        List<Long> completedGameIds = gameRepository.findCompletedGameIds(seasonId, Game.REGULAR_SEASON);
+        if (completedGameIds.isEmpty()) {
+            return -1;
+        }
+
+        Set<Long> ingestedGameIds = new HashSet<>(gameLogRepository.findDistinctGameIdsBetween(firstGameId, lastGameId));
+        List<Long> newGameIds = completedGameIds.stream()
+                .filter(gameId -> !ingestedGameIds.contains(gameId))
+                .sorted()
+                .toList();
+
+        log.info("Syncing game logs from boxscores for season {}. New games: {} (already ingested: {})",
+                seasonId, newGameIds.size(), ingestedGameIds.size());
+
+        int gamesIngested = 0;
+        List<GameLog> gameLogsSaved = new ArrayList<>();
+        for (int from = 0; from < newGameIds.size(); from += BOXSCORE_FETCH_BATCH) {
+            // Fetch a batch on the sync fetch executor, then persist it in game order on this thread
+            List<Long> batch = newGameIds.subList(from, Math.min(from + BOXSCORE_FETCH_BATCH, newGameIds.size()));
+            List<JsonNode> boxscores = syncExecutors.fetchAll(batch, nhlApiService::getGameBoxscore);
+            for (int i = 0; i < batch.size(); i++) {
+                JsonNode boxscore = boxscores.get(i);
+                if (boxscore == null || !boxscore.has("playerByGameStats")) {
+                    log.warn("No boxscore player stats for game: {}", batch.get(i));
+                    continue;
+                }
+
+                List<GameLog> gameLogs = parseBoxscoreGameLogs(boxscore);
+                gameLogRepository.saveAll(gameLogs);
+                gamesIngested++;
+                gameLogsSaved.addAll(gameLogs);
+            }
+        }
+
+        // Append the new games to each player's streak state and splits
+        streakStateService.applyPlayerGames(gameLogsSaved);
+        playerSplitService.applyGames(gameLogsSaved);
+
+        log.info("Boxscore game log sync completed for season {}. Games: {} / {}, Game logs: {}",
+                seasonId, gamesIngested, newGameIds.size(), gameLogsSaved.size());
+        return gamesIngested;
+    }
+
+    /**
+     * Fill in headshots and biographical data for players that have no headshot stored yet.
+     * Uses one roster request per team of those players; players not found on any roster
+     * (e.g., traded since the stats were published) fall back to the player landing endpoint.
+     * @return Number of players whose headshot was filled in
+     */
+    private int enrichPlayersFromRosters(List<Player> players, String seasonId) {
+        Map<Long, Player> pending = new HashMap<>();
+        Set<String> teamCodes = new TreeSet<>();
+        for (Player player : players) {
+            if (player.getHeadshotUrl() == null || player.getHeadshotUrl().isEmpty()) {
+                pending.put(player.getPlayerId(), player);
+                if (player.getTeamCode() != null && !player.getTeamCode().isEmpty()) {
+                    teamCodes.add(player.getTeamCode());
+                }
+            }
+        }
+
+        if (pending.isEmpty()) {
+            log.info("All {} players already have headshots. Skipping roster enrichment", players.size());
+            return 0;
+        }
+
+        log.info("Enriching {} players without headshots from {} team rosters...", pending.size(), teamCodes.size());
+        boolean currentSeason = seasonId.equals(nhlApiService.getCurrentSeason());
+        int enriched = 0;
+
+        List<JsonNode> rosters = syncExecutors.fetchAll(List.copyOf(teamCodes), teamCode -> currentSeason
+                ? nhlApiService.getTeamRoster(teamCode)
+                : nhlApiService.getTeamRoster(teamCode, seasonId));
+        for (JsonNode roster : rosters) {
+            if (roster == null) {
+                continue;
+            }
+            for (String group : ROSTER_GROUPS) {
+                for (JsonNode rosterNode : roster.path(group)) {
+                    Player player = pending.remove(rosterNode.path("id").asLong());
+                    if (player != null && updatePlayerBio(player, rosterNode)) {
+                        enriched++;
+                    }
+                }
+            }
+        }
+
+        // Fall back to the landing endpoint only for players not found on any roster
+        int fallbacks = pending.size();
+        List<Player> unmatched = List.copyOf(pending.values());
+        List<JsonNode> playerInfos = syncExecutors.fetchAll(unmatched, player -> nhlApiService.getPlayerInfo(player.getPlayerId()));
+        for (int i = 0; i < unmatched.size(); i++) {
+            JsonNode playerInfo = playerInfos.get(i);
+            if (playerInfo != null && updatePlayerBio(unmatched.get(i), playerInfo)) {
+                enriched++;
+            }
+        }
+
+        log.info("Roster enrichment completed. Headshots: {}, landing fallbacks: {}", enriched, fallbacks);
+        return enriched;
+    }
+
+    /**
+     * Update headshot and biographical data from roster or landing JSON (both use the same field names).
+     * @return true if a headshot was set
+     */
+    private boolean updatePlayerBio(Player player, JsonNode playerNode) {
+        if (playerNode.hasNonNull("sweaterNumber")) {
+            player.setSweaterNumber(playerNode.path("sweaterNumber").asInt());
+        }
+        if (playerNode.hasNonNull("shootsCatches")) {
+            player.setShootsCatches(playerNode.path("shootsCatches").asText());
+        }
+        if (playerNode.hasNonNull("heightInInches")) {
+            player.setHeightInInches(playerNode.path("heightInInches").asInt());
+        }
+        if (playerNode.hasNonNull("weightInPounds")) {
+            player.setWeightInPounds(playerNode.path("weightInPounds").asInt());
+        }
+        if (playerNode.hasNonNull("birthDate")) {
+            player.setBirthDate(playerNode.path("birthDate").asText());
+        }
+        if (playerNode.hasNonNull("birthCountry")) {
+            player.setBirthCountry(playerNode.path("birthCountry").asText());
+        }
+
+        String headshotUrl = playerNode.path("headshot").asText();
+        if (headshotUrl != null && !headshotUrl.isEmpty()) {
+            player.setHeadshotUrl(headshotUrl);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Update team data from standings JSON.
      */
@@ -358,154 +555,240 @@ public class DataIntegrationService {
         gameLog.setPlusMinus(gameNode.path("plusMinus").asInt());
         gameLog.setShots(gameNode.path("shots").asInt());
 
-        // Parse time on ice (format: "MM:SS")
-        String toi = gameNode.path("toi").asText();
-        if (toi != null && !toi.isEmpty()) {
-            String[] parts = toi.split(":");
-            if (parts.length == 2) {
-                gameLog.setTimeOnIce(Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]));
+        gameLog.setTimeOnIce(parseTimeOnIce(gameNode.path("toi").asText()));
+
+        return gameLog;
+    }
+
+    /**
+     * Parse game logs for all skaters of both teams from boxscore JSON.
+     */
+    private List<GameLog> parseBoxscoreGameLogs(JsonNode boxscore) {
+        Long gameId = boxscore.path("id").asLong();
+        String gameDate = boxscore.path("gameDate").asText();
+
+        JsonNode homeTeam = boxscore.path("homeTeam");
+        JsonNode awayTeam = boxscore.path("awayTeam");
+        int homeScore = homeTeam.path("score").asInt();
+        int awayScore = awayTeam.path("score").asInt();
+
+        JsonNode playerStats = boxscore.path("playerByGameStats");
+        List<GameLog> gameLogs = new ArrayList<>();
+        addBoxscoreSkaters(gameLogs, playerStats.path("homeTeam"), gameId, gameDate,
+                awayTeam.path("abbrev").asText(), true, homeScore > awayScore);
+        addBoxscoreSkaters(gameLogs, playerStats.path("awayTeam"), gameId, gameDate,
+                homeTeam.path("abbrev").asText(), false, awayScore > homeScore);
+        return gameLogs;
+    }
+
+    /**
+     * Parse one team's skater lines (forwards and defense) from boxscore JSON.
+     * Goalies are skipped, matching the skater-only player stats.
+     */
+    private void addBoxscoreSkaters(List<GameLog> gameLogs, JsonNode teamStats, Long gameId, String gameDate,
+                                    String opponentTeamCode, boolean homeGame, boolean gameWon) {
+        for (String group : BOXSCORE_SKATER_GROUPS) {
+            for (JsonNode skaterNode : teamStats.path(group)) {
+                GameLog gameLog = new GameLog();
+
+                gameLog.setPlayerId(skaterNode.path("playerId").asLong());
+                gameLog.setGameId(gameId);
+                gameLog.setGameDate(gameDate);
+                gameLog.setOpponentTeamCode(opponentTeamCode);
+                gameLog.setHomeGame(homeGame);
+                gameLog.setGoals(skaterNode.path("goals").asInt());
+                gameLog.setAssists(skaterNode.path("assists").asInt());
+                gameLog.setPoints(skaterNode.path("points").asInt());
+                gameLog.setPlusMinus(skaterNode.path("plusMinus").asInt());
+
+                // Newer boxscores report shots on goal as "sog"
+                JsonNode shotsNode = skaterNode.has("sog") ? skaterNode.path("sog") : skaterNode.path("shots");
+                gameLog.setShots(shotsNode.asInt());
+
+                gameLog.setTimeOnIce(parseTimeOnIce(skaterNode.path("toi").asText()));
+                gameLog.setGameWon(gameWon);
+
+                gameLogs.add(gameLog);
             }
         }
+    }
 
-        return gameLog;
+    /**
+     * Parse time on ice (format: "MM:SS") into seconds.
+     */
+    private Integer parseTimeOnIce(String toi) {
+        if (toi == null || toi.isEmpty()) {
+            return null;
+        }
+        String[] parts = toi.split(":");
+        if (parts.length != 2) {
+            return null;
+        }
+        return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
     }
 
     /**
-     * Sync team games from schedule API for a specific team and season.
-     * @param teamCode Team code (e.g., "COL")
+     * Result of a league schedule sync.
+     * @param newlyCompletedGames Games that have finished since the previous sync
+     * @param regularSeasonOver Whether the season's regular season has ended, so no team has a game left
+     */
+    public record LeagueGamesSync(List<Game> newlyCompletedGames, boolean regularSeasonOver) {
+    }
+
+    /**
+     * Sync regular season games for a season from the league schedule, storing each game once.
+     * Weekly schedules are fetched from the date of the latest completed stored game through one week past today,
+     * so a routine sync downloads two or three weekly schedules and also stores the coming week's games.
+     * Stored games that are still unfinished but were not in those weeks (e.g., postponed games) are re-checked
+     * one by one from their boxscores. Unchanged games are not written.
      * @param seasonId Season ID (e.g., "20252026")
      */
     @Transactional
-    public void syncTeamGames(String teamCode, String seasonId) {
-        log.debug("Syncing team games for team: {} season: {}", teamCode, seasonId);
+    public LeagueGamesSync syncLeagueGames(String seasonId) {
+        int startYear = Integer.parseInt(seasonId.substring(0, 4));
+        LocalDate seasonStart = LocalDate.of(startYear, SEASON_START_MONTH, 1);
+        LocalDate seasonEnd = LocalDate.of(startYear + 1, SEASON_END_MONTH, 30);
+        LocalDate today = LocalDate.now();
+
+        // Resume from the latest completed game: every earlier week was final at a previous sync
+        String lastCompletedDate = gameRepository.findLastCompletedGameDate(seasonId);
+        LocalDate weekStart = lastCompletedDate != null ? LocalDate.parse(lastCompletedDate) : seasonStart;
+        LocalDate lookaheadEnd = today.plusDays(SCHEDULE_LOOKAHEAD_DAYS);
+        LocalDate until = lookaheadEnd.isBefore(seasonEnd) ? lookaheadEnd : seasonEnd;
+
+        log.info("Syncing league games for season {} from {} to {}...", seasonId, weekStart, until);
+
+        Map<Long, Game> storedGames = new HashMap<>();
+        for (Game game : gameRepository.findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(seasonId, Game.REGULAR_SEASON)) {
+            storedGames.put(game.getGameId(), game);
+        }
 
-        try {
-            JsonNode scheduleData = nhlApiService.getTeamSchedule(teamCode, seasonId);
+        List<Game> fetchedGames = new ArrayList<>();
+        LocalDate regularSeasonEnd = null;
+        int weeksFetched = 0;
 
-            if (scheduleData == null || !scheduleData.has("games")) {
-                log.debug("No schedule data for team: {} season: {}", teamCode, seasonId);
-                return;
+        while (!weekStart.isAfter(until)) {
+            JsonNode scheduleData = nhlApiService.getSchedule(weekStart.toString());
+            weeksFetched++;
+            if (scheduleData == null) {
+                break;
+            }
+            if (scheduleData.hasNonNull("regularSeasonEndDate")) {
+                regularSeasonEnd = LocalDate.parse(scheduleData.path("regularSeasonEndDate").asText());
             }
 
-            JsonNode games = scheduleData.get("games");
-            List<TeamGame> teamGamesToSave = new ArrayList<>();
-
-            for (JsonNode gameNode : games) {
-                // Only process regular season games (gameType = 2)
-                int gameType = gameNode.path("gameType").asInt();
-                if (gameType != 2) {
-                    continue;
-                }
-
-                // Only process completed games
-                String gameState = gameNode.path("gameState").asText();
-                if (!"FINAL".equals(gameState) && !"OFF".equals(gameState)) {
-                    continue;
+            for (JsonNode dayNode : scheduleData.path("gameWeek")) {
+                String gameDate = dayNode.path("date").asText();
+                for (JsonNode gameNode : dayNode.path("games")) {
+                    // Only process regular season games of the requested season
+                    if (gameNode.path("gameType").asInt() != Game.REGULAR_SEASON
+                            || !seasonId.equals(gameNode.path("season").asText())) {
+                        continue;
+                    }
+                    fetchedGames.add(parseGame(seasonId, gameDate, gameNode));
                 }
+            }
 
-                TeamGame teamGame = parseTeamGame(teamCode, gameNode);
-                if (teamGame != null) {
-                    teamGamesToSave.add(teamGame);
-                }
+            String nextStartDate = scheduleData.path("nextStartDate").asText();
+            LocalDate nextWeekStart = nextStartDate.isEmpty() ? weekStart.plusWeeks(1) : LocalDate.parse(nextStartDate);
+            weekStart = nextWeekStart.isAfter(weekStart) ? nextWeekStart : weekStart.plusWeeks(1);
+            if (regularSeasonEnd != null && weekStart.isAfter(regularSeasonEnd)) {
+                break; // The rest of the season's weeks are playoffs
             }
+        }
 
-            // Clear existing team games for this team and season, then save new ones
-            teamGameRepository.deleteAll(teamGameRepository.findLastNGamesByTeam(teamCode, 1000));
-            teamGameRepository.saveAll(teamGamesToSave);
+        // Unfinished stored games the weeks did not cover are re-checked individually
+        Set<Long> fetchedGameIds = new HashSet<>();
+        fetchedGames.forEach(game -> fetchedGameIds.add(game.getGameId()));
+        List<Long> uncheckedGameIds = storedGames.values().stream()
+                .filter(game -> !game.isCompleted() && !fetchedGameIds.contains(game.getGameId()))
+                .map(Game::getGameId)
+                .sorted()
+                .toList();
+        List<JsonNode> boxscores = syncExecutors.fetchAll(uncheckedGameIds, nhlApiService::getGameBoxscore);
+        for (JsonNode boxscore : boxscores) {
+            if (boxscore != null && boxscore.has("gameState")) {
+                fetchedGames.add(parseGame(seasonId, boxscore.path("gameDate").asText(), boxscore));
+            }
+        }
 
-            log.debug("Team games synced for team: {} season: {}. Total games: {}",
-                    teamCode, seasonId, teamGamesToSave.size());
-        } catch (Exception e) {
-            log.warn("Could not sync team games for team: {} season: {}: {}",
-                    teamCode, seasonId, e.getMessage());
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        List<Game> gamesToSave = new ArrayList<>();
+        List<Game> newlyCompletedGames = new ArrayList<>();
+        for (Game game : fetchedGames) {
+            Game storedGame = storedGames.get(game.getGameId());
+            if (storedGame != null && sameResult(storedGame, game)) {
+                continue;
+            }
+            if (game.isCompleted() && (storedGame == null || !storedGame.isCompleted())) {
+                newlyCompletedGames.add(game);
+            }
+            game.setLastUpdated(timestamp);
+            gamesToSave.add(game);
+            storedGames.put(game.getGameId(), game);
         }
+
+        gameRepository.saveAll(gamesToSave);
+
+        boolean regularSeasonOver = today.isAfter(seasonEnd) || (regularSeasonEnd != null && today.isAfter(regularSeasonEnd));
+        log.info("League games sync completed for season {}. Weekly schedules: {}, games re-checked: {}, "
+                        + "games written: {}, newly completed: {}",
+                seasonId, weeksFetched, uncheckedGameIds.size(), gamesToSave.size(), newlyCompletedGames.size());
+        return new LeagueGamesSync(newlyCompletedGames, regularSeasonOver);
     }
 
     /**
-     * Parse a team game from schedule JSON.
+     * Parse a game from league schedule, club schedule or boxscore JSON.
      */
-    private TeamGame parseTeamGame(String teamCode, JsonNode gameNode) {
-        TeamGame teamGame = new TeamGame();
+    private Game parseGame(String seasonId, String gameDate, JsonNode gameNode) {
+        Game game = new Game();
 
-        teamGame.setGameId(gameNode.path("id").asLong());
-        teamGame.setTeamCode(teamCode);
-        teamGame.setGameDate(gameNode.path("gameDate").asText());
-        teamGame.setGameType("REGULAR");
+        game.setGameId(gameNode.path("id").asLong());
+        game.setSeason(seasonId);
+        game.setGameDate(gameNode.hasNonNull("gameDate") ? gameNode.path("gameDate").asText() : gameDate);
+        game.setGameType(gameNode.path("gameType").asInt());
+        game.setGameState(gameNode.path("gameState").asText());
 
-        // Determine if team is home or away
         JsonNode homeTeam = gameNode.path("homeTeam");
         JsonNode awayTeam = gameNode.path("awayTeam");
-
-        boolean isHomeTeam = homeTeam.path("abbrev").asText().equals(teamCode);
-        teamGame.setHomeGame(isHomeTeam);
-
-        if (isHomeTeam) {
-            teamGame.setOpponentTeamCode(awayTeam.path("abbrev").asText());
-            teamGame.setGoalsFor(homeTeam.path("score").asInt());
-            teamGame.setGoalsAgainst(awayTeam.path("score").asInt());
-        } else {
-            teamGame.setOpponentTeamCode(homeTeam.path("abbrev").asText());
-            teamGame.setGoalsFor(awayTeam.path("score").asInt());
-            teamGame.setGoalsAgainst(homeTeam.path("score").asInt());
+        game.setHomeTeamCode(homeTeam.path("abbrev").asText());
+        game.setAwayTeamCode(awayTeam.path("abbrev").asText());
+        game.setHomeScore(homeTeam.hasNonNull("score") ? homeTeam.path("score").asInt() : null);
+        game.setAwayScore(awayTeam.hasNonNull("score") ? awayTeam.path("score").asInt() : null);
+
+        // Finished games report the deciding period in gameOutcome; fall back to the current period
+        String periodType = gameNode.path("gameOutcome").path("lastPeriodType").asText();
+        if (periodType.isEmpty()) {
+            periodType = gameNode.path("periodDescriptor").path("periodType").asText();
         }
+        game.setPeriodType(periodType.isEmpty() ? null : periodType);
 
-        // Determine if team won
-        boolean won = teamGame.getGoalsFor() > teamGame.getGoalsAgainst();
-        teamGame.setWon(won);
-
-        // Check for overtime/shootout loss
-        JsonNode periodDescriptor = gameNode.path("periodDescriptor");
-        String periodType = periodDescriptor.path("periodType").asText();
-        boolean isOvertimeOrShootout = "OT".equals(periodType) || "SO".equals(periodType);
-        boolean overtimeLoss = !won && isOvertimeOrShootout;
-        teamGame.setOvertimeLoss(overtimeLoss);
+        return game;
+    }
 
-        return teamGame;
+    /**
+     * Check if a stored game already has the same date, state and result as a freshly parsed one.
+     */
+    private boolean sameResult(Game storedGame, Game game) {
+        return Objects.equals(storedGame.getGameDate(), game.getGameDate())
+                && Objects.equals(storedGame.getGameState(), game.getGameState())
+                && Objects.equals(storedGame.getHomeScore(), game.getHomeScore())
+                && Objects.equals(storedGame.getAwayScore(), game.getAwayScore())
+                && Objects.equals(storedGame.getPeriodType(), game.getPeriodType());
     }
 
     /**
-     * Calculate win/loss streaks and win percentage for a team based on recent games.
+     * Set win/loss streaks and last 10 games win percentage for a team from its streak state.
      */
     private void calculateTeamStreaks(Team team) {
-        List<TeamGame> recentGames = teamGameRepository.findLastNGamesByTeam(team.getTeamCode(), 10);
-
-        int winStreak = 0;
-        int lossStreak = 0;
-        int winsInLast10 = 0;
-
-        for (TeamGame game : recentGames) {
-            // Count wins for last 10 games win percentage
-            if (game.getWon()) {
-                winsInLast10++;
-            }
-
-            // Calculate current streak (only for consecutive games from most recent)
-            if (game == recentGames.get(0)) {
-                // First game (most recent)
-                if (game.getWon()) {
-                    winStreak = 1;
-                } else {
-                    lossStreak = 1;
-                }
-            } else {
-                // Subsequent games - only count if streak continues
-                if (game.getWon() && winStreak > 0) {
-                    winStreak++;
-                } else if (!game.getWon() && lossStreak > 0) {
-                    lossStreak++;
-                } else {
-                    // Streak broken, stop counting
-                    break;
-                }
-            }
-        }
+        TeamStreakState state = streakStateService.getTeamState(team.getTeamCode(), team.getSeason());
 
-        team.setCurrentWinStreak(winStreak);
-        team.setCurrentLossStreak(lossStreak);
+        team.setCurrentWinStreak(state.getCurrentWinStreak() != null ? state.getCurrentWinStreak() : 0);
+        team.setCurrentLossStreak(state.getCurrentLossStreak() != null ? state.getCurrentLossStreak() : 0);
 
-        // Calculate win percentage for last 10 games
-        if (!recentGames.isEmpty()) {
-            double winPercentage = (double) winsInLast10 / recentGames.size();
+        // Win percentage over the rolling window of recent games
+        if (state.getWindowGames() != null && state.getWindowGames() > 0) {
+            double winPercentage = (double) state.getWindowWins() / state.getWindowGames();
             team.setLast10GamesWinPercentage(winPercentage);
         } else {
             team.setLast10GamesWinPercentage(null);
@@ -513,40 +796,62 @@ public class DataIntegrationService {
     }
 
     /**
-     * Find and set the next game information for a team.
+     * Find and set the next game information for a team, or clear it if the team has no game left.
+     * Stored games cover the season through one week past today, so the first unfinished stored game is usually
+     * the next one. Once the regular season is over a team without one has no game left; before that (e.g., over
+     * a break longer than a week) the team is looked up in its full club schedule.
      */
-    private void setNextGame(Team team, JsonNode scheduleData) {
-        if (scheduleData == null || !scheduleData.has("games")) {
+    private void setNextGame(Team team, List<Game> seasonGames, boolean regularSeasonOver) {
+        Game nextGame = findNextGame(team.getTeamCode(), seasonGames);
+        if (nextGame == null && !regularSeasonOver) {
+            List<Game> clubGames = fetchClubSchedule(team.getTeamCode(), team.getSeason());
+            if (clubGames == null) {
+                return; // Keep what is known until the club schedule can be fetched
+            }
+            nextGame = findNextGame(team.getTeamCode(), clubGames);
+        }
+
+        if (nextGame == null) {
+            team.setNextGameIsHome(null);
+            team.setNextGameDate(null);
+            team.setNextOpponentCode(null);
             return;
         }
+        boolean isHomeTeam = nextGame.getHomeTeamCode().equals(team.getTeamCode());
+        team.setNextGameIsHome(isHomeTeam);
+        team.setNextGameDate(nextGame.getGameDate());
+        team.setNextOpponentCode(isHomeTeam ? nextGame.getAwayTeamCode() : nextGame.getHomeTeamCode());
+    }
 
-        JsonNode games = scheduleData.get("games");
-        for (JsonNode gameNode : games) {
-            // Only check regular season games
-            int gameType = gameNode.path("gameType").asInt();
-            if (gameType != 2) {
-                continue;
+    /**
+     * Find the first unfinished game involving a team in games ordered by date.
+     */
+    private Game findNextGame(String teamCode, List<Game> games) {
+        for (Game game : games) {
+            boolean involvesTeam = game.getHomeTeamCode().equals(teamCode) || game.getAwayTeamCode().equals(teamCode);
+            if (involvesTeam && !game.isCompleted()) {
+                return game;
             }
+        }
+        return null;
+    }
 
-            // Find first non-final game
-            String gameState = gameNode.path("gameState").asText();
-            if (!"FINAL".equals(gameState) && !"OFF".equals(gameState)) {
-                // This is the next game
-                JsonNode homeTeam = gameNode.path("homeTeam");
-                JsonNode awayTeam = gameNode.path("awayTeam");
-
-                boolean isHomeTeam = homeTeam.path("abbrev").asText().equals(team.getTeamCode());
-                team.setNextGameIsHome(isHomeTeam);
-                team.setNextGameDate(gameNode.path("gameDate").asText());
-
-                if (isHomeTeam) {
-                    team.setNextOpponentCode(awayTeam.path("abbrev").asText());
-                } else {
-                    team.setNextOpponentCode(homeTeam.path("abbrev").asText());
-                }
+    /**
+     * Fetch a team's regular season games for a season from its club schedule, in schedule order.
+     * @return Games, or null if the schedule could not be fetched
+     */
+    private List<Game> fetchClubSchedule(String teamCode, String seasonId) {
+        JsonNode scheduleData = nhlApiService.getTeamSchedule(teamCode, seasonId);
+        if (scheduleData == null) {
+            return null;
+        }
 
-                break; // Found the next game, stop searching
+        List<Game> games = new ArrayList<>();
+        for (JsonNode gameNode : scheduleData.path("games")) {
+            if (gameNode.path("gameType").asInt() == Game.REGULAR_SEASON) {
+                games.add(parseGame(seasonId, gameNode.path("gameDate").asText(), gameNode));
             }
         }
+        return games;
     }
 }
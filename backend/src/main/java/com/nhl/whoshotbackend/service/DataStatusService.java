@@ -0,0 +1,96 @@
+package com.nhl.whoshotbackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Tracks whether season data is available to serve and how fresh it is.
+ * Updated by startup and sync code; read by the data health indicator.
+ */
+@Service
+@Slf4j
+public class DataStatusService {
+
+    public static final String SOURCE_DATABASE = "database";
+    public static final String SOURCE_SNAPSHOT = "snapshot";
+    public static final String SOURCE_SYNC = "sync";
+    public static final String SOURCE_LEADER = "leader"; // Published by the replica holding the sync lease
+
+    private volatile String source; // Where the data being served came from, null until ready
+    private volatile Instant dataAsOf; // When the served data was last pulled from upstream
+    private volatile boolean syncInProgress;
+    private volatile Instant lastSyncCompleted;
+    private volatile String lastSyncError;
+    private volatile Instant nextSyncRetry; // When a failed startup sync runs again, null if none is scheduled
+
+    /**
+     * Mark season data as ready to serve.
+     * @param source Where the data came from (snapshot or sync)
+     * @param dataAsOf When the data was last pulled from upstream
+     */
+    public void markReady(String source, Instant dataAsOf) {
+        this.source = source;
+        this.dataAsOf = dataAsOf;
+        log.info("Season data ready from {} (as of {})", source, dataAsOf);
+    }
+
+    public void syncStarted() {
+        syncInProgress = true;
+        nextSyncRetry = null;
+    }
+
+    public void syncCompleted() {
+        syncInProgress = false;
+        lastSyncCompleted = Instant.now();
+        lastSyncError = null;
+        markReady(SOURCE_SYNC, lastSyncCompleted);
+    }
+
+    public void syncFailed(Exception e) {
+        syncInProgress = false;
+        lastSyncError = e.getMessage();
+    }
+
+    public void syncRetryScheduled(Instant at) {
+        nextSyncRetry = at;
+    }
+
+    public boolean isReady() {
+        return source != null;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Instant getDataAsOf() {
+        return dataAsOf;
+    }
+
+    /**
+     * Get the age of the served data in seconds, or null if no data is ready yet.
+     */
+    public Long getDataAgeSeconds() {
+        Instant asOf = dataAsOf;
+        return asOf != null ? Math.max(0, Duration.between(asOf, Instant.now()).getSeconds()) : null;
+    }
+
+    public boolean isSyncInProgress() {
+        return syncInProgress;
+    }
+
+    public Instant getLastSyncCompleted() {
+        return lastSyncCompleted;
+    }
+
+    public String getLastSyncError() {
+        return lastSyncError;
+    }
+
+    public Instant getNextSyncRetry() {
+        return nextSyncRetry;
+    }
+}
@@ -0,0 +1,252 @@
+package com.nhl.whoshotbackend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Service streaming full data sets (players, teams, games, game logs) as NDJSON or CSV.
+ * Rows are read in keyset-paged chunks, one short transaction per chunk, and written as they arrive,
+ * so memory use stays constant regardless of the number of rows.
+ * Archived seasons are read from their season archive.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+    public static final List<String> DATASETS = List.of("players", "teams", "games", "game-logs");
+
+    private static final int CHUNK_ROWS = 1000;
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final GameRepository gameRepository;
+    private final GameLogRepository gameLogRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(
+            PlayerRepository playerRepository,
+            TeamRepository teamRepository,
+            GameRepository gameRepository,
+            GameLogRepository gameLogRepository,
+            SeasonArchiveStore seasonArchiveStore,
+            ObjectProvider<EntityManager> entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.gameRepository = gameRepository;
+        this.gameLogRepository = gameLogRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+        // Absent with the in-memory storage engine, whose rows are not tracked by a persistence context
+        this.entityManager = entityManager.getIfAvailable();
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Stream a data set for one or more seasons to an output stream.
+     * @param dataset One of {@link #DATASETS}
+     * @param seasons Season IDs (e.g., "20252026"), exported in the order given
+     * @param format {@link #FORMAT_NDJSON} or {@link #FORMAT_CSV}
+     * @return Number of rows written
+     */
+    public long export(String dataset, List<String> seasons, String format, OutputStream outputStream) throws IOException {
+        if (!DATASETS.contains(dataset)) {
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+        long startNanos = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        RowWriter rowWriter = FORMAT_CSV.equals(format) ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long rows = 0;
+        for (String season : seasons) {
+            rows += writeSeason(dataset, season, rowWriter);
+        }
+        writer.flush();
+
+        log.info("Exported {} {} rows for seasons {} as {} in {} ms",
+                rows, dataset, seasons, format, (System.nanoTime() - startNanos) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Write one season's rows of a data set from the season archive or the database, in export order.
+     */
+    private long writeSeason(String dataset, String season, RowWriter rowWriter) throws IOException {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        long firstGameId = SeasonValidator.getFirstGameId(season);
+        long lastGameId = SeasonValidator.getLastGameId(season);
+        return switch (dataset) {
+            case "players" -> archive.isPresent()
+                    ? writeRows(archive.get().players(), rowWriter)
+                    : writeChunks((Player after) -> playerRepository.findExportChunk(
+                            season, after != null ? after.getPlayerId() : 0, CHUNK_ROWS), rowWriter);
+            case "teams" -> archive.isPresent()
+                    ? writeRows(archive.get().teams(), rowWriter)
+                    : writeChunks((Team after) -> teamRepository.findExportChunk(
+                            season, after != null ? after.getTeamCode() : "", CHUNK_ROWS), rowWriter);
+            case "games" -> writeChunks((Game after) -> gameRepository.findExportChunk(season,
+                    after != null ? after.getGameDate() : "", after != null ? after.getGameId() : 0, CHUNK_ROWS), rowWriter);
+            // Game logs have no season column; each season is a game ID range
+            default -> archive.isPresent()
+                    ? writeRows(archive.get().gameLogs().stream()
+                            .sorted(Comparator.comparing(GameLog::getGameId).thenComparing(GameLog::getPlayerId))
+                            .toList(), rowWriter)
+                    : writeChunks((GameLog after) -> gameLogRepository.findExportChunk(firstGameId, lastGameId,
+                            after != null ? after.getGameId() : 0, after != null ? after.getPlayerId() : 0, CHUNK_ROWS), rowWriter);
+        };
+    }
+
+    /**
+     * Write rows read from the database in keyset chunks. Each chunk is read in its own short read-only
+     * transaction and detached before it is written, so a slow client never holds a transaction (and with it
+     * a SQLite read snapshot) open, and memory use stays at one chunk.
+     * @param nextChunk Reads the chunk after a row, or the first chunk for null
+     */
+    private <T> long writeChunks(Function<T, List<T>> nextChunk, RowWriter rowWriter) throws IOException {
+        long count = 0;
+        T last = null;
+        while (true) {
+            T after = last;
+            List<T> chunk = readOnlyTransaction.execute(status -> {
+                List<T> rows = nextChunk.apply(after);
+                if (entityManager != null) {
+                    rows.forEach(entityManager::detach);
+                }
+                return rows;
+            });
+            count += writeRows(chunk, rowWriter);
+            if (chunk.size() < CHUNK_ROWS) {
+                return count;
+            }
+            last = chunk.get(chunk.size() - 1);
+        }
+    }
+
+    /**
+     * Write rows and flush them to the client.
+     */
+    private long writeRows(List<?> rows, RowWriter rowWriter) throws IOException {
+        for (Object row : rows) {
+            rowWriter.write(objectMapper.valueToTree(row));
+        }
+        rowWriter.flush();
+        return rows.size();
+    }
+
+    private interface RowWriter {
+
+        void write(ObjectNode row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * One JSON object per line.
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(ObjectNode row) throws IOException {
+            objectMapper.writeValue(writer, row);
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row taken from the first row's fields.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private List<String> columns;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(ObjectNode row) throws IOException {
+            if (columns == null) {
+                columns = new ArrayList<>();
+                for (Map.Entry<String, JsonNode> field : row.properties()) {
+                    columns.add(field.getKey());
+                }
+                writeLine(columns.stream().map(CsvRowWriter::escape).toList());
+            }
+
+            List<String> values = new ArrayList<>(columns.size());
+            for (String column : columns) {
+                JsonNode value = row.get(column);
+                values.add(value == null || value.isNull() ? "" : escape(value.asText()));
+            }
+            writeLine(values);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(List<String> values) throws IOException {
+            writer.write(String.join(",", values));
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
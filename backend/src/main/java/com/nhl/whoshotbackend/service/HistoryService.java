@@ -0,0 +1,283 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.PlayerAsOf;
+import com.nhl.whoshotbackend.dto.TeamAsOf;
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonGameLogs;
+import com.nhl.whoshotbackend.store.SeasonTeamGames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service answering point-in-time queries: hot lists, streaks and standings as they stood on any date of a season.
+ * Player figures come from the columnar game logs and team figures from a date-ordered columnar index over the
+ * games table, so each player or team as of a date costs a binary search plus a few prefix sums.
+ * The figures of recently requested dates are kept in an LRU cache. A season's team index and cached dates are
+ * replaced once its game logs are reloaded after a sync.
+ */
+@Service
+@Slf4j
+public class HistoryService {
+
+    private static final Comparator<PlayerAsOf> BY_HOT_RATING =
+            Comparator.comparing(PlayerAsOf::getHotRating, Comparator.reverseOrder());
+    private static final Comparator<PlayerAsOf> BY_POINT_STREAK =
+            Comparator.comparing(PlayerAsOf::getCurrentPointStreak, Comparator.reverseOrder());
+    private static final Comparator<PlayerAsOf> BY_POINTS =
+            Comparator.comparing(PlayerAsOf::getPoints, Comparator.reverseOrder());
+    private static final Comparator<TeamAsOf> TEAMS_BY_POINTS =
+            Comparator.comparing(TeamAsOf::getPoints, Comparator.reverseOrder());
+    private static final Comparator<TeamAsOf> BY_WIN_STREAK =
+            Comparator.comparing(TeamAsOf::getCurrentWinStreak, Comparator.reverseOrder());
+    private static final Comparator<TeamAsOf> BY_LOSS_STREAK =
+            Comparator.comparing(TeamAsOf::getCurrentLossStreak, Comparator.reverseOrder());
+
+    private final GameLogStore gameLogStore;
+    private final GameRepository gameRepository;
+    private final StatisticsService statisticsService;
+    private final HotColdRuleService hotColdRuleService;
+    private final Map<String, SeasonIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<String, Snapshot> snapshots; // "season:date" -> figures, least recently used first
+
+    public HistoryService(
+            GameLogStore gameLogStore,
+            GameRepository gameRepository,
+            StatisticsService statisticsService,
+            HotColdRuleService hotColdRuleService,
+            @Value("${nhl.history.cache-size:64}") int cacheSize) {
+        this.gameLogStore = gameLogStore;
+        this.gameRepository = gameRepository;
+        this.statisticsService = statisticsService;
+        this.hotColdRuleService = hotColdRuleService;
+        this.snapshots = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Get players ordered by hot rating as of a date.
+     */
+    public List<PlayerAsOf> getHotPlayers(String season, LocalDate date) {
+        return snapshot(season, date).players().stream()
+                .sorted(BY_HOT_RATING)
+                .toList();
+    }
+
+    /**
+     * Get players with a point streak running on a date, longest first.
+     */
+    public List<PlayerAsOf> getPlayerPointStreaks(String season, LocalDate date) {
+        return snapshot(season, date).players().stream()
+                .filter(player -> player.getCurrentPointStreak() > 0)
+                .sorted(BY_POINT_STREAK)
+                .toList();
+    }
+
+    /**
+     * Get player point standings as of a date.
+     */
+    public List<PlayerAsOf> getPlayerStandings(String season, LocalDate date) {
+        return snapshot(season, date).players().stream()
+                .sorted(BY_POINTS)
+                .toList();
+    }
+
+    /**
+     * Get team standings as of a date.
+     */
+    public List<TeamAsOf> getStandings(String season, LocalDate date) {
+        return snapshot(season, date).teams().stream()
+                .sorted(TEAMS_BY_POINTS)
+                .toList();
+    }
+
+    /**
+     * Get teams with a win streak running on a date, longest first.
+     */
+    public List<TeamAsOf> getTeamWinStreaks(String season, LocalDate date) {
+        return snapshot(season, date).teams().stream()
+                .filter(team -> team.getCurrentWinStreak() > 0)
+                .sorted(BY_WIN_STREAK)
+                .toList();
+    }
+
+    /**
+     * Get teams with a loss streak running on a date, longest first.
+     */
+    public List<TeamAsOf> getTeamLossStreaks(String season, LocalDate date) {
+        return snapshot(season, date).teams().stream()
+                .filter(team -> team.getCurrentLossStreak() > 0)
+                .sorted(BY_LOSS_STREAK)
+                .toList();
+    }
+
+    /**
+     * Get the figures of every player and team as of a date, from the cache when the season has not changed since.
+     */
+    private Snapshot snapshot(String season, LocalDate date) {
+        SeasonIndex index = index(season);
+        String key = season + ":" + date;
+        Snapshot cached = snapshots.get(key);
+        if (cached != null && cached.index() == index) {
+            return cached;
+        }
+        Snapshot snapshot = compute(index, date);
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Get a season's index, rebuilding it if the season's game logs were reloaded since it was built.
+     * The index is built outside the map, which only swaps it in: building reads the database, and doing
+     * that inside compute() would hold the map bin's lock and block other seasons' lookups meanwhile.
+     * Concurrent requests may each build an index; the first one swapped in is used by the others.
+     */
+    private SeasonIndex index(String season) {
+        SeasonGameLogs gameLogs = gameLogStore.getOrLoad(season);
+        SeasonIndex existing = indexes.get(season);
+        if (existing != null && existing.gameLogs() == gameLogs) {
+            return existing;
+        }
+        SeasonIndex built = buildIndex(season, gameLogs);
+        boolean swapped = existing == null
+                ? indexes.putIfAbsent(season, built) == null
+                : indexes.replace(season, existing, built);
+        if (!swapped) {
+            SeasonIndex current = indexes.get(season);
+            if (current != null && current.gameLogs() == gameLogs) {
+                return current;
+            }
+        }
+        return built;
+    }
+
+    private SeasonIndex buildIndex(String season, SeasonGameLogs gameLogs) {
+        long startNanos = System.nanoTime();
+        List<Game> games = gameRepository.findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(season, Game.REGULAR_SEASON);
+        SeasonTeamGames teamGames = SeasonTeamGames.fromGames(season, games);
+        Map<Long, Player> players = statisticsService.getPlayerStandings(season).stream()
+                .collect(Collectors.toMap(Player::getPlayerId, Function.identity()));
+        Map<String, Team> teams = statisticsService.getStandings(season).stream()
+                .collect(Collectors.toMap(Team::getTeamCode, Function.identity()));
+        log.info("History index built for season {}: {} team game rows, {} players, {} teams in {} ms",
+                season, teamGames.rowCount(), players.size(), teams.size(), (System.nanoTime() - startNanos) / 1_000_000);
+        return new SeasonIndex(gameLogs, teamGames, players, teams);
+    }
+
+    private Snapshot compute(SeasonIndex index, LocalDate date) {
+        long startNanos = System.nanoTime();
+        int epochDay = (int) date.toEpochDay();
+        String isoDate = date.toString();
+        HotColdRuleService.RuleSetResult flags =
+                hotColdRuleService.evaluateActiveAsOf(index.gameLogs(), index.teamGames(), epochDay);
+
+        SeasonGameLogs logs = index.gameLogs();
+        List<PlayerAsOf> players = new ArrayList<>();
+        for (int playerIndex = 0; playerIndex < logs.playerCount(); playerIndex++) {
+            int start = logs.start(playerIndex);
+            int end = logs.endRowOnOrBefore(playerIndex, epochDay);
+            if (end == start) {
+                continue;
+            }
+            int goals = logs.sumGoals(start, end);
+            int points = logs.sumPoints(start, end);
+            int windowStart = Math.max(start, end - StatisticsService.HOT_RATING_GAMES);
+            int pointStreak = 0;
+            for (int row = end - 1; row >= start && logs.points(row) > 0; row--) {
+                pointStreak++;
+            }
+
+            long playerId = logs.playerId(playerIndex);
+            Player player = index.players().get(playerId);
+            HotColdRuleService.Flags playerFlags = flags.player(playerId);
+            players.add(new PlayerAsOf(
+                    playerId,
+                    player != null ? player.getFullName() : null,
+                    player != null ? player.getTeamCode() : null,
+                    player != null ? player.getPositionCode() : null,
+                    player != null ? player.getHeadshotUrl() : null,
+                    isoDate,
+                    end - start,
+                    goals,
+                    points - goals,
+                    points,
+                    (double) logs.sumPoints(windowStart, end) / (end - windowStart),
+                    pointStreak,
+                    playerFlags.hot(),
+                    playerFlags.cold(),
+                    playerFlags.pointStreak()));
+        }
+
+        SeasonTeamGames teamGames = index.teamGames();
+        List<TeamAsOf> teams = new ArrayList<>(teamGames.teamCount());
+        for (int teamIndex = 0; teamIndex < teamGames.teamCount(); teamIndex++) {
+            int start = teamGames.start(teamIndex);
+            int end = teamGames.endRowOnOrBefore(teamIndex, epochDay);
+            int gamesPlayed = end - start;
+            int wins = teamGames.sumWins(start, end);
+            int overtimeLosses = teamGames.sumOvertimeLosses(start, end);
+            int goalsFor = teamGames.sumGoalsFor(start, end);
+            int goalsAgainst = teamGames.sumGoalsAgainst(start, end);
+            int windowStart = Math.max(start, end - StreakStateService.TEAM_WINDOW_GAMES);
+
+            String teamCode = teamGames.teamCode(teamIndex);
+            Team team = index.teams().get(teamCode);
+            HotColdRuleService.Flags teamFlags = flags.team(teamCode);
+            teams.add(new TeamAsOf(
+                    teamCode,
+                    team != null ? team.getTeamName() : null,
+                    team != null ? team.getLogoUrl() : null,
+                    isoDate,
+                    gamesPlayed,
+                    wins,
+                    gamesPlayed - wins - overtimeLosses,
+                    overtimeLosses,
+                    2 * wins + overtimeLosses,
+                    goalsFor,
+                    goalsAgainst,
+                    goalsFor - goalsAgainst,
+                    gamesPlayed > 0 ? teamGames.winStreak(end - 1) : 0,
+                    gamesPlayed > 0 ? teamGames.lossStreak(end - 1) : 0,
+                    end > windowStart ? (double) teamGames.sumWins(windowStart, end) / (end - windowStart) : null,
+                    teamFlags.hot(),
+                    teamFlags.cold(),
+                    teamFlags.pointStreak()));
+        }
+
+        log.debug("Computed season {} as of {}: {} players, {} teams in {} ms", logs.getSeason(), isoDate,
+                players.size(), teams.size(), (System.nanoTime() - startNanos) / 1_000_000);
+        return new Snapshot(index, players, teams);
+    }
+
+    /**
+     * A season's date-ordered game data and current player and team details, built from one load of its game logs.
+     */
+    private record SeasonIndex(SeasonGameLogs gameLogs, SeasonTeamGames teamGames,
+                               Map<Long, Player> players, Map<String, Team> teams) {
+    }
+
+    /**
+     * Every player's and team's figures as of one date.
+     */
+    private record Snapshot(SeasonIndex index, List<PlayerAsOf> players, List<TeamAsOf> teams) {
+    }
+}
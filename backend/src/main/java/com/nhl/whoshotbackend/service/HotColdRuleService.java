@@ -0,0 +1,388 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.config.HotColdRuleProperties;
+import com.nhl.whoshotbackend.config.HotColdRuleProperties.Metric;
+import com.nhl.whoshotbackend.config.HotColdRuleProperties.Rule;
+import com.nhl.whoshotbackend.config.HotColdRuleProperties.RuleSet;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
+import com.nhl.whoshotbackend.store.SeasonGameLogs;
+import com.nhl.whoshotbackend.store.SeasonTeamGames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+
+/**
+ * Service evaluating the configured hot/cold rule sets (nhl.rules).
+ * The rule sets are compiled once at startup into predicates over a player's or team's recent games.
+ * An evaluation visits each player's rows in the columnar game logs once; every rule of every set reads
+ * its window from the prefix sums at that position, so another rule set costs a few comparisons per
+ * player rather than another scan. The latest evaluation of each season is kept for the rule-set endpoints.
+ */
+@Service
+@Slf4j
+public class HotColdRuleService {
+
+    /**
+     * Flags one rule set gives a player or team.
+     */
+    public record Flags(boolean hot, boolean cold, boolean pointStreak) {
+
+        public static final Flags NONE = new Flags(false, false, false);
+    }
+
+    /**
+     * Flags of one rule set for a season. Players and teams with no flag set are left out.
+     */
+    public record RuleSetResult(Map<Long, Flags> players, Map<String, Flags> teams) {
+
+        public Flags player(Long playerId) {
+            return players.getOrDefault(playerId, Flags.NONE);
+        }
+
+        public Flags team(String teamCode) {
+            return teams.getOrDefault(teamCode, Flags.NONE);
+        }
+    }
+
+    /**
+     * Results of every rule set for a season, keyed by rule set name.
+     */
+    public record Evaluation(String season, String active, Map<String, RuleSetResult> ruleSets) {
+
+        public RuleSetResult activeResult() {
+            return ruleSets.get(active);
+        }
+    }
+
+    private final StreakStateService streakStateService;
+    private final String active;
+    private final Map<String, RuleSet> definitions;
+    private final List<CompiledRuleSet> compiled = new ArrayList<>();
+    private final boolean needsPointStreak; // Whether any player rule reads the current point streak
+    private final Map<String, Evaluation> evaluations = new ConcurrentHashMap<>();
+
+    public HotColdRuleService(HotColdRuleProperties properties, StreakStateService streakStateService) {
+        this.streakStateService = streakStateService;
+        this.active = properties.getActive();
+        this.definitions = Collections.unmodifiableMap(new LinkedHashMap<>(properties.getSets()));
+        if (!definitions.containsKey(active)) {
+            throw new IllegalStateException("Active rule set '" + active + "' is not defined under nhl.rules.sets");
+        }
+
+        boolean pointStreak = false;
+        for (Map.Entry<String, RuleSet> entry : definitions.entrySet()) {
+            String path = "nhl.rules.sets." + entry.getKey();
+            HotColdRuleProperties.PlayerRules player = entry.getValue().getPlayer();
+            HotColdRuleProperties.TeamRules team = entry.getValue().getTeam();
+            compiled.add(new CompiledRuleSet(
+                    entry.getKey(),
+                    new Evaluator<>(
+                            compilePlayerRule(path + ".player.hot", player.getHot()),
+                            compilePlayerRule(path + ".player.cold", player.getCold()),
+                            compilePlayerRule(path + ".player.point-streak", player.getPointStreak())),
+                    new Evaluator<>(
+                            compileTeamRule(path + ".team.hot", team.getHot()),
+                            compileTeamRule(path + ".team.cold", team.getCold()),
+                            compileTeamRule(path + ".team.point-streak", team.getPointStreak()))));
+            pointStreak |= player.getHot().getMetric() == Metric.POINT_STREAK
+                    || player.getCold().getMetric() == Metric.POINT_STREAK
+                    || player.getPointStreak().getMetric() == Metric.POINT_STREAK;
+        }
+        this.needsPointStreak = pointStreak;
+        log.info("Compiled {} hot/cold rule sets {}; active: {}", compiled.size(), definitions.keySet(), active);
+    }
+
+    /**
+     * Get the name of the rule set whose flags are stored on players and teams.
+     */
+    public String getActive() {
+        return active;
+    }
+
+    /**
+     * Get the configured rule sets by name.
+     */
+    public Map<String, RuleSet> getRuleSets() {
+        return definitions;
+    }
+
+    /**
+     * Evaluate every rule set for all players and teams of a season and keep the results.
+     * @param gameLogs The season's columnar game logs
+     * @param teams The season's teams
+     */
+    public Evaluation evaluate(SeasonGameLogs gameLogs, List<Team> teams) {
+        long startNanos = System.nanoTime();
+        String season = gameLogs.getSeason();
+        int setCount = compiled.size();
+
+        List<Map<Long, Flags>> playerFlags = new ArrayList<>(setCount);
+        List<Map<String, Flags>> teamFlags = new ArrayList<>(setCount);
+        for (int i = 0; i < setCount; i++) {
+            playerFlags.add(new HashMap<>());
+            teamFlags.add(new HashMap<>());
+        }
+
+        RecentGames recentGames = new RecentGames(gameLogs);
+        for (int playerIndex = 0; playerIndex < gameLogs.playerCount(); playerIndex++) {
+            recentGames.moveTo(playerIndex, gameLogs.end(playerIndex), needsPointStreak);
+            for (int i = 0; i < setCount; i++) {
+                Flags flags = compiled.get(i).player().evaluate(recentGames);
+                if (flags != Flags.NONE) {
+                    playerFlags.get(i).put(gameLogs.playerId(playerIndex), flags);
+                }
+            }
+        }
+
+        Map<String, TeamStreakState> teamStates = streakStateService.getTeamStates(season);
+        for (Team team : teams) {
+            TeamGames teamGames = TeamGames.of(team, teamStates.get(team.getTeamCode()));
+            for (int i = 0; i < setCount; i++) {
+                Flags flags = compiled.get(i).team().evaluate(teamGames);
+                if (flags != Flags.NONE) {
+                    teamFlags.get(i).put(team.getTeamCode(), flags);
+                }
+            }
+        }
+
+        Map<String, RuleSetResult> results = new LinkedHashMap<>();
+        for (int i = 0; i < setCount; i++) {
+            results.put(compiled.get(i).name(), new RuleSetResult(
+                    Collections.unmodifiableMap(playerFlags.get(i)), Collections.unmodifiableMap(teamFlags.get(i))));
+        }
+        Evaluation evaluation = new Evaluation(season, active, Collections.unmodifiableMap(results));
+        evaluations.put(season, evaluation);
+        log.info("Evaluated {} rule sets for season {} over {} players and {} teams in {} ms",
+                setCount, season, gameLogs.playerCount(), teams.size(), (System.nanoTime() - startNanos) / 1_000_000);
+        return evaluation;
+    }
+
+    /**
+     * Evaluate the active rule set as of a day: only games played on or before it count.
+     * The result is returned, not kept.
+     * @param gameLogs The season's columnar game logs
+     * @param teamGames The season's columnar team games
+     * @param epochDay The day to evaluate as of
+     */
+    public RuleSetResult evaluateActiveAsOf(SeasonGameLogs gameLogs, SeasonTeamGames teamGames, int epochDay) {
+        CompiledRuleSet ruleSet = compiled.stream()
+                .filter(candidate -> candidate.name().equals(active))
+                .findFirst()
+                .orElseThrow();
+
+        Map<Long, Flags> players = new HashMap<>();
+        RecentGames recentGames = new RecentGames(gameLogs);
+        for (int playerIndex = 0; playerIndex < gameLogs.playerCount(); playerIndex++) {
+            recentGames.moveTo(playerIndex, gameLogs.endRowOnOrBefore(playerIndex, epochDay), needsPointStreak);
+            Flags flags = ruleSet.player().evaluate(recentGames);
+            if (flags != Flags.NONE) {
+                players.put(gameLogs.playerId(playerIndex), flags);
+            }
+        }
+
+        Map<String, Flags> teams = new HashMap<>();
+        for (int teamIndex = 0; teamIndex < teamGames.teamCount(); teamIndex++) {
+            TeamGames games = TeamGames.of(teamGames, teamIndex, teamGames.endRowOnOrBefore(teamIndex, epochDay));
+            Flags flags = ruleSet.team().evaluate(games);
+            if (flags != Flags.NONE) {
+                teams.put(teamGames.teamCode(teamIndex), flags);
+            }
+        }
+        return new RuleSetResult(Collections.unmodifiableMap(players), Collections.unmodifiableMap(teams));
+    }
+
+    /**
+     * Get the latest evaluation of a season, if it has been evaluated since startup.
+     */
+    public Optional<Evaluation> getEvaluation(String season) {
+        return Optional.ofNullable(evaluations.get(season));
+    }
+
+    private static Predicate<RecentGames> compilePlayerRule(String path, Rule rule) {
+        validate(path, rule, false);
+        DoublePredicate matches = compare(rule);
+        int window = rule.getWindow();
+        int minGames = rule.getMinGames();
+        return switch (rule.getMetric()) {
+            case POINTS_PER_GAME -> games -> {
+                int n = games.windowGames(window);
+                return n > 0 && n >= minGames && matches.test((double) games.sumPoints(n) / n);
+            };
+            case GOALS_PER_GAME -> games -> {
+                int n = games.windowGames(window);
+                return n > 0 && n >= minGames && matches.test((double) games.sumGoals(n) / n);
+            };
+            case SHOTS_PER_GAME -> games -> {
+                int n = games.windowGames(window);
+                return n > 0 && n >= minGames && matches.test((double) games.sumShots(n) / n);
+            };
+            case POINT_STREAK -> games -> games.games() >= minGames && matches.test(games.pointStreak());
+            default -> throw new IllegalStateException(path + ": metric " + rule.getMetric() + " does not apply to players");
+        };
+    }
+
+    private static Predicate<TeamGames> compileTeamRule(String path, Rule rule) {
+        validate(path, rule, true);
+        DoublePredicate matches = compare(rule);
+        int window = rule.getWindow();
+        int minGames = rule.getMinGames();
+        return switch (rule.getMetric()) {
+            case WIN_STREAK -> team -> team.gamesPlayed() >= minGames && matches.test(team.winStreak());
+            case LOSS_STREAK -> team -> team.gamesPlayed() >= minGames && matches.test(team.lossStreak());
+            case WIN_PERCENTAGE -> team -> {
+                int n = team.windowGames(window);
+                return n > 0 && n >= minGames && matches.test((double) team.windowWins(n) / n);
+            };
+            default -> throw new IllegalStateException(path + ": metric " + rule.getMetric() + " does not apply to teams");
+        };
+    }
+
+    private static void validate(String path, Rule rule, boolean team) {
+        if (rule == null || rule.getMetric() == null || rule.getComparison() == null) {
+            throw new IllegalStateException(path + ": metric and comparison are required");
+        }
+        if (rule.getMetric().isTeam() != team) {
+            throw new IllegalStateException(path + ": metric " + rule.getMetric() + " does not apply to "
+                    + (team ? "teams" : "players"));
+        }
+        if (!rule.getMetric().isWindowed()) {
+            return;
+        }
+        if (rule.getWindow() < 1) {
+            throw new IllegalStateException(path + ": metric " + rule.getMetric() + " needs a window of at least 1 game");
+        }
+        if (team && rule.getWindow() > StreakStateService.TEAM_WINDOW_GAMES) {
+            throw new IllegalStateException(path + ": team windows are limited to "
+                    + StreakStateService.TEAM_WINDOW_GAMES + " games");
+        }
+        if (rule.getMinGames() > rule.getWindow()) {
+            throw new IllegalStateException(path + ": min-games cannot exceed the window");
+        }
+    }
+
+    private static DoublePredicate compare(Rule rule) {
+        double threshold = rule.getThreshold();
+        return switch (rule.getComparison()) {
+            case GT -> value -> value > threshold;
+            case GE -> value -> value >= threshold;
+            case LT -> value -> value < threshold;
+            case LE -> value -> value <= threshold;
+        };
+    }
+
+    private record CompiledRuleSet(String name, Evaluator<RecentGames> player, Evaluator<TeamGames> team) {
+    }
+
+    private record Evaluator<T>(Predicate<T> hot, Predicate<T> cold, Predicate<T> pointStreak) {
+
+        Flags evaluate(T subject) {
+            boolean isHot = hot.test(subject);
+            boolean isCold = cold.test(subject);
+            boolean isPointStreak = pointStreak.test(subject);
+            return isHot || isCold || isPointStreak ? new Flags(isHot, isCold, isPointStreak) : Flags.NONE;
+        }
+    }
+
+    /**
+     * Cursor over one player's rows up to an end row, most recent game last. Window sums come from the prefix sums;
+     * the point streak is counted once per player by walking back from the latest game.
+     */
+    private static final class RecentGames {
+
+        private final SeasonGameLogs gameLogs;
+        private int start;
+        private int end;
+        private int pointStreak;
+
+        RecentGames(SeasonGameLogs gameLogs) {
+            this.gameLogs = gameLogs;
+        }
+
+        void moveTo(int playerIndex, int endRow, boolean countPointStreak) {
+            start = gameLogs.start(playerIndex);
+            end = endRow;
+            pointStreak = 0;
+            if (countPointStreak) {
+                for (int row = end - 1; row >= start && gameLogs.points(row) > 0; row--) {
+                    pointStreak++;
+                }
+            }
+        }
+
+        int games() {
+            return end - start;
+        }
+
+        int windowGames(int window) {
+            return Math.min(window, games());
+        }
+
+        int sumPoints(int games) {
+            return gameLogs.sumPoints(end - games, end);
+        }
+
+        int sumGoals(int games) {
+            return gameLogs.sumGoals(end - games, end);
+        }
+
+        int sumShots(int games) {
+            return gameLogs.sumShots(end - games, end);
+        }
+
+        int pointStreak() {
+            return pointStreak;
+        }
+    }
+
+    /**
+     * A team's current streaks and its rolling window of results, oldest first (e.g., "WLWW").
+     */
+    private record TeamGames(int gamesPlayed, int winStreak, int lossStreak, String recentResults) {
+
+        static TeamGames of(Team team, TeamStreakState state) {
+            return new TeamGames(
+                    team.getGamesPlayed() != null ? team.getGamesPlayed() : 0,
+                    team.getCurrentWinStreak() != null ? team.getCurrentWinStreak() : 0,
+                    team.getCurrentLossStreak() != null ? team.getCurrentLossStreak() : 0,
+                    state != null && state.getRecentResults() != null ? state.getRecentResults() : "");
+        }
+
+        static TeamGames of(SeasonTeamGames teamGames, int teamIndex, int endRow) {
+            int start = teamGames.start(teamIndex);
+            StringBuilder recentResults = new StringBuilder();
+            for (int row = Math.max(start, endRow - StreakStateService.TEAM_WINDOW_GAMES); row < endRow; row++) {
+                recentResults.append(teamGames.won(row) ? 'W' : 'L');
+            }
+            return new TeamGames(
+                    endRow - start,
+                    endRow > start ? teamGames.winStreak(endRow - 1) : 0,
+                    endRow > start ? teamGames.lossStreak(endRow - 1) : 0,
+                    recentResults.toString());
+        }
+
+        int windowGames(int window) {
+            return Math.min(window, recentResults.length());
+        }
+
+        int windowWins(int games) {
+            int wins = 0;
+            for (int i = recentResults.length() - games; i < recentResults.length(); i++) {
+                if (recentResults.charAt(i) == 'W') {
+                    wins++;
+                }
+            }
+            return wins;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.ListQuery;
+import com.nhl.whoshotbackend.store.SeasonArchive.Leaderboard;
+
+/**
+ * Query definitions of the player and team list endpoints.
+ * Filters and orders mirror the corresponding repository queries and archive leaderboards.
+ */
+public final class ListQueries {
+
+    private ListQueries() {
+    }
+
+    /**
+     * All players of a season by points.
+     */
+    public static ListQuery<Player> playerStandings(String season) {
+        return new ListQuery<>(Player.class, season, "points", "playerId",
+                (cb, root) -> cb.equal(root.get("season"), season),
+                player -> season.equals(player.getSeason()),
+                archive -> archive.players(Leaderboard.PLAYERS_BY_POINTS));
+    }
+
+    /**
+     * Players of a season with an active point streak, longest first.
+     */
+    public static ListQuery<Player> playerPointStreaks(String season) {
+        return new ListQuery<>(Player.class, season, "currentPointStreak", "playerId",
+                (cb, root) -> cb.and(
+                        cb.equal(root.get("season"), season),
+                        cb.gt(root.<Integer>get("currentPointStreak"), 0)),
+                player -> season.equals(player.getSeason())
+                        && player.getCurrentPointStreak() != null && player.getCurrentPointStreak() > 0,
+                archive -> archive.players(Leaderboard.PLAYERS_BY_POINT_STREAK));
+    }
+
+    /**
+     * Players of a season with a hot rating, hottest first.
+     */
+    public static ListQuery<Player> hotPlayers(String season) {
+        return new ListQuery<>(Player.class, season, "hotRating", "playerId",
+                (cb, root) -> cb.and(
+                        cb.equal(root.get("season"), season),
+                        cb.isNotNull(root.get("hotRating"))),
+                player -> season.equals(player.getSeason()) && player.getHotRating() != null,
+                archive -> archive.players(Leaderboard.PLAYERS_BY_HOT_RATING));
+    }
+
+    /**
+     * Players on a team for a season by points.
+     */
+    public static ListQuery<Player> teamPlayers(String teamCode, String season) {
+        return new ListQuery<>(Player.class, season, "points", "playerId",
+                (cb, root) -> cb.and(
+                        cb.equal(root.get("season"), season),
+                        cb.equal(root.get("teamCode"), teamCode)),
+                player -> season.equals(player.getSeason()) && teamCode.equals(player.getTeamCode()),
+                archive -> archive.players(Leaderboard.PLAYERS_BY_POINTS).stream()
+                        .filter(player -> teamCode.equals(player.getTeamCode()))
+                        .toList());
+    }
+
+    /**
+     * All teams of a season by points.
+     */
+    public static ListQuery<Team> teamStandings(String season) {
+        return new ListQuery<>(Team.class, season, "points", "teamCode",
+                (cb, root) -> cb.equal(root.get("season"), season),
+                team -> season.equals(team.getSeason()),
+                archive -> archive.teams(Leaderboard.TEAMS_BY_POINTS));
+    }
+
+    /**
+     * Teams of a season with an active win streak, longest first.
+     */
+    public static ListQuery<Team> teamWinStreaks(String season) {
+        return new ListQuery<>(Team.class, season, "currentWinStreak", "teamCode",
+                (cb, root) -> cb.and(
+                        cb.equal(root.get("season"), season),
+                        cb.gt(root.<Integer>get("currentWinStreak"), 0)),
+                team -> season.equals(team.getSeason())
+                        && team.getCurrentWinStreak() != null && team.getCurrentWinStreak() > 0,
+                archive -> archive.teams(Leaderboard.TEAMS_BY_WIN_STREAK));
+    }
+
+    /**
+     * Teams of a season with an active loss streak, longest first.
+     */
+    public static ListQuery<Team> teamLossStreaks(String season) {
+        return new ListQuery<>(Team.class, season, "currentLossStreak", "teamCode",
+                (cb, root) -> cb.and(
+                        cb.equal(root.get("season"), season),
+                        cb.gt(root.<Integer>get("currentLossStreak"), 0)),
+                team -> season.equals(team.getSeason())
+                        && team.getCurrentLossStreak() != null && team.getCurrentLossStreak() > 0,
+                archive -> archive.teams(Leaderboard.TEAMS_BY_LOSS_STREAK));
+    }
+}
@@ -134,6 +134,22 @@ public class NhlApiService {
         }
     }
 
+    /**
+     * Get team roster for a specific season.
+     * @param teamCode Team code (e.g., "COL")
+     * @param seasonId Season ID in format YYYYYYYY (e.g., "20252026")
+     */
+    public JsonNode getTeamRoster(String teamCode, String seasonId) {
+        String url = String.format("%s/v1/roster/%s/%s", baseUrl, teamCode, seasonId);
+        log.info("Fetching roster for team {} season {} from: {}", teamCode, seasonId, url);
+        try {
+            return restTemplate.getForObject(url, JsonNode.class);
+        } catch (Exception e) {
+            log.error("Error fetching roster for team {} season {}", teamCode, seasonId, e);
+            return null;
+        }
+    }
+
     /**
      * Get club stats for a team.
      */
@@ -148,6 +164,22 @@ public class NhlApiService {
         }
     }
 
+    /**
+     * Get regular season club stats for a team in a specific season.
+     * @param teamCode Team code (e.g., "COL")
+     * @param seasonId Season ID in format YYYYYYYY (e.g., "20252026")
+     */
+    public JsonNode getClubStats(String teamCode, String seasonId) {
+        String url = String.format("%s/v1/club-stats/%s/%s/2", baseUrl, teamCode, seasonId);
+        log.info("Fetching club stats for {} season {} from: {}", teamCode, seasonId, url);
+        try {
+            return restTemplate.getForObject(url, JsonNode.class);
+        } catch (Exception e) {
+            log.error("Error fetching club stats for {} season {}", teamCode, seasonId, e);
+            return null;
+        }
+    }
+
     /**
      * Get team schedule for current season.
      */
@@ -172,6 +204,22 @@ public class NhlApiService {
         }
     }
 
+    /**
+     * Get the league schedule for the week starting at a date.
+     * The response contains a "gameWeek" array of days with their games and a "nextStartDate".
+     * @param date First day of the week (ISO format, e.g., "2025-10-07")
+     */
+    public JsonNode getSchedule(String date) {
+        String url = String.format("%s/v1/schedule/%s", baseUrl, date);
+        log.info("Fetching league schedule for week of {} from: {}", date, url);
+        try {
+            return restTemplate.getForObject(url, JsonNode.class);
+        } catch (Exception e) {
+            log.error("Error fetching league schedule for week of {}", date, e);
+            return null;
+        }
+    }
+
     /**
      * Get game boxscore.
      */
@@ -0,0 +1,67 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.PlayerSearchResult;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.store.PlayerNameIndex;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for player name search and autocomplete across all loaded seasons.
+ * The prefix index is rebuilt after each sync and swapped in atomically,
+ * so searches never see a partially built index.
+ */
+@Service
+@Slf4j
+public class PlayerSearchService {
+
+    private final PlayerRepository playerRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+
+    private volatile PlayerNameIndex index;
+
+    public PlayerSearchService(PlayerRepository playerRepository, SeasonArchiveStore seasonArchiveStore) {
+        this.playerRepository = playerRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+    }
+
+    /**
+     * Rebuild the name index from all players in the database and season archives and swap it in.
+     */
+    public void rebuild() {
+        long startNanos = System.nanoTime();
+        List<Player> players = new ArrayList<>(playerRepository.findAll());
+        for (SeasonArchive archive : seasonArchiveStore.all()) {
+            players.addAll(archive.players(SeasonArchive.Leaderboard.PLAYERS_BY_POINTS));
+        }
+        PlayerNameIndex newIndex = PlayerNameIndex.build(players);
+        index = newIndex;
+        log.info("Player name index rebuilt: {} players in {} ms",
+                newIndex.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Search players by name prefix.
+     * @param query Search text, matched against the start of full, first or last name
+     * @param season Restrict to players with this season loaded, or null for any season
+     * @param limit Maximum number of results
+     */
+    public List<PlayerSearchResult> search(String query, String season, int limit) {
+        PlayerNameIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    rebuild();
+                }
+                current = index;
+            }
+        }
+        return current.search(query, season, limit);
+    }
+}
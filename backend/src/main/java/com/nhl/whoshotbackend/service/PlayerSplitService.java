@@ -0,0 +1,160 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.PlayerSplits;
+import com.nhl.whoshotbackend.dto.SplitLine;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.store.PlayerSplitIndex;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service holding pre-aggregated player splits (home/away, by opponent, by calendar month).
+ * A season's index is built in one pass over its game logs on first use and afterwards kept current
+ * incrementally: newly ingested games are added to it once their transaction commits.
+ */
+@Service
+@Slf4j
+public class PlayerSplitService {
+
+    private final GameLogRepository gameLogRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+    private final Map<String, PlayerSplitIndex> indexes = new ConcurrentHashMap<>();
+
+    public PlayerSplitService(GameLogRepository gameLogRepository, SeasonArchiveStore seasonArchiveStore) {
+        this.gameLogRepository = gameLogRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+    }
+
+    /**
+     * Rebuild the split index of a season from all of its game logs.
+     * Games committed while the season is read find no index to add themselves to, so once the index is
+     * swapped in, the games above the highest game ID stored before the read are read again and added;
+     * those the first read already saw are ignored by the index.
+     */
+    public PlayerSplitIndex rebuild(String season) {
+        long startNanos = System.nanoTime();
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        if (archive.isPresent()) {
+            // Archived seasons no longer change
+            PlayerSplitIndex index = PlayerSplitIndex.build(season, archive.get().gameLogs());
+            indexes.put(season, index);
+            log.info("Split index rebuilt for archived season {}: {} players from {} game logs in {} ms", season,
+                    index.playerCount(), archive.get().gameLogs().size(), (System.nanoTime() - startNanos) / 1_000_000);
+            return index;
+        }
+
+        long firstGameId = SeasonValidator.getFirstGameId(season);
+        long lastGameId = SeasonValidator.getLastGameId(season);
+        Long highWaterGameId = gameLogRepository.findMaxGameIdBetween(firstGameId, lastGameId);
+        List<GameLog> gameLogs = gameLogRepository.findByGameIdBetween(firstGameId, lastGameId);
+        PlayerSplitIndex index = PlayerSplitIndex.build(season, gameLogs);
+        indexes.put(season, index);
+
+        List<GameLog> committedSince = gameLogRepository.findByGameIdBetween(
+                highWaterGameId != null ? highWaterGameId + 1 : firstGameId, lastGameId);
+        committedSince.forEach(index::add);
+        log.info("Split index rebuilt for season {}: {} players from {} game logs, {} read again after the swap, in {} ms",
+                season, index.playerCount(), gameLogs.size(), committedSince.size(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * Drop a season's split index so the next request rebuilds it, e.g. after another replica rewrote the season.
+     */
+    public void invalidate(String season) {
+        indexes.remove(season);
+    }
+
+    /**
+     * Add newly ingested games to the split indexes of their seasons.
+     * Inside a transaction the games are applied after it commits, so a rollback leaves the indexes untouched.
+     * Seasons whose index has not been built yet are skipped; they pick the games up when they are built.
+     */
+    public void applyGames(List<GameLog> gameLogs) {
+        afterCommit(() -> {
+            Map<String, List<GameLog>> bySeason = gameLogs.stream()
+                    .collect(Collectors.groupingBy(gameLog -> SeasonValidator.getSeasonIdForGame(gameLog.getGameId())));
+            bySeason.forEach((season, seasonGameLogs) -> {
+                PlayerSplitIndex index = indexes.get(season);
+                if (index != null) {
+                    seasonGameLogs.forEach(index::add);
+                }
+            });
+        });
+    }
+
+    /**
+     * Replace a player's splits for a season after their whole game log was re-fetched.
+     */
+    public void replacePlayer(Long playerId, String season, List<GameLog> gameLogs) {
+        afterCommit(() -> {
+            PlayerSplitIndex index = indexes.get(season);
+            if (index != null) {
+                index.replacePlayer(playerId, gameLogs);
+            }
+        });
+    }
+
+    /**
+     * Get a player's home/away, opponent and month splits for a season.
+     * @return The splits, or empty if the player has no games this season
+     */
+    public Optional<PlayerSplits> getPlayerSplits(Long playerId, String season) {
+        PlayerSplitIndex index = indexes.get(season);
+        if (index == null) {
+            index = rebuild(season);
+        }
+        return index.get(playerId).map(splits -> new PlayerSplits(
+                playerId,
+                season,
+                toLine("home", splits.home()),
+                toLine("away", splits.away()),
+                splits.byOpponent().entrySet().stream()
+                        .map(entry -> toLine(entry.getKey(), entry.getValue()))
+                        .toList(),
+                splits.byMonth().entrySet().stream()
+                        .map(entry -> toLine(entry.getKey(), entry.getValue()))
+                        .toList()));
+    }
+
+    private static SplitLine toLine(String split, PlayerSplitIndex.Totals totals) {
+        int games = totals.games();
+        return new SplitLine(
+                split,
+                games,
+                totals.goals(),
+                totals.assists(),
+                totals.points(),
+                totals.plusMinus(),
+                totals.shots(),
+                totals.wins(),
+                games > 0 ? (double) totals.points() / games : 0.0,
+                games > 0 ? (int) (totals.timeOnIce() / games) : null);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
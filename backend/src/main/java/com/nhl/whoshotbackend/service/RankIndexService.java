@@ -0,0 +1,110 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.StatRank;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.store.RankIndex;
+import com.nhl.whoshotbackend.store.SeasonArchive.Leaderboard;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service holding per-season league rank indexes for player and team stats.
+ * Indexes are rebuilt at the end of each sync and served from memory.
+ */
+@Service
+@Slf4j
+public class RankIndexService {
+
+    private static final List<RankIndex.Column<Player>> PLAYER_COLUMNS = List.of(
+            new RankIndex.Column<>("gamesPlayed", Player::getGamesPlayed, true),
+            new RankIndex.Column<>("goals", Player::getGoals, true),
+            new RankIndex.Column<>("assists", Player::getAssists, true),
+            new RankIndex.Column<>("points", Player::getPoints, true),
+            new RankIndex.Column<>("pointsPerGame", Player::getPointsPerGame, true),
+            new RankIndex.Column<>("plusMinus", Player::getPlusMinus, true),
+            new RankIndex.Column<>("penaltyMinutes", Player::getPenaltyMinutes, true),
+            new RankIndex.Column<>("powerPlayGoals", Player::getPowerPlayGoals, true),
+            new RankIndex.Column<>("shorthandedGoals", Player::getShorthandedGoals, true),
+            new RankIndex.Column<>("gameWinningGoals", Player::getGameWinningGoals, true),
+            new RankIndex.Column<>("overtimeGoals", Player::getOvertimeGoals, true),
+            new RankIndex.Column<>("shots", Player::getShots, true),
+            new RankIndex.Column<>("shootingPercentage", Player::getShootingPercentage, true),
+            new RankIndex.Column<>("currentPointStreak", Player::getCurrentPointStreak, true),
+            new RankIndex.Column<>("hotRating", Player::getHotRating, true));
+
+    private static final List<RankIndex.Column<Team>> TEAM_COLUMNS = List.of(
+            new RankIndex.Column<>("gamesPlayed", Team::getGamesPlayed, true),
+            new RankIndex.Column<>("wins", Team::getWins, true),
+            new RankIndex.Column<>("losses", Team::getLosses, false),
+            new RankIndex.Column<>("overtimeLosses", Team::getOvertimeLosses, false),
+            new RankIndex.Column<>("points", Team::getPoints, true),
+            new RankIndex.Column<>("pointPercentage", Team::getPointPercentage, true),
+            new RankIndex.Column<>("goalsFor", Team::getGoalsFor, true),
+            new RankIndex.Column<>("goalsAgainst", Team::getGoalsAgainst, false),
+            new RankIndex.Column<>("goalDifferential", Team::getGoalDifferential, true),
+            new RankIndex.Column<>("currentWinStreak", Team::getCurrentWinStreak, true),
+            new RankIndex.Column<>("currentLossStreak", Team::getCurrentLossStreak, false),
+            new RankIndex.Column<>("last10GamesWinPercentage", Team::getLast10GamesWinPercentage, true));
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+
+    private final Map<String, RankIndex<Long, Player>> playerIndexes = new ConcurrentHashMap<>();
+    private final Map<String, RankIndex<String, Team>> teamIndexes = new ConcurrentHashMap<>();
+
+    public RankIndexService(PlayerRepository playerRepository, TeamRepository teamRepository,
+                            SeasonArchiveStore seasonArchiveStore) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+    }
+
+    /**
+     * Rebuild the rank indexes of a season from freshly calculated players and teams.
+     */
+    public void rebuild(String season, List<Player> players, List<Team> teams) {
+        playerIndexes.put(season, RankIndex.build(players, Player::getPlayerId, PLAYER_COLUMNS));
+        teamIndexes.put(season, RankIndex.build(teams, Team::getTeamCode, TEAM_COLUMNS));
+        log.info("Rank indexes rebuilt for season {}: {} players, {} teams", season, players.size(), teams.size());
+    }
+
+    /**
+     * Get a player's league ranks across all stats for a season.
+     */
+    public Optional<List<StatRank>> getPlayerRanks(Long playerId, String season) {
+        RankIndex<Long, Player> index = playerIndexes.computeIfAbsent(season, s ->
+                RankIndex.build(loadPlayers(s), Player::getPlayerId, PLAYER_COLUMNS));
+        return index.get(playerId).map(index::ranks);
+    }
+
+    /**
+     * Get a team's league ranks across all stats for a season.
+     */
+    public Optional<List<StatRank>> getTeamRanks(String teamCode, String season) {
+        RankIndex<String, Team> index = teamIndexes.computeIfAbsent(season, s ->
+                RankIndex.build(loadTeams(s), Team::getTeamCode, TEAM_COLUMNS));
+        return index.get(teamCode).map(index::ranks);
+    }
+
+    private List<Player> loadPlayers(String season) {
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.players(Leaderboard.PLAYERS_BY_POINTS))
+                .orElseGet(() -> playerRepository.findBySeasonOrderByPointsDesc(season));
+    }
+
+    private List<Team> loadTeams(String season) {
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.teams(Leaderboard.TEAMS_BY_POINTS))
+                .orElseGet(() -> teamRepository.findBySeasonOrderByPointsDesc(season));
+    }
+}
@@ -0,0 +1,160 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.store.SeasonSnapshot;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service exporting and importing binary season snapshots.
+ * A snapshot is written after each successful sync so a restarted node (or one with an empty
+ * database) can restore teams, players, games and game logs in seconds instead of re-pulling
+ * everything from the NHL API before serving.
+ */
+@Service
+@Slf4j
+public class SnapshotService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final GameRepository gameRepository;
+    private final GameLogRepository gameLogRepository;
+
+    @Value("${nhl.snapshot.dir:snapshots}")
+    private String snapshotDir;
+
+    public SnapshotService(
+            TeamRepository teamRepository,
+            PlayerRepository playerRepository,
+            GameRepository gameRepository,
+            GameLogRepository gameLogRepository) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.gameRepository = gameRepository;
+        this.gameLogRepository = gameLogRepository;
+    }
+
+    /**
+     * Write a snapshot of a season's stored data, replacing the previous one.
+     * The file is written next to the old one and moved into place, so a crash never leaves a partial snapshot.
+     * Failures are logged and do not affect the caller; the previous snapshot stays in place.
+     * @param season Season ID (e.g., "20252026")
+     * @return true if the snapshot was written
+     */
+    @Transactional(readOnly = true)
+    public boolean exportSeason(String season) {
+        try {
+            writeSnapshot(season);
+            return true;
+        } catch (IOException e) {
+            log.error("Error writing snapshot for season {}", season, e);
+            return false;
+        }
+    }
+
+    private void writeSnapshot(String season) throws IOException {
+        long startNanos = System.nanoTime();
+        SeasonSnapshot snapshot = new SeasonSnapshot(
+                season,
+                System.currentTimeMillis(),
+                teamRepository.findBySeasonOrderByPointsDesc(season),
+                playerRepository.findBySeasonOrderByPointsDesc(season),
+                gameRepository.findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(season, Game.REGULAR_SEASON),
+                gameLogRepository.findByGameIdBetween(
+                        SeasonValidator.getFirstGameId(season), SeasonValidator.getLastGameId(season)));
+
+        Path target = snapshotPath(season);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "season-" + season, ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), BUFFER_SIZE))) {
+            snapshot.write(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.info("Snapshot written for season {}: {} teams, {} players, {} games, {} game logs, {} KB in {} ms",
+                season, snapshot.teams().size(), snapshot.players().size(), snapshot.games().size(),
+                snapshot.gameLogs().size(), Files.size(target) / 1024, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Restore a season from its snapshot if the database holds no data for it yet.
+     * Game logs for games that are already stored are skipped.
+     * @param season Season ID (e.g., "20252026")
+     * @return When the snapshot was created, or empty if nothing was restored
+     */
+    @Transactional
+    public Optional<Instant> importSeason(String season) throws IOException {
+        Path source = snapshotPath(season);
+        if (!Files.exists(source)) {
+            log.info("No snapshot found for season {} at {}", season, source);
+            return Optional.empty();
+        }
+        if (teamRepository.countBySeason(season) > 0) {
+            log.info("Database already holds season {}; snapshot not imported", season);
+            return Optional.empty();
+        }
+
+        long startNanos = System.nanoTime();
+        SeasonSnapshot snapshot;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(source), BUFFER_SIZE), BUFFER_SIZE))) {
+            snapshot = SeasonSnapshot.read(in);
+        }
+        if (!season.equals(snapshot.season())) {
+            throw new IOException("Snapshot " + source + " holds season " + snapshot.season());
+        }
+        long readNanos = System.nanoTime() - startNanos;
+
+        Set<Long> storedGameIds = new HashSet<>(gameLogRepository.findDistinctGameIdsBetween(
+                SeasonValidator.getFirstGameId(season), SeasonValidator.getLastGameId(season)));
+        List<GameLog> gameLogs = snapshot.gameLogs().stream()
+                .filter(gameLog -> !storedGameIds.contains(gameLog.getGameId()))
+                .toList();
+
+        teamRepository.saveAll(snapshot.teams());
+        playerRepository.saveAll(snapshot.players());
+        gameRepository.saveAll(snapshot.games());
+        gameLogRepository.saveAll(gameLogs);
+
+        Instant createdAt = Instant.ofEpochMilli(snapshot.createdAtMillis());
+        log.info("Snapshot imported for season {} (created {}): {} teams, {} players, {} games, {} game logs in {} ms (read {} ms)",
+                season, createdAt, snapshot.teams().size(), snapshot.players().size(), snapshot.games().size(),
+                gameLogs.size(), (System.nanoTime() - startNanos) / 1_000_000, readNanos / 1_000_000);
+        return Optional.of(createdAt);
+    }
+
+    private Path snapshotPath(String season) {
+        return Paths.get(snapshotDir).resolve("season-" + season + ".snap.gz");
+    }
+}
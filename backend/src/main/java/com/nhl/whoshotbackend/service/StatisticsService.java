@@ -1,87 +1,142 @@
 package com.nhl.whoshotbackend.service;
 
-import com.nhl.whoshotbackend.entity.GameLog;
 import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.PlayerStreakState;
 import com.nhl.whoshotbackend.entity.Team;
-import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.KeysetCursor;
+import com.nhl.whoshotbackend.repository.KeysetPage;
+import com.nhl.whoshotbackend.repository.ListQuery;
+import com.nhl.whoshotbackend.repository.ListQueryRepository;
 import com.nhl.whoshotbackend.repository.PlayerRepository;
 import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchive.Leaderboard;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import com.nhl.whoshotbackend.store.SeasonGameLogs;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for calculating and retrieving statistics.
- * Includes business logic for hot/cold ratings, streaks, etc.
+ * Includes business logic for hot ratings and streaks; hot/cold flags come from the configured rule sets.
+ * Archived seasons are read from their season archive rather than the database.
  */
 @Service
 @Slf4j
 public class StatisticsService {
 
-    private static final int HOT_RATING_GAMES = 3; // Number of recent games to calculate hot rating
+    static final int HOT_RATING_GAMES = 3; // Number of recent games to calculate hot rating
+    private static final int MAX_PAGE_SIZE = 500; // Largest page of a paginated list endpoint
 
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
-    private final GameLogRepository gameLogRepository;
+    private final StreakStateService streakStateService;
+    private final GameLogStore gameLogStore;
+    private final RankIndexService rankIndexService;
+    private final PlayerSearchService playerSearchService;
+    private final TrendService trendService;
+    private final ListQueryRepository listQueryRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+    private final HotColdRuleService hotColdRuleService;
+    private final ChangeLogService changeLogService;
 
     public StatisticsService(
             PlayerRepository playerRepository,
             TeamRepository teamRepository,
-            GameLogRepository gameLogRepository) {
+            StreakStateService streakStateService,
+            GameLogStore gameLogStore,
+            RankIndexService rankIndexService,
+            PlayerSearchService playerSearchService,
+            TrendService trendService,
+            ListQueryRepository listQueryRepository,
+            SeasonArchiveStore seasonArchiveStore,
+            HotColdRuleService hotColdRuleService,
+            ChangeLogService changeLogService) {
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
-        this.gameLogRepository = gameLogRepository;
+        this.streakStateService = streakStateService;
+        this.gameLogStore = gameLogStore;
+        this.rankIndexService = rankIndexService;
+        this.playerSearchService = playerSearchService;
+        this.trendService = trendService;
+        this.listQueryRepository = listQueryRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+        this.hotColdRuleService = hotColdRuleService;
+        this.changeLogService = changeLogService;
     }
 
     /**
      * Get team standings for a season ordered by points.
      */
     public List<Team> getStandings(String season) {
-        return teamRepository.findBySeasonOrderByPointsDesc(season);
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.teams(Leaderboard.TEAMS_BY_POINTS))
+                .orElseGet(() -> teamRepository.findBySeasonOrderByPointsDesc(season));
     }
 
     /**
      * Get player point standings for a season.
      */
     public List<Player> getPlayerStandings(String season) {
-        return playerRepository.findBySeasonOrderByPointsDesc(season);
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.players(Leaderboard.PLAYERS_BY_POINTS))
+                .orElseGet(() -> playerRepository.findBySeasonOrderByPointsDesc(season));
     }
 
     /**
      * Get players with active point streaks for a season.
      */
     public List<Player> getPlayerPointStreaks(String season) {
-        return playerRepository.findPlayersWithPointStreaks(season);
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.players(Leaderboard.PLAYERS_BY_POINT_STREAK))
+                .orElseGet(() -> playerRepository.findPlayersWithPointStreaks(season));
     }
 
     /**
      * Get hot players based on recent performance for a season.
      */
     public List<Player> getHotPlayers(String season) {
-        return playerRepository.findHotPlayers(season);
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.players(Leaderboard.PLAYERS_BY_HOT_RATING))
+                .orElseGet(() -> playerRepository.findHotPlayers(season));
     }
 
     /**
      * Get teams with win streaks for a season.
      */
     public List<Team> getTeamWinStreaks(String season) {
-        return teamRepository.findTeamsWithWinStreaks(season);
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.teams(Leaderboard.TEAMS_BY_WIN_STREAK))
+                .orElseGet(() -> teamRepository.findTeamsWithWinStreaks(season));
     }
 
     /**
      * Get teams with loss streaks for a season.
      */
     public List<Team> getTeamLossStreaks(String season) {
-        return teamRepository.findTeamsWithLossStreaks(season);
+        return seasonArchiveStore.get(season)
+                .map(archive -> archive.teams(Leaderboard.TEAMS_BY_LOSS_STREAK))
+                .orElseGet(() -> teamRepository.findTeamsWithLossStreaks(season));
     }
 
     /**
      * Get specific player by ID and season.
      */
     public Optional<Player> getPlayer(Long playerId, String season) {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        if (archive.isPresent()) {
+            return archive.get().findPlayer(playerId);
+        }
         return playerRepository.findById(new Player.PlayerKey(playerId, season));
     }
 
@@ -89,115 +144,211 @@ public class StatisticsService {
      * Get specific team by code and season.
      */
     public Optional<Team> getTeam(String teamCode, String season) {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        if (archive.isPresent()) {
+            return archive.get().findTeam(teamCode);
+        }
         return teamRepository.findByTeamCodeAndSeason(teamCode, season);
     }
 
     /**
-     * Get players on a specific team for a season.
+     * Get several players of a season in one query, in the order requested.
+     * Unknown IDs are skipped.
+     */
+    public List<Player> getPlayers(List<Long> playerIds, String season) {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        if (archive.isPresent()) {
+            return playerIds.stream()
+                    .distinct()
+                    .flatMap(playerId -> archive.get().findPlayer(playerId).stream())
+                    .toList();
+        }
+
+        Map<Long, Player> players = playerRepository.findBySeasonAndPlayerIdIn(season, playerIds).stream()
+                .collect(Collectors.toMap(Player::getPlayerId, Function.identity()));
+        return playerIds.stream()
+                .distinct()
+                .map(players::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Get several teams of a season in one query, in the order requested.
+     * Unknown team codes are skipped.
+     */
+    public List<Team> getTeams(List<String> teamCodes, String season) {
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        if (archive.isPresent()) {
+            return teamCodes.stream()
+                    .distinct()
+                    .flatMap(teamCode -> archive.get().findTeam(teamCode).stream())
+                    .toList();
+        }
+
+        Map<String, Team> teams = teamRepository.findBySeasonAndTeamCodeIn(season, teamCodes).stream()
+                .collect(Collectors.toMap(Team::getTeamCode, Function.identity()));
+        return teamCodes.stream()
+                .distinct()
+                .map(teams::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Run a list query, optionally selecting only some fields and returning one keyset page.
+     * @param fields Comma-separated field names (e.g., "playerId,fullName,points"), or null for full entities
+     * @param limit Page size, or null for all rows
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @throws IllegalArgumentException if an unknown field, a bad limit or a malformed cursor is given
+     */
+    public KeysetPage<?> list(ListQuery<?> query, String fields, Integer limit, String cursor) {
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        KeysetCursor after = cursor != null ? KeysetCursor.decode(cursor) : null;
+        if (fields == null) {
+            return listQueryRepository.findPage(query, after, limit);
+        }
+
+        List<String> fieldNames = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        if (fieldNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        listQueryRepository.validateFields(query.entityType(), fieldNames);
+        return listQueryRepository.selectFields(query, fieldNames, after, limit);
+    }
+
+    /**
+     * Get players on a specific team for a season, ordered by points like the team players list query.
      */
     public List<Player> getTeamPlayers(String teamCode, String season) {
-        return playerRepository.findByTeamCodeAndSeason(teamCode, season);
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        if (archive.isPresent()) {
+            return archive.get().players(Leaderboard.PLAYERS_BY_POINTS).stream()
+                    .filter(player -> teamCode.equals(player.getTeamCode()))
+                    .toList();
+        }
+        return playerRepository.findByTeamCodeAndSeasonOrderByPointsDescPlayerIdAsc(teamCode, season);
     }
 
     /**
      * Calculate and update hot ratings and streak flags for all players and teams in a season.
+     * The flags come from the active hot/cold rule set; every configured rule set is evaluated in the same pass.
+     * What changed since the previous calculation is appended to the change log in the same transaction.
+     * This is the write half of a recalculation; call {@link #rebuildIndexes(String)} once it has committed.
      * This should be called after data synchronization.
      */
     @Transactional
     public void calculateHotRatings(String season) {
         log.info("Calculating hot ratings and streak flags for season {}...", season);
 
-        // Process players
+        // Evaluate all rule sets over the freshly loaded columnar game logs
+        SeasonGameLogs gameLogs = gameLogStore.load(season);
+        List<Team> allTeams = teamRepository.findBySeasonOrderByPointsDesc(season);
+        HotColdRuleService.RuleSetResult flags = hotColdRuleService.evaluate(gameLogs, allTeams).activeResult();
+
+        // Keep the stored values as the change log baseline if this replica has none yet
         List<Player> allPlayers = playerRepository.findBySeasonOrderByPointsDesc(season);
+        changeLogService.seedBaseline(season, allPlayers, allTeams);
+
+        // Process players from their incrementally maintained streak state
+        Map<Long, PlayerStreakState> playerStates = streakStateService.getPlayerStates(season);
         for (Player player : allPlayers) {
-            calculatePlayerHotRating(player);
-            calculatePlayerPointStreak(player);
+            PlayerStreakState state = playerStates.get(player.getPlayerId());
+            if (state == null) {
+                // Repair path: no state yet, rebuild it from the player's full game log
+                state = streakStateService.repairPlayerState(player.getPlayerId(), season);
+            }
+            calculatePlayerHotRating(player, state);
+            calculatePlayerPointStreak(player, state);
+            applyFlags(player, flags.player(player.getPlayerId()));
         }
         playerRepository.saveAll(allPlayers);
         log.info("Hot ratings calculated for {} players", allPlayers.size());
 
         // Process teams
-        List<Team> allTeams = teamRepository.findBySeasonOrderByPointsDesc(season);
         for (Team team : allTeams) {
-            calculateTeamStreakFlags(team);
+            HotColdRuleService.Flags teamFlags = flags.team(team.getTeamCode());
+            team.setHot(teamFlags.hot());
+            team.setCold(teamFlags.cold());
+            team.setPointStreak(teamFlags.pointStreak());
         }
         teamRepository.saveAll(allTeams);
         log.info("Streak flags calculated for {} teams", allTeams.size());
+
+        changeLogService.recordChanges(season, allPlayers, allTeams);
     }
 
     /**
-     * Calculate hot rating for a specific player based on recent games.
-     * Hot rating = points per game over last N games.
-     * Also sets the hot, cold, and pointStreak boolean flags.
+     * Rebuild the in-memory rank, name search and trend indexes of a season from its stored players and teams.
+     * Only reads, so it can run apart from the writes of {@link #calculateHotRatings(String)}.
      */
-    private void calculatePlayerHotRating(Player player) {
-        List<GameLog> recentGames = gameLogRepository.findLastNGamesByPlayer(player.getPlayerId(), HOT_RATING_GAMES);
+    public void rebuildIndexes(String season) {
+        rebuildIndexes(season, getPlayerStandings(season), getStandings(season));
+    }
 
-        if (recentGames.isEmpty()) {
-            player.setHotRating(player.getPointsPerGame());
-            player.setHot(false);
-            player.setCold(false);
-            return;
-        }
+    /**
+     * Rebuild the in-memory indexes of a season from stored data without recalculating or writing anything.
+     * Used by replicas that follow the sync leader when it publishes a new data version.
+     */
+    public void refreshIndexes(String season) {
+        List<Team> teams = getStandings(season);
+        List<Player> players = getPlayerStandings(season);
+        hotColdRuleService.evaluate(gameLogStore.load(season), teams);
+        changeLogService.rememberBaseline(season, players, teams);
+        rebuildIndexes(season, players, teams);
+    }
 
-        int totalPoints = recentGames.stream()
-                .mapToInt(GameLog::getPoints)
-                .sum();
+    /**
+     * Get every rule set's flags for a season, evaluating them first if that has not happened since startup
+     * (e.g., for an archived season).
+     */
+    public HotColdRuleService.Evaluation getRuleEvaluation(String season) {
+        return hotColdRuleService.getEvaluation(season)
+                .orElseGet(() -> hotColdRuleService.evaluate(gameLogStore.getOrLoad(season), getStandings(season)));
+    }
 
-        double hotRating = (double) totalPoints / recentGames.size();
-        player.setHotRating(hotRating);
+    private void rebuildIndexes(String season, List<Player> players, List<Team> teams) {
+        // Refresh the league rank indexes, name search index and trends; the columnar game logs are already loaded
+        rankIndexService.rebuild(season, players, teams);
+        playerSearchService.rebuild();
+        trendService.rebuild(season);
+    }
 
-        // Hot: PPG > 1.5 over at least 3 games
-        boolean isHot = recentGames.size() >= 3 && hotRating > 1.5;
-        player.setHot(isHot);
+    /**
+     * Calculate hot rating for a specific player based on recent games.
+     * Hot rating = points per game over last N games, read from the rolling window sums.
+     */
+    private void calculatePlayerHotRating(Player player, PlayerStreakState state) {
+        int windowGames = state.getWindowGames() != null ? state.getWindowGames() : 0;
 
-        // Cold: PPG < 0.2 over at least 4 games
-        boolean isCold = recentGames.size() >= 4 && hotRating < 0.2;
-        player.setCold(isCold);
+        if (windowGames == 0) {
+            player.setHotRating(player.getPointsPerGame());
+            return;
+        }
+        player.setHotRating((double) state.getWindowPoints() / windowGames);
     }
 
     /**
-     * Calculate current point streak for a player.
+     * Set current point streak for a player.
      * A point streak is consecutive games with at least one point.
-     * Sets the pointStreak boolean to true if streak >= 5 games.
-     */
-    private void calculatePlayerPointStreak(Player player) {
-        List<GameLog> recentGames = gameLogRepository.findByPlayerIdOrderByGameDateDesc(
-                player.getPlayerId());
-
-        int streak = 0;
-        for (GameLog game : recentGames) {
-            if (game.getPoints() > 0) {
-                streak++;
-            } else {
-                break;
-            }
-        }
-
+     */
+    private void calculatePlayerPointStreak(Player player, PlayerStreakState state) {
+        int streak = state.getCurrentPointStreak() != null ? state.getCurrentPointStreak() : 0;
         player.setCurrentPointStreak(streak);
-
-        // Point streak flag: true if at least 5 consecutive games with a point
-        player.setPointStreak(streak >= 5);
     }
 
     /**
-     * Calculate hot/cold/streak flags for a team.
-     * Based on win/loss streaks:
-     * - Hot: Win streak >= 3
-     * - Cold: Loss streak >= 3
-     * - Point streak: Win streak >= 5
+     * Set a player's hot, cold and pointStreak flags from the active rule set.
      */
-    private void calculateTeamStreakFlags(Team team) {
-        int winStreak = team.getCurrentWinStreak() != null ? team.getCurrentWinStreak() : 0;
-        int lossStreak = team.getCurrentLossStreak() != null ? team.getCurrentLossStreak() : 0;
-
-        // Hot: Win streak of 3 or more games
-        team.setHot(winStreak >= 3);
-
-        // Cold: Loss streak of 3 or more games
-        team.setCold(lossStreak >= 3);
-
-        // Point streak: Win streak of 5 or more games
-        team.setPointStreak(winStreak >= 5);
+    private void applyFlags(Player player, HotColdRuleService.Flags flags) {
+        player.setHot(flags.hot());
+        player.setCold(flags.cold());
+        player.setPointStreak(flags.pointStreak());
     }
 }
@@ -0,0 +1,476 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.StreakConsistencyReport;
+import com.nhl.whoshotbackend.dto.TeamGame;
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.PlayerStreakState;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.PlayerStreakStateRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.repository.TeamStreakStateRepository;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonGameLogs;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service maintaining per-player and per-team streak state.
+ * New games are appended to the stored state in O(1) per game as they are ingested.
+ * A full rescan of a player's or team's games is only used to repair missing or out-of-order state.
+ */
+@Service
+@Slf4j
+public class StreakStateService {
+
+    static final int PLAYER_WINDOW_GAMES = StatisticsService.HOT_RATING_GAMES; // Rolling window for player sums
+    static final int TEAM_WINDOW_GAMES = 10; // Rolling window for team win percentage
+
+    private static final Comparator<GameLog> PLAYER_GAME_ORDER =
+            Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId);
+    private static final Comparator<TeamGame> TEAM_GAME_ORDER =
+            Comparator.comparing(TeamGame::getGameDate).thenComparing(TeamGame::getGameId);
+
+    private final PlayerStreakStateRepository playerStreakStateRepository;
+    private final TeamStreakStateRepository teamStreakStateRepository;
+    private final GameLogRepository gameLogRepository;
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final GameLogStore gameLogStore;
+
+    public StreakStateService(
+            PlayerStreakStateRepository playerStreakStateRepository,
+            TeamStreakStateRepository teamStreakStateRepository,
+            GameLogRepository gameLogRepository,
+            GameRepository gameRepository,
+            PlayerRepository playerRepository,
+            TeamRepository teamRepository,
+            GameLogStore gameLogStore) {
+        this.playerStreakStateRepository = playerStreakStateRepository;
+        this.teamStreakStateRepository = teamStreakStateRepository;
+        this.gameLogRepository = gameLogRepository;
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.gameLogStore = gameLogStore;
+    }
+
+    /**
+     * Get all player streak states for a season, keyed by player ID.
+     */
+    public Map<Long, PlayerStreakState> getPlayerStates(String season) {
+        return playerStreakStateRepository.findBySeason(season).stream()
+                .collect(Collectors.toMap(PlayerStreakState::getPlayerId, Function.identity()));
+    }
+
+    /**
+     * Get all team streak states for a season, keyed by team code.
+     */
+    public Map<String, TeamStreakState> getTeamStates(String season) {
+        return teamStreakStateRepository.findBySeason(season).stream()
+                .collect(Collectors.toMap(TeamStreakState::getTeamCode, Function.identity()));
+    }
+
+    /**
+     * Get a team's streak state for a season, repairing it from a full rescan if it does not exist yet.
+     */
+    @Transactional
+    public TeamStreakState getTeamState(String teamCode, String season) {
+        return teamStreakStateRepository.findById(new Team.TeamKey(teamCode, season))
+                .orElseGet(() -> repairTeamState(teamCode, season));
+    }
+
+    /**
+     * Append newly ingested game logs to the streak state of their players.
+     * Game logs may span several players and seasons. If a game is not newer than the
+     * last game already applied to a player's state, that state is rebuilt from a full rescan.
+     */
+    @Transactional
+    public void applyPlayerGames(List<GameLog> gameLogs) {
+        Map<Player.PlayerKey, List<GameLog>> gamesByPlayer = new HashMap<>();
+        for (GameLog gameLog : gameLogs) {
+            Player.PlayerKey key = new Player.PlayerKey(
+                    gameLog.getPlayerId(), SeasonValidator.getSeasonIdForGame(gameLog.getGameId()));
+            gamesByPlayer.computeIfAbsent(key, k -> new ArrayList<>()).add(gameLog);
+        }
+
+        Map<String, Map<Long, PlayerStreakState>> statesBySeason = new HashMap<>();
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        List<PlayerStreakState> statesToSave = new ArrayList<>();
+        int repaired = 0;
+
+        for (Map.Entry<Player.PlayerKey, List<GameLog>> entry : gamesByPlayer.entrySet()) {
+            Player.PlayerKey key = entry.getKey();
+            PlayerStreakState state = statesBySeason
+                    .computeIfAbsent(key.getSeason(), this::getPlayerStates)
+                    .get(key.getPlayerId());
+
+            List<GameLog> games = new ArrayList<>(entry.getValue());
+            games.sort(PLAYER_GAME_ORDER);
+
+            if (state == null || !appendPlayerGames(state, games)) {
+                state = rebuildPlayerState(key.getPlayerId(), key.getSeason());
+                repaired++;
+            }
+            state.setLastUpdated(timestamp);
+            statesToSave.add(state);
+        }
+
+        playerStreakStateRepository.saveAll(statesToSave);
+        log.debug("Player streak state updated for {} players ({} rebuilt from full rescan)", statesToSave.size(), repaired);
+    }
+
+    /**
+     * Append newly ingested team games to the streak state of their teams.
+     * If a game is not newer than the last game already applied to a team's state,
+     * that state is rebuilt from a full rescan.
+     */
+    @Transactional
+    public void applyTeamGames(List<TeamGame> teamGames) {
+        Map<Team.TeamKey, List<TeamGame>> gamesByTeam = new HashMap<>();
+        for (TeamGame teamGame : teamGames) {
+            Team.TeamKey key = new Team.TeamKey(
+                    teamGame.getTeamCode(), SeasonValidator.getSeasonIdForGame(teamGame.getGameId()));
+            gamesByTeam.computeIfAbsent(key, k -> new ArrayList<>()).add(teamGame);
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        List<TeamStreakState> statesToSave = new ArrayList<>();
+
+        for (Map.Entry<Team.TeamKey, List<TeamGame>> entry : gamesByTeam.entrySet()) {
+            Team.TeamKey key = entry.getKey();
+            TeamStreakState state = teamStreakStateRepository.findById(key).orElse(null);
+
+            List<TeamGame> games = new ArrayList<>(entry.getValue());
+            games.sort(TEAM_GAME_ORDER);
+
+            if (state == null || !appendTeamGames(state, games)) {
+                state = rebuildTeamState(key.getTeamCode(), key.getSeason());
+            }
+            state.setLastUpdated(timestamp);
+            statesToSave.add(state);
+        }
+
+        teamStreakStateRepository.saveAll(statesToSave);
+    }
+
+    /**
+     * Rebuild and save a player's streak state from all of their game logs in a season.
+     */
+    @Transactional
+    public PlayerStreakState repairPlayerState(Long playerId, String season) {
+        PlayerStreakState state = rebuildPlayerState(playerId, season);
+        state.setLastUpdated(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        return playerStreakStateRepository.save(state);
+    }
+
+    /**
+     * Rebuild and save a team's streak state from all of its games in a season.
+     */
+    @Transactional
+    public TeamStreakState repairTeamState(String teamCode, String season) {
+        TeamStreakState state = rebuildTeamState(teamCode, season);
+        state.setLastUpdated(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        return teamStreakStateRepository.save(state);
+    }
+
+    /**
+     * Rebuild and save the streak state of every player and team in a season.
+     * Player game logs are replayed from a fresh load of the columnar game log store.
+     */
+    @Transactional
+    public void repairSeason(String season) {
+        log.info("Rebuilding streak state for season {} from full rescan...", season);
+        SeasonGameLogs seasonGameLogs = gameLogStore.load(season);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        List<Player> players = playerRepository.findBySeasonOrderByPointsDesc(season);
+        List<PlayerStreakState> playerStates = new ArrayList<>();
+        for (Player player : players) {
+            PlayerStreakState state = rebuildPlayerState(player.getPlayerId(), season, seasonGameLogs);
+            state.setLastUpdated(timestamp);
+            playerStates.add(state);
+        }
+        playerStreakStateRepository.saveAll(playerStates);
+
+        List<Team> teams = teamRepository.findBySeasonOrderByPointsDesc(season);
+        for (Team team : teams) {
+            repairTeamState(team.getTeamCode(), season);
+        }
+        log.info("Streak state rebuilt for {} players and {} teams", players.size(), teams.size());
+    }
+
+    /**
+     * Compare the stored streak state of every player and team in a season with a full recomputation.
+     * Player game logs are replayed from the columnar game log store as last loaded; verifying only reads.
+     */
+    @Transactional(readOnly = true)
+    public StreakConsistencyReport verifySeason(String season) {
+        List<String> mismatches = new ArrayList<>();
+        Map<Long, PlayerStreakState> playerStates = getPlayerStates(season);
+        SeasonGameLogs seasonGameLogs = gameLogStore.getOrLoad(season);
+
+        List<Player> players = playerRepository.findBySeasonOrderByPointsDesc(season);
+        for (Player player : players) {
+            PlayerStreakState stored = playerStates.get(player.getPlayerId());
+            PlayerStreakState recomputed = rebuildPlayerState(player.getPlayerId(), season, seasonGameLogs);
+            if (stored == null) {
+                mismatches.add(String.format("player %d: no stored state, recomputed %s",
+                        player.getPlayerId(), describe(recomputed)));
+                continue;
+            }
+            recomputed.setLastUpdated(stored.getLastUpdated());
+            if (!recomputed.equals(stored)) {
+                mismatches.add(String.format("player %d: stored %s, recomputed %s",
+                        player.getPlayerId(), describe(stored), describe(recomputed)));
+            }
+        }
+
+        List<Team> teams = teamRepository.findBySeasonOrderByPointsDesc(season);
+        for (Team team : teams) {
+            TeamStreakState stored = teamStreakStateRepository
+                    .findById(new Team.TeamKey(team.getTeamCode(), season)).orElse(null);
+            TeamStreakState recomputed = rebuildTeamState(team.getTeamCode(), season);
+            if (stored == null) {
+                mismatches.add(String.format("team %s: no stored state, recomputed %s",
+                        team.getTeamCode(), describe(recomputed)));
+                continue;
+            }
+            recomputed.setLastUpdated(stored.getLastUpdated());
+            if (!recomputed.equals(stored)) {
+                mismatches.add(String.format("team %s: stored %s, recomputed %s",
+                        team.getTeamCode(), describe(stored), describe(recomputed)));
+            }
+        }
+
+        log.info("Streak state check for season {}: {} players, {} teams, {} mismatches",
+                season, players.size(), teams.size(), mismatches.size());
+        return new StreakConsistencyReport(season, players.size(), teams.size(), mismatches.isEmpty(), mismatches);
+    }
+
+    /**
+     * Recompute a player's streak state by replaying all of their game logs in a season.
+     */
+    private PlayerStreakState rebuildPlayerState(Long playerId, String season) {
+        PlayerStreakState state = new PlayerStreakState();
+        state.setPlayerId(playerId);
+        state.setSeason(season);
+        state.setGamesCounted(0);
+
+        List<GameLog> games = gameLogRepository.findByPlayerIdAndGameIdBetweenOrderByGameDateAscGameIdAsc(
+                playerId, SeasonValidator.getFirstGameId(season), SeasonValidator.getLastGameId(season));
+        for (GameLog game : games) {
+            applyPlayerGame(state, game);
+        }
+        return state;
+    }
+
+    /**
+     * Recompute a player's streak state by replaying their rows of the columnar game logs.
+     */
+    private PlayerStreakState rebuildPlayerState(Long playerId, String season, SeasonGameLogs seasonGameLogs) {
+        PlayerStreakState state = new PlayerStreakState();
+        state.setPlayerId(playerId);
+        state.setSeason(season);
+        state.setGamesCounted(0);
+
+        int playerIndex = seasonGameLogs.indexOf(playerId);
+        if (playerIndex >= 0) {
+            for (int row = seasonGameLogs.start(playerIndex); row < seasonGameLogs.end(playerIndex); row++) {
+                applyPlayerGame(state, seasonGameLogs.gameId(row), seasonGameLogs.gameDate(row),
+                        seasonGameLogs.points(row), seasonGameLogs.goals(row), seasonGameLogs.shots(row));
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Recompute a team's streak state by replaying all of its completed games in a season.
+     */
+    private TeamStreakState rebuildTeamState(String teamCode, String season) {
+        TeamStreakState state = new TeamStreakState();
+        state.setTeamCode(teamCode);
+        state.setSeason(season);
+        state.setGamesCounted(0);
+
+        List<Game> games = gameRepository.findTeamGames(season, teamCode, Game.REGULAR_SEASON);
+        for (Game game : games) {
+            if (game.isCompleted()) {
+                applyTeamGame(state, game.toTeamGame(teamCode));
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Append games (sorted oldest first) to a player's state.
+     * @return false if a game is not newer than the last game applied, meaning the state needs a rebuild
+     */
+    private boolean appendPlayerGames(PlayerStreakState state, List<GameLog> games) {
+        for (GameLog game : games) {
+            if (state.getLastGameId() != null
+                    && compareGames(game.getGameDate(), game.getGameId(), state.getLastGameDate(), state.getLastGameId()) <= 0) {
+                return false;
+            }
+            applyPlayerGame(state, game);
+        }
+        return true;
+    }
+
+    /**
+     * Append games (sorted oldest first) to a team's state.
+     * @return false if a game is not newer than the last game applied, meaning the state needs a rebuild
+     */
+    private boolean appendTeamGames(TeamStreakState state, List<TeamGame> games) {
+        for (TeamGame game : games) {
+            if (state.getLastGameId() != null
+                    && compareGames(game.getGameDate(), game.getGameId(), state.getLastGameDate(), state.getLastGameId()) <= 0) {
+                return false;
+            }
+            applyTeamGame(state, game);
+        }
+        return true;
+    }
+
+    /**
+     * Apply a single game to a player's state in O(1).
+     */
+    private void applyPlayerGame(PlayerStreakState state, GameLog game) {
+        applyPlayerGame(state, game.getGameId(), game.getGameDate(),
+                valueOrZero(game.getPoints()), valueOrZero(game.getGoals()), valueOrZero(game.getShots()));
+    }
+
+    private void applyPlayerGame(PlayerStreakState state, long gameId, String gameDate,
+                                 int points, int goals, int shots) {
+        state.setGamesCounted(valueOrZero(state.getGamesCounted()) + 1);
+        state.setLastGameId(gameId);
+        state.setLastGameDate(gameDate);
+
+        int streak = points > 0 ? valueOrZero(state.getCurrentPointStreak()) + 1 : 0;
+        state.setCurrentPointStreak(streak);
+        state.setLongestPointStreak(Math.max(valueOrZero(state.getLongestPointStreak()), streak));
+
+        RollingWindow recentPoints = new RollingWindow(state.getRecentPoints(), PLAYER_WINDOW_GAMES);
+        RollingWindow recentGoals = new RollingWindow(state.getRecentGoals(), PLAYER_WINDOW_GAMES);
+        RollingWindow recentShots = new RollingWindow(state.getRecentShots(), PLAYER_WINDOW_GAMES);
+
+        state.setWindowPoints(valueOrZero(state.getWindowPoints()) + points - recentPoints.push(points));
+        state.setWindowGoals(valueOrZero(state.getWindowGoals()) + goals - recentGoals.push(goals));
+        state.setWindowShots(valueOrZero(state.getWindowShots()) + shots - recentShots.push(shots));
+        state.setWindowGames(recentPoints.size());
+
+        state.setRecentPoints(recentPoints.encode());
+        state.setRecentGoals(recentGoals.encode());
+        state.setRecentShots(recentShots.encode());
+    }
+
+    /**
+     * Apply a single game to a team's state in O(1).
+     * Any game not won (including overtime/shootout losses) counts as a loss.
+     */
+    private void applyTeamGame(TeamStreakState state, TeamGame game) {
+        boolean won = Boolean.TRUE.equals(game.getWon());
+
+        state.setGamesCounted(valueOrZero(state.getGamesCounted()) + 1);
+        state.setLastGameId(game.getGameId());
+        state.setLastGameDate(game.getGameDate());
+
+        int winStreak = won ? valueOrZero(state.getCurrentWinStreak()) + 1 : 0;
+        int lossStreak = won ? 0 : valueOrZero(state.getCurrentLossStreak()) + 1;
+        state.setCurrentWinStreak(winStreak);
+        state.setCurrentLossStreak(lossStreak);
+        state.setLongestWinStreak(Math.max(valueOrZero(state.getLongestWinStreak()), winStreak));
+        state.setLongestLossStreak(Math.max(valueOrZero(state.getLongestLossStreak()), lossStreak));
+
+        String recentResults = (state.getRecentResults() != null ? state.getRecentResults() : "") + (won ? 'W' : 'L');
+        int windowWins = valueOrZero(state.getWindowWins()) + (won ? 1 : 0);
+        if (recentResults.length() > TEAM_WINDOW_GAMES) {
+            if (recentResults.charAt(0) == 'W') {
+                windowWins--;
+            }
+            recentResults = recentResults.substring(1);
+        }
+        state.setRecentResults(recentResults);
+        state.setWindowWins(windowWins);
+        state.setWindowGames(recentResults.length());
+    }
+
+    /**
+     * Order games by date, then by game ID for games on the same date.
+     */
+    private static int compareGames(String gameDate, Long gameId, String otherGameDate, Long otherGameId) {
+        int byDate = gameDate.compareTo(otherGameDate);
+        return byDate != 0 ? byDate : Long.compare(gameId, otherGameId);
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static String describe(PlayerStreakState state) {
+        return String.format("[games=%d, streak=%d, longest=%d, window=%d pts/%d gp]",
+                valueOrZero(state.getGamesCounted()), valueOrZero(state.getCurrentPointStreak()),
+                valueOrZero(state.getLongestPointStreak()), valueOrZero(state.getWindowPoints()),
+                valueOrZero(state.getWindowGames()));
+    }
+
+    private static String describe(TeamStreakState state) {
+        return String.format("[games=%d, winStreak=%d, lossStreak=%d, recent=%s]",
+                valueOrZero(state.getGamesCounted()), valueOrZero(state.getCurrentWinStreak()),
+                valueOrZero(state.getCurrentLossStreak()), state.getRecentResults());
+    }
+
+    /**
+     * Fixed-size window of recent per-game values, stored as a comma-separated string (oldest first).
+     */
+    private static final class RollingWindow {
+
+        private final ArrayDeque<Integer> values = new ArrayDeque<>();
+        private final int capacity;
+
+        RollingWindow(String encoded, int capacity) {
+            this.capacity = capacity;
+            if (encoded != null && !encoded.isEmpty()) {
+                for (String value : encoded.split(",")) {
+                    values.addLast(Integer.parseInt(value));
+                }
+            }
+        }
+
+        /**
+         * Add a value as the newest entry.
+         * @return The evicted oldest value, or 0 if the window was not full
+         */
+        int push(int value) {
+            values.addLast(value);
+            return values.size() > capacity ? values.removeFirst() : 0;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        String encode() {
+            return values.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+    }
+}
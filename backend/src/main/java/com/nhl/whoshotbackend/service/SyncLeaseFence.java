@@ -0,0 +1,99 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.repository.SyncLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Fences sync writes with the sync lease. Every read-write transaction committed by a fenced task first checks,
+ * inside that transaction, that the lease is still held by this replica and unexpired, and rolls back otherwise.
+ * The check is a conditional write, so the database write lock is held from the check until the commit and
+ * a replica that lost the lease mid-sync can never commit over the new leader's data. The check also extends
+ * the lease, so a leader busy committing keeps it even when its heartbeat waits long for the write lock.
+ * Registered with the JPA transaction manager as a transaction execution listener.
+ */
+@Component
+@Slf4j
+public class SyncLeaseFence implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Fence> FENCE = new ThreadLocal<>(); // Lease of the running fenced task
+
+    private final SyncLeaseRepository syncLeaseRepository;
+    private final long leaseDurationMs;
+
+    public SyncLeaseFence(
+            SyncLeaseRepository syncLeaseRepository,
+            @Value("${nhl.sync.lease.duration-ms:60000}") long leaseDurationMs) {
+        this.syncLeaseRepository = syncLeaseRepository;
+        this.leaseDurationMs = leaseDurationMs;
+    }
+
+    /**
+     * Wrap sync writes so each transaction they commit is fenced by the lease of the given holder.
+     * @param extended Called with the lease's new expiry after each fenced transaction commits
+     */
+    public <T> Supplier<T> fenced(String holderId, LongConsumer extended, Supplier<T> writes) {
+        return () -> {
+            Fence previous = FENCE.get();
+            FENCE.set(new Fence(holderId, extended));
+            try {
+                return writes.get();
+            } finally {
+                if (previous != null) {
+                    FENCE.set(previous);
+                } else {
+                    FENCE.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Check and extend the lease just before a fenced read-write transaction commits.
+     * @throws IllegalStateException if the lease was lost or expired; the transaction is rolled back
+     */
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        Fence fence = FENCE.get();
+        if (fence == null || transaction.isReadOnly()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + leaseDurationMs;
+        if (syncLeaseRepository.fence(SyncLeaseService.LEASE_NAME, fence.holderId, now, expiresAt) != 1) {
+            log.warn("Replica {} no longer holds the sync lease; rolling back its sync transaction", fence.holderId);
+            throw new IllegalStateException("Replica " + fence.holderId + " no longer holds the sync lease");
+        }
+        fence.pendingExpiry = expiresAt;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        Fence fence = FENCE.get();
+        if (fence == null || fence.pendingExpiry == 0) {
+            return;
+        }
+        if (commitFailure == null) {
+            fence.extended.accept(fence.pendingExpiry);
+        }
+        fence.pendingExpiry = 0;
+    }
+
+    private static final class Fence {
+
+        private final String holderId;
+        private final LongConsumer extended;
+        private long pendingExpiry; // Expiry written by the transaction being committed, 0 if none
+
+        Fence(String holderId, LongConsumer extended) {
+            this.holderId = holderId;
+            this.extended = extended;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.entity.SyncLease;
+import com.nhl.whoshotbackend.repository.SyncLeaseRepository;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Service electing the one replica that syncs from the NHL API when several share a database.
+ * The leader holds a lease row and renews it with a heartbeat; if it stops renewing, another replica
+ * takes over once the lease expires. Only the leader fetches and writes. After each sync it publishes
+ * a new data version, and followers refresh their in-memory indexes from the database when they see it.
+ * Sync writes are fenced: each of their transactions re-checks the lease before it commits.
+ */
+@Service
+@Slf4j
+public class SyncLeaseService {
+
+    static final String LEASE_NAME = "season-sync";
+
+    private final SyncLeaseRepository syncLeaseRepository;
+    private final SyncLeaseFence syncLeaseFence;
+    private final StatisticsService statisticsService;
+    private final PlayerSplitService playerSplitService;
+    private final SeasonArchiveStore seasonArchiveStore;
+    private final DataStatusService dataStatusService;
+    private final TransactionTemplate transactionTemplate;
+    private final long leaseDurationMs;
+    private final String instanceId;
+
+    private volatile long heldUntil; // Epoch millis our last successful acquire or renew is good for, 0 if not held
+    private volatile long seenDataVersion = -1; // Data version this replica's indexes reflect
+
+    public SyncLeaseService(
+            SyncLeaseRepository syncLeaseRepository,
+            SyncLeaseFence syncLeaseFence,
+            StatisticsService statisticsService,
+            PlayerSplitService playerSplitService,
+            SeasonArchiveStore seasonArchiveStore,
+            DataStatusService dataStatusService,
+            PlatformTransactionManager transactionManager,
+            @Value("${nhl.sync.lease.duration-ms:60000}") long leaseDurationMs) {
+        this.syncLeaseRepository = syncLeaseRepository;
+        this.syncLeaseFence = syncLeaseFence;
+        this.statisticsService = statisticsService;
+        this.playerSplitService = playerSplitService;
+        this.seasonArchiveStore = seasonArchiveStore;
+        this.dataStatusService = dataStatusService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseDurationMs = leaseDurationMs;
+        this.instanceId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Acquire the sync lease, renew it if already held, or take it over if the holder let it expire.
+     * Synchronized so the startup acquire and the first heartbeat do not race each other.
+     * @return true if this replica is the sync leader
+     */
+    public synchronized boolean acquire() {
+        try {
+            long now = System.currentTimeMillis();
+            Optional<SyncLease> current = syncLeaseRepository.findById(LEASE_NAME);
+            if (current.isEmpty()) {
+                // A no-op if another replica created it first
+                transactionTemplate.executeWithoutResult(status -> syncLeaseRepository.createIfMissing(LEASE_NAME));
+            } else if (isHeldByAnother(current.get(), now)) {
+                // Only try the conditional update, which needs the write lock, when the lease could be ours
+                stepDown();
+                return false;
+            }
+            long expiresAt = now + leaseDurationMs;
+            Integer updated = transactionTemplate.execute(status ->
+                    syncLeaseRepository.tryAcquire(LEASE_NAME, instanceId, now, expiresAt));
+            if (updated != null && updated == 1) {
+                boolean wasLeader = isLeader();
+                heldUntil = expiresAt;
+                if (!wasLeader) {
+                    log.info("Replica {} acquired the sync lease", instanceId);
+                }
+            } else {
+                stepDown();
+            }
+        } catch (DataAccessException e) {
+            // Keep leadership until our last renewal runs out; nobody else can take it before then
+            log.warn("Could not acquire or renew the sync lease: {}", e.getMessage());
+        }
+        return isLeader();
+    }
+
+    /**
+     * Check whether this replica currently holds the sync lease.
+     */
+    public boolean isLeader() {
+        return System.currentTimeMillis() < heldUntil;
+    }
+
+    /**
+     * Wrap sync writes so every transaction they commit first checks this replica still holds the lease.
+     * @see SyncLeaseFence
+     */
+    public <T> Supplier<T> fenced(Supplier<T> writes) {
+        return syncLeaseFence.fenced(instanceId, this::extendedTo, writes);
+    }
+
+    /**
+     * Get this replica's instance ID.
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Get the instance ID of the replica holding the sync lease, if any.
+     */
+    public Optional<String> getHolderId() {
+        return syncLeaseRepository.findById(LEASE_NAME)
+                .filter(lease -> lease.getHolderId() != null && lease.getExpiresAt() >= System.currentTimeMillis())
+                .map(SyncLease::getHolderId);
+    }
+
+    /**
+     * Get the most recently published data version.
+     */
+    public long getDataVersion() {
+        return syncLeaseRepository.findById(LEASE_NAME).map(SyncLease::getDataVersion).orElse(0L);
+    }
+
+    /**
+     * Record that this replica's indexes reflect a data version, e.g. after loading stored data at startup.
+     */
+    public void markRefreshed(long dataVersion) {
+        seenDataVersion = Math.max(seenDataVersion, dataVersion);
+    }
+
+    /**
+     * Publish new data for a season so follower replicas refresh their indexes.
+     * Called by the leader after every sync that wrote to the database.
+     */
+    public void publishDataVersion(String season) {
+        Integer updated = transactionTemplate.execute(status -> syncLeaseRepository.publishDataVersion(
+                LEASE_NAME, instanceId, season, System.currentTimeMillis()));
+        if (updated == null || updated == 0) {
+            log.warn("Replica {} no longer holds the sync lease; data for season {} was not published", instanceId, season);
+            return;
+        }
+        long dataVersion = getDataVersion();
+        markRefreshed(dataVersion);
+        log.info("Published data version {} for season {}", dataVersion, season);
+    }
+
+    /**
+     * Renew the lease (or take it over once expired), and as a follower pick up newly published data.
+     */
+    @Scheduled(fixedDelayString = "${nhl.sync.lease.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!acquire()) {
+            refreshIfStale();
+        }
+    }
+
+    /**
+     * Release the lease on shutdown so another replica can take over without waiting for it to expire.
+     */
+    @PreDestroy
+    public void release() {
+        if (!isLeader()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> syncLeaseRepository.release(LEASE_NAME, instanceId));
+            heldUntil = 0;
+            log.info("Replica {} released the sync lease", instanceId);
+        } catch (DataAccessException e) {
+            log.warn("Could not release the sync lease: {}", e.getMessage());
+        }
+    }
+
+    private void refreshIfStale() {
+        try {
+            Optional<SyncLease> lease = syncLeaseRepository.findById(LEASE_NAME);
+            if (lease.isEmpty() || lease.get().getDataVersion() <= seenDataVersion || lease.get().getDataSeason() == null) {
+                return;
+            }
+            long dataVersion = lease.get().getDataVersion();
+            String season = lease.get().getDataSeason();
+            log.info("Data version {} published for season {}; refreshing indexes", dataVersion, season);
+
+            // The leader may have archived a season since we last looked
+            seasonArchiveStore.refresh();
+            statisticsService.refreshIndexes(season);
+            playerSplitService.invalidate(season);
+            dataStatusService.markReady(DataStatusService.SOURCE_LEADER,
+                    Instant.ofEpochMilli(lease.get().getDataPublishedAt()));
+            markRefreshed(dataVersion);
+        } catch (Exception e) {
+            log.warn("Could not refresh indexes from published data; retrying on the next heartbeat", e);
+        }
+    }
+
+    private synchronized void extendedTo(long expiresAt) {
+        heldUntil = Math.max(heldUntil, expiresAt);
+    }
+
+    private boolean isHeldByAnother(SyncLease lease, long now) {
+        return lease.getHolderId() != null && !lease.getHolderId().equals(instanceId) && lease.getExpiresAt() >= now;
+    }
+
+    private void stepDown() {
+        boolean wasLeader = isLeader();
+        heldUntil = 0;
+        if (wasLeader) {
+            log.warn("Replica {} lost the sync lease to {}", instanceId, getHolderId().orElse("nobody"));
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
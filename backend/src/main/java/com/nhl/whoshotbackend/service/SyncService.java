@@ -0,0 +1,211 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.config.SyncExecutors;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Service running sync work on the bounded sync executors instead of the thread that triggered it.
+ * Every database write of the leader, from syncs, archiving and the startup restore and recalculation alike,
+ * goes through the single persist thread and is fenced by the sync lease; the compute pool only rebuilds
+ * in-memory indexes and writes snapshots from committed data. Two threads therefore never write at once, and
+ * syncs never occupy Tomcat threads or more than their share of JDBC connections.
+ * Every method throws {@link java.util.concurrent.RejectedExecutionException} when the sync queues are full.
+ */
+@Service
+public class SyncService {
+
+    private final SyncExecutors syncExecutors;
+    private final DataIntegrationService dataIntegrationService;
+    private final ClubStatsService clubStatsService;
+    private final StatisticsService statisticsService;
+    private final StreakStateService streakStateService;
+    private final SnapshotService snapshotService;
+    private final ArchiveService archiveService;
+    private final DataStatusService dataStatusService;
+    private final SyncLeaseService syncLeaseService;
+    private final GameLogStore gameLogStore;
+
+    public SyncService(
+            SyncExecutors syncExecutors,
+            DataIntegrationService dataIntegrationService,
+            ClubStatsService clubStatsService,
+            StatisticsService statisticsService,
+            StreakStateService streakStateService,
+            SnapshotService snapshotService,
+            ArchiveService archiveService,
+            DataStatusService dataStatusService,
+            SyncLeaseService syncLeaseService,
+            GameLogStore gameLogStore) {
+        this.syncExecutors = syncExecutors;
+        this.dataIntegrationService = dataIntegrationService;
+        this.clubStatsService = clubStatsService;
+        this.statisticsService = statisticsService;
+        this.streakStateService = streakStateService;
+        this.snapshotService = snapshotService;
+        this.archiveService = archiveService;
+        this.dataStatusService = dataStatusService;
+        this.syncLeaseService = syncLeaseService;
+        this.gameLogStore = gameLogStore;
+    }
+
+    /**
+     * Sync standings, player stats and club stats of a season, recalculate ratings, write a fresh snapshot
+     * and publish the new data to follower replicas.
+     * @param season Season ID (e.g., "20252026"), or null for the current season
+     */
+    public CompletableFuture<Void> syncSeason(String season) {
+        String actualSeasonId = season != null ? season : SeasonValidator.getCurrentSeasonId();
+        dataStatusService.syncStarted();
+        try {
+            return persist(() -> {
+                        // Load game logs already stored so analytics work before the sync completes
+                        gameLogStore.load(actualSeasonId);
+                        dataIntegrationService.syncStandings(season);
+                        dataIntegrationService.syncPlayerStats(season);
+                        clubStatsService.syncClubStats(actualSeasonId);
+                        return null;
+                    })
+                    .thenCompose(ignored -> recalculate(actualSeasonId))
+                    .thenRun(() -> {
+                        dataStatusService.syncCompleted();
+                        syncLeaseService.publishDataVersion(actualSeasonId);
+                    })
+                    .whenComplete((ignored, e) -> {
+                        if (e != null) {
+                            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                            dataStatusService.syncFailed(cause instanceof Exception ex ? ex : new RuntimeException(cause));
+                        }
+                    });
+        } catch (RuntimeException e) {
+            dataStatusService.syncFailed(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Restore a season from its local snapshot, rebuild its streak state and ratings, then its indexes.
+     * Used on startup when the database has no data for the season.
+     * @return When the restored snapshot was created, or empty if there was nothing to restore
+     */
+    public CompletableFuture<Optional<Instant>> restoreSnapshot(String season) {
+        return persist(() -> {
+                    try {
+                        Optional<Instant> createdAt = snapshotService.importSeason(season);
+                        if (createdAt.isPresent()) {
+                            streakStateService.repairSeason(season);
+                            statisticsService.calculateHotRatings(season);
+                        }
+                        return createdAt;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .thenCompose(createdAt -> createdAt.isEmpty()
+                        ? CompletableFuture.completedFuture(createdAt)
+                        : syncExecutors.compute(() -> {
+                            statisticsService.rebuildIndexes(season);
+                            return createdAt;
+                        }));
+    }
+
+    /**
+     * Recalculate ratings of the data stored for a season and rebuild its indexes, without a snapshot.
+     * Used on startup to serve stored data before the first sync.
+     */
+    public CompletableFuture<Void> recalculateStored(String season) {
+        return persist(() -> {
+                    statisticsService.calculateHotRatings(season);
+                    return null;
+                })
+                .thenCompose(ignored -> syncExecutors.compute(() -> {
+                    statisticsService.rebuildIndexes(season);
+                    return null;
+                }));
+    }
+
+    /**
+     * Sync team standings of the current season.
+     */
+    public CompletableFuture<Void> syncStandings() {
+        return persist(() -> {
+            dataIntegrationService.syncStandings();
+            return null;
+        }).thenRun(() -> syncLeaseService.publishDataVersion(SeasonValidator.getCurrentSeasonId()));
+    }
+
+    /**
+     * Sync player stats of a season, recalculate ratings and write a fresh snapshot.
+     * @param season Season ID (e.g., "20252026"), or null for the current season
+     */
+    public CompletableFuture<Void> syncPlayers(String season) {
+        String actualSeasonId = season != null ? season : SeasonValidator.getCurrentSeasonId();
+        return persist(() -> {
+                    dataIntegrationService.syncPlayerStats(season);
+                    return null;
+                })
+                .thenCompose(ignored -> recalculate(actualSeasonId))
+                .thenRun(() -> syncLeaseService.publishDataVersion(actualSeasonId));
+    }
+
+    /**
+     * Rebuild streak state of a season from a full rescan and recalculate ratings.
+     */
+    public CompletableFuture<Void> rebuildStreakState(String season) {
+        return persist(() -> {
+                    streakStateService.repairSeason(season);
+                    return null;
+                })
+                .thenCompose(ignored -> recalculate(season))
+                .thenRun(() -> syncLeaseService.publishDataVersion(season));
+    }
+
+    /**
+     * Archive a finished season.
+     * @see ArchiveService#archiveSeason(String)
+     */
+    public CompletableFuture<SeasonArchive> archiveSeason(String season) {
+        return persist(() -> {
+            try {
+                return archiveService.archiveSeason(season);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).thenApply(archive -> {
+            syncLeaseService.publishDataVersion(season);
+            return archive;
+        });
+    }
+
+    /**
+     * Run writes on the persist thread, fenced by the sync lease.
+     */
+    private <T> CompletableFuture<T> persist(Supplier<T> writes) {
+        return syncExecutors.persist(syncLeaseService.fenced(writes));
+    }
+
+    /**
+     * Write recalculated ratings on the persist thread, then rebuild indexes and the snapshot on the compute pool.
+     */
+    private CompletableFuture<Void> recalculate(String season) {
+        return persist(() -> {
+                    statisticsService.calculateHotRatings(season);
+                    return null;
+                })
+                .thenCompose(ignored -> syncExecutors.compute(() -> {
+                    statisticsService.rebuildIndexes(season);
+                    snapshotService.exportSeason(season);
+                    return null;
+                }));
+    }
+}
@@ -0,0 +1,65 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.TrendPoint;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.PlayerTrendIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service holding precomputed per-player hot rating and point streak time series.
+ * Series for all players of a season are computed together after each sync, so trend
+ * requests only decode one player's series.
+ */
+@Service
+@Slf4j
+public class TrendService {
+
+    private final GameLogStore gameLogStore;
+    private final Map<String, PlayerTrendIndex> indexes = new ConcurrentHashMap<>();
+
+    public TrendService(GameLogStore gameLogStore) {
+        this.gameLogStore = gameLogStore;
+    }
+
+    /**
+     * Rebuild the trend index of a season from the loaded columnar game logs.
+     */
+    public void rebuild(String season) {
+        long startNanos = System.nanoTime();
+        PlayerTrendIndex index = PlayerTrendIndex.build(gameLogStore.getOrLoad(season), StatisticsService.HOT_RATING_GAMES);
+        indexes.put(season, index);
+        log.info("Trend index rebuilt for season {}: {} players, {} KB in {} ms",
+                season, index.playerCount(), index.sizeBytes() / 1024, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Get a player's hot rating and point streak after each game of a season.
+     * @return The series in date order, or empty if the player has no games this season
+     */
+    public Optional<List<TrendPoint>> getPlayerTrend(Long playerId, String season) {
+        PlayerTrendIndex index = indexes.get(season);
+        if (index == null) {
+            rebuild(season);
+            index = indexes.get(season);
+        }
+
+        List<PlayerTrendIndex.Point> points = index.get(playerId);
+        if (points == null) {
+            return Optional.empty();
+        }
+        return Optional.of(points.stream()
+                .map(point -> new TrendPoint(
+                        LocalDate.ofEpochDay(point.epochDay()).toString(),
+                        point.hotRating(),
+                        point.windowGames(),
+                        point.pointStreak()))
+                .toList());
+    }
+}
@@ -0,0 +1,143 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.WindowedRating;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonGameLogs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service ranking the whole league by production over arbitrary windows of games.
+ * Uses the prefix sums of the columnar game log store, so each player's window
+ * is summed in O(1) (O(log games) for date ranges) without rescanning game logs.
+ */
+@Service
+@Slf4j
+public class WindowedRatingService {
+
+    // Ascending by points per game, then points, then lower player ID ranks higher
+    private static final Comparator<WindowSum> WINDOW_ORDER = Comparator
+            .comparingDouble((WindowSum window) -> (double) window.points() / window.games())
+            .thenComparingInt(WindowSum::points)
+            .thenComparing(WindowSum::playerId, Comparator.reverseOrder());
+
+    private final GameLogStore gameLogStore;
+    private final StatisticsService statisticsService;
+
+    public WindowedRatingService(GameLogStore gameLogStore, StatisticsService statisticsService) {
+        this.gameLogStore = gameLogStore;
+        this.statisticsService = statisticsService;
+    }
+
+    /**
+     * Get the top players by points per game over each player's last N games.
+     * @param season Season ID (e.g., "20252026")
+     * @param games Window size in games
+     * @param limit Number of players to return
+     * @param minGames Minimum games inside the window for a player to qualify
+     */
+    public List<WindowedRating> getTopByLastGames(String season, int games, int limit, int minGames) {
+        SeasonGameLogs logs = gameLogStore.getOrLoad(season);
+        PriorityQueue<WindowSum> top = new PriorityQueue<>(WINDOW_ORDER);
+
+        for (int playerIndex = 0; playerIndex < logs.playerCount(); playerIndex++) {
+            int toRow = logs.end(playerIndex);
+            int fromRow = Math.max(logs.start(playerIndex), toRow - games);
+            offer(top, logs, playerIndex, fromRow, toRow, limit, minGames);
+        }
+
+        return toRatings(season, top);
+    }
+
+    /**
+     * Get the top players by points per game over games played between two dates (inclusive).
+     * @param season Season ID (e.g., "20252026")
+     * @param from First game date of the window
+     * @param to Last game date of the window
+     * @param limit Number of players to return
+     * @param minGames Minimum games inside the window for a player to qualify
+     */
+    public List<WindowedRating> getTopByDateRange(String season, LocalDate from, LocalDate to, int limit, int minGames) {
+        SeasonGameLogs logs = gameLogStore.getOrLoad(season);
+        PriorityQueue<WindowSum> top = new PriorityQueue<>(WINDOW_ORDER);
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+
+        for (int playerIndex = 0; playerIndex < logs.playerCount(); playerIndex++) {
+            int fromRow = logs.firstRowOnOrAfter(playerIndex, fromDay);
+            int toRow = logs.endRowOnOrBefore(playerIndex, toDay);
+            offer(top, logs, playerIndex, fromRow, toRow, limit, minGames);
+        }
+
+        return toRatings(season, top);
+    }
+
+    /**
+     * Sum a player's window and keep it if it ranks within the current top K.
+     */
+    private void offer(PriorityQueue<WindowSum> top, SeasonGameLogs logs, int playerIndex,
+                       int fromRow, int toRow, int limit, int minGames) {
+        int games = toRow - fromRow;
+        if (games <= 0 || games < minGames) {
+            return;
+        }
+
+        WindowSum window = new WindowSum(logs.playerId(playerIndex), games,
+                logs.sumPoints(fromRow, toRow), logs.sumGoals(fromRow, toRow),
+                logs.sumShots(fromRow, toRow), logs.sumTimeOnIce(fromRow, toRow));
+
+        if (top.size() < limit) {
+            top.add(window);
+        } else if (WINDOW_ORDER.compare(window, top.peek()) > 0) {
+            top.poll();
+            top.add(window);
+        }
+    }
+
+    /**
+     * Convert the top K windows to ratings, best first, joined with player details.
+     */
+    private List<WindowedRating> toRatings(String season, PriorityQueue<WindowSum> top) {
+        List<WindowSum> windows = new ArrayList<>(top);
+        windows.sort(WINDOW_ORDER.reversed());
+
+        List<Long> playerIds = windows.stream()
+                .map(WindowSum::playerId)
+                .toList();
+        Map<Long, Player> players = statisticsService.getPlayers(playerIds, season).stream()
+                .collect(Collectors.toMap(Player::getPlayerId, Function.identity()));
+
+        List<WindowedRating> ratings = new ArrayList<>(windows.size());
+        for (WindowSum window : windows) {
+            Player player = players.get(window.playerId());
+            ratings.add(new WindowedRating(
+                    window.playerId(),
+                    player != null ? player.getFullName() : null,
+                    player != null ? player.getTeamCode() : null,
+                    player != null ? player.getPositionCode() : null,
+                    player != null ? player.getHeadshotUrl() : null,
+                    window.games(),
+                    window.goals(),
+                    window.points(),
+                    window.shots(),
+                    (double) window.points() / window.games(),
+                    (double) window.goals() / window.games(),
+                    (double) window.shots() / window.games(),
+                    (int) (window.timeOnIce() / window.games())));
+        }
+        return ratings;
+    }
+
+    private record WindowSum(long playerId, int games, int points, int goals, int shots, long timeOnIce) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameLogRow;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory store of per-season columnar game logs.
+ * Loaded from SQLite (or the season archive, once a season is archived) at startup and after each sync;
+ * readers always see a complete, immutable season.
+ */
+@Component
+@Slf4j
+public class GameLogStore {
+
+    private final GameLogRepository gameLogRepository;
+    private final SeasonArchiveStore seasonArchiveStore;
+    private final Map<String, SeasonGameLogs> seasons = new ConcurrentHashMap<>();
+
+    public GameLogStore(GameLogRepository gameLogRepository, SeasonArchiveStore seasonArchiveStore) {
+        this.gameLogRepository = gameLogRepository;
+        this.seasonArchiveStore = seasonArchiveStore;
+    }
+
+    /**
+     * Get the loaded game logs for a season, if any.
+     */
+    public Optional<SeasonGameLogs> get(String season) {
+        return Optional.ofNullable(seasons.get(season));
+    }
+
+    /**
+     * Get the loaded game logs for a season, loading them from the database on first use.
+     */
+    public SeasonGameLogs getOrLoad(String season) {
+        SeasonGameLogs seasonGameLogs = seasons.get(season);
+        return seasonGameLogs != null ? seasonGameLogs : load(season);
+    }
+
+    /**
+     * (Re)load a season's game logs from the database or archive and replace the in-memory copy.
+     * Database rows are streamed as column projections straight into the columnar arrays.
+     * @param season Season ID (e.g., "20252026")
+     * @return The newly loaded season
+     */
+    @Transactional(readOnly = true)
+    public SeasonGameLogs load(String season) {
+        long startNanos = System.nanoTime();
+        Optional<SeasonArchive> archive = seasonArchiveStore.get(season);
+        SeasonGameLogs seasonGameLogs;
+        if (archive.isPresent()) {
+            seasonGameLogs = SeasonGameLogs.fromGameLogs(season, archive.get().gameLogs());
+        } else {
+            try (Stream<GameLogRow> rows = gameLogRepository.streamRowsByGameIdBetween(
+                    SeasonValidator.getFirstGameId(season), SeasonValidator.getLastGameId(season))) {
+                seasonGameLogs = SeasonGameLogs.fromOrderedRows(season, rows);
+            }
+        }
+        seasons.put(season, seasonGameLogs);
+
+        log.info("Game log store loaded for season {}: {} rows, {} players, {} KB in {} ms",
+                season, seasonGameLogs.rowCount(), seasonGameLogs.playerCount(),
+                seasonGameLogs.footprintBytes() / 1024, (System.nanoTime() - startNanos) / 1_000_000);
+        return seasonGameLogs;
+    }
+}
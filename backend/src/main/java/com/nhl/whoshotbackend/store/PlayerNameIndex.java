@@ -0,0 +1,149 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.dto.PlayerSearchResult;
+import com.nhl.whoshotbackend.entity.Player;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index over player names for search and autocomplete.
+ * Full, first and last names are normalized (accents stripped, lower case, punctuation removed)
+ * and kept in one sorted term array; a prefix query is a binary search to the first matching
+ * term followed by a scan over the contiguous run of matches.
+ */
+public final class PlayerNameIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\-]+");
+    private static final Pattern PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N} ]");
+
+    private final String[] terms; // Sorted normalized names
+    private final int[] termEntries; // Entry index for each term
+    private final PlayerSearchResult[] entries;
+    private final int[] entryPoints; // Points in the most recent season, used to rank matches
+
+    private PlayerNameIndex(String[] terms, int[] termEntries, PlayerSearchResult[] entries, int[] entryPoints) {
+        this.terms = terms;
+        this.termEntries = termEntries;
+        this.entries = entries;
+        this.entryPoints = entryPoints;
+    }
+
+    /**
+     * Build the index from player rows of every loaded season.
+     * Each player appears once, described by their most recent season.
+     */
+    public static PlayerNameIndex build(List<Player> players) {
+        Map<Long, Player> latestByPlayer = new HashMap<>();
+        Map<Long, Set<String>> seasonsByPlayer = new HashMap<>();
+        for (Player player : players) {
+            latestByPlayer.merge(player.getPlayerId(), player,
+                    (current, candidate) -> candidate.getSeason().compareTo(current.getSeason()) > 0 ? candidate : current);
+            seasonsByPlayer.computeIfAbsent(player.getPlayerId(), id -> new TreeSet<>()).add(player.getSeason());
+        }
+
+        List<Player> latest = new ArrayList<>(latestByPlayer.values());
+        PlayerSearchResult[] entries = new PlayerSearchResult[latest.size()];
+        int[] entryPoints = new int[latest.size()];
+        List<Term> termList = new ArrayList<>();
+
+        for (int entry = 0; entry < latest.size(); entry++) {
+            Player player = latest.get(entry);
+            entries[entry] = new PlayerSearchResult(player.getPlayerId(), player.getFullName(), player.getTeamCode(),
+                    player.getPositionCode(), player.getHeadshotUrl(), player.getSeason(),
+                    List.copyOf(seasonsByPlayer.get(player.getPlayerId())));
+            entryPoints[entry] = player.getPoints() != null ? player.getPoints() : 0;
+
+            Set<String> names = new LinkedHashSet<>();
+            names.add(normalize(player.getFullName()));
+            names.add(normalize(player.getFirstName()));
+            names.add(normalize(player.getLastName()));
+            for (String name : names) {
+                if (!name.isEmpty()) {
+                    termList.add(new Term(name, entry));
+                }
+            }
+        }
+
+        termList.sort(Comparator.comparing(Term::text));
+        String[] terms = new String[termList.size()];
+        int[] termEntries = new int[termList.size()];
+        for (int i = 0; i < termList.size(); i++) {
+            terms[i] = termList.get(i).text();
+            termEntries[i] = termList.get(i).entry();
+        }
+
+        return new PlayerNameIndex(terms, termEntries, entries, entryPoints);
+    }
+
+    /**
+     * Find players whose full, first or last name starts with the query.
+     * Exact name matches rank first, then players with more points.
+     * @param query Search text (accents, case and punctuation are ignored)
+     * @param season Only return players with this season loaded, or null for any season
+     * @param limit Maximum number of results
+     */
+    public List<PlayerSearchResult> search(String query, String season, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        int first = Arrays.binarySearch(terms, prefix);
+        if (first < 0) {
+            first = -first - 1;
+        }
+
+        Map<Integer, Boolean> matches = new HashMap<>(); // entry -> exact match
+        for (int i = first; i < terms.length && terms[i].startsWith(prefix); i++) {
+            int entry = termEntries[i];
+            if (season != null && !entries[entry].getSeasons().contains(season)) {
+                continue;
+            }
+            boolean exact = terms[i].length() == prefix.length();
+            matches.merge(entry, exact, Boolean::logicalOr);
+        }
+
+        Comparator<Map.Entry<Integer, Boolean>> order = (a, b) -> {
+            if (!a.getValue().equals(b.getValue())) {
+                return a.getValue() ? -1 : 1;
+            }
+            return Integer.compare(entryPoints[b.getKey()], entryPoints[a.getKey()]);
+        };
+        return matches.entrySet().stream()
+                .sorted(order)
+                .limit(limit)
+                .map(match -> entries[match.getKey()])
+                .toList();
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Normalize a name for matching: strip accents, lower case, drop punctuation, collapse separators.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        String spaced = SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return PUNCTUATION.matcher(spaced).replaceAll("").trim();
+    }
+
+    private record Term(String text, int entry) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.entity.GameLog;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-season index of every player's splits: home/away, each opponent and each calendar month.
+ * Built in one pass over a season's game logs and then updated in place as new games are ingested,
+ * so a split request never scans the log. Each player counts a game at most once, so re-applying
+ * a game is harmless. Safe for concurrent updates and reads.
+ */
+public final class PlayerSplitIndex {
+
+    /**
+     * Totals of one split.
+     */
+    public record Totals(int games, int goals, int assists, int points, int plusMinus, int shots, int wins,
+                         long timeOnIce) {
+
+        static final Totals EMPTY = new Totals(0, 0, 0, 0, 0, 0, 0, 0);
+
+        Totals plus(GameLog gameLog) {
+            return new Totals(
+                    games + 1,
+                    goals + orZero(gameLog.getGoals()),
+                    assists + orZero(gameLog.getAssists()),
+                    points + orZero(gameLog.getPoints()),
+                    plusMinus + orZero(gameLog.getPlusMinus()),
+                    shots + orZero(gameLog.getShots()),
+                    wins + (Boolean.TRUE.equals(gameLog.getGameWon()) ? 1 : 0),
+                    timeOnIce + orZero(gameLog.getTimeOnIce()));
+        }
+
+        private static int orZero(Integer value) {
+            return value != null ? value : 0;
+        }
+    }
+
+    /**
+     * A consistent copy of one player's splits; opponents and months are in ascending order.
+     */
+    public record Splits(Totals home, Totals away, SortedMap<String, Totals> byOpponent,
+                         SortedMap<String, Totals> byMonth) {
+    }
+
+    private final String season;
+    private final Map<Long, PlayerSplits> players = new ConcurrentHashMap<>();
+
+    private PlayerSplitIndex(String season) {
+        this.season = season;
+    }
+
+    /**
+     * Build the index for all players of a season in one pass over its game logs.
+     */
+    public static PlayerSplitIndex build(String season, List<GameLog> gameLogs) {
+        PlayerSplitIndex index = new PlayerSplitIndex(season);
+        for (GameLog gameLog : gameLogs) {
+            index.add(gameLog);
+        }
+        return index;
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public int playerCount() {
+        return players.size();
+    }
+
+    /**
+     * Count a newly ingested game in its player's splits; a game already counted is ignored.
+     */
+    public void add(GameLog gameLog) {
+        players.computeIfAbsent(gameLog.getPlayerId(), id -> new PlayerSplits()).add(gameLog);
+    }
+
+    /**
+     * Replace a player's splits after their whole game log was re-fetched.
+     */
+    public void replacePlayer(Long playerId, List<GameLog> gameLogs) {
+        PlayerSplits splits = new PlayerSplits();
+        for (GameLog gameLog : gameLogs) {
+            splits.add(gameLog);
+        }
+        players.put(playerId, splits);
+    }
+
+    /**
+     * Get a player's splits, or empty if the player has no games this season.
+     */
+    public Optional<Splits> get(Long playerId) {
+        PlayerSplits splits = players.get(playerId);
+        return splits != null ? Optional.of(splits.snapshot()) : Optional.empty();
+    }
+
+    private static final class PlayerSplits {
+
+        private long[] gameIds = new long[16]; // Counted games, ascending in [0, gameCount)
+        private int gameCount;
+        private Totals home = Totals.EMPTY;
+        private Totals away = Totals.EMPTY;
+        private final TreeMap<String, Totals> byOpponent = new TreeMap<>();
+        private final TreeMap<String, Totals> byMonth = new TreeMap<>();
+
+        synchronized void add(GameLog gameLog) {
+            if (!addGameId(gameLog.getGameId())) {
+                return;
+            }
+            if (Boolean.TRUE.equals(gameLog.getHomeGame())) {
+                home = home.plus(gameLog);
+            } else if (Boolean.FALSE.equals(gameLog.getHomeGame())) {
+                away = away.plus(gameLog);
+            }
+            String opponent = gameLog.getOpponentTeamCode();
+            if (opponent != null && !opponent.isEmpty()) {
+                byOpponent.put(opponent, byOpponent.getOrDefault(opponent, Totals.EMPTY).plus(gameLog));
+            }
+            // Game dates are ISO (e.g., "2025-10-08"); the month is "2025-10"
+            String month = gameLog.getGameDate().substring(0, 7);
+            byMonth.put(month, byMonth.getOrDefault(month, Totals.EMPTY).plus(gameLog));
+        }
+
+        /**
+         * Insert a game ID in order; games mostly arrive in ID order, so this is usually an append.
+         * @return false if the game was already counted
+         */
+        private boolean addGameId(long gameId) {
+            int position = Arrays.binarySearch(gameIds, 0, gameCount, gameId);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+            if (gameCount == gameIds.length) {
+                gameIds = Arrays.copyOf(gameIds, gameCount * 2);
+            }
+            System.arraycopy(gameIds, position, gameIds, position + 1, gameCount - position);
+            gameIds[position] = gameId;
+            gameCount++;
+            return true;
+        }
+
+        synchronized Splits snapshot() {
+            return new Splits(home, away,
+                    Collections.unmodifiableSortedMap(new TreeMap<>(byOpponent)),
+                    Collections.unmodifiableSortedMap(new TreeMap<>(byMonth)));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.nhl.whoshotbackend.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, compact per-season index of every player's hot rating and point streak after each game.
+ * Each player's series is a run of unsigned varints in one shared byte array, three per game:
+ * days since the previous game (the first game is relative to the season's first game day),
+ * points over the rolling window ending at that game, and the point streak after that game.
+ * A typical game takes three bytes, so a full season of trends for the league fits in well under 100 KB.
+ */
+public final class PlayerTrendIndex {
+
+    private final String season;
+    private final int windowGames; // Rolling window size used for the hot rating
+    private final int baseDay; // Epoch day the first delta of each series is relative to
+    private final long[] playerIds; // Ascending, same order as SeasonGameLogs
+    private final int[] offsets; // Length playerCount + 1; series of player i is data[offsets[i], offsets[i + 1])
+    private final int[] gameCounts;
+    private final byte[] data;
+
+    private PlayerTrendIndex(String season, int windowGames, int baseDay, long[] playerIds,
+                             int[] offsets, int[] gameCounts, byte[] data) {
+        this.season = season;
+        this.windowGames = windowGames;
+        this.baseDay = baseDay;
+        this.playerIds = playerIds;
+        this.offsets = offsets;
+        this.gameCounts = gameCounts;
+        this.data = data;
+    }
+
+    /**
+     * Build the index for all players of a season in one parallel pass over the columnar game logs.
+     * @param windowGames Number of games in the rolling hot rating window
+     */
+    public static PlayerTrendIndex build(SeasonGameLogs logs, int windowGames) {
+        int playerCount = logs.playerCount();
+        int baseDay = Integer.MAX_VALUE;
+        for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+            baseDay = Math.min(baseDay, logs.gameDay(logs.start(playerIndex)));
+        }
+        int firstDay = playerCount > 0 ? baseDay : 0;
+
+        // Players are independent, so each series is encoded on its own and concatenated afterwards
+        byte[][] series = IntStream.range(0, playerCount)
+                .parallel()
+                .mapToObj(playerIndex -> encode(logs, playerIndex, windowGames, firstDay))
+                .toArray(byte[][]::new);
+
+        long[] playerIds = new long[playerCount];
+        int[] offsets = new int[playerCount + 1];
+        int[] gameCounts = new int[playerCount];
+        for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+            playerIds[playerIndex] = logs.playerId(playerIndex);
+            offsets[playerIndex + 1] = offsets[playerIndex] + series[playerIndex].length;
+            gameCounts[playerIndex] = logs.end(playerIndex) - logs.start(playerIndex);
+        }
+        byte[] data = new byte[offsets[playerCount]];
+        for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+            System.arraycopy(series[playerIndex], 0, data, offsets[playerIndex], series[playerIndex].length);
+        }
+
+        return new PlayerTrendIndex(logs.getSeason(), windowGames, firstDay, playerIds, offsets, gameCounts, data);
+    }
+
+    /**
+     * Encode one player's series, replaying their games in order.
+     */
+    private static byte[] encode(SeasonGameLogs logs, int playerIndex, int windowGames, int baseDay) {
+        int start = logs.start(playerIndex);
+        int end = logs.end(playerIndex);
+        VarIntWriter writer = new VarIntWriter((end - start) * 3);
+
+        int previousDay = baseDay;
+        int pointStreak = 0;
+        for (int row = start; row < end; row++) {
+            pointStreak = logs.points(row) > 0 ? pointStreak + 1 : 0;
+            int windowPoints = logs.sumPoints(Math.max(start, row - windowGames + 1), row + 1);
+
+            writer.write(logs.gameDay(row) - previousDay);
+            writer.write(windowPoints);
+            writer.write(pointStreak);
+            previousDay = logs.gameDay(row);
+        }
+        return writer.toByteArray();
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public int getWindowGames() {
+        return windowGames;
+    }
+
+    public int playerCount() {
+        return playerIds.length;
+    }
+
+    public int sizeBytes() {
+        return data.length;
+    }
+
+    /**
+     * Decode a player's series.
+     * Runs in O(games) with no per-request access to game logs.
+     * @return One point per game in date order, or null if the player has no games this season
+     */
+    public List<Point> get(long playerId) {
+        int playerIndex = Arrays.binarySearch(playerIds, playerId);
+        if (playerIndex < 0) {
+            return null;
+        }
+
+        int gameCount = gameCounts[playerIndex];
+        List<Point> points = new ArrayList<>(gameCount);
+        int[] value = new int[1];
+        int position = offsets[playerIndex];
+        int day = baseDay;
+        for (int game = 0; game < gameCount; game++) {
+            position = readVarInt(data, position, value);
+            day += value[0];
+            position = readVarInt(data, position, value);
+            int windowPoints = value[0];
+            position = readVarInt(data, position, value);
+            int pointStreak = value[0];
+
+            points.add(new Point(day, windowPoints, Math.min(game + 1, windowGames), pointStreak));
+        }
+        return points;
+    }
+
+    /**
+     * A player's state after one game.
+     * @param epochDay Game date as epoch day
+     * @param windowPoints Points over the rolling window ending at the game
+     * @param windowGames Games in that window (fewer than the window size early in the season)
+     * @param pointStreak Consecutive games with a point, ending at the game
+     */
+    public record Point(int epochDay, int windowPoints, int windowGames, int pointStreak) {
+
+        public double hotRating() {
+            return (double) windowPoints / windowGames;
+        }
+    }
+
+    private static int readVarInt(byte[] bytes, int position, int[] value) {
+        int result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position++];
+            result |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        value[0] = result;
+        return position;
+    }
+
+    /**
+     * Growable buffer of unsigned LEB128 varints.
+     */
+    private static final class VarIntWriter {
+
+        private byte[] bytes;
+        private int size;
+
+        VarIntWriter(int initialCapacity) {
+            bytes = new byte[Math.max(initialCapacity, 8)];
+        }
+
+        void write(int value) {
+            if (size + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2 + 5);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
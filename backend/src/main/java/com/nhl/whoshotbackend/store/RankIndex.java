@@ -0,0 +1,121 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.dto.StatRank;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable per-season rank index over every numeric stat column of an entity type.
+ * Each column keeps its non-null values sorted ascending, so rank and percentile of any
+ * value (ties included) are found with two binary searches in O(log n).
+ *
+ * @param <K> Key type (e.g., player ID)
+ * @param <T> Entity type
+ */
+public final class RankIndex<K, T> {
+
+    private final Map<K, T> entities;
+    private final Map<String, Column<T>> columns;
+    private final Map<String, double[]> sortedValues;
+
+    private RankIndex(Map<K, T> entities, Map<String, Column<T>> columns, Map<String, double[]> sortedValues) {
+        this.entities = entities;
+        this.columns = columns;
+        this.sortedValues = sortedValues;
+    }
+
+    /**
+     * Build an index over the given entities and stat columns.
+     */
+    public static <K, T> RankIndex<K, T> build(Collection<T> entities, Function<T, K> keyExtractor, List<Column<T>> columns) {
+        Map<K, T> byKey = new HashMap<>();
+        for (T entity : entities) {
+            byKey.put(keyExtractor.apply(entity), entity);
+        }
+
+        Map<String, Column<T>> columnsByName = new LinkedHashMap<>();
+        Map<String, double[]> sortedValues = new HashMap<>();
+        for (Column<T> column : columns) {
+            double[] values = entities.stream()
+                    .map(column.extractor())
+                    .filter(Objects::nonNull)
+                    .mapToDouble(Number::doubleValue)
+                    .sorted()
+                    .toArray();
+            columnsByName.put(column.name(), column);
+            sortedValues.put(column.name(), values);
+        }
+
+        return new RankIndex<>(byKey, columnsByName, sortedValues);
+    }
+
+    /**
+     * Get the indexed entity for a key.
+     */
+    public Optional<T> get(K key) {
+        return Optional.ofNullable(entities.get(key));
+    }
+
+    /**
+     * Get the ranks of an entity across all stat columns it has a value for.
+     */
+    public List<StatRank> ranks(T entity) {
+        List<StatRank> ranks = new ArrayList<>();
+        for (Column<T> column : columns.values()) {
+            Number value = column.extractor().apply(entity);
+            if (value != null) {
+                ranks.add(rank(column, value.doubleValue()));
+            }
+        }
+        return ranks;
+    }
+
+    private StatRank rank(Column<T> column, double value) {
+        double[] values = sortedValues.get(column.name());
+        int count = values.length;
+        int below = lowerBound(values, value);
+        int equal = lowerBound(values, Math.nextUp(value)) - below;
+        int above = count - below - equal;
+
+        int better = column.higherIsBetter() ? above : below;
+        int worse = column.higherIsBetter() ? below : above;
+        int tiedWith = Math.max(equal - 1, 0);
+
+        double percentile = count > 1 ? 100.0 * (worse + 0.5 * tiedWith) / (count - 1) : 100.0;
+        return new StatRank(column.name(), value, better + 1, count, tiedWith, percentile);
+    }
+
+    /**
+     * Index of the first value that is not less than the key.
+     */
+    private static int lowerBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(values[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A rankable stat column.
+     * @param name Stat name exposed in the API
+     * @param extractor Reads the stat from an entity (null values are not ranked)
+     * @param higherIsBetter true if a larger value earns a better rank
+     */
+    public record Column<T>(String name, Function<T, Number> extractor, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,708 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, memory-mapped archive of one finished season.
+ * The file holds fixed-size team, player and game log records, a shared string table and
+ * precomputed leaderboards (record indexes in list endpoint order). Records are decoded on demand
+ * with absolute reads from the mapped buffer, so an open archive costs almost no heap and reads
+ * are thread-safe.
+ *
+ * <p>Layout: header, string offsets, string bytes, teams (sorted by team code), players (sorted by
+ * player ID, each pointing at its game log rows), game logs (sorted by player, then date, then game)
+ * and leaderboards. Null numbers are stored as {@link Integer#MIN_VALUE} / NaN, null booleans as -1
+ * and null strings as string ID -1.
+ */
+public final class SeasonArchive {
+
+    private static final int MAGIC = 0x4E484C41; // "NHLA"
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+
+    /**
+     * Precomputed leaderboards, each in the order of the matching list endpoint:
+     * sort value descending (nulls last), then ID ascending.
+     */
+    public enum Leaderboard {
+        PLAYERS_BY_POINTS,
+        PLAYERS_BY_POINT_STREAK, // Players with an active point streak only
+        PLAYERS_BY_HOT_RATING, // Players with a hot rating only
+        TEAMS_BY_POINTS,
+        TEAMS_BY_WIN_STREAK, // Teams with an active win streak only
+        TEAMS_BY_LOSS_STREAK // Teams with an active loss streak only
+    }
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final String season;
+    private final long createdAtMillis;
+    private final int stringCount;
+    private final int teamCount;
+    private final int playerCount;
+    private final int gameLogCount;
+    private final int teamRecordSize;
+    private final int playerRecordSize;
+    private final int gameLogRecordSize;
+    private final int stringOffsetsStart;
+    private final int stringDataStart;
+    private final int teamsStart;
+    private final int playersStart;
+    private final int gameLogsStart;
+    private final int[] leaderboardStart = new int[Leaderboard.values().length];
+    private final int[] leaderboardSize = new int[Leaderboard.values().length];
+
+    private SeasonArchive(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+
+        Reader header = new Reader(0);
+        if (header.i() != MAGIC) {
+            throw new IOException("Not a season archive: " + path);
+        }
+        int version = header.i();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported archive format version " + version + ": " + path);
+        }
+        createdAtMillis = header.l();
+        stringCount = header.i();
+        teamCount = header.i();
+        playerCount = header.i();
+        gameLogCount = header.i();
+        teamRecordSize = header.i();
+        playerRecordSize = header.i();
+        gameLogRecordSize = header.i();
+        stringOffsetsStart = header.i();
+        stringDataStart = header.i();
+        teamsStart = header.i();
+        playersStart = header.i();
+        gameLogsStart = header.i();
+        for (int board = 0; board < leaderboardStart.length; board++) {
+            leaderboardStart[board] = header.i();
+            leaderboardSize[board] = header.i();
+        }
+        season = string(header.i());
+    }
+
+    /**
+     * Map an archive file read-only.
+     */
+    public static SeasonArchive open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SeasonArchive(path, buffer);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public int teamCount() {
+        return teamCount;
+    }
+
+    public int playerCount() {
+        return playerCount;
+    }
+
+    public int gameLogCount() {
+        return gameLogCount;
+    }
+
+    public long sizeBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Find a team by code (binary search over the sorted team records).
+     */
+    public Optional<Team> findTeam(String teamCode) {
+        int low = 0;
+        int high = teamCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = string(buffer.getInt(teamsStart + mid * teamRecordSize)).compareTo(teamCode);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return Optional.of(team(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Find a player by ID (binary search over the sorted player records).
+     */
+    public Optional<Player> findPlayer(long playerId) {
+        int index = playerIndex(playerId);
+        return index >= 0 ? Optional.of(player(index)) : Optional.empty();
+    }
+
+    /**
+     * Get all players of the season by player ID.
+     */
+    public List<Player> players() {
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int index = 0; index < playerCount; index++) {
+            players.add(player(index));
+        }
+        return players;
+    }
+
+    /**
+     * Get all teams of the season by team code.
+     */
+    public List<Team> teams() {
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int index = 0; index < teamCount; index++) {
+            teams.add(team(index));
+        }
+        return teams;
+    }
+
+    /**
+     * Get the players of a leaderboard, in leaderboard order.
+     */
+    public List<Player> players(Leaderboard leaderboard) {
+        return readLeaderboard(leaderboard, this::player);
+    }
+
+    /**
+     * Get the teams of a leaderboard, in leaderboard order.
+     */
+    public List<Team> teams(Leaderboard leaderboard) {
+        return readLeaderboard(leaderboard, this::team);
+    }
+
+    /**
+     * Get a player's game logs in date order.
+     */
+    public List<GameLog> gameLogs(long playerId) {
+        int index = playerIndex(playerId);
+        if (index < 0) {
+            return List.of();
+        }
+        Reader reader = new Reader(playersStart + (index + 1) * playerRecordSize - 8);
+        int firstRow = reader.i();
+        int rowCount = reader.i();
+        List<GameLog> gameLogs = new ArrayList<>(rowCount);
+        for (int row = firstRow; row < firstRow + rowCount; row++) {
+            gameLogs.add(gameLog(row));
+        }
+        return gameLogs;
+    }
+
+    /**
+     * Get all game logs of the season.
+     */
+    public List<GameLog> gameLogs() {
+        List<GameLog> gameLogs = new ArrayList<>(gameLogCount);
+        for (int row = 0; row < gameLogCount; row++) {
+            gameLogs.add(gameLog(row));
+        }
+        return gameLogs;
+    }
+
+    private <T> List<T> readLeaderboard(Leaderboard leaderboard, Function<Integer, T> record) {
+        int start = leaderboardStart[leaderboard.ordinal()];
+        int size = leaderboardSize[leaderboard.ordinal()];
+        List<T> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(record.apply(buffer.getInt(start + i * 4)));
+        }
+        return records;
+    }
+
+    private int playerIndex(long playerId) {
+        int low = 0;
+        int high = playerCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong(playersStart + mid * playerRecordSize);
+            if (midId < playerId) {
+                low = mid + 1;
+            } else if (midId > playerId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private String string(int id) {
+        if (id == NULL_STRING) {
+            return null;
+        }
+        int start = buffer.getInt(stringOffsetsStart + id * 4);
+        int end = buffer.getInt(stringOffsetsStart + (id + 1) * 4);
+        byte[] bytes = new byte[end - start];
+        buffer.get(stringDataStart + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Team team(int index) {
+        Reader r = new Reader(teamsStart + index * teamRecordSize);
+        Team team = new Team();
+        team.setSeason(season);
+        team.setTeamCode(r.s());
+        team.setTeamName(r.s());
+        team.setFranchiseName(r.s());
+        team.setLogoUrl(r.s());
+        team.setGamesPlayed(r.n());
+        team.setWins(r.n());
+        team.setLosses(r.n());
+        team.setOvertimeLosses(r.n());
+        team.setPoints(r.n());
+        team.setPointPercentage(r.d());
+        team.setGoalsFor(r.n());
+        team.setGoalsAgainst(r.n());
+        team.setGoalDifferential(r.n());
+        team.setConferenceName(r.s());
+        team.setDivisionName(r.s());
+        team.setCurrentWinStreak(r.n());
+        team.setCurrentLossStreak(r.n());
+        team.setLast10GamesWinPercentage(r.d());
+        team.setHot(r.b());
+        team.setCold(r.b());
+        team.setPointStreak(r.b());
+        team.setNextOpponentCode(r.s());
+        team.setNextGameDate(r.s());
+        team.setNextGameIsHome(r.b());
+        team.setLastUpdated(r.s());
+        return team;
+    }
+
+    private Player player(int index) {
+        Reader r = new Reader(playersStart + index * playerRecordSize);
+        Player player = new Player();
+        player.setSeason(season);
+        player.setPlayerId(r.l());
+        player.setFirstName(r.s());
+        player.setLastName(r.s());
+        player.setFullName(r.s());
+        player.setPositionCode(r.s());
+        player.setTeamCode(r.s());
+        player.setGamesPlayed(r.n());
+        player.setGoals(r.n());
+        player.setAssists(r.n());
+        player.setPoints(r.n());
+        player.setPointsPerGame(r.d());
+        player.setPlusMinus(r.n());
+        player.setPenaltyMinutes(r.n());
+        player.setPowerPlayGoals(r.n());
+        player.setShorthandedGoals(r.n());
+        player.setGameWinningGoals(r.n());
+        player.setOvertimeGoals(r.n());
+        player.setShots(r.n());
+        player.setShootingPercentage(r.d());
+        player.setCurrentPointStreak(r.n());
+        player.setHotRating(r.d());
+        player.setHot(r.b());
+        player.setCold(r.b());
+        player.setPointStreak(r.b());
+        player.setLastUpdated(r.s());
+        player.setHeadshotUrl(r.s());
+        player.setSweaterNumber(r.n());
+        player.setShootsCatches(r.s());
+        player.setHeightInInches(r.n());
+        player.setWeightInPounds(r.n());
+        player.setBirthDate(r.s());
+        player.setBirthCountry(r.s());
+        return player;
+    }
+
+    private GameLog gameLog(int row) {
+        Reader r = new Reader(gameLogsStart + row * gameLogRecordSize);
+        GameLog gameLog = new GameLog();
+        gameLog.setPlayerId(r.l());
+        gameLog.setGameId(r.l());
+        gameLog.setGameDate(LocalDate.ofEpochDay(r.i()).toString());
+        gameLog.setOpponentTeamCode(r.s());
+        gameLog.setHomeGame(r.b());
+        gameLog.setGoals(r.n());
+        gameLog.setAssists(r.n());
+        gameLog.setPoints(r.n());
+        gameLog.setPlusMinus(r.n());
+        gameLog.setShots(r.n());
+        gameLog.setTimeOnIce(r.n());
+        gameLog.setGameWon(r.b());
+        return gameLog;
+    }
+
+    /**
+     * Sequential decoder over absolute positions of the shared buffer.
+     */
+    private final class Reader {
+
+        private int position;
+
+        Reader(int position) {
+            this.position = position;
+        }
+
+        int i() {
+            int value = buffer.getInt(position);
+            position += 4;
+            return value;
+        }
+
+        long l() {
+            long value = buffer.getLong(position);
+            position += 8;
+            return value;
+        }
+
+        Integer n() {
+            int value = i();
+            return value == NULL_INT ? null : value;
+        }
+
+        Double d() {
+            double value = buffer.getDouble(position);
+            position += 8;
+            return Double.isNaN(value) ? null : value;
+        }
+
+        Boolean b() {
+            byte value = buffer.get(position++);
+            return value < 0 ? null : value == 1;
+        }
+
+        String s() {
+            return string(i());
+        }
+    }
+
+    // ---- Writing ----
+
+    /**
+     * Write a season archive. The file is written next to the target and moved into place.
+     */
+    public static void write(Path target, String season, List<Team> teams, List<Player> players,
+                             List<GameLog> gameLogs) throws IOException {
+        Writer writer = new Writer();
+        writer.stringId(season);
+
+        List<Team> sortedTeams = new ArrayList<>(teams);
+        sortedTeams.sort(Comparator.comparing(Team::getTeamCode));
+        List<Player> sortedPlayers = new ArrayList<>(players);
+        sortedPlayers.sort(Comparator.comparing(Player::getPlayerId));
+        List<GameLog> sortedGameLogs = new ArrayList<>(gameLogs);
+        sortedGameLogs.sort(Comparator.comparing(GameLog::getPlayerId)
+                .thenComparing(GameLog::getGameDate)
+                .thenComparing(GameLog::getGameId));
+
+        // Game log rows of each player, to link player records to their contiguous rows
+        Map<Long, int[]> playerRows = new HashMap<>();
+        for (int row = 0; row < sortedGameLogs.size(); row++) {
+            int rowIndex = row;
+            playerRows.computeIfAbsent(sortedGameLogs.get(row).getPlayerId(), id -> new int[]{rowIndex, 0})[1]++;
+        }
+
+        Block teamBlock = new Block();
+        for (Team team : sortedTeams) {
+            writer.writeTeam(teamBlock.out, team);
+            teamBlock.endRecord();
+        }
+        Block playerBlock = new Block();
+        for (Player player : sortedPlayers) {
+            int[] rows = playerRows.getOrDefault(player.getPlayerId(), new int[]{0, 0});
+            writer.writePlayer(playerBlock.out, player, rows[0], rows[1]);
+            playerBlock.endRecord();
+        }
+        Block gameLogBlock = new Block();
+        for (GameLog gameLog : sortedGameLogs) {
+            writer.writeGameLog(gameLogBlock.out, gameLog);
+            gameLogBlock.endRecord();
+        }
+
+        Comparator<Player> playerTiebreak = Comparator.comparing(Player::getPlayerId);
+        Comparator<Team> teamTiebreak = Comparator.comparing(Team::getTeamCode);
+        List<int[]> leaderboards = List.of(
+                leaderboard(sortedPlayers, Player::getPoints, player -> true, playerTiebreak),
+                leaderboard(sortedPlayers, Player::getCurrentPointStreak,
+                        player -> player.getCurrentPointStreak() != null && player.getCurrentPointStreak() > 0, playerTiebreak),
+                leaderboard(sortedPlayers, Player::getHotRating, player -> player.getHotRating() != null, playerTiebreak),
+                leaderboard(sortedTeams, Team::getPoints, team -> true, teamTiebreak),
+                leaderboard(sortedTeams, Team::getCurrentWinStreak,
+                        team -> team.getCurrentWinStreak() != null && team.getCurrentWinStreak() > 0, teamTiebreak),
+                leaderboard(sortedTeams, Team::getCurrentLossStreak,
+                        team -> team.getCurrentLossStreak() != null && team.getCurrentLossStreak() > 0, teamTiebreak));
+
+        // Strings are complete once all records are written
+        byte[] stringOffsets;
+        byte[] stringData;
+        {
+            ByteArrayOutputStream offsetBytes = new ByteArrayOutputStream();
+            ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+            DataOutputStream offsets = new DataOutputStream(offsetBytes);
+            offsets.writeInt(0);
+            for (String value : writer.strings) {
+                dataBytes.write(value.getBytes(StandardCharsets.UTF_8));
+                offsets.writeInt(dataBytes.size());
+            }
+            stringOffsets = offsetBytes.toByteArray();
+            stringData = dataBytes.toByteArray();
+        }
+
+        int headerSize = 4 * 2 + 8 + 4 * 7 + 4 * 5 + Leaderboard.values().length * 8 + 4;
+        int stringOffsetsStart = headerSize;
+        int stringDataStart = stringOffsetsStart + stringOffsets.length;
+        int teamsStart = stringDataStart + stringData.length;
+        int playersStart = teamsStart + teamBlock.size();
+        int gameLogsStart = playersStart + playerBlock.size();
+        int leaderboardsStart = gameLogsStart + gameLogBlock.size();
+
+        ByteArrayOutputStream fileBytes = new ByteArrayOutputStream(leaderboardsStart + 4 * (players.size() * 3 + teams.size() * 3));
+        DataOutputStream out = new DataOutputStream(fileBytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeInt(writer.strings.size());
+        out.writeInt(sortedTeams.size());
+        out.writeInt(sortedPlayers.size());
+        out.writeInt(sortedGameLogs.size());
+        out.writeInt(teamBlock.recordSize());
+        out.writeInt(playerBlock.recordSize());
+        out.writeInt(gameLogBlock.recordSize());
+        out.writeInt(stringOffsetsStart);
+        out.writeInt(stringDataStart);
+        out.writeInt(teamsStart);
+        out.writeInt(playersStart);
+        out.writeInt(gameLogsStart);
+        int boardStart = leaderboardsStart;
+        for (int[] board : leaderboards) {
+            out.writeInt(boardStart);
+            out.writeInt(board.length);
+            boardStart += board.length * 4;
+        }
+        out.writeInt(writer.stringId(season));
+        if (out.size() != headerSize) {
+            throw new IllegalStateException("Archive header size mismatch");
+        }
+
+        out.write(stringOffsets);
+        out.write(stringData);
+        teamBlock.writeTo(out);
+        playerBlock.writeTo(out);
+        gameLogBlock.writeTo(out);
+        for (int[] board : leaderboards) {
+            for (int index : board) {
+                out.writeInt(index);
+            }
+        }
+        out.flush();
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "season-" + season, ".tmp");
+        try {
+            Files.write(temp, fileBytes.toByteArray());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Record indexes of the rows matching a filter, by value descending (nulls last), then tiebreaker ascending.
+     */
+    private static <T, V extends Comparable<V>> int[] leaderboard(List<T> records, Function<T, V> value,
+                                                                 Predicate<T> filter, Comparator<T> tiebreak) {
+        Comparator<T> order = Comparator.comparing(value, Comparator.nullsLast(Comparator.<V>reverseOrder()))
+                .thenComparing(tiebreak);
+        List<Integer> indexes = new ArrayList<>();
+        for (int index = 0; index < records.size(); index++) {
+            if (filter.test(records.get(index))) {
+                indexes.add(index);
+            }
+        }
+        indexes.sort((a, b) -> order.compare(records.get(a), records.get(b)));
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A block of fixed-size records; verifies that every record has the same size.
+     */
+    private static final class Block {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private int recordSize = -1;
+        private int recordStart;
+
+        void endRecord() {
+            int size = out.size() - recordStart;
+            if (recordSize >= 0 && size != recordSize) {
+                throw new IllegalStateException("Archive records must have a fixed size");
+            }
+            recordSize = size;
+            recordStart = out.size();
+        }
+
+        int recordSize() {
+            return Math.max(recordSize, 0);
+        }
+
+        int size() {
+            return out.size();
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            out.flush();
+            bytes.writeTo(target);
+        }
+    }
+
+    /**
+     * Record encoder collecting the shared string table.
+     */
+    private static final class Writer {
+
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIds = new HashMap<>();
+
+        int stringId(String value) {
+            if (value == null) {
+                return NULL_STRING;
+            }
+            return stringIds.computeIfAbsent(value, v -> {
+                strings.add(v);
+                return strings.size() - 1;
+            });
+        }
+
+        void writeTeam(DataOutputStream out, Team team) throws IOException {
+            s(out, team.getTeamCode());
+            s(out, team.getTeamName());
+            s(out, team.getFranchiseName());
+            s(out, team.getLogoUrl());
+            n(out, team.getGamesPlayed());
+            n(out, team.getWins());
+            n(out, team.getLosses());
+            n(out, team.getOvertimeLosses());
+            n(out, team.getPoints());
+            d(out, team.getPointPercentage());
+            n(out, team.getGoalsFor());
+            n(out, team.getGoalsAgainst());
+            n(out, team.getGoalDifferential());
+            s(out, team.getConferenceName());
+            s(out, team.getDivisionName());
+            n(out, team.getCurrentWinStreak());
+            n(out, team.getCurrentLossStreak());
+            d(out, team.getLast10GamesWinPercentage());
+            b(out, team.getHot());
+            b(out, team.getCold());
+            b(out, team.getPointStreak());
+            s(out, team.getNextOpponentCode());
+            s(out, team.getNextGameDate());
+            b(out, team.getNextGameIsHome());
+            s(out, team.getLastUpdated());
+        }
+
+        void writePlayer(DataOutputStream out, Player player, int firstGameLogRow, int gameLogCount) throws IOException {
+            out.writeLong(player.getPlayerId());
+            s(out, player.getFirstName());
+            s(out, player.getLastName());
+            s(out, player.getFullName());
+            s(out, player.getPositionCode());
+            s(out, player.getTeamCode());
+            n(out, player.getGamesPlayed());
+            n(out, player.getGoals());
+            n(out, player.getAssists());
+            n(out, player.getPoints());
+            d(out, player.getPointsPerGame());
+            n(out, player.getPlusMinus());
+            n(out, player.getPenaltyMinutes());
+            n(out, player.getPowerPlayGoals());
+            n(out, player.getShorthandedGoals());
+            n(out, player.getGameWinningGoals());
+            n(out, player.getOvertimeGoals());
+            n(out, player.getShots());
+            d(out, player.getShootingPercentage());
+            n(out, player.getCurrentPointStreak());
+            d(out, player.getHotRating());
+            b(out, player.getHot());
+            b(out, player.getCold());
+            b(out, player.getPointStreak());
+            s(out, player.getLastUpdated());
+            s(out, player.getHeadshotUrl());
+            n(out, player.getSweaterNumber());
+            s(out, player.getShootsCatches());
+            n(out, player.getHeightInInches());
+            n(out, player.getWeightInPounds());
+            s(out, player.getBirthDate());
+            s(out, player.getBirthCountry());
+            // Last 8 bytes of the record: game log row range
+            out.writeInt(firstGameLogRow);
+            out.writeInt(gameLogCount);
+        }
+
+        void writeGameLog(DataOutputStream out, GameLog gameLog) throws IOException {
+            out.writeLong(gameLog.getPlayerId());
+            out.writeLong(gameLog.getGameId());
+            out.writeInt((int) LocalDate.parse(gameLog.getGameDate()).toEpochDay());
+            s(out, gameLog.getOpponentTeamCode());
+            b(out, gameLog.getHomeGame());
+            n(out, gameLog.getGoals());
+            n(out, gameLog.getAssists());
+            n(out, gameLog.getPoints());
+            n(out, gameLog.getPlusMinus());
+            n(out, gameLog.getShots());
+            n(out, gameLog.getTimeOnIce());
+            b(out, gameLog.getGameWon());
+        }
+
+        private void s(DataOutputStream out, String value) throws IOException {
+            out.writeInt(stringId(value));
+        }
+
+        private static void n(DataOutputStream out, Integer value) throws IOException {
+            out.writeInt(value != null ? value : NULL_INT);
+        }
+
+        private static void d(DataOutputStream out, Double value) throws IOException {
+            out.writeDouble(value != null ? value : Double.NaN);
+        }
+
+        private static void b(DataOutputStream out, Boolean value) throws IOException {
+            out.writeByte(value == null ? -1 : value ? 1 : 0);
+        }
+    }
+}
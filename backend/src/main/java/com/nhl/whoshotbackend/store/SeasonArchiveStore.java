@@ -0,0 +1,107 @@
+package com.nhl.whoshotbackend.store;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the memory-mapped archives of finished seasons.
+ * Every archive file in the archive directory is mapped at startup; an archived season is served
+ * entirely from its archive and no longer has rows in the database.
+ */
+@Component
+@Slf4j
+public class SeasonArchiveStore {
+
+    private static final String FILE_PREFIX = "season-";
+    private static final String FILE_SUFFIX = ".archive";
+
+    private final Path archiveDir;
+    private final Map<String, SeasonArchive> archives = new ConcurrentHashMap<>();
+
+    public SeasonArchiveStore(@Value("${nhl.archive.dir:archives}") String archiveDir) {
+        this.archiveDir = Paths.get(archiveDir);
+        openAll();
+    }
+
+    /**
+     * Get the archive of a season, if the season is archived.
+     */
+    public Optional<SeasonArchive> get(String season) {
+        return season != null ? Optional.ofNullable(archives.get(season)) : Optional.empty();
+    }
+
+    /**
+     * Check whether a season is archived.
+     */
+    public boolean isArchived(String season) {
+        return season != null && archives.containsKey(season);
+    }
+
+    /**
+     * Get all open archives.
+     */
+    public Collection<SeasonArchive> all() {
+        return List.copyOf(archives.values());
+    }
+
+    /**
+     * Get the file path of a season's archive.
+     */
+    public Path pathFor(String season) {
+        return archiveDir.resolve(FILE_PREFIX + season + FILE_SUFFIX);
+    }
+
+    /**
+     * Map a newly written archive and start serving the season from it.
+     */
+    public SeasonArchive open(String season) throws IOException {
+        SeasonArchive archive = SeasonArchive.open(pathFor(season));
+        archives.put(archive.getSeason(), archive);
+        log.info("Opened archive for season {}: {} teams, {} players, {} game logs ({} KB)",
+                archive.getSeason(), archive.teamCount(), archive.playerCount(), archive.gameLogCount(),
+                archive.sizeBytes() / 1024);
+        return archive;
+    }
+
+    /**
+     * Map archives written by another replica since startup.
+     */
+    public void refresh() {
+        openAll();
+    }
+
+    private void openAll() {
+        if (!Files.isDirectory(archiveDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(archiveDir, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (archives.containsKey(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()))) {
+                    continue;
+                }
+                try {
+                    SeasonArchive archive = SeasonArchive.open(file);
+                    archives.put(archive.getSeason(), archive);
+                } catch (IOException e) {
+                    log.error("Could not open season archive {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Could not list season archives in {}", archiveDir, e);
+        }
+        log.info("Season archives available: {}", archives.keySet());
+    }
+}
@@ -0,0 +1,304 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.repository.GameLogRow;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, read-optimized columnar view of one season's game logs.
+ * Rows are grouped by player (ascending player ID) and ordered by game date within each player,
+ * so a player's games are the contiguous row range [start(i), end(i)).
+ * Game dates are stored as epoch days and all stats as primitive arrays.
+ * Prefix sums over the rows let any contiguous range of a player's games be summed in O(1).
+ */
+public final class SeasonGameLogs {
+
+    private static final Comparator<GameLog> ROW_ORDER = Comparator.comparing(GameLog::getPlayerId)
+            .thenComparing(GameLog::getGameDate)
+            .thenComparing(GameLog::getGameId);
+
+    private final String season;
+
+    // Per-player columns
+    private final long[] playerIds;
+    private final int[] playerStart; // Length playerCount + 1; rows of player i are [playerStart[i], playerStart[i + 1])
+
+    // Per-row columns
+    private final long[] gameIds;
+    private final int[] gameDays; // Epoch day of the game date
+    private final short[] goals;
+    private final short[] assists;
+    private final short[] points;
+    private final short[] shots;
+    private final short[] plusMinus;
+    private final int[] timeOnIce; // In seconds
+
+    // Prefix sums over rows: sum of rows [a, b) is prefix[b] - prefix[a]
+    private final int[] pointsPrefix;
+    private final int[] goalsPrefix;
+    private final int[] shotsPrefix;
+    private final long[] timeOnIcePrefix;
+
+    private SeasonGameLogs(String season, long[] playerIds, int[] playerStart, long[] gameIds, int[] gameDays,
+                           short[] goals, short[] assists, short[] points, short[] shots, short[] plusMinus,
+                           int[] timeOnIce) {
+        this.season = season;
+        this.playerIds = playerIds;
+        this.playerStart = playerStart;
+        this.gameIds = gameIds;
+        this.gameDays = gameDays;
+        this.goals = goals;
+        this.assists = assists;
+        this.points = points;
+        this.shots = shots;
+        this.plusMinus = plusMinus;
+        this.timeOnIce = timeOnIce;
+
+        int rowCount = gameIds.length;
+        this.pointsPrefix = new int[rowCount + 1];
+        this.goalsPrefix = new int[rowCount + 1];
+        this.shotsPrefix = new int[rowCount + 1];
+        this.timeOnIcePrefix = new long[rowCount + 1];
+        for (int row = 0; row < rowCount; row++) {
+            pointsPrefix[row + 1] = pointsPrefix[row] + points[row];
+            goalsPrefix[row + 1] = goalsPrefix[row] + goals[row];
+            shotsPrefix[row + 1] = shotsPrefix[row] + shots[row];
+            timeOnIcePrefix[row + 1] = timeOnIcePrefix[row] + timeOnIce[row];
+        }
+    }
+
+    /**
+     * Build the columnar view from game log entities of a single season.
+     */
+    public static SeasonGameLogs fromGameLogs(String season, List<GameLog> gameLogs) {
+        return fromOrderedRows(season, gameLogs.stream().sorted(ROW_ORDER).map(GameLogRow::of));
+    }
+
+    /**
+     * Build the columnar view from a single season's rows, ordered by player ID, game date and game ID.
+     * The columns grow as rows arrive, so neither entities nor a list of rows are held while loading.
+     * @throws IllegalArgumentException if the rows are not grouped by ascending player ID
+     */
+    public static SeasonGameLogs fromOrderedRows(String season, Stream<GameLogRow> rows) {
+        Columns columns = new Columns();
+        rows.forEach(columns::add);
+        return columns.build(season);
+    }
+
+    /**
+     * Growable primitive columns filled row by row.
+     */
+    private static final class Columns {
+
+        private int rowCount;
+        private long[] gameIds = new long[1024];
+        private int[] gameDays = new int[1024];
+        private short[] goals = new short[1024];
+        private short[] assists = new short[1024];
+        private short[] points = new short[1024];
+        private short[] shots = new short[1024];
+        private short[] plusMinus = new short[1024];
+        private int[] timeOnIce = new int[1024];
+
+        private int playerCount;
+        private long[] playerIds = new long[64];
+        private int[] playerStart = new int[65];
+
+        void add(GameLogRow gameLog) {
+            if (rowCount == gameIds.length) {
+                int capacity = rowCount * 2;
+                gameIds = Arrays.copyOf(gameIds, capacity);
+                gameDays = Arrays.copyOf(gameDays, capacity);
+                goals = Arrays.copyOf(goals, capacity);
+                assists = Arrays.copyOf(assists, capacity);
+                points = Arrays.copyOf(points, capacity);
+                shots = Arrays.copyOf(shots, capacity);
+                plusMinus = Arrays.copyOf(plusMinus, capacity);
+                timeOnIce = Arrays.copyOf(timeOnIce, capacity);
+            }
+
+            long playerId = gameLog.playerId();
+            if (playerCount == 0 || playerIds[playerCount - 1] != playerId) {
+                if (playerCount > 0 && playerIds[playerCount - 1] > playerId) {
+                    throw new IllegalArgumentException("Game log rows are not ordered by player ID");
+                }
+                if (playerCount == playerIds.length) {
+                    playerIds = Arrays.copyOf(playerIds, playerCount * 2);
+                    playerStart = Arrays.copyOf(playerStart, playerCount * 2 + 1);
+                }
+                playerIds[playerCount] = playerId;
+                playerStart[playerCount] = rowCount;
+                playerCount++;
+            }
+
+            int row = rowCount++;
+            gameIds[row] = gameLog.gameId();
+            gameDays[row] = (int) LocalDate.parse(gameLog.gameDate()).toEpochDay();
+            goals[row] = toShort(gameLog.goals());
+            assists[row] = toShort(gameLog.assists());
+            points[row] = toShort(gameLog.points());
+            shots[row] = toShort(gameLog.shots());
+            plusMinus[row] = toShort(gameLog.plusMinus());
+            timeOnIce[row] = gameLog.timeOnIce() != null ? gameLog.timeOnIce() : 0;
+        }
+
+        SeasonGameLogs build(String season) {
+            playerStart[playerCount] = rowCount;
+            return new SeasonGameLogs(season,
+                    Arrays.copyOf(playerIds, playerCount), Arrays.copyOf(playerStart, playerCount + 1),
+                    Arrays.copyOf(gameIds, rowCount), Arrays.copyOf(gameDays, rowCount),
+                    Arrays.copyOf(goals, rowCount), Arrays.copyOf(assists, rowCount),
+                    Arrays.copyOf(points, rowCount), Arrays.copyOf(shots, rowCount),
+                    Arrays.copyOf(plusMinus, rowCount), Arrays.copyOf(timeOnIce, rowCount));
+        }
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public int playerCount() {
+        return playerIds.length;
+    }
+
+    public int rowCount() {
+        return gameIds.length;
+    }
+
+    public long playerId(int playerIndex) {
+        return playerIds[playerIndex];
+    }
+
+    /**
+     * Find a player's index by binary search.
+     * @return The player index, or -1 if the player has no games this season
+     */
+    public int indexOf(long playerId) {
+        int index = Arrays.binarySearch(playerIds, playerId);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * First row of a player's games (inclusive).
+     */
+    public int start(int playerIndex) {
+        return playerStart[playerIndex];
+    }
+
+    /**
+     * Last row of a player's games (exclusive).
+     */
+    public int end(int playerIndex) {
+        return playerStart[playerIndex + 1];
+    }
+
+    public long gameId(int row) {
+        return gameIds[row];
+    }
+
+    public int gameDay(int row) {
+        return gameDays[row];
+    }
+
+    /**
+     * Game date in ISO format (e.g., "2025-10-08"), matching GameLog.gameDate.
+     */
+    public String gameDate(int row) {
+        return LocalDate.ofEpochDay(gameDays[row]).toString();
+    }
+
+    public int goals(int row) {
+        return goals[row];
+    }
+
+    public int assists(int row) {
+        return assists[row];
+    }
+
+    public int points(int row) {
+        return points[row];
+    }
+
+    public int shots(int row) {
+        return shots[row];
+    }
+
+    public int plusMinus(int row) {
+        return plusMinus[row];
+    }
+
+    public int timeOnIce(int row) {
+        return timeOnIce[row];
+    }
+
+    /**
+     * First row of a player's games played on or after an epoch day.
+     */
+    public int firstRowOnOrAfter(int playerIndex, int epochDay) {
+        int low = start(playerIndex);
+        int high = end(playerIndex);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (gameDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Row after the last of a player's games played on or before an epoch day.
+     */
+    public int endRowOnOrBefore(int playerIndex, int epochDay) {
+        return firstRowOnOrAfter(playerIndex, epochDay + 1);
+    }
+
+    /**
+     * Sum of points over rows [fromRow, toRow).
+     */
+    public int sumPoints(int fromRow, int toRow) {
+        return pointsPrefix[toRow] - pointsPrefix[fromRow];
+    }
+
+    /**
+     * Sum of goals over rows [fromRow, toRow).
+     */
+    public int sumGoals(int fromRow, int toRow) {
+        return goalsPrefix[toRow] - goalsPrefix[fromRow];
+    }
+
+    /**
+     * Sum of shots over rows [fromRow, toRow).
+     */
+    public int sumShots(int fromRow, int toRow) {
+        return shotsPrefix[toRow] - shotsPrefix[fromRow];
+    }
+
+    /**
+     * Sum of time on ice in seconds over rows [fromRow, toRow).
+     */
+    public long sumTimeOnIce(int fromRow, int toRow) {
+        return timeOnIcePrefix[toRow] - timeOnIcePrefix[fromRow];
+    }
+
+    /**
+     * Approximate heap footprint of the arrays in bytes (array headers included).
+     */
+    public long footprintBytes() {
+        long perPlayer = 8L * playerIds.length + 4L * playerStart.length;
+        long perRow = (8L + 4 + 2 * 5 + 4) * gameIds.length;
+        long prefixSums = (4L * 3 + 8) * (gameIds.length + 1);
+        return perPlayer + perRow + prefixSums + 16L * 14;
+    }
+
+    private static short toShort(Integer value) {
+        return value != null ? value.shortValue() : 0;
+    }
+}
@@ -0,0 +1,331 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary snapshot of one season: teams, players (with computed ratings), games and game logs.
+ * Fields are written in declaration order with a presence flag for nullable values; the caller
+ * supplies the (compressed) streams.
+ */
+public record SeasonSnapshot(
+        String season,
+        long createdAtMillis,
+        List<Team> teams,
+        List<Player> players,
+        List<Game> games,
+        List<GameLog> gameLogs) {
+
+    private static final int MAGIC = 0x4E484C53; // "NHLS"
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Write the snapshot to a stream.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(season);
+        out.writeLong(createdAtMillis);
+
+        out.writeInt(teams.size());
+        for (Team team : teams) {
+            writeTeam(out, team);
+        }
+        out.writeInt(players.size());
+        for (Player player : players) {
+            writePlayer(out, player);
+        }
+        out.writeInt(games.size());
+        for (Game game : games) {
+            writeGame(out, game);
+        }
+        out.writeInt(gameLogs.size());
+        for (GameLog gameLog : gameLogs) {
+            writeGameLog(out, gameLog);
+        }
+    }
+
+    /**
+     * Read a snapshot from a stream.
+     * @throws IOException if the stream is not a snapshot of a supported format version
+     */
+    public static SeasonSnapshot read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a season snapshot");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + version);
+        }
+        String season = in.readUTF();
+        long createdAtMillis = in.readLong();
+
+        int teamCount = in.readInt();
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            teams.add(readTeam(in, season));
+        }
+        int playerCount = in.readInt();
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(readPlayer(in, season));
+        }
+        int gameCount = in.readInt();
+        List<Game> games = new ArrayList<>(gameCount);
+        for (int i = 0; i < gameCount; i++) {
+            games.add(readGame(in, season));
+        }
+        int gameLogCount = in.readInt();
+        List<GameLog> gameLogs = new ArrayList<>(gameLogCount);
+        for (int i = 0; i < gameLogCount; i++) {
+            gameLogs.add(readGameLog(in));
+        }
+        return new SeasonSnapshot(season, createdAtMillis, teams, players, games, gameLogs);
+    }
+
+    private static void writeTeam(DataOutputStream out, Team team) throws IOException {
+        out.writeUTF(team.getTeamCode());
+        writeString(out, team.getTeamName());
+        writeString(out, team.getFranchiseName());
+        writeString(out, team.getLogoUrl());
+        writeInt(out, team.getGamesPlayed());
+        writeInt(out, team.getWins());
+        writeInt(out, team.getLosses());
+        writeInt(out, team.getOvertimeLosses());
+        writeInt(out, team.getPoints());
+        writeDouble(out, team.getPointPercentage());
+        writeInt(out, team.getGoalsFor());
+        writeInt(out, team.getGoalsAgainst());
+        writeInt(out, team.getGoalDifferential());
+        writeString(out, team.getConferenceName());
+        writeString(out, team.getDivisionName());
+        writeInt(out, team.getCurrentWinStreak());
+        writeInt(out, team.getCurrentLossStreak());
+        writeDouble(out, team.getLast10GamesWinPercentage());
+        writeBoolean(out, team.getHot());
+        writeBoolean(out, team.getCold());
+        writeBoolean(out, team.getPointStreak());
+        writeString(out, team.getNextOpponentCode());
+        writeString(out, team.getNextGameDate());
+        writeBoolean(out, team.getNextGameIsHome());
+        writeString(out, team.getLastUpdated());
+    }
+
+    private static Team readTeam(DataInputStream in, String season) throws IOException {
+        Team team = new Team();
+        team.setTeamCode(in.readUTF());
+        team.setSeason(season);
+        team.setTeamName(readString(in));
+        team.setFranchiseName(readString(in));
+        team.setLogoUrl(readString(in));
+        team.setGamesPlayed(readInt(in));
+        team.setWins(readInt(in));
+        team.setLosses(readInt(in));
+        team.setOvertimeLosses(readInt(in));
+        team.setPoints(readInt(in));
+        team.setPointPercentage(readDouble(in));
+        team.setGoalsFor(readInt(in));
+        team.setGoalsAgainst(readInt(in));
+        team.setGoalDifferential(readInt(in));
+        team.setConferenceName(readString(in));
+        team.setDivisionName(readString(in));
+        team.setCurrentWinStreak(readInt(in));
+        team.setCurrentLossStreak(readInt(in));
+        team.setLast10GamesWinPercentage(readDouble(in));
+        team.setHot(readBoolean(in));
+        team.setCold(readBoolean(in));
+        team.setPointStreak(readBoolean(in));
+        team.setNextOpponentCode(readString(in));
+        team.setNextGameDate(readString(in));
+        team.setNextGameIsHome(readBoolean(in));
+        team.setLastUpdated(readString(in));
+        return team;
+    }
+
+    private static void writePlayer(DataOutputStream out, Player player) throws IOException {
+        out.writeLong(player.getPlayerId());
+        writeString(out, player.getFirstName());
+        writeString(out, player.getLastName());
+        writeString(out, player.getFullName());
+        writeString(out, player.getPositionCode());
+        writeString(out, player.getTeamCode());
+        writeInt(out, player.getGamesPlayed());
+        writeInt(out, player.getGoals());
+        writeInt(out, player.getAssists());
+        writeInt(out, player.getPoints());
+        writeDouble(out, player.getPointsPerGame());
+        writeInt(out, player.getPlusMinus());
+        writeInt(out, player.getPenaltyMinutes());
+        writeInt(out, player.getPowerPlayGoals());
+        writeInt(out, player.getShorthandedGoals());
+        writeInt(out, player.getGameWinningGoals());
+        writeInt(out, player.getOvertimeGoals());
+        writeInt(out, player.getShots());
+        writeDouble(out, player.getShootingPercentage());
+        writeInt(out, player.getCurrentPointStreak());
+        writeDouble(out, player.getHotRating());
+        writeBoolean(out, player.getHot());
+        writeBoolean(out, player.getCold());
+        writeBoolean(out, player.getPointStreak());
+        writeString(out, player.getLastUpdated());
+        writeString(out, player.getHeadshotUrl());
+        writeInt(out, player.getSweaterNumber());
+        writeString(out, player.getShootsCatches());
+        writeInt(out, player.getHeightInInches());
+        writeInt(out, player.getWeightInPounds());
+        writeString(out, player.getBirthDate());
+        writeString(out, player.getBirthCountry());
+    }
+
+    private static Player readPlayer(DataInputStream in, String season) throws IOException {
+        Player player = new Player();
+        player.setPlayerId(in.readLong());
+        player.setSeason(season);
+        player.setFirstName(readString(in));
+        player.setLastName(readString(in));
+        player.setFullName(readString(in));
+        player.setPositionCode(readString(in));
+        player.setTeamCode(readString(in));
+        player.setGamesPlayed(readInt(in));
+        player.setGoals(readInt(in));
+        player.setAssists(readInt(in));
+        player.setPoints(readInt(in));
+        player.setPointsPerGame(readDouble(in));
+        player.setPlusMinus(readInt(in));
+        player.setPenaltyMinutes(readInt(in));
+        player.setPowerPlayGoals(readInt(in));
+        player.setShorthandedGoals(readInt(in));
+        player.setGameWinningGoals(readInt(in));
+        player.setOvertimeGoals(readInt(in));
+        player.setShots(readInt(in));
+        player.setShootingPercentage(readDouble(in));
+        player.setCurrentPointStreak(readInt(in));
+        player.setHotRating(readDouble(in));
+        player.setHot(readBoolean(in));
+        player.setCold(readBoolean(in));
+        player.setPointStreak(readBoolean(in));
+        player.setLastUpdated(readString(in));
+        player.setHeadshotUrl(readString(in));
+        player.setSweaterNumber(readInt(in));
+        player.setShootsCatches(readString(in));
+        player.setHeightInInches(readInt(in));
+        player.setWeightInPounds(readInt(in));
+        player.setBirthDate(readString(in));
+        player.setBirthCountry(readString(in));
+        return player;
+    }
+
+    private static void writeGame(DataOutputStream out, Game game) throws IOException {
+        out.writeLong(game.getGameId());
+        writeString(out, game.getGameDate());
+        writeInt(out, game.getGameType());
+        writeString(out, game.getGameState());
+        writeString(out, game.getHomeTeamCode());
+        writeString(out, game.getAwayTeamCode());
+        writeInt(out, game.getHomeScore());
+        writeInt(out, game.getAwayScore());
+        writeString(out, game.getPeriodType());
+        writeString(out, game.getLastUpdated());
+    }
+
+    private static Game readGame(DataInputStream in, String season) throws IOException {
+        Game game = new Game();
+        game.setGameId(in.readLong());
+        game.setSeason(season);
+        game.setGameDate(readString(in));
+        game.setGameType(readInt(in));
+        game.setGameState(readString(in));
+        game.setHomeTeamCode(readString(in));
+        game.setAwayTeamCode(readString(in));
+        game.setHomeScore(readInt(in));
+        game.setAwayScore(readInt(in));
+        game.setPeriodType(readString(in));
+        game.setLastUpdated(readString(in));
+        return game;
+    }
+
+    private static void writeGameLog(DataOutputStream out, GameLog gameLog) throws IOException {
+        out.writeLong(gameLog.getPlayerId());
+        out.writeLong(gameLog.getGameId());
+        writeString(out, gameLog.getGameDate());
+        writeString(out, gameLog.getOpponentTeamCode());
+        writeBoolean(out, gameLog.getHomeGame());
+        writeInt(out, gameLog.getGoals());
+        writeInt(out, gameLog.getAssists());
+        writeInt(out, gameLog.getPoints());
+        writeInt(out, gameLog.getPlusMinus());
+        writeInt(out, gameLog.getShots());
+        writeInt(out, gameLog.getTimeOnIce());
+        writeBoolean(out, gameLog.getGameWon());
+    }
+
+    private static GameLog readGameLog(DataInputStream in) throws IOException {
+        // Row IDs are not carried over; the database assigns new ones on import
+        GameLog gameLog = new GameLog();
+        gameLog.setPlayerId(in.readLong());
+        gameLog.setGameId(in.readLong());
+        gameLog.setGameDate(readString(in));
+        gameLog.setOpponentTeamCode(readString(in));
+        gameLog.setHomeGame(readBoolean(in));
+        gameLog.setGoals(readInt(in));
+        gameLog.setAssists(readInt(in));
+        gameLog.setPoints(readInt(in));
+        gameLog.setPlusMinus(readInt(in));
+        gameLog.setShots(readInt(in));
+        gameLog.setTimeOnIce(readInt(in));
+        gameLog.setGameWon(readBoolean(in));
+        return gameLog;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    // Nullable booleans fit in one byte: -1 = null, 0 = false, 1 = true
+    private static void writeBoolean(DataOutputStream out, Boolean value) throws IOException {
+        out.writeByte(value == null ? -1 : value ? 1 : 0);
+    }
+
+    private static Boolean readBoolean(DataInputStream in) throws IOException {
+        byte value = in.readByte();
+        return value < 0 ? null : value == 1;
+    }
+}
@@ -0,0 +1,210 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.dto.TeamGame;
+import com.nhl.whoshotbackend.entity.Game;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, date-ordered columnar view of one season's completed regular-season games, one row per team and game.
+ * Rows are grouped by team (ascending team code) and ordered by game date within each team,
+ * so a team's games are the contiguous row range [start(i), end(i)).
+ * Prefix sums give a team's record up to any date in O(1), and the win and loss streak running at
+ * each row are precomputed, so a team's standing as of a date costs one binary search.
+ */
+public final class SeasonTeamGames {
+
+    private static final Comparator<TeamGame> ROW_ORDER = Comparator.comparing(TeamGame::getTeamCode)
+            .thenComparing(TeamGame::getGameDate)
+            .thenComparing(TeamGame::getGameId);
+
+    private final String season;
+
+    // Per-team columns
+    private final String[] teamCodes;
+    private final int[] teamStart; // Length teamCount + 1; rows of team i are [teamStart[i], teamStart[i + 1])
+
+    // Per-row columns
+    private final int[] gameDays; // Epoch day of the game date
+    private final boolean[] won;
+    private final int[] winStreak; // Consecutive wins ending at this row
+    private final int[] lossStreak; // Consecutive losses (overtime included) ending at this row
+
+    // Prefix sums over rows: sum of rows [a, b) is prefix[b] - prefix[a]
+    private final int[] winsPrefix;
+    private final int[] overtimeLossesPrefix;
+    private final int[] goalsForPrefix;
+    private final int[] goalsAgainstPrefix;
+
+    private SeasonTeamGames(String season, String[] teamCodes, int[] teamStart, int[] gameDays, boolean[] won,
+                            boolean[] overtimeLoss, int[] goalsFor, int[] goalsAgainst) {
+        this.season = season;
+        this.teamCodes = teamCodes;
+        this.teamStart = teamStart;
+        this.gameDays = gameDays;
+        this.won = won;
+
+        int rowCount = gameDays.length;
+        this.winStreak = new int[rowCount];
+        this.lossStreak = new int[rowCount];
+        this.winsPrefix = new int[rowCount + 1];
+        this.overtimeLossesPrefix = new int[rowCount + 1];
+        this.goalsForPrefix = new int[rowCount + 1];
+        this.goalsAgainstPrefix = new int[rowCount + 1];
+        for (int teamIndex = 0; teamIndex < teamCodes.length; teamIndex++) {
+            for (int row = teamStart[teamIndex]; row < teamStart[teamIndex + 1]; row++) {
+                boolean first = row == teamStart[teamIndex];
+                winStreak[row] = won[row] ? (first ? 0 : winStreak[row - 1]) + 1 : 0;
+                lossStreak[row] = won[row] ? 0 : (first ? 0 : lossStreak[row - 1]) + 1;
+            }
+        }
+        for (int row = 0; row < rowCount; row++) {
+            winsPrefix[row + 1] = winsPrefix[row] + (won[row] ? 1 : 0);
+            overtimeLossesPrefix[row + 1] = overtimeLossesPrefix[row] + (overtimeLoss[row] ? 1 : 0);
+            goalsForPrefix[row + 1] = goalsForPrefix[row] + goalsFor[row];
+            goalsAgainstPrefix[row + 1] = goalsAgainstPrefix[row] + goalsAgainst[row];
+        }
+    }
+
+    /**
+     * Build the columnar view from a season's games; games that are not completed regular-season games are skipped.
+     */
+    public static SeasonTeamGames fromGames(String season, List<Game> games) {
+        List<TeamGame> rows = new ArrayList<>(games.size() * 2);
+        for (Game game : games) {
+            if (!game.isCompleted() || game.getGameType() == null || game.getGameType() != Game.REGULAR_SEASON) {
+                continue;
+            }
+            rows.add(game.toTeamGame(game.getHomeTeamCode()));
+            rows.add(game.toTeamGame(game.getAwayTeamCode()));
+        }
+        rows.sort(ROW_ORDER);
+
+        int rowCount = rows.size();
+        int[] gameDays = new int[rowCount];
+        boolean[] won = new boolean[rowCount];
+        boolean[] overtimeLoss = new boolean[rowCount];
+        int[] goalsFor = new int[rowCount];
+        int[] goalsAgainst = new int[rowCount];
+
+        String[] teamCodes = new String[rowCount];
+        int[] teamStart = new int[rowCount + 1];
+        int teamCount = 0;
+
+        for (int row = 0; row < rowCount; row++) {
+            TeamGame teamGame = rows.get(row);
+            if (teamCount == 0 || !teamCodes[teamCount - 1].equals(teamGame.getTeamCode())) {
+                teamCodes[teamCount] = teamGame.getTeamCode();
+                teamStart[teamCount] = row;
+                teamCount++;
+            }
+            gameDays[row] = (int) LocalDate.parse(teamGame.getGameDate()).toEpochDay();
+            won[row] = Boolean.TRUE.equals(teamGame.getWon());
+            overtimeLoss[row] = Boolean.TRUE.equals(teamGame.getOvertimeLoss());
+            goalsFor[row] = teamGame.getGoalsFor();
+            goalsAgainst[row] = teamGame.getGoalsAgainst();
+        }
+        teamStart[teamCount] = rowCount;
+
+        return new SeasonTeamGames(season,
+                Arrays.copyOf(teamCodes, teamCount), Arrays.copyOf(teamStart, teamCount + 1),
+                gameDays, won, overtimeLoss, goalsFor, goalsAgainst);
+    }
+
+    public String getSeason() {
+        return season;
+    }
+
+    public int teamCount() {
+        return teamCodes.length;
+    }
+
+    public int rowCount() {
+        return gameDays.length;
+    }
+
+    public String teamCode(int teamIndex) {
+        return teamCodes[teamIndex];
+    }
+
+    /**
+     * First row of a team's games.
+     */
+    public int start(int teamIndex) {
+        return teamStart[teamIndex];
+    }
+
+    /**
+     * Row after the last of a team's games.
+     */
+    public int end(int teamIndex) {
+        return teamStart[teamIndex + 1];
+    }
+
+    /**
+     * Row after the last of a team's games played on or before an epoch day.
+     */
+    public int endRowOnOrBefore(int teamIndex, int epochDay) {
+        int low = start(teamIndex);
+        int high = end(teamIndex);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (gameDays[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public boolean won(int row) {
+        return won[row];
+    }
+
+    /**
+     * Consecutive wins ending at a row (0 if that game was lost).
+     */
+    public int winStreak(int row) {
+        return winStreak[row];
+    }
+
+    /**
+     * Consecutive losses, overtime losses included, ending at a row (0 if that game was won).
+     */
+    public int lossStreak(int row) {
+        return lossStreak[row];
+    }
+
+    /**
+     * Wins over rows [fromRow, toRow).
+     */
+    public int sumWins(int fromRow, int toRow) {
+        return winsPrefix[toRow] - winsPrefix[fromRow];
+    }
+
+    /**
+     * Overtime and shootout losses over rows [fromRow, toRow).
+     */
+    public int sumOvertimeLosses(int fromRow, int toRow) {
+        return overtimeLossesPrefix[toRow] - overtimeLossesPrefix[fromRow];
+    }
+
+    /**
+     * Goals for over rows [fromRow, toRow).
+     */
+    public int sumGoalsFor(int fromRow, int toRow) {
+        return goalsForPrefix[toRow] - goalsForPrefix[fromRow];
+    }
+
+    /**
+     * Goals against over rows [fromRow, toRow).
+     */
+    public int sumGoalsAgainst(int fromRow, int toRow) {
+        return goalsAgainstPrefix[toRow] - goalsAgainstPrefix[fromRow];
+    }
+}
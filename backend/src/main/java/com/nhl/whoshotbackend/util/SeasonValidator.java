@@ -10,6 +10,9 @@ public class SeasonValidator {
     // NHL founded in 1917, use 1917-1918 as minimum season
     private static final int MIN_SEASON_START_YEAR = 1917;
 
+    // Game IDs are prefixed with the season start year (e.g., 2025020001)
+    private static final long GAME_ID_SEASON_DIVISOR = 1_000_000L;
+
     /**
      * Get the current NHL season ID.
      * NHL seasons span two years (e.g., 2025-2026 season ID is 20252026).
@@ -18,9 +21,18 @@ public class SeasonValidator {
      * @return Current season ID in format YYYYYYYY
      */
     public static String getCurrentSeasonId() {
-        LocalDate now = LocalDate.now();
-        int year = now.getYear();
-        int month = now.getMonthValue();
+        return getSeasonIdForDate(LocalDate.now());
+    }
+
+    /**
+     * Get the ID of the NHL season a date falls in; July-September count toward the season about to start.
+     *
+     * @param date Date to look up
+     * @return Season ID in format YYYYYYYY
+     */
+    public static String getSeasonIdForDate(LocalDate date) {
+        int year = date.getYear();
+        int month = date.getMonthValue();
 
         // If we're in January-June, we're in the second half of the season
         // If we're in July-December, we're in the first half or pre-season of next season
@@ -118,4 +130,37 @@ public class SeasonValidator {
         String endYear = seasonId.substring(4, 8);
         return startYear + "-" + endYear;
     }
+
+    /**
+     * Get the season ID a game belongs to from its game ID.
+     * For example: 2025020001 -> 20252026
+     *
+     * @param gameId NHL game ID
+     * @return Season ID in format YYYYYYYY
+     */
+    public static String getSeasonIdForGame(long gameId) {
+        return yearToSeasonId((int) (gameId / GAME_ID_SEASON_DIVISOR));
+    }
+
+    /**
+     * Get the lowest possible game ID for a season.
+     * For example: 20252026 -> 2025000000
+     *
+     * @param seasonId Season ID in format YYYYYYYY
+     * @return First game ID of the season range (inclusive)
+     */
+    public static long getFirstGameId(String seasonId) {
+        return Long.parseLong(seasonId.substring(0, 4)) * GAME_ID_SEASON_DIVISOR;
+    }
+
+    /**
+     * Get the highest possible game ID for a season.
+     * For example: 20252026 -> 2025999999
+     *
+     * @param seasonId Season ID in format YYYYYYYY
+     * @return Last game ID of the season range (inclusive)
+     */
+    public static long getLastGameId(String seasonId) {
+        return getFirstGameId(seasonId) + GAME_ID_SEASON_DIVISOR - 1;
+    }
 }
@@ -0,0 +1,83 @@
+package com.nhl.whoshotbackend;
+
+import com.nhl.whoshotbackend.service.DataStatusService;
+import com.nhl.whoshotbackend.service.NhlApiService;
+import org.mockito.Mockito;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts full application instances for tests, each with its own working directories and an NHL API client
+ * that returns no data, so the startup sync completes without network access. Each instance is returned
+ * once its startup sync has finished.
+ */
+public final class AppInstances {
+
+    private AppInstances() {
+    }
+
+    /**
+     * Start an instance on a SQLite database file.
+     * @param name Instance name, used for its snapshot and asset directories
+     * @param properties Extra properties ("key=value")
+     */
+    public static ConfigurableApplicationContext start(Path workDir, Path databaseFile, String name,
+                                                       WebApplicationType webApplicationType, String... properties) {
+        List<String> all = new ArrayList<>(List.of(
+                "nhl.database.file=" + databaseFile,
+                "nhl.snapshot.dir=" + workDir.resolve(name + "-snapshots"),
+                "nhl.archive.dir=" + workDir.resolve("archives"),
+                "nhl.assets.cache-dir=" + workDir.resolve(name + "-assets"),
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        all.addAll(List.of(properties));
+        // Command line arguments, so they take precedence over application.yml
+        ConfigurableApplicationContext instance = new SpringApplicationBuilder(WhosHotBackendApplication.class, StubUpstream.class)
+                .web(webApplicationType)
+                .run(all.stream().map(property -> "--" + property).toArray(String[]::new));
+        awaitInitialSync(instance);
+        return instance;
+    }
+
+    /**
+     * Wait for the startup sync to finish, so it does not recalculate data a test stores afterwards.
+     */
+    private static void awaitInitialSync(ConfigurableApplicationContext instance) {
+        DataStatusService dataStatusService = instance.getBean(DataStatusService.class);
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (dataStatusService.isSyncInProgress()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Initial sync did not finish within 30 s");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Replaces the NHL API client with one that answers every request with no data.
+     */
+    static class StubUpstream {
+
+        @Bean
+        @Primary
+        NhlApiService stubNhlApiService() {
+            NhlApiService nhlApiService = Mockito.mock(NhlApiService.class);
+            Mockito.when(nhlApiService.getCurrentSeason()).thenReturn(TestSeasonData.SEASON);
+            return nhlApiService;
+        }
+    }
+}
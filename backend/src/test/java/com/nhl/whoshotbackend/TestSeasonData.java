@@ -0,0 +1,180 @@
+package com.nhl.whoshotbackend;
+
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic, randomly generated season: teams playing a round of games each day, their skaters'
+ * game logs, and player and team season totals consistent with those games.
+ */
+public final class TestSeasonData {
+
+    public static final String SEASON = "20242025";
+
+    public final String season;
+    public final List<Team> teams = new ArrayList<>();
+    public final List<Player> players = new ArrayList<>();
+    public final List<Game> games = new ArrayList<>();
+    public final List<GameLog> gameLogs = new ArrayList<>();
+
+    private TestSeasonData(String season) {
+        this.season = season;
+    }
+
+    /**
+     * Generate a season.
+     * @param teamCount Number of teams (even)
+     * @param playersPerTeam Skaters per team, all dressed for every game
+     * @param gameDays Days with games; every team plays once a day
+     * @param seed Random seed, so the same arguments always give the same season
+     */
+    public static TestSeasonData generate(String season, int teamCount, int playersPerTeam, int gameDays, long seed) {
+        TestSeasonData data = new TestSeasonData(season);
+        Random random = new Random(seed);
+        LocalDate openingDay = LocalDate.of(SeasonValidator.getStartYear(season), 10, 1);
+
+        Map<String, List<Player>> rosters = new HashMap<>();
+        List<String> teamCodes = new ArrayList<>();
+        for (int t = 0; t < teamCount; t++) {
+            String teamCode = String.format("T%02d", t);
+            teamCodes.add(teamCode);
+            Team team = new Team();
+            team.setTeamCode(teamCode);
+            team.setSeason(season);
+            team.setTeamName("Team " + t);
+            team.setLogoUrl("https://assets.nhle.com/logos/nhl/svg/" + teamCode + "_light.svg");
+            team.setGamesPlayed(0);
+            team.setWins(0);
+            team.setLosses(0);
+            team.setOvertimeLosses(0);
+            team.setPoints(0);
+            team.setGoalsFor(0);
+            team.setGoalsAgainst(0);
+            data.teams.add(team);
+
+            List<Player> roster = new ArrayList<>();
+            for (int p = 0; p < playersPerTeam; p++) {
+                long playerId = 8_400_000L + t * 100L + p;
+                Player player = new Player();
+                player.setPlayerId(playerId);
+                player.setSeason(season);
+                player.setFirstName("First" + playerId);
+                player.setLastName("Last" + playerId);
+                player.setFullName("First" + playerId + " Last" + playerId);
+                player.setPositionCode(p % 3 == 0 ? "D" : p % 3 == 1 ? "C" : "L");
+                player.setTeamCode(teamCode);
+                player.setGamesPlayed(0);
+                player.setGoals(0);
+                player.setAssists(0);
+                player.setPoints(0);
+                player.setShots(0);
+                player.setPlusMinus(0);
+                roster.add(player);
+                data.players.add(player);
+            }
+            rosters.put(teamCode, roster);
+        }
+
+        long gameId = SeasonValidator.getFirstGameId(season) + 20_000;
+        for (int day = 0; day < gameDays; day++) {
+            String gameDate = openingDay.plusDays(day).toString();
+            List<String> order = new ArrayList<>(teamCodes);
+            Collections.shuffle(order, random);
+            for (int i = 0; i + 1 < order.size(); i += 2) {
+                gameId++;
+                int homeScore = random.nextInt(6);
+                int awayScore = random.nextInt(6);
+                String periodType = "REG";
+                if (homeScore == awayScore) {
+                    periodType = random.nextBoolean() ? "OT" : "SO";
+                    if (random.nextBoolean()) {
+                        homeScore++;
+                    } else {
+                        awayScore++;
+                    }
+                }
+                Game game = new Game(gameId, season, gameDate, Game.REGULAR_SEASON, "OFF", order.get(i), order.get(i + 1),
+                        homeScore, awayScore, periodType, null);
+                data.games.add(game);
+                data.addGameLogs(game, rosters.get(game.getHomeTeamCode()), true, random);
+                data.addGameLogs(game, rosters.get(game.getAwayTeamCode()), false, random);
+                data.addToStandings(game);
+            }
+        }
+
+        for (Player player : data.players) {
+            int gamesPlayed = player.getGamesPlayed();
+            player.setPointsPerGame(gamesPlayed > 0 ? (double) player.getPoints() / gamesPlayed : 0.0);
+        }
+        for (Team team : data.teams) {
+            team.setPoints(2 * team.getWins() + team.getOvertimeLosses());
+            team.setGoalDifferential(team.getGoalsFor() - team.getGoalsAgainst());
+        }
+        return data;
+    }
+
+    /**
+     * Generate a small season: 8 teams of 6 skaters over 30 game days.
+     */
+    public static TestSeasonData small(long seed) {
+        return generate(SEASON, 8, 6, 30, seed);
+    }
+
+    private void addGameLogs(Game game, List<Player> roster, boolean home, Random random) {
+        int teamGoals = home ? game.getHomeScore() : game.getAwayScore();
+        int opponentGoals = home ? game.getAwayScore() : game.getHomeScore();
+        int[] goals = new int[roster.size()];
+        int[] assists = new int[roster.size()];
+        for (int goal = 0; goal < teamGoals; goal++) {
+            goals[random.nextInt(roster.size())]++;
+            assists[random.nextInt(roster.size())]++;
+        }
+        for (int i = 0; i < roster.size(); i++) {
+            Player player = roster.get(i);
+            int shots = goals[i] + random.nextInt(4);
+            int plusMinus = random.nextInt(3) - 1;
+            gameLogs.add(new GameLog(null, player.getPlayerId(), game.getGameId(), game.getGameDate(),
+                    home ? game.getAwayTeamCode() : game.getHomeTeamCode(), home,
+                    goals[i], assists[i], goals[i] + assists[i], plusMinus, shots, 600 + random.nextInt(900),
+                    teamGoals > opponentGoals));
+            player.setGamesPlayed(player.getGamesPlayed() + 1);
+            player.setGoals(player.getGoals() + goals[i]);
+            player.setAssists(player.getAssists() + assists[i]);
+            player.setPoints(player.getPoints() + goals[i] + assists[i]);
+            player.setShots(player.getShots() + shots);
+            player.setPlusMinus(player.getPlusMinus() + plusMinus);
+        }
+    }
+
+    private void addToStandings(Game game) {
+        for (Team team : teams) {
+            boolean home = team.getTeamCode().equals(game.getHomeTeamCode());
+            if (!home && !team.getTeamCode().equals(game.getAwayTeamCode())) {
+                continue;
+            }
+            int goalsFor = home ? game.getHomeScore() : game.getAwayScore();
+            int goalsAgainst = home ? game.getAwayScore() : game.getHomeScore();
+            team.setGamesPlayed(team.getGamesPlayed() + 1);
+            team.setGoalsFor(team.getGoalsFor() + goalsFor);
+            team.setGoalsAgainst(team.getGoalsAgainst() + goalsAgainst);
+            if (goalsFor > goalsAgainst) {
+                team.setWins(team.getWins() + 1);
+            } else if (!"REG".equals(game.getPeriodType())) {
+                team.setOvertimeLosses(team.getOvertimeLosses() + 1);
+            } else {
+                team.setLosses(team.getLosses() + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.nhl.whoshotbackend.config;
+
+import com.nhl.whoshotbackend.service.DataStatusService;
+import com.nhl.whoshotbackend.service.NhlApiService;
+import com.nhl.whoshotbackend.service.StatisticsService;
+import com.nhl.whoshotbackend.service.SyncLeaseService;
+import com.nhl.whoshotbackend.service.SyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Startup on an empty database while upstream fails: health reports the error and the sync is retried.
+ */
+class DataInitializerTest {
+
+    private static final String SEASON = "20252026";
+    private static final long RETRY_DELAY_MS = 30_000;
+
+    private final DataStatusService dataStatusService = new DataStatusService();
+    private final SyncLeaseService syncLeaseService = mock(SyncLeaseService.class);
+    private final SyncService syncService = mock(SyncService.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private final DataHealthIndicator healthIndicator = new DataHealthIndicator(dataStatusService, syncLeaseService);
+    private DataInitializer dataInitializer;
+
+    @BeforeEach
+    void setUp() {
+        NhlApiService nhlApiService = mock(NhlApiService.class);
+        when(nhlApiService.getCurrentSeason()).thenReturn(SEASON);
+        when(syncLeaseService.acquire()).thenReturn(true);
+        when(syncLeaseService.isLeader()).thenReturn(true);
+        // Stored data and snapshots are absent
+        when(syncService.restoreSnapshot(SEASON)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        dataInitializer = new DataInitializer(mock(StatisticsService.class), dataStatusService, nhlApiService,
+                syncLeaseService, syncService, taskScheduler, RETRY_DELAY_MS, 100_000);
+    }
+
+    @Test
+    void failedStartupSyncIsReportedAndRetriedWithBackoff() {
+        when(syncService.syncSeason(SEASON)).thenAnswer(invocation -> failedSync());
+
+        dataInitializer.run();
+        Health health = healthIndicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("lastSyncError", "upstream unreachable")
+                .containsKey("nextSyncRetry");
+        assertThat(scheduledRetryDelay()).isEqualTo(Duration.ofMillis(RETRY_DELAY_MS));
+
+        runScheduledRetry();
+        assertThat(scheduledRetryDelay()).isEqualTo(Duration.ofMillis(2 * RETRY_DELAY_MS));
+        runScheduledRetry();
+        runScheduledRetry();
+        assertThat(scheduledRetryDelay()).as("capped at the maximum delay").isEqualTo(Duration.ofMillis(100_000));
+
+        when(syncService.syncSeason(SEASON)).thenAnswer(invocation -> succeededSync());
+        runScheduledRetry();
+        health = healthIndicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).doesNotContainKeys("lastSyncError", "nextSyncRetry");
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        verify(syncService, times(5)).syncSeason(SEASON);
+    }
+
+    @Test
+    void retryIsDroppedOnceAnotherSyncSucceeded() {
+        when(syncService.syncSeason(SEASON)).thenAnswer(invocation -> failedSync());
+        dataInitializer.run();
+
+        dataStatusService.syncStarted(); // E.g. a sync requested through the API
+        dataStatusService.syncCompleted();
+        runScheduledRetry();
+
+        verify(syncService, times(1)).syncSeason(SEASON);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private CompletableFuture<Void> failedSync() {
+        // What SyncService records when a sync fails
+        dataStatusService.syncStarted();
+        IllegalStateException e = new IllegalStateException("upstream unreachable");
+        dataStatusService.syncFailed(e);
+        return CompletableFuture.failedFuture(e);
+    }
+
+    private CompletableFuture<Void> succeededSync() {
+        dataStatusService.syncStarted();
+        dataStatusService.syncCompleted();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Delay of the last scheduled retry, from the next retry time the health indicator reports.
+     */
+    private Duration scheduledRetryDelay() {
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(any(Runnable.class), at.capture());
+        assertThat(dataStatusService.getNextSyncRetry()).isEqualTo(at.getValue());
+        Duration delay = Duration.between(Instant.now(), at.getValue());
+        // Round to the second to absorb the time the test took since scheduling
+        return Duration.ofSeconds(Math.round(delay.toMillis() / 1000.0));
+    }
+
+    private void runScheduledRetry() {
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(retry.capture(), any(Instant.class));
+        clearInvocations(taskScheduler);
+        retry.getValue().run();
+    }
+}
@@ -0,0 +1,160 @@
+package com.nhl.whoshotbackend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhl.whoshotbackend.AppInstances;
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.service.ListQueries;
+import com.nhl.whoshotbackend.service.StatisticsService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sparse fieldsets against full entities on the list endpoints: payload size, serialization time and row order.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListPayloadTest {
+
+    private static final String SEASON = TestSeasonData.SEASON;
+    private static final String SPARSE_FIELDS = "playerId,fullName,teamCode,points";
+    private static final int ROUNDS = 40;
+
+    private ConfigurableApplicationContext app;
+    private HttpClient client;
+    private String baseUrl;
+
+    @BeforeAll
+    void startAndSeed(@TempDir Path workDir) {
+        app = AppInstances.start(workDir, workDir.resolve("payload.db"), "payload", WebApplicationType.SERVLET);
+        TestSeasonData data = TestSeasonData.generate(SEASON, 32, 25, 20, 51);
+        new TransactionTemplate(app.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            app.getBean(TeamRepository.class).saveAll(data.teams);
+            app.getBean(PlayerRepository.class).saveAll(data.players);
+            app.getBean(GameRepository.class).saveAll(data.games);
+            app.getBean(GameLogRepository.class).saveAll(data.gameLogs);
+        });
+        client = HttpClient.newHttpClient();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+    }
+
+    @AfterAll
+    void stop() {
+        if (app != null) {
+            app.close();
+        }
+    }
+
+    @Test
+    void sparseStandingsAreSmallerAndFasterToSerialize() throws Exception {
+        String fullPath = "/api/players/standings?season=" + SEASON;
+        String sparsePath = fullPath + "&fields=" + SPARSE_FIELDS;
+
+        byte[] full = get(fullPath);
+        byte[] sparse = get(sparsePath);
+        long fullResponseNanos = median(() -> get(fullPath));
+        long sparseResponseNanos = median(() -> get(sparsePath));
+
+        // Serialization alone, with the application's object mapper
+        StatisticsService statisticsService = app.getBean(StatisticsService.class);
+        ObjectMapper objectMapper = app.getBean(ObjectMapper.class);
+        List<Player> players = statisticsService.getPlayerStandings(SEASON);
+        List<?> rows = statisticsService.list(ListQueries.playerStandings(SEASON), SPARSE_FIELDS, null, null).items();
+        long fullSerializeNanos = median(() -> objectMapper.writeValueAsBytes(players));
+        long sparseSerializeNanos = median(() -> objectMapper.writeValueAsBytes(rows));
+
+        System.out.printf("Player standings, %d rows: full %d KB, response %d us, serialization %d us; "
+                        + "sparse (%s) %d KB, response %d us, serialization %d us%n",
+                players.size(), full.length / 1024, fullResponseNanos / 1_000, fullSerializeNanos / 1_000,
+                SPARSE_FIELDS, sparse.length / 1024, sparseResponseNanos / 1_000, sparseSerializeNanos / 1_000);
+
+        JsonNode fullRows = objectMapper.readTree(full);
+        JsonNode sparseRows = objectMapper.readTree(sparse);
+        assertThat(sparseRows.size()).isEqualTo(fullRows.size()).isEqualTo(players.size());
+        assertThat(fieldNames(sparseRows.get(0))).containsExactly(SPARSE_FIELDS.split(","));
+        assertThat(sparse.length).isLessThan(full.length / 4);
+        assertThat(sparseSerializeNanos).isLessThan(fullSerializeNanos);
+    }
+
+    @Test
+    void fullAndSparseTeamPlayersComeInTheSameOrder() throws Exception {
+        ObjectMapper objectMapper = app.getBean(ObjectMapper.class);
+        String path = "/api/teams/T07/players?season=" + SEASON;
+
+        List<Long> full = playerIds(objectMapper.readTree(get(path)));
+        List<Long> sparse = playerIds(objectMapper.readTree(get(path + "&fields=playerId,points")));
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            HttpResponse<byte[]> page = send(path + "&fields=playerId&limit=4" + (cursor != null ? "&cursor=" + cursor : ""));
+            paged.addAll(playerIds(objectMapper.readTree(page.body())));
+            cursor = page.headers().firstValue("X-Next-Cursor").orElse(null);
+        } while (cursor != null);
+
+        assertThat(full).hasSize(25);
+        assertThat(sparse).containsExactlyElementsOf(full);
+        assertThat(paged).containsExactlyElementsOf(full);
+    }
+
+    private byte[] get(String path) throws Exception {
+        HttpResponse<byte[]> response = send(path);
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    private HttpResponse<byte[]> send(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Median time of ROUNDS runs, after as many warm-up runs.
+     */
+    private static long median(Callable<?> work) throws Exception {
+        long[] nanos = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS * 2; round++) {
+            long startNanos = System.nanoTime();
+            work.call();
+            if (round >= ROUNDS) {
+                nanos[round - ROUNDS] = System.nanoTime() - startNanos;
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos[ROUNDS / 2];
+    }
+
+    private static List<String> fieldNames(JsonNode row) {
+        List<String> names = new ArrayList<>();
+        row.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static List<Long> playerIds(JsonNode rows) {
+        List<Long> ids = new ArrayList<>();
+        rows.forEach(row -> ids.add(row.get("playerId").asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,108 @@
+package com.nhl.whoshotbackend.controller;
+
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.ListQueryRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.service.ChangeLogService;
+import com.nhl.whoshotbackend.service.ClubStatsService;
+import com.nhl.whoshotbackend.service.HotColdRuleService;
+import com.nhl.whoshotbackend.service.NhlApiService;
+import com.nhl.whoshotbackend.service.PlayerSearchService;
+import com.nhl.whoshotbackend.service.RankIndexService;
+import com.nhl.whoshotbackend.service.StatisticsService;
+import com.nhl.whoshotbackend.service.StreakStateService;
+import com.nhl.whoshotbackend.service.TrendService;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * /api/teams/batch against a stubbed repository and a real season archive.
+ */
+class TeamControllerTest {
+
+    private static final String SEASON = TestSeasonData.SEASON;
+    private static final String ARCHIVED_SEASON = "20232024";
+
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private SeasonArchiveStore seasonArchiveStore;
+    private TeamController teamController;
+
+    @BeforeEach
+    void setUp(@TempDir Path archiveDir) {
+        seasonArchiveStore = new SeasonArchiveStore(archiveDir.toString());
+        StatisticsService statisticsService = new StatisticsService(mock(PlayerRepository.class), teamRepository,
+                mock(StreakStateService.class), mock(GameLogStore.class), mock(RankIndexService.class),
+                mock(PlayerSearchService.class), mock(TrendService.class), mock(ListQueryRepository.class),
+                seasonArchiveStore, mock(HotColdRuleService.class), mock(ChangeLogService.class));
+        teamController = new TeamController(statisticsService, mock(NhlApiService.class),
+                mock(RankIndexService.class), mock(ClubStatsService.class));
+    }
+
+    @Test
+    void teamsComeBackInTheRequestedOrderWithoutUnknownOrRepeatedCodes() {
+        TestSeasonData data = TestSeasonData.generate(SEASON, 4, 1, 1, 61);
+        // SQL IN gives no order; return the teams reversed
+        List<Team> stored = new ArrayList<>(data.teams);
+        Collections.reverse(stored);
+        when(teamRepository.findBySeasonAndTeamCodeIn(eq(SEASON), anyCollection())).thenReturn(stored);
+
+        ResponseEntity<?> response = teamController.getTeams(List.of("T02", "XXX", "T00", "T03", "T02"), SEASON);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(teamCodes(response)).containsExactly("T02", "T00", "T03");
+    }
+
+    @Test
+    void archivedTeamsComeBackInTheRequestedOrder() throws IOException {
+        TestSeasonData data = TestSeasonData.generate(ARCHIVED_SEASON, 4, 1, 1, 62);
+        SeasonArchive.write(seasonArchiveStore.pathFor(ARCHIVED_SEASON), ARCHIVED_SEASON, data.teams, data.players,
+                data.gameLogs);
+        seasonArchiveStore.open(ARCHIVED_SEASON);
+
+        ResponseEntity<?> response = teamController.getTeams(List.of("T03", "T01", "XXX", "T03"), ARCHIVED_SEASON);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(teamCodes(response)).containsExactly("T03", "T01");
+    }
+
+    @Test
+    void batchesAboveTheCapOrWithoutCodesAreRejected() {
+        List<String> codes = IntStream.range(0, 65).mapToObj(i -> String.format("T%02d", i)).toList();
+
+        ResponseEntity<?> tooMany = teamController.getTeams(codes, SEASON);
+        ResponseEntity<?> none = teamController.getTeams(List.of(), SEASON);
+
+        assertThat(tooMany.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(tooMany.getBody()).isEqualTo(Map.of("status", "error",
+                "message", "Invalid codes: between 1 and 64 team codes are allowed, got 65"));
+        assertThat(none.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(teamController.getTeams(codes.subList(0, 64), SEASON).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> teamCodes(ResponseEntity<?> response) {
+        return ((List<Team>) response.getBody()).stream().map(Team::getTeamCode).toList();
+    }
+}
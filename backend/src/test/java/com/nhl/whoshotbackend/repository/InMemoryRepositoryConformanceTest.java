@@ -0,0 +1,12 @@
+package com.nhl.whoshotbackend.repository;
+
+/**
+ * Storage contract on the in-memory engine ("memory" profile).
+ */
+class InMemoryRepositoryConformanceTest extends RepositoryConformanceTest {
+
+    @Override
+    String[] engineProperties() {
+        return new String[]{"spring.profiles.active=memory"};
+    }
+}
@@ -0,0 +1,12 @@
+package com.nhl.whoshotbackend.repository;
+
+/**
+ * Storage contract on the Spring Data JPA engine (SQLite).
+ */
+class JpaRepositoryConformanceTest extends RepositoryConformanceTest {
+
+    @Override
+    String[] engineProperties() {
+        return new String[0];
+    }
+}
@@ -0,0 +1,128 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.service.ListQueries;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetPagesTest {
+
+    private static final String SEASON = TestSeasonData.SEASON;
+
+    @Test
+    void cursorsRoundTrip() {
+        for (KeysetCursor cursor : List.of(
+                KeysetCursor.after(42, 8_478_402L),
+                KeysetCursor.after(0.1 + 0.2, 8_478_402L),
+                KeysetCursor.after(null, 8_478_402L),
+                KeysetCursor.after(-3, "TOR"))) {
+            String encoded = cursor.encode();
+            assertThat(encoded).doesNotContain("+", "/", "=");
+            assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+        }
+        assertThat(Double.valueOf(KeysetCursor.decode(KeysetCursor.after(0.1 + 0.2, 1L).encode()).sortValue()))
+                .isEqualTo(0.1 + 0.2);
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        for (String cursor : List.of("not base64!", encode("no separator"), encode("12|"), encode(""))) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor)).as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        List<Player> players = ordered(ListQueries.playerStandings(SEASON), TestSeasonData.small(91).players);
+        KeysetCursor wrongIdType = new KeysetCursor("10", "TOR");
+        assertThatThrownBy(() -> KeysetPages.page(players, ListQueries.playerStandings(SEASON), wrongIdType, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        KeysetCursor wrongSortType = new KeysetCursor("ten", "8400000");
+        assertThatThrownBy(() -> KeysetPages.page(players, ListQueries.playerStandings(SEASON), wrongSortType, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pagesOfEverySizeWalkTheFullList() {
+        TestSeasonData data = TestSeasonData.small(92); // Many players tie on points
+        Random random = new Random(93);
+        data.players.forEach(player -> player.setHotRating(random.nextInt(3) == 0 ? null : random.nextInt(6) / 4.0));
+        // Hot ratings including nulls, which sort last
+        ListQuery<Player> withNulls = new ListQuery<>(Player.class, SEASON, "hotRating", "playerId",
+                null, player -> true, null);
+
+        for (ListQuery<Player> query : List.of(ListQueries.playerStandings(SEASON), withNulls)) {
+            List<Player> rows = ordered(query, data.players);
+            for (int limit = 1; limit <= rows.size() + 1; limit++) {
+                assertThat(walk(rows, query, limit)).as("%s pages of %d", query.sortAttribute(), limit)
+                        .containsExactlyElementsOf(rows);
+            }
+        }
+
+        ListQuery<Team> teams = ListQueries.teamStandings(SEASON);
+        List<Team> teamRows = ordered(teams, data.teams);
+        assertThat(walk(teamRows, teams, 3)).containsExactlyElementsOf(teamRows);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        ListQuery<Player> query = ListQueries.playerStandings(SEASON);
+        List<Player> rows = ordered(query, TestSeasonData.small(94).players);
+
+        assertThat(KeysetPages.page(rows, query, null, rows.size()).nextCursor()).isNull();
+        assertThat(KeysetPages.page(rows, query, null, null).items()).hasSize(rows.size());
+        KeysetPage<Player> first = KeysetPages.page(rows, query, null, rows.size() - 1);
+        assertThat(first.nextCursor()).isNotNull();
+        KeysetPage<Player> last = KeysetPages.page(rows, query, KeysetCursor.decode(first.nextCursor()), rows.size());
+        assertThat(last.items()).containsExactly(rows.get(rows.size() - 1));
+        assertThat(last.nextCursor()).isNull();
+        assertThat(KeysetPages.page(List.<Player>of(), query, null, 5).items()).isEmpty();
+    }
+
+    @Test
+    void pagesStayStableWhenRowsChangeBetweenRequests() {
+        ListQuery<Player> query = ListQueries.playerStandings(SEASON);
+        List<Player> rows = new ArrayList<>(ordered(query, TestSeasonData.small(95).players));
+        KeysetPage<Player> first = KeysetPages.page(rows, query, null, 10);
+        KeysetCursor cursor = KeysetCursor.decode(first.nextCursor());
+        List<Player> expectedNext = List.copyOf(rows.subList(10, 20));
+
+        // The cursor's own row is deleted and a row is added before it: the next page neither skips nor repeats
+        rows.remove(9);
+        Player added = new Player();
+        added.setPlayerId(1L);
+        added.setSeason(SEASON);
+        added.setPoints(Integer.MAX_VALUE);
+        rows.add(0, added);
+
+        assertThat(KeysetPages.page(rows, query, cursor, 10).items()).containsExactlyElementsOf(expectedNext);
+    }
+
+    private static <T> List<T> walk(List<T> rows, ListQuery<T> query, int limit) {
+        List<T> walked = new ArrayList<>();
+        KeysetCursor cursor = null;
+        do {
+            KeysetPage<T> page = KeysetPages.page(rows, query, cursor, limit);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(limit);
+            walked.addAll(page.items());
+            cursor = page.nextCursor() != null ? KeysetCursor.decode(page.nextCursor()) : null;
+        } while (cursor != null);
+        return walked;
+    }
+
+    private static <T> List<T> ordered(ListQuery<T> query, List<T> rows) {
+        return rows.stream().filter(query.rowFilter()).sorted(KeysetPages.order(query)).toList();
+    }
+
+    private static String encode(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
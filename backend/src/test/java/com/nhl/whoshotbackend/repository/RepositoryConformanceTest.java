@@ -0,0 +1,446 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.AppInstances;
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.ChangeLogEntry;
+import com.nhl.whoshotbackend.entity.ClubGoalieStats;
+import com.nhl.whoshotbackend.entity.ClubSkaterStats;
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.service.ListQueries;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Contract of the storage interfaces, run against each storage engine: filters, orderings, IN lookups,
+ * export chunks, deletes and keyset pages must give the same answers whichever engine is active.
+ * Where SQL leaves the order of ties open, only the ORDER BY keys are compared.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class RepositoryConformanceTest {
+
+    private static final String SEASON = TestSeasonData.SEASON;
+    private static final String OTHER_SEASON = "20232024";
+    private static final String DELETED_SEASON = "20222023";
+
+    private ConfigurableApplicationContext app;
+    private TestSeasonData data;
+    private TestSeasonData otherData;
+
+    private PlayerRepository players;
+    private TeamRepository teams;
+    private GameRepository games;
+    private GameLogRepository gameLogs;
+    private ListQueryRepository listQueries;
+    private ClubSkaterStatsRepository clubSkaters;
+    private ClubGoalieStatsRepository clubGoalies;
+    private ChangeLogRepository changeLog;
+
+    /**
+     * Properties selecting the storage engine under test ("key=value").
+     */
+    abstract String[] engineProperties();
+
+    @BeforeAll
+    void startAndSeed(@TempDir Path workDir) {
+        app = AppInstances.start(workDir, workDir.resolve("conformance.db"), "conformance",
+                WebApplicationType.NONE, engineProperties());
+        players = app.getBean(PlayerRepository.class);
+        teams = app.getBean(TeamRepository.class);
+        games = app.getBean(GameRepository.class);
+        gameLogs = app.getBean(GameLogRepository.class);
+        listQueries = app.getBean(ListQueryRepository.class);
+        clubSkaters = app.getBean(ClubSkaterStatsRepository.class);
+        clubGoalies = app.getBean(ClubGoalieStatsRepository.class);
+        changeLog = app.getBean(ChangeLogRepository.class);
+
+        data = withDerivedState(TestSeasonData.small(21), 22);
+        // Leave the season's last day unplayed
+        String lastDay = data.games.get(data.games.size() - 1).getGameDate();
+        data.games.stream().filter(game -> game.getGameDate().equals(lastDay)).forEach(game -> game.setGameState("FUT"));
+        otherData = withDerivedState(TestSeasonData.generate(OTHER_SEASON, 8, 6, 30, 23), 24);
+        save(data);
+        save(otherData);
+    }
+
+    @AfterAll
+    void stop() {
+        if (app != null) {
+            app.close();
+        }
+    }
+
+    @Test
+    void playersBySeasonAreOrderedByPoints() {
+        List<Player> standings = players.findBySeasonOrderByPointsDesc(SEASON);
+
+        assertThat(standings).extracting(Player::getSeason).containsOnly(SEASON);
+        assertThat(standings).extracting(Player::getPlayerId)
+                .containsExactlyInAnyOrderElementsOf(ids(data.players, Player::getPlayerId));
+        assertThat(standings).extracting(Player::getPoints).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void pointStreaksAndHotPlayersAreFilteredAndOrdered() {
+        List<Player> streaks = players.findPlayersWithPointStreaks(SEASON);
+        assertThat(streaks).extracting(Player::getPlayerId).containsExactlyInAnyOrderElementsOf(ids(
+                data.players.stream().filter(player -> player.getCurrentPointStreak() > 0).toList(), Player::getPlayerId));
+        assertThat(streaks).extracting(Player::getCurrentPointStreak).isSortedAccordingTo(Comparator.reverseOrder());
+
+        List<Player> hot = players.findHotPlayers(SEASON);
+        assertThat(hot).extracting(Player::getPlayerId).containsExactlyInAnyOrderElementsOf(ids(
+                data.players.stream().filter(player -> player.getHotRating() != null).toList(), Player::getPlayerId));
+        assertThat(hot).extracting(Player::getHotRating).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void teamPlayersAreOrderedByPointsThenId() {
+        List<Player> roster = players.findByTeamCodeAndSeasonOrderByPointsDescPlayerIdAsc("T03", SEASON);
+
+        assertThat(roster).extracting(Player::getPlayerId).containsExactlyElementsOf(ids(data.players.stream()
+                .filter(player -> player.getTeamCode().equals("T03"))
+                .sorted(Comparator.comparing(Player::getPoints).reversed().thenComparing(Player::getPlayerId))
+                .toList(), Player::getPlayerId));
+        assertThat(players.findByTeamCodeAndSeasonOrderByPointsDescPlayerIdAsc("XXX", SEASON)).isEmpty();
+    }
+
+    @Test
+    void playerInLookupSkipsUnknownAndDuplicateIds() {
+        Player first = data.players.get(0);
+        Player second = data.players.get(7);
+
+        List<Player> found = players.findBySeasonAndPlayerIdIn(SEASON,
+                List.of(first.getPlayerId(), second.getPlayerId(), first.getPlayerId(), 1L));
+
+        assertThat(found).extracting(Player::getPlayerId)
+                .containsExactlyInAnyOrder(first.getPlayerId(), second.getPlayerId());
+        assertThat(found).extracting(Player::getSeason).containsOnly(SEASON);
+        assertThat(players.findById(new Player.PlayerKey(first.getPlayerId(), OTHER_SEASON)))
+                .get().extracting(Player::getPoints).isEqualTo(otherData.players.get(0).getPoints());
+    }
+
+    @Test
+    void teamQueriesFilterBySeasonAndOrderByTheirKeys() {
+        assertThat(teams.countBySeason(SEASON)).isEqualTo(data.teams.size());
+        assertThat(teams.findByTeamCodeAndSeason("T05", OTHER_SEASON)).get()
+                .extracting(Team::getPoints).isEqualTo(otherData.teams.get(5).getPoints());
+
+        List<Team> standings = teams.findBySeasonOrderByPointsDesc(SEASON);
+        assertThat(standings).extracting(Team::getTeamCode)
+                .containsExactlyInAnyOrderElementsOf(ids(data.teams, Team::getTeamCode));
+        assertThat(standings).extracting(Team::getPoints).isSortedAccordingTo(Comparator.reverseOrder());
+
+        assertThat(teams.findBySeasonAndTeamCodeIn(SEASON, List.of("T01", "T02", "T01", "XXX")))
+                .extracting(Team::getTeamCode).containsExactlyInAnyOrder("T01", "T02");
+
+        List<Team> winStreaks = teams.findTeamsWithWinStreaks(SEASON);
+        assertThat(winStreaks).extracting(Team::getTeamCode).containsExactlyInAnyOrderElementsOf(ids(
+                data.teams.stream().filter(team -> team.getCurrentWinStreak() > 0).toList(), Team::getTeamCode));
+        assertThat(winStreaks).extracting(Team::getCurrentWinStreak).isSortedAccordingTo(Comparator.reverseOrder());
+
+        List<Team> lossStreaks = teams.findTeamsWithLossStreaks(SEASON);
+        assertThat(lossStreaks).extracting(Team::getTeamCode).containsExactlyInAnyOrderElementsOf(ids(
+                data.teams.stream().filter(team -> team.getCurrentLossStreak() > 0).toList(), Team::getTeamCode));
+        assertThat(lossStreaks).extracting(Team::getCurrentLossStreak).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void gamesAreOrderedByDateThenId() {
+        Comparator<Game> byDateThenId = Comparator.comparing(Game::getGameDate).thenComparing(Game::getGameId);
+
+        assertThat(games.findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(SEASON, Game.REGULAR_SEASON))
+                .extracting(Game::getGameId)
+                .containsExactlyElementsOf(ids(data.games.stream().sorted(byDateThenId).toList(), Game::getGameId));
+        assertThat(games.findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(SEASON, 3)).isEmpty();
+
+        assertThat(games.findTeamGames(SEASON, "T04", Game.REGULAR_SEASON)).extracting(Game::getGameId)
+                .containsExactlyElementsOf(ids(data.games.stream()
+                        .filter(game -> game.getHomeTeamCode().equals("T04") || game.getAwayTeamCode().equals("T04"))
+                        .sorted(byDateThenId)
+                        .toList(), Game::getGameId));
+    }
+
+    @Test
+    void gameStateQueriesSeeOnlyTheirSeason() {
+        List<Game> completed = data.games.stream().filter(game -> game.getGameState().equals("OFF")).toList();
+        String lastDay = data.games.get(data.games.size() - 1).getGameDate();
+
+        assertThat(games.findCompletedGameIds(SEASON, Game.REGULAR_SEASON))
+                .containsExactlyInAnyOrderElementsOf(ids(completed, Game::getGameId));
+        // The last day's games are unfinished, so the latest completed game is on an earlier day
+        assertThat(games.findLastCompletedGameDate(SEASON))
+                .isEqualTo(completed.stream().map(Game::getGameDate).max(Comparator.naturalOrder()).orElseThrow())
+                .isLessThan(lastDay);
+        assertThat(games.findLastCompletedGameDate(OTHER_SEASON))
+                .isEqualTo(otherData.games.get(otherData.games.size() - 1).getGameDate());
+        assertThat(games.findLastCompletedGameDate("20212022")).isNull();
+    }
+
+    @Test
+    void gameLogQueriesHonourTheGameIdRangeAndOrder() {
+        long first = SeasonValidator.getFirstGameId(SEASON);
+        long last = SeasonValidator.getLastGameId(SEASON);
+        Long playerId = data.players.get(3).getPlayerId();
+        Comparator<GameLog> byDateThenGame = Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId);
+        List<GameLog> playerLogs = data.gameLogs.stream()
+                .filter(log -> log.getPlayerId().equals(playerId))
+                .sorted(byDateThenGame)
+                .toList();
+
+        assertThat(gameLogs.findByPlayerIdAndGameIdBetweenOrderByGameDateAscGameIdAsc(playerId, first, last))
+                .extracting(GameLog::getGameId).containsExactlyElementsOf(ids(playerLogs, GameLog::getGameId));
+        assertThat(gameLogs.findByGameIdBetween(first, last)).extracting(GameLogKey::of)
+                .containsExactlyInAnyOrderElementsOf(ids(data.gameLogs, GameLogKey::of));
+        assertThat(gameLogs.findDistinctGameIdsBetween(first, last))
+                .containsExactlyInAnyOrderElementsOf(ids(data.games, Game::getGameId));
+        assertThat(gameLogs.findMaxGameIdBetween(first, last))
+                .isEqualTo(data.games.stream().mapToLong(Game::getGameId).max().orElseThrow());
+        assertThat(inReadTransaction(() -> gameLogs.streamRowsByGameIdBetween(first, last).toList()))
+                .containsExactlyElementsOf(data.gameLogs.stream()
+                        .sorted(Comparator.comparing(GameLog::getPlayerId).thenComparing(byDateThenGame))
+                        .map(GameLogRow::of)
+                        .toList());
+
+        // The same player ID plays in both seasons; these lookups span seasons, newest first
+        List<GameLog> allSeasons = Stream.concat(data.gameLogs.stream(), otherData.gameLogs.stream())
+                .filter(log -> log.getPlayerId().equals(playerId))
+                .sorted(byDateThenGame.reversed())
+                .toList();
+        assertThat(gameLogs.findByPlayerIdOrderByGameDateDesc(playerId)).extracting(GameLog::getGameId)
+                .containsExactlyElementsOf(ids(allSeasons, GameLog::getGameId));
+        assertThat(gameLogs.findLastNGamesByPlayer(playerId, 5)).extracting(GameLog::getGameId)
+                .containsExactlyElementsOf(ids(allSeasons.subList(0, 5), GameLog::getGameId));
+    }
+
+    @Test
+    void exportChunksWalkTheSeasonInKeyOrder() {
+        long first = SeasonValidator.getFirstGameId(SEASON);
+        long last = SeasonValidator.getLastGameId(SEASON);
+
+        assertThat(walkChunks((Player after) -> players.findExportChunk(SEASON, after != null ? after.getPlayerId() : 0, 7)))
+                .extracting(Player::getPlayerId)
+                .containsExactlyElementsOf(data.players.stream().map(Player::getPlayerId).sorted().toList());
+        assertThat(walkChunks((Team after) -> teams.findExportChunk(SEASON, after != null ? after.getTeamCode() : "", 7)))
+                .extracting(Team::getTeamCode)
+                .containsExactlyElementsOf(data.teams.stream().map(Team::getTeamCode).sorted().toList());
+        // Several games share each date, so chunks also break between games of one day
+        assertThat(walkChunks((Game after) -> games.findExportChunk(SEASON, after != null ? after.getGameDate() : "",
+                after != null ? after.getGameId() : 0, 7)))
+                .extracting(Game::getGameId)
+                .containsExactlyElementsOf(data.games.stream()
+                        .sorted(Comparator.comparing(Game::getGameDate).thenComparing(Game::getGameId))
+                        .map(Game::getGameId)
+                        .toList());
+        assertThat(walkChunks((GameLog after) -> gameLogs.findExportChunk(first, last,
+                after != null ? after.getGameId() : 0, after != null ? after.getPlayerId() : 0, 7)))
+                .extracting(GameLogKey::of)
+                .containsExactlyElementsOf(data.gameLogs.stream()
+                        .map(GameLogKey::of)
+                        .sorted(Comparator.comparing(GameLogKey::gameId).thenComparing(GameLogKey::playerId))
+                        .toList());
+    }
+
+    @Test
+    void deletesRemoveOnlyTheirSeason() {
+        TestSeasonData deleted = TestSeasonData.generate(DELETED_SEASON, 4, 3, 5, 25);
+        save(deleted);
+        long first = SeasonValidator.getFirstGameId(DELETED_SEASON);
+        long last = SeasonValidator.getLastGameId(DELETED_SEASON);
+
+        TransactionTemplate transactions = new TransactionTemplate(app.getBean(PlatformTransactionManager.class));
+        transactions.executeWithoutResult(status -> {
+            clubSkaters.saveAll(List.of(clubSkater(1, DELETED_SEASON), clubSkater(2, DELETED_SEASON), clubSkater(1, SEASON)));
+            clubGoalies.saveAll(List.of(clubGoalie(3, DELETED_SEASON), clubGoalie(3, SEASON)));
+        });
+        Integer deletedPlayers = transactions.execute(status -> players.deleteBySeason(DELETED_SEASON));
+        Integer deletedTeams = transactions.execute(status -> teams.deleteBySeason(DELETED_SEASON));
+        Integer deletedGameLogs = transactions.execute(status -> gameLogs.deleteByGameIdBetween(first, last));
+        Integer deletedSkaters = transactions.execute(status -> clubSkaters.deleteBySeason(DELETED_SEASON));
+        Integer deletedGoalies = transactions.execute(status -> clubGoalies.deleteBySeason(DELETED_SEASON));
+
+        assertThat(deletedPlayers).isEqualTo(deleted.players.size());
+        assertThat(deletedTeams).isEqualTo(deleted.teams.size());
+        assertThat(deletedGameLogs).isEqualTo(deleted.gameLogs.size());
+        assertThat(deletedSkaters).isEqualTo(2);
+        assertThat(deletedGoalies).isEqualTo(1);
+
+        assertThat(players.findBySeasonOrderByPointsDesc(DELETED_SEASON)).isEmpty();
+        assertThat(teams.countBySeason(DELETED_SEASON)).isZero();
+        assertThat(gameLogs.findByGameIdBetween(first, last)).isEmpty();
+        assertThat(gameLogs.findMaxGameIdBetween(first, last)).isNull();
+        assertThat(players.findBySeasonOrderByPointsDesc(SEASON)).hasSize(data.players.size());
+        assertThat(gameLogs.findDistinctGameIdsBetween(SeasonValidator.getFirstGameId(SEASON),
+                SeasonValidator.getLastGameId(SEASON))).hasSize(data.games.size());
+        assertThat(clubSkaters.findByTeamCodeAndSeasonOrderByPointsDesc("T01", DELETED_SEASON)).isEmpty();
+        assertThat(clubGoalies.findByTeamCodeAndSeasonOrderByGamesPlayedDesc("T01", DELETED_SEASON)).isEmpty();
+        assertThat(clubSkaters.findByTeamCodeAndSeasonOrderByPointsDesc("T01", SEASON)).hasSize(1);
+        assertThat(clubGoalies.findByTeamCodeAndSeasonOrderByGamesPlayedDesc("T01", SEASON)).hasSize(1);
+    }
+
+    @Test
+    void changeLogDeletesKeepTheLatestEntrySoVersionsKeepIncreasing() {
+        String season = "20212022";
+        TransactionTemplate transactions = new TransactionTemplate(app.getBean(PlatformTransactionManager.class));
+        List<ChangeLogEntry> saved = transactions.execute(status -> changeLog.saveAll(List.of(
+                changeLogEntry(season), changeLogEntry(SEASON), changeLogEntry(season), changeLogEntry(season))));
+        long latest = saved.get(saved.size() - 1).getVersion();
+
+        Integer deleted = transactions.execute(status -> changeLog.deleteBySeason(season));
+        List<ChangeLogEntry> added = transactions.execute(status -> changeLog.saveAll(List.of(changeLogEntry(SEASON))));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(changeLog.findSeasonChangesSince(season, 0L, 10)).extracting(ChangeLogEntry::getVersion)
+                .containsExactly(latest);
+        assertThat(added.get(0).getVersion()).isGreaterThan(latest);
+        assertThat(changeLog.findLatestVersion()).isEqualTo(added.get(0).getVersion());
+    }
+
+    @Test
+    void keysetPagesWalkTheFullListInListQueryOrder() {
+        assertPagesWalkFullList(ListQueries.playerStandings(SEASON), data.players, Player::getPlayerId);
+        assertPagesWalkFullList(ListQueries.playerPointStreaks(SEASON),
+                data.players.stream().filter(player -> player.getCurrentPointStreak() > 0).toList(), Player::getPlayerId);
+        assertPagesWalkFullList(ListQueries.hotPlayers(SEASON),
+                data.players.stream().filter(player -> player.getHotRating() != null).toList(), Player::getPlayerId);
+        assertPagesWalkFullList(ListQueries.teamPlayers("T02", SEASON),
+                data.players.stream().filter(player -> player.getTeamCode().equals("T02")).toList(), Player::getPlayerId);
+        assertPagesWalkFullList(ListQueries.teamStandings(SEASON), data.teams, Team::getTeamCode);
+        assertPagesWalkFullList(ListQueries.teamWinStreaks(SEASON),
+                data.teams.stream().filter(team -> team.getCurrentWinStreak() > 0).toList(), Team::getTeamCode);
+    }
+
+    @Test
+    void selectedFieldsComeBackInRequestedOrder() {
+        List<String> fields = List.of("points", "playerId", "fullName");
+        listQueries.validateFields(Player.class, fields);
+
+        KeysetPage<Map<String, Object>> page = listQueries.selectFields(ListQueries.playerStandings(SEASON), fields, null, 5);
+        KeysetPage<Player> entities = listQueries.findPage(ListQueries.playerStandings(SEASON), null, 5);
+
+        assertThat(page.items()).hasSize(5).allSatisfy(row -> assertThat(row.keySet()).containsExactlyElementsOf(fields));
+        assertThat(page.items()).extracting(row -> row.get("playerId"))
+                .containsExactlyElementsOf(ids(entities.items(), Player::getPlayerId));
+        assertThat(page.nextCursor()).isEqualTo(entities.nextCursor());
+        assertThatThrownBy(() -> listQueries.validateFields(Player.class, List.of("points", "salary")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("salary");
+    }
+
+    /**
+     * Page through a list query seven rows at a time and compare with the expected rows in list query order.
+     */
+    private <T> void assertPagesWalkFullList(ListQuery<T> query, List<T> expectedRows, Function<T, Object> id) {
+        List<Object> expected = ids(expectedRows.stream().sorted(KeysetPages.order(query)).toList(), id);
+        assertThat(ids(listQueries.findPage(query, null, null).items(), id)).containsExactlyElementsOf(expected);
+
+        List<Object> paged = new ArrayList<>();
+        KeysetCursor cursor = null;
+        do {
+            KeysetPage<T> page = listQueries.findPage(query, cursor, 7);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(7);
+            paged.addAll(ids(page.items(), id));
+            cursor = page.nextCursor() != null ? KeysetCursor.decode(page.nextCursor()) : null;
+        } while (cursor != null);
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    /**
+     * Read export chunks of seven rows, each in its own read-only transaction, until a short chunk.
+     */
+    private <T> List<T> walkChunks(Function<T, List<T>> nextChunk) {
+        List<T> rows = new ArrayList<>();
+        List<T> chunk;
+        do {
+            T after = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+            chunk = inReadTransaction(() -> nextChunk.apply(after));
+            assertThat(chunk).hasSizeLessThanOrEqualTo(7);
+            rows.addAll(chunk);
+        } while (chunk.size() == 7);
+        return rows;
+    }
+
+    /**
+     * Give players streaks and hot ratings (some none) and teams win and loss streaks, with ties.
+     */
+    private static TestSeasonData withDerivedState(TestSeasonData season, long seed) {
+        Random random = new Random(seed);
+        for (Player player : season.players) {
+            player.setCurrentPointStreak(random.nextInt(4));
+            player.setHotRating(random.nextInt(3) == 0 ? null : random.nextInt(8) / 4.0);
+        }
+        for (Team team : season.teams) {
+            boolean winning = random.nextBoolean();
+            team.setCurrentWinStreak(winning ? random.nextInt(3) : 0);
+            team.setCurrentLossStreak(winning ? 0 : random.nextInt(3));
+        }
+        return season;
+    }
+
+    private void save(TestSeasonData season) {
+        new TransactionTemplate(app.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            teams.saveAll(season.teams);
+            players.saveAll(season.players);
+            games.saveAll(season.games);
+            gameLogs.saveAll(season.gameLogs);
+        });
+    }
+
+    private static ClubSkaterStats clubSkater(long playerId, String season) {
+        ClubSkaterStats stats = new ClubSkaterStats();
+        stats.setPlayerId(playerId);
+        stats.setTeamCode("T01");
+        stats.setSeason(season);
+        return stats;
+    }
+
+    private static ClubGoalieStats clubGoalie(long playerId, String season) {
+        ClubGoalieStats stats = new ClubGoalieStats();
+        stats.setPlayerId(playerId);
+        stats.setTeamCode("T01");
+        stats.setSeason(season);
+        return stats;
+    }
+
+    private static ChangeLogEntry changeLogEntry(String season) {
+        return new ChangeLogEntry(null, season, "PLAYER", "8400101", "HOT_ENTERED", null, null, "2025-01-01T00:00:00");
+    }
+
+    private <R> R inReadTransaction(Supplier<R> work) {
+        TransactionTemplate transaction = new TransactionTemplate(app.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> work.get());
+    }
+
+    private static <T, K> List<K> ids(List<T> rows, Function<T, K> id) {
+        return rows.stream().map(id).toList();
+    }
+
+    private record GameLogKey(Long gameId, Long playerId) {
+        static GameLogKey of(GameLog gameLog) {
+            return new GameLogKey(gameLog.getGameId(), gameLog.getPlayerId());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.nhl.whoshotbackend.repository;
+
+import com.nhl.whoshotbackend.AppInstances;
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.service.ListQueries;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read throughput of the JPA and in-memory storage engines on the same season, with the mix of
+ * lookups the API serves: standings, hot list, batch IN lookups, a player's game logs and a keyset page.
+ * Runs with {@code -Pslow-tests}.
+ */
+@Tag("benchmark")
+class RepositoryThroughputTest {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int ROUNDS = 300;
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void inMemoryEngineOutperformsJpaOnTheReadMix() {
+        double jpa = readsPerSecond("jpa");
+        double memory = readsPerSecond("memory", "spring.profiles.active=memory");
+
+        System.out.printf("Repository read throughput: JPA %.0f reads/s, in-memory %.0f reads/s (%.1fx)%n",
+                jpa, memory, memory / jpa);
+        assertThat(memory).isGreaterThan(jpa);
+    }
+
+    private double readsPerSecond(String name, String... properties) {
+        try (ConfigurableApplicationContext app = AppInstances.start(workDir, workDir.resolve(name + ".db"), name,
+                WebApplicationType.NONE, properties)) {
+            // Generated per engine: saving assigns game log IDs
+            TestSeasonData data = TestSeasonData.generate(TestSeasonData.SEASON, 32, 20, 40, 31);
+            PlayerRepository players = app.getBean(PlayerRepository.class);
+            TeamRepository teams = app.getBean(TeamRepository.class);
+            GameLogRepository gameLogs = app.getBean(GameLogRepository.class);
+            ListQueryRepository listQueries = app.getBean(ListQueryRepository.class);
+            new TransactionTemplate(app.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+                teams.saveAll(data.teams);
+                players.saveAll(data.players);
+                app.getBean(GameRepository.class).saveAll(data.games);
+                gameLogs.saveAll(data.gameLogs);
+            });
+
+            long first = SeasonValidator.getFirstGameId(data.season);
+            long last = SeasonValidator.getLastGameId(data.season);
+            List<Long> batch = data.players.stream().limit(10).map(Player::getPlayerId).toList();
+            Runnable round = () -> {
+                players.findBySeasonOrderByPointsDesc(data.season);
+                players.findHotPlayers(data.season);
+                players.findBySeasonAndPlayerIdIn(data.season, batch);
+                teams.findBySeasonOrderByPointsDesc(data.season);
+                gameLogs.findByPlayerIdAndGameIdBetweenOrderByGameDateAscGameIdAsc(batch.get(3), first, last);
+                listQueries.findPage(ListQueries.playerStandings(data.season), null, 25);
+            };
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                round.run();
+            }
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                round.run();
+            }
+            return ROUNDS * 6 / ((System.nanoTime() - startNanos) / 1e9);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.ChangeFeed;
+import com.nhl.whoshotbackend.entity.ChangeLogEntry;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.memory.InMemoryChangeLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Change log diffs and paging on the in-memory storage engine.
+ */
+class ChangeLogServiceTest {
+
+    private static final String SEASON = "20242025";
+    private static final String OTHER_SEASON = "20232024";
+
+    private final InMemoryChangeLogRepository changeLogRepository = new InMemoryChangeLogRepository();
+    private final ChangeLogService changeLogService = new ChangeLogService(changeLogRepository);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void flagsEnteringAndLeavingListsAndValueChangesAreRecorded() {
+        changeLogService.seedBaseline(SEASON,
+                List.of(player(1, true, false, false, 2.0), player(2, false, false, true, 0.5)),
+                List.of(team("T01", false, false, 2, 0)));
+
+        int recorded = changeLogService.recordChanges(SEASON,
+                List.of(player(1, false, true, false, 0.0), player(2, false, false, true, 0.5),
+                        player(3, true, false, false, 1.8)),
+                List.of(team("T01", true, false, 3, 0), team("T02", false, true, 0, 4)));
+
+        assertThat(recorded).isEqualTo(9);
+        assertThat(changes(0, SEASON))
+                .extracting(ChangeLogEntry::getEntityType, ChangeLogEntry::getEntityId, ChangeLogEntry::getChangeType,
+                        ChangeLogEntry::getOldValue, ChangeLogEntry::getNewValue)
+                .containsExactlyInAnyOrder(
+                        tuple("PLAYER", "1", "HOT_LEFT", null, null),
+                        tuple("PLAYER", "1", "COLD_ENTERED", null, null),
+                        tuple("PLAYER", "1", "HOT_RATING_CHANGED", 2.0, 0.0),
+                        // A player new to the baseline enters lists from nothing
+                        tuple("PLAYER", "3", "HOT_ENTERED", null, null),
+                        tuple("PLAYER", "3", "HOT_RATING_CHANGED", null, 1.8),
+                        tuple("TEAM", "T01", "HOT_ENTERED", null, null),
+                        tuple("TEAM", "T01", "WIN_STREAK_CHANGED", 2.0, 3.0),
+                        tuple("TEAM", "T02", "COLD_ENTERED", null, null),
+                        tuple("TEAM", "T02", "LOSS_STREAK_CHANGED", 0.0, 4.0));
+    }
+
+    @Test
+    void theBaselineAdvancesOnlyWhenTheRecalculationCommits() {
+        List<Player> hot = List.of(player(1, true, false, false, 2.0));
+
+        assertThat(inTransaction(() -> changeLogService.recordChanges(SEASON, hot, List.of()), false)).isEqualTo(2);
+        // Rolled back: the next diff is still against the empty baseline
+        assertThat(inTransaction(() -> changeLogService.recordChanges(SEASON, hot, List.of()), true)).isEqualTo(2);
+        assertThat(inTransaction(() -> changeLogService.recordChanges(SEASON, hot, List.of()), true)).isZero();
+
+        // Outside a transaction the baseline advances at once
+        assertThat(changeLogService.recordChanges(SEASON, List.of(player(1, false, false, false, 2.0)), List.of()))
+                .isEqualTo(1);
+        assertThat(changeLogService.recordChanges(SEASON, List.of(player(1, false, false, false, 2.0)), List.of()))
+                .isZero();
+    }
+
+    @Test
+    void rememberedBaselinesReplaceSeededOnes() {
+        changeLogService.seedBaseline(SEASON, List.of(player(1, false, false, false, null)), List.of());
+        changeLogService.seedBaseline(SEASON, List.of(player(1, true, false, false, 2.0)), List.of()); // Ignored
+        assertThat(changeLogService.recordChanges(SEASON, List.of(player(1, false, false, false, null)), List.of()))
+                .isZero();
+
+        changeLogService.rememberBaseline(SEASON, List.of(player(1, true, false, false, 2.0)), List.of());
+        assertThat(changeLogService.recordChanges(SEASON, List.of(player(1, true, false, false, 2.0)), List.of()))
+                .isZero();
+    }
+
+    @Test
+    void changesArePagedInVersionOrderAndFilteredBySeason() {
+        for (int i = 1; i <= 5; i++) {
+            changeLogService.recordChanges(i % 2 == 0 ? OTHER_SEASON : SEASON,
+                    List.of(player(i, true, false, false, null)), List.of());
+        }
+
+        ChangeFeed first = changeLogService.getChangesSince(0, null, 2);
+        ChangeFeed second = changeLogService.getChangesSince(first.getNextSince(), null, 2);
+        ChangeFeed last = changeLogService.getChangesSince(second.getNextSince(), null, 2);
+        ChangeFeed seasonOnly = changeLogService.getChangesSince(0, SEASON, 10);
+        ChangeFeed caughtUp = changeLogService.getChangesSince(last.getNextSince(), null, 2);
+
+        assertThat(first.getChanges()).extracting(ChangeLogEntry::getVersion).containsExactly(1L, 2L);
+        assertThat(first.getHasMore()).isTrue();
+        assertThat(second.getChanges()).extracting(ChangeLogEntry::getVersion).containsExactly(3L, 4L);
+        assertThat(last.getChanges()).extracting(ChangeLogEntry::getVersion).containsExactly(5L);
+        assertThat(last.getHasMore()).isFalse();
+        assertThat(last.getLatestVersion()).isEqualTo(5L);
+        assertThat(seasonOnly.getChanges()).extracting(ChangeLogEntry::getEntityId).containsExactly("1", "3", "5");
+        assertThat(caughtUp.getChanges()).isEmpty();
+        assertThat(caughtUp.getNextSince()).isEqualTo(5L);
+    }
+
+    @Test
+    void pagingArgumentsAreValidated() {
+        assertThatThrownBy(() -> changeLogService.getChangesSince(-1, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> changeLogService.getChangesSince(0, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> changeLogService.getChangesSince(0, null, ChangeLogService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(changeLogService.getChangesSince(0, null, ChangeLogService.MAX_PAGE_SIZE).getLatestVersion()).isZero();
+    }
+
+    /**
+     * Run work with transaction synchronization active, then complete it as a commit or a rollback.
+     */
+    private static <T> T inTransaction(Supplier<T> work, boolean commit) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            T result = work.get();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                if (commit) {
+                    synchronization.afterCommit();
+                }
+                synchronization.afterCompletion(commit
+                        ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+            return result;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<ChangeLogEntry> changes(long since, String season) {
+        return changeLogService.getChangesSince(since, season, ChangeLogService.MAX_PAGE_SIZE).getChanges();
+    }
+
+    private static Player player(long playerId, boolean hot, boolean cold, boolean pointStreak, Double hotRating) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setSeason(SEASON);
+        player.setHot(hot);
+        player.setCold(cold);
+        player.setPointStreak(pointStreak);
+        player.setHotRating(hotRating);
+        return player;
+    }
+
+    private static Team team(String teamCode, boolean hot, boolean cold, int winStreak, int lossStreak) {
+        Team team = new Team();
+        team.setTeamCode(teamCode);
+        team.setSeason(SEASON);
+        team.setHot(hot);
+        team.setCold(cold);
+        team.setPointStreak(winStreak >= 5);
+        team.setCurrentWinStreak(winStreak);
+        team.setCurrentLossStreak(lossStreak);
+        return team;
+    }
+}
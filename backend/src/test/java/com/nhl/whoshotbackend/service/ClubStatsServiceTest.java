@@ -0,0 +1,156 @@
+package com.nhl.whoshotbackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nhl.whoshotbackend.config.SyncExecutors;
+import com.nhl.whoshotbackend.dto.ClubStats;
+import com.nhl.whoshotbackend.entity.ClubGoalieStats;
+import com.nhl.whoshotbackend.entity.ClubSkaterStats;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.memory.InMemoryClubGoalieStatsRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryClubSkaterStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Club stats ingestion against a stubbed NHL API and the in-memory storage engine.
+ */
+class ClubStatsServiceTest {
+
+    private static final String SEASON = "20252026";
+    private static final String PAST_SEASON = "20242025";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final NhlApiService nhlApiService = mock(NhlApiService.class);
+    private final StatisticsService statisticsService = mock(StatisticsService.class);
+    private final InMemoryClubSkaterStatsRepository skaterRepository = new InMemoryClubSkaterStatsRepository();
+    private final InMemoryClubGoalieStatsRepository goalieRepository = new InMemoryClubGoalieStatsRepository();
+    private final SyncExecutors syncExecutors = new SyncExecutors(new SimpleMeterRegistry(), 2, 16, 8, 1, 8);
+    private ClubStatsService clubStatsService;
+
+    @BeforeEach
+    void setUp() {
+        when(nhlApiService.getCurrentSeason()).thenReturn(SEASON);
+        when(statisticsService.getStandings(anyString())).thenReturn(List.of(team("T01"), team("T02")));
+        clubStatsService = new ClubStatsService(nhlApiService, statisticsService, skaterRepository, goalieRepository,
+                syncExecutors, mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncExecutors.shutdown();
+    }
+
+    @Test
+    void clubResponsesAreStoredPerTeamAndServedInRankOrder() {
+        ObjectNode t01 = clubStats(skater(101, "C", 40, 12, 20), skater(102, "D", 41, 2, 25), skater(103, "L", 38, 10, 10));
+        t01.withArray("goalies").add(goalie(131, 30, 18, 0.915));
+        t01.withArray("goalies").add(goalie(132, 12, 5, 0.898));
+        when(nhlApiService.getClubStats("T01")).thenReturn(t01);
+        when(nhlApiService.getClubStats("T02")).thenReturn(clubStats(skater(201, "R", 40, 15, 14)));
+
+        int updated = clubStatsService.syncClubStats(SEASON);
+
+        assertThat(updated).isEqualTo(2);
+        verify(nhlApiService, never()).getClubStats(anyString(), anyString());
+        ClubStats stats = clubStatsService.getClubStats("T01", SEASON).orElseThrow();
+        assertThat(stats.getSkaters())
+                .extracting(ClubSkaterStats::getPlayerId, ClubSkaterStats::getPoints, ClubSkaterStats::getGoals,
+                        ClubSkaterStats::getAssists, ClubSkaterStats::getPositionCode, ClubSkaterStats::getLastName)
+                .containsExactly(
+                        tuple(101L, 32, 12, 20, "C", "Last101"),
+                        tuple(102L, 27, 2, 25, "D", "Last102"),
+                        tuple(103L, 20, 10, 10, "L", "Last103"));
+        assertThat(stats.getSkaters().get(0))
+                .extracting(ClubSkaterStats::getTeamCode, ClubSkaterStats::getSeason, ClubSkaterStats::getAvgTimeOnIce,
+                        ClubSkaterStats::getShootingPercentage)
+                .containsExactly("T01", SEASON, 1105.5, 0.12);
+        assertThat(stats.getGoalies())
+                .extracting(ClubGoalieStats::getPlayerId, ClubGoalieStats::getGamesPlayed, ClubGoalieStats::getWins,
+                        ClubGoalieStats::getSavePercentage)
+                .containsExactly(tuple(131L, 30, 18, 0.915), tuple(132L, 12, 5, 0.898));
+        assertThat(clubStatsService.getClubStats("T02", SEASON).orElseThrow().getSkaters()).hasSize(1);
+        assertThat(clubStatsService.getClubStats("T03", SEASON)).isEmpty();
+    }
+
+    @Test
+    void unchangedResponsesAreSkippedAndChangedClubsAreReplacedWhole() {
+        when(nhlApiService.getClubStats("T01")).thenReturn(clubStats(skater(101, "C", 40, 12, 20), skater(102, "D", 41, 2, 25)));
+        when(nhlApiService.getClubStats("T02")).thenReturn(clubStats(skater(201, "R", 40, 15, 14)));
+        clubStatsService.syncClubStats(SEASON);
+
+        // 102 was traded away and 101 scored again; T02 did not play
+        when(nhlApiService.getClubStats("T01")).thenReturn(clubStats(skater(101, "C", 41, 13, 20)));
+        int updated = clubStatsService.syncClubStats(SEASON);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(clubStatsService.getClubStats("T01", SEASON).orElseThrow().getSkaters())
+                .extracting(ClubSkaterStats::getPlayerId, ClubSkaterStats::getPoints)
+                .containsExactly(tuple(101L, 33));
+        assertThat(clubStatsService.getClubStats("T02", SEASON).orElseThrow().getSkaters()).hasSize(1);
+    }
+
+    @Test
+    void pastSeasonsUseTheSeasonEndpointAndFailedClubsAreSkipped() {
+        when(nhlApiService.getClubStats("T01", PAST_SEASON)).thenReturn(clubStats(skater(101, "C", 82, 30, 40)));
+
+        int updated = clubStatsService.syncClubStats(PAST_SEASON);
+
+        assertThat(updated).isEqualTo(1);
+        verify(nhlApiService, never()).getClubStats(anyString());
+        assertThat(clubStatsService.getClubStats("T01", PAST_SEASON)).isPresent();
+        assertThat(clubStatsService.getClubStats("T02", PAST_SEASON)).isEmpty();
+        assertThat(clubStatsService.getClubStats("T01", SEASON)).isEmpty();
+    }
+
+    private static ObjectNode clubStats(ObjectNode... skaters) {
+        ObjectNode response = MAPPER.createObjectNode().put("season", SEASON);
+        response.putArray("skaters").addAll(List.of(skaters));
+        response.putArray("goalies");
+        return response;
+    }
+
+    private static ObjectNode skater(long playerId, String position, int gamesPlayed, int goals, int assists) {
+        ObjectNode skater = MAPPER.createObjectNode()
+                .put("playerId", playerId)
+                .put("positionCode", position)
+                .put("gamesPlayed", gamesPlayed)
+                .put("goals", goals)
+                .put("assists", assists)
+                .put("points", goals + assists)
+                .put("shootingPctg", 0.12)
+                .put("avgTimeOnIcePerGame", 1105.5);
+        skater.putObject("firstName").put("default", "First" + playerId);
+        skater.putObject("lastName").put("default", "Last" + playerId);
+        return skater;
+    }
+
+    private static ObjectNode goalie(long playerId, int gamesPlayed, int wins, double savePercentage) {
+        ObjectNode goalie = MAPPER.createObjectNode()
+                .put("playerId", playerId)
+                .put("gamesPlayed", gamesPlayed)
+                .put("wins", wins)
+                .put("savePercentage", savePercentage);
+        goalie.putObject("lastName").put("default", "Last" + playerId);
+        return goalie;
+    }
+
+    private static Team team(String teamCode) {
+        Team team = new Team();
+        team.setTeamCode(teamCode);
+        return team;
+    }
+}
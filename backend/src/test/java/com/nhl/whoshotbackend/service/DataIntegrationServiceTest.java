@@ -0,0 +1,331 @@
+package com.nhl.whoshotbackend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.nhl.whoshotbackend.config.SyncExecutors;
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
+import com.nhl.whoshotbackend.repository.memory.InMemoryGameLogRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryGameRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryPlayerRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryTeamRepository;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Upstream ingestion against a stubbed NHL API and the in-memory storage engine.
+ */
+class DataIntegrationServiceTest {
+
+    private static final String PAST_SEASON = "20242025";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final NhlApiService nhlApiService = mock(NhlApiService.class);
+    private final InMemoryTeamRepository teamRepository = new InMemoryTeamRepository();
+    private final InMemoryPlayerRepository playerRepository = new InMemoryPlayerRepository();
+    private final InMemoryGameLogRepository gameLogRepository = new InMemoryGameLogRepository();
+    private final InMemoryGameRepository gameRepository = new InMemoryGameRepository();
+    private final StreakStateService streakStateService = mock(StreakStateService.class);
+    private final SyncExecutors syncExecutors = new SyncExecutors(new SimpleMeterRegistry(), 2, 16, 8, 1, 8);
+    private DataIntegrationService dataIntegrationService;
+
+    @BeforeEach
+    void setUp() {
+        when(streakStateService.getTeamState(anyString(), anyString())).thenAnswer(invocation -> new TeamStreakState());
+        dataIntegrationService = new DataIntegrationService(nhlApiService, teamRepository, playerRepository,
+                gameLogRepository, gameRepository, streakStateService,
+                mock(PlayerSplitService.class), syncExecutors);
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncExecutors.shutdown();
+    }
+
+    @Test
+    void leagueSyncResumesFromTheLatestCompletedGameAndRechecksOlderUnfinishedGames() {
+        gameRepository.saveAll(List.of(
+                game(PAST_SEASON, 1, "2024-10-10", "OFF", "T01", "T02"),
+                game(PAST_SEASON, 2, "2024-10-12", "PPD", "T03", "T04"), // Postponed, before the resume point
+                game(PAST_SEASON, 3, "2024-11-10", "OFF", "T01", "T03"),
+                game(PAST_SEASON, 4, "2024-11-12", "FUT", "T02", "T04")));
+        when(nhlApiService.getSchedule("2024-11-10")).thenReturn(scheduleWeek("2024-11-17", "2024-11-20",
+                scheduleGame(PAST_SEASON, 3, "2024-11-10", "OFF", "T01", "T03"),
+                scheduleGame(PAST_SEASON, 4, "2024-11-12", "OFF", "T02", "T04")));
+        when(nhlApiService.getSchedule("2024-11-17")).thenReturn(scheduleWeek("2024-11-24", "2024-11-20",
+                scheduleGame(PAST_SEASON, 5, "2024-11-18", "OFF", "T01", "T04"),
+                scheduleGame(PAST_SEASON, 6, "2024-11-19", "OFF", "T02", "T03").put("gameType", 3))); // Not regular season
+        // The postponed game was made up on a later date
+        when(nhlApiService.getGameBoxscore(gameId(PAST_SEASON, 2)))
+                .thenReturn(scheduleGame(PAST_SEASON, 2, "2024-11-19", "OFF", "T03", "T04"));
+
+        DataIntegrationService.LeagueGamesSync sync = dataIntegrationService.syncLeagueGames(PAST_SEASON);
+
+        // Two weeks from the latest completed game; the week after the regular season is not fetched
+        verify(nhlApiService, times(2)).getSchedule(anyString());
+        verify(nhlApiService, times(1)).getGameBoxscore(anyLong());
+        assertThat(sync.newlyCompletedGames()).extracting(Game::getGameId)
+                .containsExactly(gameId(PAST_SEASON, 4), gameId(PAST_SEASON, 5), gameId(PAST_SEASON, 2));
+        assertThat(sync.regularSeasonOver()).isTrue();
+        assertThat(gameRepository.findBySeasonAndGameTypeOrderByGameDateAscGameIdAsc(PAST_SEASON, Game.REGULAR_SEASON))
+                .filteredOn(game -> game.getGameId() == gameId(PAST_SEASON, 2))
+                .extracting(Game::getGameDate, Game::getGameState).containsExactly(tuple("2024-11-19", "OFF"));
+        assertThat(gameRepository.findCompletedGameIds(PAST_SEASON, Game.REGULAR_SEASON)).hasSize(5);
+    }
+
+    @Test
+    void leagueSyncStartsAtTheSeasonStartWithoutCompletedGames() {
+        dataIntegrationService.syncLeagueGames(PAST_SEASON);
+
+        // The stubbed schedule has no data, so the sync stops after its first week
+        verify(nhlApiService).getSchedule("2024-10-01");
+        verify(nhlApiService, never()).getGameBoxscore(anyLong());
+    }
+
+    @Test
+    void nextGameComesFromStoredGamesAndOnlyIdleTeamsUseTheClubSchedule() {
+        String season = SeasonValidator.getCurrentSeasonId();
+        LocalDate today = LocalDate.now();
+        String soon = today.plusDays(2).toString();
+        String later = today.plusDays(20).toString();
+        gameRepository.saveAll(List.of(game(season, 1, soon, "FUT", "T01", "T02")));
+        when(nhlApiService.getCurrentSeason()).thenReturn(season);
+        when(nhlApiService.getStandings()).thenReturn(standings("T01", "T02", "T03", "T04"));
+        when(nhlApiService.getTeamSchedule("T03", season)).thenReturn(clubSchedule(
+                scheduleGame(season, 1, soon, "FUT", "T01", "T02"), // Not T03's game
+                scheduleGame(season, 7, later, "FUT", "T04", "T03")));
+        when(nhlApiService.getTeamSchedule("T04", season)).thenReturn(clubSchedule(
+                scheduleGame(season, 8, today.minusDays(3).toString(), "OFF", "T04", "T01")));
+        Team stale = team("T04", season);
+        stale.setNextGameDate(today.minusDays(3).toString());
+        stale.setNextOpponentCode("T01");
+        stale.setNextGameIsHome(true);
+        teamRepository.save(stale);
+
+        dataIntegrationService.syncStandings(season);
+
+        assertNextGame(season, "T01", soon, "T02", true);
+        assertNextGame(season, "T02", soon, "T01", false);
+        assertNextGame(season, "T03", later, "T04", false);
+        assertNextGame(season, "T04", null, null, null); // No game left: cleared
+        verify(nhlApiService, never()).getTeamSchedule(eq("T01"), anyString());
+        verify(nhlApiService, never()).getTeamSchedule(eq("T02"), anyString());
+    }
+
+    @Test
+    void finishedSeasonsClearTheNextGameWithoutClubScheduleLookups() {
+        Team stale = team("T01", PAST_SEASON);
+        stale.setNextGameDate("2025-04-17");
+        stale.setNextOpponentCode("T02");
+        stale.setNextGameIsHome(false);
+        teamRepository.save(stale);
+        when(nhlApiService.getStandings()).thenReturn(standings("T01", "T02"));
+
+        dataIntegrationService.syncStandings(PAST_SEASON);
+
+        assertNextGame(PAST_SEASON, "T01", null, null, null);
+        verify(nhlApiService, never()).getTeamSchedule(anyString(), anyString());
+    }
+
+    @Test
+    void boxscoresAreParsedIntoSkaterGameLogsForBothTeams() {
+        gameRepository.saveAll(List.of(
+                game(PAST_SEASON, 1, "2024-10-10", "OFF", "T01", "T02"),
+                game(PAST_SEASON, 2, "2024-10-11", "OFF", "T03", "T04"), // Already ingested
+                game(PAST_SEASON, 3, "2024-10-12", "OFF", "T01", "T03"), // Boxscore not available
+                game(PAST_SEASON, 4, "2024-10-13", "FUT", "T02", "T04")));
+        gameLogRepository.saveAll(List.of(gameLog(301, gameId(PAST_SEASON, 2))));
+        ObjectNode boxscore = scheduleGame(PAST_SEASON, 1, "2024-10-10", "OFF", "T01", "T02");
+        ObjectNode playerStats = boxscore.putObject("playerByGameStats");
+        ObjectNode home = playerStats.putObject("homeTeam");
+        home.putArray("forwards").addObject()
+                .put("playerId", 101).put("goals", 1).put("assists", 1).put("points", 2).put("plusMinus", 1)
+                .put("sog", 4).put("toi", "15:30");
+        home.putArray("defense").addObject()
+                .put("playerId", 102).put("goals", 0).put("assists", 1).put("points", 1).put("plusMinus", -1)
+                .put("shots", 2).put("toi", "21:05"); // Older boxscores name shots on goal "shots"
+        home.putArray("goalies").addObject().put("playerId", 131).put("toi", "60:00");
+        playerStats.putObject("awayTeam").putArray("forwards").addObject()
+                .put("playerId", 201).put("goals", 2).put("assists", 0).put("points", 2).put("plusMinus", 0)
+                .put("sog", 5).put("toi", "");
+        when(nhlApiService.getGameBoxscore(gameId(PAST_SEASON, 1))).thenReturn(boxscore);
+
+        int ingested = dataIntegrationService.syncGameLogsFromBoxscores(PAST_SEASON);
+
+        assertThat(ingested).isEqualTo(1);
+        verify(nhlApiService).getGameBoxscore(gameId(PAST_SEASON, 1));
+        verify(nhlApiService).getGameBoxscore(gameId(PAST_SEASON, 3));
+        verify(nhlApiService, times(2)).getGameBoxscore(anyLong());
+        assertThat(gameLogRepository.findByGameIdBetween(gameId(PAST_SEASON, 1), gameId(PAST_SEASON, 1)))
+                .extracting(GameLog::getPlayerId, GameLog::getGameDate, GameLog::getOpponentTeamCode, GameLog::getHomeGame,
+                        GameLog::getGoals, GameLog::getAssists, GameLog::getPoints, GameLog::getPlusMinus,
+                        GameLog::getShots, GameLog::getTimeOnIce, GameLog::getGameWon)
+                .containsExactlyInAnyOrder(
+                        tuple(101L, "2024-10-10", "T02", true, 1, 1, 2, 1, 4, 930, true),
+                        tuple(102L, "2024-10-10", "T02", true, 0, 1, 1, -1, 2, 1265, true),
+                        tuple(201L, "2024-10-10", "T01", false, 2, 0, 2, 0, 5, null, false));
+        verify(streakStateService).applyPlayerGames(argThat(gameLogs -> gameLogs.size() == 3));
+    }
+
+    @Test
+    void playersMissingFromTheirTeamRosterFallBackToTheLandingEndpoint() {
+        Player stored = player(401, "T04");
+        stored.setHeadshotUrl("https://assets.nhle.com/mugs/401.png");
+        playerRepository.saveAll(List.of(stored));
+        ObjectNode stats = MAPPER.createObjectNode();
+        ArrayNode data = stats.putArray("data");
+        for (Object[] row : new Object[][]{{101, "T01"}, {102, "T01"}, {201, "T02"}, {401, "T04"}}) {
+            data.addObject().put("playerId", (int) row[0]).put("skaterFullName", "Player " + row[0])
+                    .put("teamAbbrevs", (String) row[1]).put("positionCode", "C");
+        }
+        when(nhlApiService.getAllSkaterStats(PAST_SEASON)).thenReturn(stats);
+        when(nhlApiService.getCurrentSeason()).thenReturn("20252026");
+        ObjectNode t01 = MAPPER.createObjectNode();
+        t01.putArray("forwards").addObject().put("id", 101).put("sweaterNumber", 9).put("shootsCatches", "L")
+                .put("headshot", "https://assets.nhle.com/mugs/101.png");
+        t01.putArray("defensemen");
+        ObjectNode t02 = MAPPER.createObjectNode();
+        t02.putArray("defensemen").addObject().put("id", 201).put("sweaterNumber", 44); // Listed without a headshot
+        when(nhlApiService.getTeamRoster("T01", PAST_SEASON)).thenReturn(t01);
+        when(nhlApiService.getTeamRoster("T02", PAST_SEASON)).thenReturn(t02);
+        when(nhlApiService.getPlayerInfo(102L)).thenReturn(MAPPER.createObjectNode()
+                .put("sweaterNumber", 27).put("birthCountry", "SWE").put("headshot", "https://assets.nhle.com/mugs/102.png"));
+
+        dataIntegrationService.syncPlayerStats(PAST_SEASON);
+
+        // Only teams of players without a headshot are fetched, and only the player on no roster uses /landing
+        verify(nhlApiService, times(2)).getTeamRoster(anyString(), anyString());
+        verify(nhlApiService, never()).getTeamRoster(anyString());
+        verify(nhlApiService, times(1)).getPlayerInfo(anyLong());
+        assertThat(playerRepository.findBySeasonOrderByPointsDesc(PAST_SEASON))
+                .extracting(Player::getPlayerId, Player::getHeadshotUrl, Player::getSweaterNumber)
+                .containsExactlyInAnyOrder(
+                        tuple(101L, "https://assets.nhle.com/mugs/101.png", 9),
+                        tuple(102L, "https://assets.nhle.com/mugs/102.png", 27),
+                        tuple(201L, null, 44),
+                        tuple(401L, "https://assets.nhle.com/mugs/401.png", null));
+    }
+
+    private void assertNextGame(String season, String teamCode, String date, String opponent, Boolean home) {
+        Team team = teamRepository.findById(new Team.TeamKey(teamCode, season)).orElseThrow();
+        assertThat(team).as(teamCode).extracting(Team::getNextGameDate, Team::getNextOpponentCode, Team::getNextGameIsHome)
+                .containsExactly(date, opponent, home);
+    }
+
+    private static long gameId(String season, int game) {
+        return SeasonValidator.getFirstGameId(season) + game;
+    }
+
+    private static GameLog gameLog(long playerId, long gameId) {
+        GameLog gameLog = new GameLog();
+        gameLog.setPlayerId(playerId);
+        gameLog.setGameId(gameId);
+        gameLog.setGameDate("2024-10-11");
+        gameLog.setPoints(0);
+        return gameLog;
+    }
+
+    private static Player player(long playerId, String teamCode) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setSeason(PAST_SEASON);
+        player.setTeamCode(teamCode);
+        return player;
+    }
+
+    private static Game game(String season, int game, String gameDate, String gameState, String home, String away) {
+        Game stored = new Game();
+        stored.setGameId(gameId(season, game));
+        stored.setSeason(season);
+        stored.setGameDate(gameDate);
+        stored.setGameType(Game.REGULAR_SEASON);
+        stored.setGameState(gameState);
+        stored.setHomeTeamCode(home);
+        stored.setAwayTeamCode(away);
+        if (gameState.equals("OFF")) {
+            stored.setHomeScore(3);
+            stored.setAwayScore(2);
+            stored.setPeriodType("REG");
+        }
+        return stored;
+    }
+
+    /**
+     * A game as the league schedule, club schedule and boxscore endpoints describe it.
+     */
+    private static ObjectNode scheduleGame(String season, int game, String gameDate, String gameState,
+                                           String home, String away) {
+        ObjectNode node = MAPPER.createObjectNode()
+                .put("id", gameId(season, game))
+                .put("season", Long.parseLong(season))
+                .put("gameType", Game.REGULAR_SEASON)
+                .put("gameDate", gameDate)
+                .put("gameState", gameState);
+        ObjectNode homeTeam = node.putObject("homeTeam").put("abbrev", home);
+        ObjectNode awayTeam = node.putObject("awayTeam").put("abbrev", away);
+        if (gameState.equals("OFF")) {
+            homeTeam.put("score", 3);
+            awayTeam.put("score", 2);
+            node.putObject("gameOutcome").put("lastPeriodType", "REG");
+        }
+        return node;
+    }
+
+    private static JsonNode scheduleWeek(String nextStartDate, String regularSeasonEndDate, ObjectNode... games) {
+        ObjectNode week = MAPPER.createObjectNode()
+                .put("nextStartDate", nextStartDate)
+                .put("regularSeasonEndDate", regularSeasonEndDate);
+        ArrayNode days = week.putArray("gameWeek");
+        for (ObjectNode game : games) {
+            days.addObject().put("date", game.path("gameDate").asText()).putArray("games").add(game);
+        }
+        return week;
+    }
+
+    private static JsonNode clubSchedule(ObjectNode... games) {
+        ObjectNode schedule = MAPPER.createObjectNode();
+        schedule.putArray("games").addAll(List.of(games));
+        return schedule;
+    }
+
+    private static JsonNode standings(String... teamCodes) {
+        ObjectNode standings = MAPPER.createObjectNode();
+        ArrayNode teams = standings.putArray("standings");
+        for (String teamCode : teamCodes) {
+            ObjectNode team = teams.addObject();
+            team.putObject("teamAbbrev").put("default", teamCode);
+            team.putObject("teamName").put("default", "Team " + teamCode);
+        }
+        return standings;
+    }
+
+    private static Team team(String teamCode, String season) {
+        Team team = new Team();
+        team.setTeamCode(teamCode);
+        team.setSeason(season);
+        return team;
+    }
+}
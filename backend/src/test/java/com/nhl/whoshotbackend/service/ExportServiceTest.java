@@ -0,0 +1,140 @@
+package com.nhl.whoshotbackend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.repository.memory.InMemoryGameLogRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryGameRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryPlayerRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryTeamRepository;
+import com.nhl.whoshotbackend.store.SeasonArchive;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Exports from the in-memory storage engine and a real season archive.
+ */
+class ExportServiceTest {
+
+    private static final String SEASON = TestSeasonData.SEASON;
+    private static final String ARCHIVED_SEASON = "20232024";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final InMemoryPlayerRepository playerRepository = new InMemoryPlayerRepository();
+    private final InMemoryTeamRepository teamRepository = new InMemoryTeamRepository();
+    private final InMemoryGameRepository gameRepository = new InMemoryGameRepository();
+    private final InMemoryGameLogRepository gameLogRepository = new InMemoryGameLogRepository();
+    private SeasonArchiveStore seasonArchiveStore;
+    private ExportService exportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp(@TempDir Path archiveDir) {
+        seasonArchiveStore = new SeasonArchiveStore(archiveDir.toString());
+        exportService = new ExportService(playerRepository, teamRepository, gameRepository, gameLogRepository,
+                seasonArchiveStore, mock(ObjectProvider.class), MAPPER, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void csvQuotesValuesWithDelimitersQuotesOrLineBreaks() throws IOException {
+        TestSeasonData data = TestSeasonData.generate(SEASON, 2, 2, 1, 41);
+        List<Player> players = data.players;
+        players.get(0).setFullName("Ryan \"Factor\" O'Reilly, Jr.");
+        players.get(1).setLastName("Line\r\nBreak");
+        players.get(2).setHeadshotUrl(null);
+        playerRepository.saveAll(players);
+
+        String csv = export("players", List.of(SEASON), ExportService.FORMAT_CSV);
+
+        String[] lines = csv.split("\r\n(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"); // Split on CRLF outside quotes
+        assertThat(lines).hasSize(1 + players.size());
+        List<String> header = List.of(lines[0].split(","));
+        assertThat(header).contains("playerId", "fullName", "lastName", "headshotUrl");
+        assertThat(lines[1]).contains(",\"Ryan \"\"Factor\"\" O'Reilly, Jr.\",");
+        assertThat(lines[2]).contains(",\"Line\r\nBreak\",");
+        List<String> plain = List.of(lines[3].split(",", -1));
+        assertThat(plain.get(header.indexOf("fullName"))).isEqualTo(players.get(2).getFullName());
+        assertThat(plain.get(header.indexOf("headshotUrl"))).isEmpty();
+    }
+
+    @Test
+    void gameLogsOfArchivedAndLiveSeasonsAreEachWrittenOnceInExportOrder() throws IOException {
+        TestSeasonData archived = TestSeasonData.generate(ARCHIVED_SEASON, 4, 5, 30, 42);
+        SeasonArchive.write(seasonArchiveStore.pathFor(ARCHIVED_SEASON), ARCHIVED_SEASON, archived.teams,
+                archived.players, archived.gameLogs);
+        seasonArchiveStore.open(ARCHIVED_SEASON);
+        // 2,000 game logs: two full chunks, then an empty read ends the season
+        TestSeasonData live = TestSeasonData.generate(SEASON, 10, 5, 40, 43);
+        gameLogRepository.saveAll(live.gameLogs);
+        // A third season's rows stay out of the export
+        gameLogRepository.saveAll(TestSeasonData.generate("20222023", 2, 2, 3, 44).gameLogs);
+
+        String ndjson = export("game-logs", List.of(ARCHIVED_SEASON, SEASON), ExportService.FORMAT_NDJSON);
+
+        List<String> expected = Stream.concat(exportOrder(archived.gameLogs), exportOrder(live.gameLogs)).toList();
+        assertThat(live.gameLogs).hasSize(2_000);
+        assertThat(ndjson.lines().map(ExportServiceTest::gameLogKey).toList()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void playersCrossingAChunkBoundaryAreWrittenOnceInIdOrder() throws IOException {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 1_500; i++) {
+            Player player = new Player();
+            player.setPlayerId(8_000_000L + i);
+            player.setSeason(SEASON);
+            players.add(player);
+        }
+        playerRepository.saveAll(players);
+
+        String ndjson = export("players", List.of(SEASON), ExportService.FORMAT_NDJSON);
+
+        assertThat(ndjson.lines().map(line -> read(line).path("playerId").asLong()).toList())
+                .containsExactlyElementsOf(players.stream().map(Player::getPlayerId).toList());
+    }
+
+    private String export(String dataset, List<String> seasons, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = exportService.export(dataset, seasons, format, output);
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isPositive();
+        return text;
+    }
+
+    private static Stream<String> exportOrder(List<GameLog> gameLogs) {
+        return gameLogs.stream()
+                .sorted(Comparator.comparing(GameLog::getGameId).thenComparing(GameLog::getPlayerId))
+                .map(gameLog -> gameLog.getGameId() + ":" + gameLog.getPlayerId());
+    }
+
+    private static String gameLogKey(String line) {
+        JsonNode row = read(line);
+        return row.path("gameId").asLong() + ":" + row.path("playerId").asLong();
+    }
+
+    private static JsonNode read(String line) {
+        try {
+            return MAPPER.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
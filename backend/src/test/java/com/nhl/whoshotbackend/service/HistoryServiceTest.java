@@ -0,0 +1,235 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.AppInstances;
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.dto.PlayerAsOf;
+import com.nhl.whoshotbackend.dto.TeamAsOf;
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * As-of figures checked against a naive replay of the season's game logs and games up to each date,
+ * and timed against that replay. The snapshot cache is disabled so every query computes its figures.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HistoryServiceTest {
+
+    private static final int GAME_DAYS = 60;
+
+    private ConfigurableApplicationContext app;
+    private HistoryService historyService;
+    private TestSeasonData data;
+    private LocalDate openingDay;
+
+    @BeforeAll
+    void startAndSeed(@TempDir Path workDir) {
+        app = AppInstances.start(workDir, workDir.resolve("history.db"), "history", WebApplicationType.NONE,
+                "nhl.history.cache-size=0");
+        data = TestSeasonData.generate(TestSeasonData.SEASON, 16, 20, GAME_DAYS, 61);
+        new TransactionTemplate(app.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            app.getBean(TeamRepository.class).saveAll(data.teams);
+            app.getBean(PlayerRepository.class).saveAll(data.players);
+            app.getBean(GameRepository.class).saveAll(data.games);
+            app.getBean(GameLogRepository.class).saveAll(data.gameLogs);
+        });
+        app.getBean(GameLogStore.class).load(data.season);
+        historyService = app.getBean(HistoryService.class);
+        openingDay = LocalDate.parse(data.games.get(0).getGameDate());
+    }
+
+    @AfterAll
+    void stop() {
+        if (app != null) {
+            app.close();
+        }
+    }
+
+    @Test
+    void asOfFiguresMatchANaiveReplay() {
+        for (int day = -1; day <= GAME_DAYS; day += 7) {
+            LocalDate date = openingDay.plusDays(day);
+            Map<Long, PlayerAsOf> expectedPlayers = replayPlayers(date);
+            Map<String, TeamAsOf> expectedTeams = replayTeams(date);
+
+            List<PlayerAsOf> players = historyService.getPlayerStandings(data.season, date);
+            assertThat(players).hasSize(expectedPlayers.size());
+            for (PlayerAsOf player : players) {
+                PlayerAsOf expected = expectedPlayers.get(player.getPlayerId());
+                assertThat(player).as("player %d as of %s", player.getPlayerId(), date)
+                        .usingRecursiveComparison()
+                        .comparingOnlyFields("date", "gamesPlayed", "goals", "assists", "points", "hotRating",
+                                "currentPointStreak")
+                        .isEqualTo(expected);
+            }
+
+            List<TeamAsOf> teams = historyService.getStandings(data.season, date);
+            assertThat(teams).hasSize(expectedTeams.size());
+            for (TeamAsOf team : teams) {
+                assertThat(team).as("team %s as of %s", team.getTeamCode(), date)
+                        .usingRecursiveComparison()
+                        .comparingOnlyFields("date", "gamesPlayed", "wins", "losses", "overtimeLosses", "points",
+                                "goalsFor", "goalsAgainst", "goalDifferential", "currentWinStreak",
+                                "currentLossStreak", "last10GamesWinPercentage")
+                        .isEqualTo(expectedTeams.get(team.getTeamCode()));
+            }
+
+            assertThat(historyService.getPlayerPointStreaks(data.season, date))
+                    .extracting(PlayerAsOf::getPlayerId)
+                    .containsExactlyInAnyOrderElementsOf(expectedPlayers.values().stream()
+                            .filter(player -> player.getCurrentPointStreak() > 0)
+                            .map(PlayerAsOf::getPlayerId)
+                            .toList());
+        }
+    }
+
+    @Test
+    void asOfQueriesAreFasterThanAReplay() {
+        historyService.getPlayerStandings(data.season, openingDay); // Build the index
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = 0; day < GAME_DAYS; day++) {
+            dates.add(openingDay.plusDays(day));
+        }
+
+        long indexedNanos = Long.MAX_VALUE;
+        long replayNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long startNanos = System.nanoTime();
+            for (LocalDate date : dates) {
+                historyService.getPlayerStandings(data.season, date);
+                historyService.getStandings(data.season, date);
+            }
+            indexedNanos = Math.min(indexedNanos, System.nanoTime() - startNanos);
+
+            startNanos = System.nanoTime();
+            for (LocalDate date : dates) {
+                replayPlayers(date);
+                replayTeams(date);
+            }
+            replayNanos = Math.min(replayNanos, System.nanoTime() - startNanos);
+        }
+
+        System.out.printf("As-of player and team standings for %d dates over %d game logs: indexed %d ms, "
+                        + "replay %d ms%n",
+                dates.size(), data.gameLogs.size(), indexedNanos / 1_000_000, replayNanos / 1_000_000);
+        assertThat(indexedNanos).isLessThan(replayNanos);
+    }
+
+    /**
+     * Every player's figures as of a date, replayed from their game logs on or before it.
+     */
+    private Map<Long, PlayerAsOf> replayPlayers(LocalDate date) {
+        String isoDate = date.toString();
+        Map<Long, List<GameLog>> byPlayer = data.gameLogs.stream()
+                .filter(gameLog -> gameLog.getGameDate().compareTo(isoDate) <= 0)
+                .sorted(Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId))
+                .collect(Collectors.groupingBy(GameLog::getPlayerId, TreeMap::new, Collectors.toList()));
+
+        Map<Long, PlayerAsOf> players = new TreeMap<>();
+        byPlayer.forEach((playerId, gameLogs) -> {
+            PlayerAsOf player = new PlayerAsOf();
+            player.setPlayerId(playerId);
+            player.setDate(isoDate);
+            player.setGamesPlayed(gameLogs.size());
+            player.setGoals(gameLogs.stream().mapToInt(GameLog::getGoals).sum());
+            player.setAssists(gameLogs.stream().mapToInt(GameLog::getAssists).sum());
+            player.setPoints(gameLogs.stream().mapToInt(GameLog::getPoints).sum());
+            List<GameLog> recent = gameLogs.subList(
+                    Math.max(0, gameLogs.size() - StatisticsService.HOT_RATING_GAMES), gameLogs.size());
+            player.setHotRating((double) recent.stream().mapToInt(GameLog::getPoints).sum() / recent.size());
+            int streak = 0;
+            for (int i = gameLogs.size() - 1; i >= 0 && gameLogs.get(i).getPoints() > 0; i--) {
+                streak++;
+            }
+            player.setCurrentPointStreak(streak);
+            players.put(playerId, player);
+        });
+        return players;
+    }
+
+    /**
+     * Every team's record as of a date, replayed from its completed games on or before it.
+     */
+    private Map<String, TeamAsOf> replayTeams(LocalDate date) {
+        String isoDate = date.toString();
+        List<Game> games = data.games.stream()
+                .filter(game -> game.getGameDate().compareTo(isoDate) <= 0)
+                .sorted(Comparator.comparing(Game::getGameDate).thenComparing(Game::getGameId))
+                .toList();
+
+        Map<String, TeamAsOf> teams = data.teams.stream()
+                .collect(Collectors.toMap(Team::getTeamCode, team -> new TeamAsOf(), (a, b) -> a, TreeMap::new));
+        teams.forEach((teamCode, team) -> {
+            List<Boolean> results = new ArrayList<>();
+            int overtimeLosses = 0;
+            int goalsFor = 0;
+            int goalsAgainst = 0;
+            for (Game game : games) {
+                boolean home = teamCode.equals(game.getHomeTeamCode());
+                if (!home && !teamCode.equals(game.getAwayTeamCode())) {
+                    continue;
+                }
+                int scored = home ? game.getHomeScore() : game.getAwayScore();
+                int conceded = home ? game.getAwayScore() : game.getHomeScore();
+                results.add(scored > conceded);
+                if (scored < conceded && !"REG".equals(game.getPeriodType())) {
+                    overtimeLosses++;
+                }
+                goalsFor += scored;
+                goalsAgainst += conceded;
+            }
+            int wins = (int) results.stream().filter(won -> won).count();
+            List<Boolean> last10 = results.subList(
+                    Math.max(0, results.size() - StreakStateService.TEAM_WINDOW_GAMES), results.size());
+
+            team.setTeamCode(teamCode);
+            team.setDate(isoDate);
+            team.setGamesPlayed(results.size());
+            team.setWins(wins);
+            team.setLosses(results.size() - wins - overtimeLosses);
+            team.setOvertimeLosses(overtimeLosses);
+            team.setPoints(2 * wins + overtimeLosses);
+            team.setGoalsFor(goalsFor);
+            team.setGoalsAgainst(goalsAgainst);
+            team.setGoalDifferential(goalsFor - goalsAgainst);
+            team.setCurrentWinStreak(trailing(results, true));
+            team.setCurrentLossStreak(trailing(results, false));
+            team.setLast10GamesWinPercentage(last10.isEmpty()
+                    ? null : (double) last10.stream().filter(won -> won).count() / last10.size());
+        });
+        return teams;
+    }
+
+    private static int trailing(List<Boolean> results, boolean value) {
+        int count = 0;
+        for (int i = results.size() - 1; i >= 0 && results.get(i) == value; i--) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,134 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.config.HotColdRuleProperties;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.service.HotColdRuleService.Flags;
+import com.nhl.whoshotbackend.service.HotColdRuleService.RuleSetResult;
+import com.nhl.whoshotbackend.store.SeasonGameLogs;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The default rule set against the flags StatisticsService hard-coded before rule sets existed. Hot, point-streak
+ * and team flags are unchanged; cold now applies the documented 4-game rule, which the old code never reached.
+ */
+class HotColdRuleServiceTest {
+
+    @Test
+    void defaultRuleSetKeepsBaselineHotAndStreakFlagsAndFlagsColdOverFourGames() {
+        TestSeasonData data = withStreaks(TestSeasonData.small(101));
+        RuleSetResult result = newService(new HotColdRuleProperties())
+                .evaluate(SeasonGameLogs.fromGameLogs(data.season, data.gameLogs), data.teams)
+                .activeResult();
+
+        Map<Long, List<GameLog>> byPlayer = data.gameLogs.stream()
+                .collect(Collectors.groupingBy(GameLog::getPlayerId));
+        byPlayer.forEach((playerId, gameLogs) ->
+                assertThat(result.player(playerId)).as("player %d", playerId).isEqualTo(baseline(gameLogs)));
+        for (Team team : data.teams) {
+            assertThat(result.team(team.getTeamCode())).as("team %s", team.getTeamCode()).isEqualTo(baseline(team));
+        }
+
+        // Every flag is set for someone, so the comparison covers each rule
+        assertThat(result.players().values()).anyMatch(Flags::hot).anyMatch(Flags::cold).anyMatch(Flags::pointStreak);
+        assertThat(result.teams().values()).anyMatch(Flags::hot).anyMatch(Flags::cold).anyMatch(Flags::pointStreak);
+    }
+
+    @Test
+    void shippedConfigurationIsTheDefaultRuleSet() throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load("application.yml", new ClassPathResource("application.yml"));
+        HotColdRuleProperties shipped = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("nhl.rules", HotColdRuleProperties.class)
+                .get();
+
+        assertThat(shipped).usingRecursiveComparison().isEqualTo(new HotColdRuleProperties());
+    }
+
+    /**
+     * Expected player flags: hot at more than 1.5 points a game over the last 3 games and a point streak from
+     * 5 games, as StatisticsService set them, and cold under 0.2 over the last 4 games. StatisticsService documented
+     * that cold rule but never flagged anyone, since its streak-state window held only 3 games.
+     */
+    private static Flags baseline(List<GameLog> playerLogs) {
+        List<Integer> points = playerLogs.stream()
+                .sorted(Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId))
+                .map(GameLog::getPoints)
+                .toList();
+        int games = points.size();
+        int streak = 0;
+        for (int game = games - 1; game >= 0 && points.get(game) > 0; game--) {
+            streak++;
+        }
+        boolean hot = games >= 3 && sum(points.subList(games - 3, games)) / 3.0 > 1.5;
+        boolean cold = games >= 4 && sum(points.subList(games - 4, games)) / 4.0 < 0.2;
+        return new Flags(hot, cold, streak >= 5);
+    }
+
+    /**
+     * Team flags as StatisticsService set them from the current streaks.
+     */
+    private static Flags baseline(Team team) {
+        int winStreak = team.getCurrentWinStreak() != null ? team.getCurrentWinStreak() : 0;
+        int lossStreak = team.getCurrentLossStreak() != null ? team.getCurrentLossStreak() : 0;
+        return new Flags(winStreak >= 3, lossStreak >= 3, winStreak >= 5);
+    }
+
+    private static int sum(List<Integer> points) {
+        return points.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Give each player a recent form (scoring every game, scoreless, or unchanged) and each team a current
+     * streak, so every flag is set for some players and teams and left unset for others.
+     */
+    private static TestSeasonData withStreaks(TestSeasonData data) {
+        Random random = new Random(data.gameLogs.size());
+        Map<Long, List<GameLog>> byPlayer = data.gameLogs.stream()
+                .collect(Collectors.groupingBy(GameLog::getPlayerId));
+        byPlayer.values().forEach(playerLogs -> {
+            List<GameLog> ordered = playerLogs.stream()
+                    .sorted(Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId))
+                    .toList();
+            int form = random.nextInt(3);
+            int recent = random.nextInt(8);
+            for (GameLog gameLog : ordered.subList(Math.max(0, ordered.size() - recent), ordered.size())) {
+                if (form == 0) {
+                    gameLog.setPoints(1 + random.nextInt(3));
+                } else if (form == 1) {
+                    gameLog.setPoints(random.nextInt(10) == 0 ? 1 : 0);
+                }
+            }
+        });
+        for (Team team : data.teams) {
+            boolean winning = random.nextBoolean();
+            team.setCurrentWinStreak(winning ? random.nextInt(7) : 0);
+            team.setCurrentLossStreak(winning ? 0 : random.nextInt(5));
+        }
+        return data;
+    }
+
+    private static HotColdRuleService newService(HotColdRuleProperties properties) {
+        StreakStateService streakStateService = mock(StreakStateService.class);
+        when(streakStateService.getTeamStates(anyString())).thenReturn(Map.of());
+        return new HotColdRuleService(properties, streakStateService);
+    }
+}
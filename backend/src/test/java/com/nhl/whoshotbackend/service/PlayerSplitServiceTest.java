@@ -0,0 +1,92 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.dto.PlayerSplits;
+import com.nhl.whoshotbackend.dto.SplitLine;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlayerSplitServiceTest {
+
+    private static final String SEASON = "20242025";
+    private static final long PLAYER_ID = 8_478_402L;
+    private static final long FIRST = SeasonValidator.getFirstGameId(SEASON);
+    private static final long LAST = SeasonValidator.getLastGameId(SEASON);
+
+    private final GameLogRepository gameLogRepository = mock(GameLogRepository.class);
+    private final PlayerSplitService playerSplitService = newService(gameLogRepository);
+
+    @Test
+    void gamesCommittedDuringTheRebuildReadAreCaughtUp() {
+        GameLog first = gameLog(FIRST + 10, "2024-10-10", true, 1);
+        GameLog second = gameLog(FIRST + 20, "2024-10-12", false, 2);
+        GameLog committedDuringRead = gameLog(FIRST + 30, "2024-11-02", true, 3);
+        when(gameLogRepository.findMaxGameIdBetween(FIRST, LAST)).thenReturn(FIRST + 20);
+        // The full read races the commit and sees it; the catch-up read above the high-water mark sees it again
+        when(gameLogRepository.findByGameIdBetween(FIRST, LAST)).thenReturn(List.of(first, second, committedDuringRead));
+        when(gameLogRepository.findByGameIdBetween(FIRST + 21, LAST)).thenReturn(List.of(committedDuringRead));
+
+        PlayerSplits splits = playerSplitService.getPlayerSplits(PLAYER_ID, SEASON).orElseThrow();
+
+        assertThat(splits.getHome().getGamesPlayed()).isEqualTo(2);
+        assertThat(splits.getHome().getPoints()).isEqualTo(4);
+        assertThat(splits.getAway().getGamesPlayed()).isEqualTo(1);
+        assertThat(splits.getByMonth()).extracting(SplitLine::getSplit).containsExactly("2024-10", "2024-11");
+    }
+
+    @Test
+    void gamesMissedByTheRebuildReadAreAddedAfterTheSwap() {
+        GameLog stored = gameLog(FIRST + 10, "2024-10-10", true, 1);
+        GameLog committedAfterRead = gameLog(FIRST + 30, "2024-11-02", false, 2);
+        when(gameLogRepository.findMaxGameIdBetween(FIRST, LAST)).thenReturn(FIRST + 10);
+        when(gameLogRepository.findByGameIdBetween(FIRST, LAST)).thenReturn(List.of(stored));
+        when(gameLogRepository.findByGameIdBetween(FIRST + 11, LAST)).thenReturn(List.of(committedAfterRead));
+
+        PlayerSplits splits = playerSplitService.getPlayerSplits(PLAYER_ID, SEASON).orElseThrow();
+
+        assertThat(splits.getHome().getGamesPlayed()).isEqualTo(1);
+        assertThat(splits.getAway().getGamesPlayed()).isEqualTo(1);
+        assertThat(splits.getAway().getPoints()).isEqualTo(2);
+    }
+
+    @Test
+    void reappliedAndOutOfOrderGamesAreCountedOnce() {
+        when(gameLogRepository.findMaxGameIdBetween(FIRST, LAST)).thenReturn(null);
+        when(gameLogRepository.findByGameIdBetween(FIRST, LAST)).thenReturn(List.of());
+        playerSplitService.rebuild(SEASON);
+
+        // More games than the initial capacity of a player's game ID array, applied newest first and twice
+        List<GameLog> gameLogs = new ArrayList<>();
+        for (int game = 40; game > 0; game--) {
+            gameLogs.add(gameLog(FIRST + game, "2024-10-10", game % 2 == 0, 1));
+        }
+        playerSplitService.applyGames(gameLogs);
+        playerSplitService.applyGames(gameLogs.subList(10, 30));
+
+        PlayerSplits splits = playerSplitService.getPlayerSplits(PLAYER_ID, SEASON).orElseThrow();
+        assertThat(splits.getHome().getGamesPlayed()).isEqualTo(20);
+        assertThat(splits.getAway().getGamesPlayed()).isEqualTo(20);
+    }
+
+    private static PlayerSplitService newService(GameLogRepository gameLogRepository) {
+        SeasonArchiveStore seasonArchiveStore = mock(SeasonArchiveStore.class);
+        when(seasonArchiveStore.get(anyString())).thenReturn(Optional.empty());
+        return new PlayerSplitService(gameLogRepository, seasonArchiveStore);
+    }
+
+    private static GameLog gameLog(long gameId, String gameDate, boolean home, int points) {
+        return new GameLog(null, PLAYER_ID, gameId, gameDate, home ? "BOS" : "TOR", home,
+                points, 0, points, 0, 2, 1000, true);
+    }
+}
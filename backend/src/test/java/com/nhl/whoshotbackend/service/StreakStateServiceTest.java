@@ -0,0 +1,177 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.dto.StreakConsistencyReport;
+import com.nhl.whoshotbackend.dto.TeamGame;
+import com.nhl.whoshotbackend.entity.Game;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.PlayerStreakState;
+import com.nhl.whoshotbackend.entity.TeamStreakState;
+import com.nhl.whoshotbackend.repository.memory.InMemoryGameLogRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryGameRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryPlayerRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryPlayerStreakStateRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryTeamRepository;
+import com.nhl.whoshotbackend.repository.memory.InMemoryTeamStreakStateRepository;
+import com.nhl.whoshotbackend.store.GameLogStore;
+import com.nhl.whoshotbackend.store.SeasonArchiveStore;
+import com.nhl.whoshotbackend.util.SeasonValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Incremental streak state against full rebuilds, on the in-memory storage engine.
+ */
+class StreakStateServiceTest {
+
+    private static final String SEASON = TestSeasonData.SEASON;
+    private static final long PLAYER_ID = 8_500_001L;
+
+    private final InMemoryPlayerStreakStateRepository playerStates = new InMemoryPlayerStreakStateRepository();
+    private final InMemoryTeamStreakStateRepository teamStates = new InMemoryTeamStreakStateRepository();
+    private final InMemoryGameLogRepository gameLogRepository = new InMemoryGameLogRepository();
+    private final InMemoryGameRepository gameRepository = new InMemoryGameRepository();
+    private final InMemoryPlayerRepository playerRepository = new InMemoryPlayerRepository();
+    private final InMemoryTeamRepository teamRepository = new InMemoryTeamRepository();
+    private StreakStateService streakStateService;
+
+    @BeforeEach
+    void setUp(@TempDir Path archiveDir) {
+        streakStateService = new StreakStateService(playerStates, teamStates, gameLogRepository, gameRepository,
+                playerRepository, teamRepository,
+                new GameLogStore(gameLogRepository, new SeasonArchiveStore(archiveDir.toString())));
+    }
+
+    @Test
+    void appendedGamesGiveTheSameStateAsARebuild() {
+        TestSeasonData data = TestSeasonData.small(31);
+        teamRepository.saveAll(data.teams);
+        playerRepository.saveAll(data.players);
+
+        // Ingest the season one day at a time, as the sync does
+        Map<String, List<GameLog>> gameLogsByDate = data.gameLogs.stream()
+                .collect(Collectors.groupingBy(GameLog::getGameDate, TreeMap::new, Collectors.toList()));
+        Map<String, List<Game>> gamesByDate = data.games.stream()
+                .collect(Collectors.groupingBy(Game::getGameDate, TreeMap::new, Collectors.toList()));
+        gameLogsByDate.forEach((date, gameLogs) -> {
+            gameLogRepository.saveAll(gameLogs);
+            streakStateService.applyPlayerGames(gameLogs);
+            List<Game> games = gamesByDate.get(date);
+            gameRepository.saveAll(games);
+            streakStateService.applyTeamGames(teamGames(games));
+        });
+
+        StreakConsistencyReport report = streakStateService.verifySeason(SEASON);
+        assertThat(report.isConsistent()).as("%s", report.getMismatches()).isTrue();
+        assertThat(report.getPlayersChecked()).isEqualTo(data.players.size());
+        assertThat(report.getTeamsChecked()).isEqualTo(data.teams.size());
+
+        List<PlayerStreakState> appendedPlayers = playerStates.findBySeason(SEASON);
+        List<TeamStreakState> appendedTeams = teamStates.findBySeason(SEASON);
+        streakStateService.repairSeason(SEASON);
+        assertThat(playerStates.findBySeason(SEASON)).usingRecursiveFieldByFieldElementComparatorIgnoringFields("lastUpdated")
+                .containsExactlyInAnyOrderElementsOf(appendedPlayers);
+        assertThat(teamStates.findBySeason(SEASON)).usingRecursiveFieldByFieldElementComparatorIgnoringFields("lastUpdated")
+                .containsExactlyInAnyOrderElementsOf(appendedTeams);
+    }
+
+    @Test
+    void appendingKeepsTheRollingWindowAndStreaks() {
+        ingest(gameLog(1, "2024-10-10", 1, 1, 3), gameLog(2, "2024-10-12", 2, 0, 4), gameLog(3, "2024-10-14", 0, 0, 1));
+        ingest(gameLog(4, "2024-10-16", 1, 1, 2), gameLog(5, "2024-10-18", 3, 2, 5));
+
+        PlayerStreakState state = playerState();
+        assertThat(state.getGamesCounted()).isEqualTo(5);
+        assertThat(state.getLastGameId()).isEqualTo(gameId(5));
+        assertThat(state.getCurrentPointStreak()).isEqualTo(2);
+        assertThat(state.getLongestPointStreak()).isEqualTo(2);
+        assertThat(state.getRecentPoints()).isEqualTo("0,1,3");
+        assertThat(state.getRecentGoals()).isEqualTo("0,1,2");
+        assertThat(state.getRecentShots()).isEqualTo("1,2,5");
+        assertThat(state.getWindowGames()).isEqualTo(3);
+        assertThat(state.getWindowPoints()).isEqualTo(4);
+        assertThat(state.getWindowGoals()).isEqualTo(3);
+        assertThat(state.getWindowShots()).isEqualTo(8);
+    }
+
+    @Test
+    void aGameOlderThanTheStateRebuildsItInDateOrder() {
+        ingest(gameLog(1, "2024-10-10", 1, 0, 2), gameLog(2, "2024-10-12", 0, 0, 1), gameLog(3, "2024-10-16", 2, 1, 3));
+        // A postponed game played on an earlier date is ingested after the later games
+        ingest(gameLog(4, "2024-10-14", 1, 1, 4));
+
+        PlayerStreakState state = playerState();
+        assertThat(state.getGamesCounted()).isEqualTo(4);
+        assertThat(state.getLastGameId()).isEqualTo(gameId(3));
+        assertThat(state.getLastGameDate()).isEqualTo("2024-10-16");
+        assertThat(state.getRecentPoints()).isEqualTo("0,1,2");
+        assertThat(state.getCurrentPointStreak()).isEqualTo(2);
+        assertThat(state.getLongestPointStreak()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyReportsStoredStateThatDiffersFromARecomputation() {
+        TestSeasonData data = TestSeasonData.small(32);
+        teamRepository.saveAll(data.teams);
+        playerRepository.saveAll(data.players);
+        gameLogRepository.saveAll(data.gameLogs);
+        gameRepository.saveAll(data.games);
+        streakStateService.repairSeason(SEASON);
+
+        PlayerStreakState player = playerStates.findBySeason(SEASON).get(0);
+        player.setCurrentPointStreak(player.getCurrentPointStreak() + 1);
+        playerStates.save(player);
+        TeamStreakState team = teamStates.findBySeason(SEASON).get(0);
+        team.setRecentResults("WWWWW");
+        teamStates.save(team);
+
+        StreakConsistencyReport report = streakStateService.verifySeason(SEASON);
+
+        assertThat(report.isConsistent()).isFalse();
+        assertThat(report.getMismatches()).hasSize(2);
+        assertThat(report.getMismatches()).anySatisfy(mismatch ->
+                assertThat(mismatch).startsWith("player " + player.getPlayerId() + ": stored [games="));
+        assertThat(report.getMismatches()).anySatisfy(mismatch ->
+                assertThat(mismatch).startsWith("team " + team.getTeamCode() + ": stored [games=").contains("recent=WWWWW"));
+    }
+
+    private void ingest(GameLog... gameLogs) {
+        gameLogRepository.saveAll(List.of(gameLogs));
+        streakStateService.applyPlayerGames(List.of(gameLogs));
+    }
+
+    private PlayerStreakState playerState() {
+        return streakStateService.getPlayerStates(SEASON).get(PLAYER_ID);
+    }
+
+    private static List<TeamGame> teamGames(List<Game> games) {
+        return games.stream()
+                .flatMap(game -> List.of(game.toTeamGame(game.getHomeTeamCode()), game.toTeamGame(game.getAwayTeamCode())).stream())
+                .toList();
+    }
+
+    private static long gameId(int game) {
+        return SeasonValidator.getFirstGameId(SEASON) + game;
+    }
+
+    private static GameLog gameLog(int game, String gameDate, int points, int goals, int shots) {
+        GameLog gameLog = new GameLog();
+        gameLog.setPlayerId(PLAYER_ID);
+        gameLog.setGameId(gameId(game));
+        gameLog.setGameDate(gameDate);
+        gameLog.setPoints(points);
+        gameLog.setGoals(goals);
+        gameLog.setAssists(points - goals);
+        gameLog.setShots(shots);
+        return gameLog;
+    }
+}
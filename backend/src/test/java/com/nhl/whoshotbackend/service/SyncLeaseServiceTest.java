@@ -0,0 +1,205 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.AppInstances;
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs several application instances against one local SQLite file, as replicas sharing a database would.
+ * Tests that wait for leases to expire or heartbeats to run are tagged {@code timing} and run with
+ * {@code -Pslow-tests}.
+ */
+class SyncLeaseServiceTest {
+
+    private static final String FAST_LEASE = "nhl.sync.lease.duration-ms=1000";
+    private static final String FAST_HEARTBEAT = "nhl.sync.lease.heartbeat-ms=50";
+
+    @TempDir
+    Path workDir;
+
+    private final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+    @AfterEach
+    void stopInstances() {
+        instances.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void electsOneLeaderAndFollowersPickUpPublishedData() throws Exception {
+        startInstances(3, FAST_LEASE, FAST_HEARTBEAT);
+        ConfigurableApplicationContext leader = leader();
+        assertThat(instances.stream().filter(this::isLeader)).hasSize(1);
+        assertThat(new JdbcTemplate(leader.getBean(DataSource.class))
+                .queryForObject("PRAGMA journal_mode", String.class)).isEqualToIgnoringCase("wal");
+
+        TestSeasonData data = TestSeasonData.small(1);
+        SyncLeaseService leaderLease = leader.getBean(SyncLeaseService.class);
+        inTransaction(leader, () -> leader.getBean(TeamRepository.class).saveAll(data.teams));
+        leaderLease.publishDataVersion(data.season);
+        long version = leaderLease.getDataVersion();
+
+        for (ConfigurableApplicationContext follower : followers()) {
+            DataStatusService status = follower.getBean(DataStatusService.class);
+            awaitTrue(() -> DataStatusService.SOURCE_LEADER.equals(status.getSource()));
+            assertThat(follower.getBean(SyncLeaseService.class).getDataVersion()).isEqualTo(version);
+            assertThat(follower.getBean(StatisticsService.class).getStandings(data.season)).hasSize(data.teams.size());
+        }
+    }
+
+    @Test
+    void followerWritesAreFencedOut() throws Exception {
+        startInstances(2, FAST_LEASE, FAST_HEARTBEAT);
+        ConfigurableApplicationContext follower = followers().get(0);
+        Team team = TestSeasonData.small(2).teams.get(0);
+
+        SyncLeaseService followerLease = follower.getBean(SyncLeaseService.class);
+        assertThatThrownBy(() -> followerLease.fenced(() ->
+                inTransaction(follower, () -> follower.getBean(TeamRepository.class).save(team))).get())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no longer holds the sync lease");
+        assertThat(follower.getBean(TeamRepository.class).findBySeasonOrderByPointsDesc(team.getSeason())).isEmpty();
+    }
+
+    @Test
+    @Tag("timing")
+    void writesOutlivingTheLeaseAreRolledBackAndAnotherReplicaTakesOver() throws Exception {
+        // This instance renews only at startup, so its lease runs out two seconds later
+        ConfigurableApplicationContext stalled = start("stalled", "nhl.sync.lease.duration-ms=2000",
+                "nhl.sync.lease.heartbeat-ms=3600000");
+        assertThat(isLeader(stalled)).isTrue();
+        Team team = TestSeasonData.small(3).teams.get(0);
+
+        SyncLeaseService stalledLease = stalled.getBean(SyncLeaseService.class);
+        assertThatThrownBy(() -> stalledLease.fenced(() -> inTransaction(stalled, () -> {
+            stalled.getBean(TeamRepository.class).save(team);
+            sleep(2500);
+            return null;
+        })).get()).isInstanceOf(IllegalStateException.class);
+        assertThat(stalled.getBean(TeamRepository.class).findBySeasonOrderByPointsDesc(team.getSeason())).isEmpty();
+
+        ConfigurableApplicationContext standby = start("standby", FAST_LEASE, FAST_HEARTBEAT);
+        awaitTrue(() -> isLeader(standby));
+        assertThat(isLeader(stalled)).isFalse();
+    }
+
+    @Test
+    @Tag("timing")
+    void leadershipMovesWhenTheLeaderShutsDown() throws Exception {
+        startInstances(3, FAST_LEASE, FAST_HEARTBEAT);
+        ConfigurableApplicationContext leader = leader();
+        leader.close();
+        instances.remove(leader);
+
+        awaitTrue(() -> instances.stream().filter(this::isLeader).count() == 1);
+    }
+
+    @Test
+    @Tag("timing")
+    void heartbeatsAndSyncWritesShareTheDatabaseWithoutBusyErrors() throws Exception {
+        startInstances(3, "nhl.sync.lease.duration-ms=5000", "nhl.sync.lease.heartbeat-ms=10");
+        ConfigurableApplicationContext leader = leader();
+        SyncLeaseService leaderLease = leader.getBean(SyncLeaseService.class);
+        PlayerRepository leaderPlayers = leader.getBean(PlayerRepository.class);
+        List<Player> players = TestSeasonData.generate(TestSeasonData.SEASON, 16, 20, 1, 4).players;
+
+        // Followers also read while the leader writes and every instance heartbeats
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> reads = new ArrayList<>();
+            for (ConfigurableApplicationContext follower : followers()) {
+                reads.add(readers.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        follower.getBean(StatisticsService.class).getPlayerStandings(TestSeasonData.SEASON);
+                    }
+                }));
+            }
+            for (int round = 0; round < 20; round++) {
+                int points = round;
+                players.forEach(player -> player.setPoints(points));
+                leaderLease.fenced(() -> inTransaction(leader, () -> leaderPlayers.saveAll(players))).get();
+            }
+            for (Future<?> read : reads) {
+                read.get();
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+
+        assertThat(isLeader(leader)).isTrue();
+        assertThat(leaderPlayers.findBySeasonOrderByPointsDesc(TestSeasonData.SEASON))
+                .hasSize(players.size())
+                .allSatisfy(player -> assertThat(player.getPoints()).isEqualTo(19));
+    }
+
+    private void startInstances(int count, String... properties) {
+        for (int i = 0; i < count; i++) {
+            start("replica-" + i, properties);
+        }
+    }
+
+    private ConfigurableApplicationContext start(String name, String... properties) {
+        ConfigurableApplicationContext instance = AppInstances.start(workDir, workDir.resolve("shared.db"), name,
+                WebApplicationType.NONE, properties);
+        instances.add(instance);
+        return instance;
+    }
+
+    private boolean isLeader(ConfigurableApplicationContext instance) {
+        return instance.getBean(SyncLeaseService.class).isLeader();
+    }
+
+    private ConfigurableApplicationContext leader() {
+        return instances.stream().filter(this::isLeader).findFirst().orElseThrow();
+    }
+
+    private List<ConfigurableApplicationContext> followers() {
+        return instances.stream().filter(instance -> !isLeader(instance)).toList();
+    }
+
+    private static <T> T inTransaction(ConfigurableApplicationContext instance, Supplier<T> work) {
+        return new TransactionTemplate(instance.getBean(PlatformTransactionManager.class)).execute(status -> work.get());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition within 10 s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
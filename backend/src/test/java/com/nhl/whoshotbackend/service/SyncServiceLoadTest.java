@@ -0,0 +1,149 @@
+package com.nhl.whoshotbackend.service;
+
+import com.nhl.whoshotbackend.AppInstances;
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.repository.GameLogRepository;
+import com.nhl.whoshotbackend.repository.GameRepository;
+import com.nhl.whoshotbackend.repository.PlayerRepository;
+import com.nhl.whoshotbackend.repository.TeamRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the sync bulkheads: /api/players and /api/teams reads keep their p99 latency while
+ * full streak-state rebuilds and recalculations run back to back on the sync executors.
+ * The p99 ceiling can be changed with -Dsync.load-test.p99-ms (default 500). Runs with {@code -Pslow-tests}.
+ */
+@Tag("benchmark")
+class SyncServiceLoadTest {
+
+    private static final long P99_CEILING_MS = Long.getLong("sync.load-test.p99-ms", 500);
+    private static final int CLIENTS = 4;
+    private static final int REQUESTS_PER_CLIENT = 150;
+
+    @TempDir
+    Path workDir;
+
+    private ConfigurableApplicationContext app;
+
+    @AfterEach
+    void stop() {
+        if (app != null) {
+            app.close();
+        }
+    }
+
+    @Test
+    void readsKeepTheirP99LatencyWhileASyncRuns() throws Exception {
+        app = AppInstances.start(workDir, workDir.resolve("load.db"), "load", WebApplicationType.SERVLET);
+        TestSeasonData data = TestSeasonData.generate(TestSeasonData.SEASON, 24, 20, 60, 11);
+        new TransactionTemplate(app.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            app.getBean(TeamRepository.class).saveAll(data.teams);
+            app.getBean(PlayerRepository.class).saveAll(data.players);
+            app.getBean(GameRepository.class).saveAll(data.games);
+            app.getBean(GameLogRepository.class).saveAll(data.gameLogs);
+        });
+        SyncService syncService = app.getBean(SyncService.class);
+        syncService.rebuildStreakState(data.season).join();
+
+        String baseUrl = "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+        List<String> paths = List.of(
+                "/api/players/standings?season=" + data.season,
+                "/api/players/hot?season=" + data.season,
+                "/api/teams/standings?season=" + data.season,
+                "/api/teams/win-streaks?season=" + data.season);
+        HttpClient client = HttpClient.newHttpClient();
+
+        measure(client, baseUrl, paths); // Warm up
+        List<Long> idle = measure(client, baseUrl, paths);
+
+        // Rebuild streak state and recalculate everything, over and over, until the reads are done
+        AtomicBoolean reading = new AtomicBoolean(true);
+        AtomicInteger syncs = new AtomicInteger();
+        ExecutorService syncLoop = Executors.newSingleThreadExecutor();
+        Future<?> syncing = syncLoop.submit(() -> {
+            while (reading.get()) {
+                syncService.rebuildStreakState(data.season).join();
+                syncs.incrementAndGet();
+            }
+        });
+        List<Long> duringSync;
+        try {
+            Thread.sleep(200); // Let the first sync get going
+            duringSync = measure(client, baseUrl, paths);
+        } finally {
+            reading.set(false);
+            syncing.get();
+            syncLoop.shutdown();
+        }
+
+        long idleP99 = percentile(idle, 99);
+        long syncP99 = percentile(duringSync, 99);
+        System.out.printf("Read latency over %d requests: idle p50 %d ms, p99 %d ms; during %d syncs p50 %d ms, p99 %d ms%n",
+                duringSync.size(), percentile(idle, 50), idleP99, syncs.get(), percentile(duringSync, 50), syncP99);
+        assertThat(syncs.get()).as("syncs completed while reading").isPositive();
+        assertThat(syncP99).as("p99 read latency during sync (ms)").isLessThanOrEqualTo(P99_CEILING_MS);
+    }
+
+    /**
+     * Send the requests from several concurrent clients and return every latency in milliseconds.
+     */
+    private static List<Long> measure(HttpClient client, String baseUrl, List<String> paths) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int offset = c;
+                results.add(clients.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(baseUrl + paths.get((i + offset) % paths.size()))).build();
+                        long startNanos = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies.add((System.nanoTime() - startNanos) / 1_000_000);
+                        assertThat(response.statusCode()).isEqualTo(200);
+                    }
+                    return latencies;
+                }));
+            }
+            List<Long> all = new ArrayList<>();
+            for (Future<List<Long>> result : results) {
+                all.addAll(result.get());
+            }
+            return all;
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private static long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
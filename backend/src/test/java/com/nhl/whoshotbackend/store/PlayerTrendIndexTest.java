@@ -0,0 +1,92 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.GameLog;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerTrendIndexTest {
+
+    private static final int WINDOW = 3;
+
+    @Test
+    void decodedSeriesMatchAReplayOfEachPlayersGames() {
+        TestSeasonData data = TestSeasonData.small(81);
+        PlayerTrendIndex index = PlayerTrendIndex.build(SeasonGameLogs.fromGameLogs(data.season, data.gameLogs), WINDOW);
+
+        Map<Long, List<GameLog>> byPlayer = data.gameLogs.stream()
+                .collect(Collectors.groupingBy(GameLog::getPlayerId));
+        assertThat(index.getSeason()).isEqualTo(data.season);
+        assertThat(index.getWindowGames()).isEqualTo(WINDOW);
+        assertThat(index.playerCount()).isEqualTo(byPlayer.size());
+        byPlayer.forEach((playerId, gameLogs) ->
+                assertThat(index.get(playerId)).as("player %d", playerId).containsExactlyElementsOf(replay(gameLogs)));
+        assertThat(index.get(1L)).isNull();
+
+        // Day deltas, window points and streaks of a regular season all fit in one byte each
+        assertThat(index.sizeBytes()).isEqualTo(data.gameLogs.size() * 3);
+    }
+
+    @Test
+    void valuesNeedingSeveralVarIntBytesRoundTrip() {
+        long playerId = 8_478_402L;
+        List<GameLog> gameLogs = List.of(
+                gameLog(playerId, 1, "2024-10-08", 0),
+                gameLog(playerId, 2, "2024-10-09", 90),
+                gameLog(playerId, 3, "2025-04-30", 100), // 203 days later
+                gameLog(playerId, 4, "2025-05-01", 20_000),
+                gameLog(playerId, 5, "2025-05-02", 0),
+                gameLog(8_478_403L, 6, "2025-06-20", 1)); // The only game of a second player, late in the season
+
+        PlayerTrendIndex index = PlayerTrendIndex.build(SeasonGameLogs.fromGameLogs(TestSeasonData.SEASON, gameLogs), WINDOW);
+
+        assertThat(index.get(playerId)).containsExactlyElementsOf(replay(gameLogs.subList(0, 5)));
+        assertThat(index.get(8_478_403L)).containsExactly(
+                new PlayerTrendIndex.Point((int) LocalDate.parse("2025-06-20").toEpochDay(), 1, 1, 1));
+        assertThat(index.get(playerId).get(3).hotRating()).isEqualTo((90 + 100 + 20_000) / 3.0);
+    }
+
+    @Test
+    void emptySeasonHasNoPlayers() {
+        PlayerTrendIndex index = PlayerTrendIndex.build(SeasonGameLogs.fromGameLogs(TestSeasonData.SEASON, List.of()), WINDOW);
+
+        assertThat(index.playerCount()).isZero();
+        assertThat(index.sizeBytes()).isZero();
+        assertThat(index.get(8_478_402L)).isNull();
+    }
+
+    /**
+     * A player's state after each game, replayed from their game logs.
+     */
+    private static List<PlayerTrendIndex.Point> replay(List<GameLog> playerLogs) {
+        List<GameLog> ordered = playerLogs.stream()
+                .sorted(Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId))
+                .toList();
+        List<PlayerTrendIndex.Point> points = new ArrayList<>();
+        int pointStreak = 0;
+        for (int game = 0; game < ordered.size(); game++) {
+            GameLog gameLog = ordered.get(game);
+            pointStreak = gameLog.getPoints() > 0 ? pointStreak + 1 : 0;
+            List<GameLog> window = ordered.subList(Math.max(0, game - WINDOW + 1), game + 1);
+            points.add(new PlayerTrendIndex.Point(
+                    (int) LocalDate.parse(gameLog.getGameDate()).toEpochDay(),
+                    window.stream().mapToInt(GameLog::getPoints).sum(),
+                    window.size(),
+                    pointStreak));
+        }
+        return points;
+    }
+
+    private static GameLog gameLog(long playerId, long game, String gameDate, int points) {
+        return new GameLog(null, playerId, 2024020000L + game, gameDate, "BOS", true,
+                0, points, points, 0, 1, 900, false);
+    }
+}
@@ -0,0 +1,76 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.dto.StatRank;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RankIndexTest {
+
+    private static final List<RankIndex.Column<Skater>> COLUMNS = List.of(
+            new RankIndex.Column<>("goals", Skater::goals, true),
+            new RankIndex.Column<>("goalsAgainstAverage", Skater::goalsAgainstAverage, false));
+
+    private static final List<Skater> SKATERS = List.of(
+            new Skater(1, 5, 2.0),
+            new Skater(2, 3, 2.5),
+            new Skater(3, 3, 2.5),
+            new Skater(4, 3, 3.0),
+            new Skater(5, 1, null),
+            new Skater(6, null, null));
+
+    private final RankIndex<Long, Skater> index = RankIndex.build(SKATERS, Skater::id, COLUMNS);
+
+    @Test
+    void tiedValuesShareARankAndCountTiesAsHalfInThePercentile() {
+        assertThat(ranks(1)).containsExactly(
+                tuple("goals", 5.0, 1, 5, 0, 100.0),
+                tuple("goalsAgainstAverage", 2.0, 1, 4, 0, 100.0));
+        // Three skaters share 3 goals: one is better, one is worse, and each is tied with the other two
+        assertThat(ranks(2)).containsExactly(
+                tuple("goals", 3.0, 2, 5, 2, 50.0),
+                tuple("goalsAgainstAverage", 2.5, 2, 4, 1, 50.0));
+        assertThat(ranks(4)).containsExactly(
+                tuple("goals", 3.0, 2, 5, 2, 50.0),
+                tuple("goalsAgainstAverage", 3.0, 4, 4, 0, 0.0));
+        assertThat(ranks(5)).containsExactly(tuple("goals", 1.0, 5, 5, 0, 0.0));
+    }
+
+    @Test
+    void nullValuesAreNeitherRankedNorCounted() {
+        assertThat(ranks(6)).isEmpty();
+        // A value outside the index is ranked among the indexed values
+        assertThat(index.ranks(new Skater(7, 4, null)))
+                .extracting(StatRank::getStat, StatRank::getRank, StatRank::getOutOf, StatRank::getPercentile)
+                .containsExactly(tuple("goals", 2, 5, 100.0));
+    }
+
+    @Test
+    void aSingleValueIsRankedFirstAtTheTopPercentile() {
+        RankIndex<Long, Skater> single = RankIndex.build(List.of(new Skater(1, 0, 1.5)), Skater::id, COLUMNS);
+
+        assertThat(single.ranks(single.get(1L).orElseThrow()))
+                .extracting(StatRank::getRank, StatRank::getOutOf, StatRank::getTiedWith, StatRank::getPercentile)
+                .containsExactly(tuple(1, 1, 0, 100.0), tuple(1, 1, 0, 100.0));
+    }
+
+    @Test
+    void entitiesAreLookedUpByKey() {
+        assertThat(index.get(3L)).contains(SKATERS.get(2));
+        assertThat(index.get(99L)).isEmpty();
+    }
+
+    private List<Tuple> ranks(long id) {
+        return index.ranks(index.get(id).orElseThrow()).stream()
+                .map(rank -> tuple(rank.getStat(), rank.getValue(), rank.getRank(), rank.getOutOf(),
+                        rank.getTiedWith(), rank.getPercentile()))
+                .toList();
+    }
+
+    private record Skater(long id, Integer goals, Double goalsAgainstAverage) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.entity.Player;
+import com.nhl.whoshotbackend.entity.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeasonArchiveTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void everyFieldRoundTrips() throws IOException {
+        TestSeasonData data = withDerivedState(TestSeasonData.small(71));
+        SeasonArchive archive = write(data);
+
+        assertThat(archive.getSeason()).isEqualTo(data.season);
+        assertThat(archive.teamCount()).isEqualTo(data.teams.size());
+        assertThat(archive.playerCount()).isEqualTo(data.players.size());
+        assertThat(archive.gameLogCount()).isEqualTo(data.gameLogs.size());
+
+        assertThat(archive.teams()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sorted(data.teams, Comparator.comparing(Team::getTeamCode)));
+        assertThat(archive.players()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(sorted(data.players, Comparator.comparing(Player::getPlayerId)));
+        Comparator<GameLog> byPlayerDateGame = Comparator.comparing(GameLog::getPlayerId)
+                .thenComparing(GameLog::getGameDate).thenComparing(GameLog::getGameId);
+        assertThat(archive.gameLogs()).usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+                .containsExactlyElementsOf(sorted(data.gameLogs, byPlayerDateGame));
+    }
+
+    @Test
+    void lookupsFindRecordsByKey() throws IOException {
+        TestSeasonData data = withDerivedState(TestSeasonData.small(72));
+        SeasonArchive archive = write(data);
+
+        for (Team team : data.teams) {
+            assertThat(archive.findTeam(team.getTeamCode())).get().usingRecursiveComparison().isEqualTo(team);
+        }
+        for (Player player : data.players) {
+            assertThat(archive.findPlayer(player.getPlayerId())).get().usingRecursiveComparison().isEqualTo(player);
+            List<GameLog> expected = data.gameLogs.stream()
+                    .filter(gameLog -> gameLog.getPlayerId().equals(player.getPlayerId()))
+                    .sorted(Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId))
+                    .toList();
+            assertThat(archive.gameLogs(player.getPlayerId())).usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+                    .containsExactlyElementsOf(expected);
+        }
+        assertThat(archive.findTeam("ZZZ")).isEmpty();
+        assertThat(archive.findTeam("")).isEmpty();
+        assertThat(archive.findPlayer(1L)).isEmpty();
+        assertThat(archive.gameLogs(1L)).isEmpty();
+    }
+
+    @Test
+    void leaderboardsFollowListEndpointOrder() throws IOException {
+        TestSeasonData data = withDerivedState(TestSeasonData.small(73));
+        SeasonArchive archive = write(data);
+
+        assertLeaderboard(archive.players(SeasonArchive.Leaderboard.PLAYERS_BY_POINTS),
+                data.players, player -> true, Player::getPoints, Player::getPlayerId);
+        assertLeaderboard(archive.players(SeasonArchive.Leaderboard.PLAYERS_BY_POINT_STREAK),
+                data.players, player -> player.getCurrentPointStreak() > 0, Player::getCurrentPointStreak,
+                Player::getPlayerId);
+        assertLeaderboard(archive.players(SeasonArchive.Leaderboard.PLAYERS_BY_HOT_RATING),
+                data.players, player -> player.getHotRating() != null, Player::getHotRating, Player::getPlayerId);
+        assertLeaderboard(archive.teams(SeasonArchive.Leaderboard.TEAMS_BY_POINTS),
+                data.teams, team -> true, Team::getPoints, Team::getTeamCode);
+        assertLeaderboard(archive.teams(SeasonArchive.Leaderboard.TEAMS_BY_WIN_STREAK),
+                data.teams, team -> team.getCurrentWinStreak() > 0, Team::getCurrentWinStreak, Team::getTeamCode);
+        assertLeaderboard(archive.teams(SeasonArchive.Leaderboard.TEAMS_BY_LOSS_STREAK),
+                data.teams, team -> team.getCurrentLossStreak() > 0, Team::getCurrentLossStreak, Team::getTeamCode);
+    }
+
+    @Test
+    void emptySeasonRoundTrips() throws IOException {
+        Path file = workDir.resolve("empty.archive");
+        SeasonArchive.write(file, TestSeasonData.SEASON, List.of(), List.of(), List.of());
+        SeasonArchive archive = SeasonArchive.open(file);
+
+        assertThat(archive.getSeason()).isEqualTo(TestSeasonData.SEASON);
+        assertThat(archive.teams()).isEmpty();
+        assertThat(archive.players()).isEmpty();
+        assertThat(archive.gameLogs()).isEmpty();
+        assertThat(archive.players(SeasonArchive.Leaderboard.PLAYERS_BY_POINTS)).isEmpty();
+        assertThat(archive.findPlayer(8_400_000L)).isEmpty();
+    }
+
+    @Test
+    void rejectsFilesThatAreNotArchives() throws IOException {
+        Path file = workDir.resolve("not-an.archive");
+        Files.write(file, new byte[256]);
+
+        assertThatThrownBy(() -> SeasonArchive.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a season archive");
+    }
+
+    private SeasonArchive write(TestSeasonData data) throws IOException {
+        Path file = workDir.resolve(data.season + ".archive");
+        SeasonArchive.write(file, data.season, data.teams, data.players, data.gameLogs);
+        return SeasonArchive.open(file);
+    }
+
+    /**
+     * Fill the fields the generated season leaves empty, with a mix of nulls, booleans and non-ASCII strings.
+     */
+    private static TestSeasonData withDerivedState(TestSeasonData data) {
+        Random random = new Random(data.players.size() + data.gameLogs.size());
+        for (Player player : data.players) {
+            player.setCurrentPointStreak(random.nextInt(4));
+            player.setHotRating(random.nextInt(3) == 0 ? null : random.nextInt(8) / 4.0);
+            player.setHot(random.nextInt(3) == 0 ? null : random.nextBoolean());
+            player.setCold(random.nextBoolean());
+            player.setPointStreak(player.getCurrentPointStreak() >= 3);
+            player.setShootingPercentage(player.getShots() > 0 ? (double) player.getGoals() / player.getShots() : null);
+            player.setBirthCountry(random.nextBoolean() ? "DEU" : null);
+            player.setLastName(player.getPlayerId() % 5 == 0 ? "Stützle-Ångström" : player.getLastName());
+            player.setLastUpdated("2025-04-18T09:30:00");
+        }
+        for (Team team : data.teams) {
+            boolean winning = random.nextBoolean();
+            team.setCurrentWinStreak(winning ? random.nextInt(3) : 0);
+            team.setCurrentLossStreak(winning ? 0 : random.nextInt(3));
+            team.setLast10GamesWinPercentage(random.nextInt(11) / 10.0);
+            team.setHot(team.getCurrentWinStreak() >= 2);
+            team.setCold(team.getCurrentLossStreak() >= 2);
+            team.setPointStreak(null);
+            team.setConferenceName("Eastern");
+            team.setDivisionName(random.nextBoolean() ? "Atlantic" : "Métropolitaine");
+            team.setNextGameIsHome(random.nextBoolean() ? null : random.nextBoolean());
+        }
+        return data;
+    }
+
+    /**
+     * Leaderboard order: sort value descending, then ID ascending, filtered like the list endpoint.
+     */
+    private static <T, V extends Comparable<V>, K extends Comparable<K>> void assertLeaderboard(
+            List<T> leaderboard, List<T> records, Predicate<T> filter, Function<T, V> value, Function<T, K> id) {
+        List<K> expected = records.stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(value, Comparator.reverseOrder()).thenComparing(id))
+                .map(id)
+                .toList();
+        assertThat(leaderboard).extracting(id::apply).containsExactlyElementsOf(expected);
+    }
+
+    private static <T> List<T> sorted(List<T> records, Comparator<T> order) {
+        return records.stream().sorted(order).toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.nhl.whoshotbackend.store;
+
+import com.nhl.whoshotbackend.TestSeasonData;
+import com.nhl.whoshotbackend.entity.GameLog;
+import com.nhl.whoshotbackend.repository.GameLogRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeasonGameLogsTest {
+
+    // Rough retained size of one GameLog entity: object header and fields, boxed Longs and
+    // the two Strings (Integer/Boolean values are mostly served from the JDK caches)
+    private static final long ESTIMATED_ENTITY_BYTES = 264;
+
+    @Test
+    void groupsRowsByPlayerInDateOrder() {
+        TestSeasonData data = TestSeasonData.small(41);
+        List<GameLog> shuffled = new ArrayList<>(data.gameLogs);
+        Collections.shuffle(shuffled, new Random(42));
+
+        SeasonGameLogs columns = SeasonGameLogs.fromGameLogs(data.season, shuffled);
+
+        Map<Long, List<GameLog>> byPlayer = data.gameLogs.stream()
+                .collect(Collectors.groupingBy(GameLog::getPlayerId));
+        assertThat(columns.rowCount()).isEqualTo(data.gameLogs.size());
+        assertThat(columns.playerCount()).isEqualTo(byPlayer.size());
+        for (int i = 0; i < columns.playerCount(); i++) {
+            long playerId = columns.playerId(i);
+            assertThat(columns.indexOf(playerId)).isEqualTo(i);
+            if (i > 0) {
+                assertThat(playerId).isGreaterThan(columns.playerId(i - 1));
+            }
+
+            List<GameLog> expected = byPlayer.get(playerId).stream()
+                    .sorted(Comparator.comparing(GameLog::getGameDate).thenComparing(GameLog::getGameId))
+                    .toList();
+            assertThat(columns.end(i) - columns.start(i)).isEqualTo(expected.size());
+            for (int k = 0; k < expected.size(); k++) {
+                int row = columns.start(i) + k;
+                GameLog gameLog = expected.get(k);
+                assertThat(columns.gameId(row)).isEqualTo(gameLog.getGameId());
+                assertThat(columns.gameDay(row)).isEqualTo(LocalDate.parse(gameLog.getGameDate()).toEpochDay());
+                assertThat(columns.points(row)).isEqualTo(gameLog.getPoints());
+                assertThat(columns.timeOnIce(row)).isEqualTo(gameLog.getTimeOnIce());
+            }
+            assertThat(columns.sumPoints(columns.start(i), columns.end(i)))
+                    .isEqualTo(expected.stream().mapToInt(GameLog::getPoints).sum());
+            assertThat(columns.sumShots(columns.start(i), columns.end(i)))
+                    .isEqualTo(expected.stream().mapToInt(GameLog::getShots).sum());
+        }
+        assertThat(columns.indexOf(1L)).isNegative();
+    }
+
+    @Test
+    void orderedRowsBuildTheSameColumnsAsEntities() {
+        TestSeasonData data = TestSeasonData.small(43);
+        Stream<GameLogRow> rows = data.gameLogs.stream()
+                .sorted(Comparator.comparing(GameLog::getPlayerId).thenComparing(GameLog::getGameDate)
+                        .thenComparing(GameLog::getGameId))
+                .map(GameLogRow::of);
+
+        SeasonGameLogs fromRows = SeasonGameLogs.fromOrderedRows(data.season, rows);
+        SeasonGameLogs fromEntities = SeasonGameLogs.fromGameLogs(data.season, data.gameLogs);
+
+        assertThat(fromRows.rowCount()).isEqualTo(fromEntities.rowCount());
+        assertThat(fromRows.playerCount()).isEqualTo(fromEntities.playerCount());
+        for (int row = 0; row < fromRows.rowCount(); row++) {
+            assertThat(fromRows.gameId(row)).isEqualTo(fromEntities.gameId(row));
+            assertThat(fromRows.goals(row)).isEqualTo(fromEntities.goals(row));
+            assertThat(fromRows.plusMinus(row)).isEqualTo(fromEntities.plusMinus(row));
+        }
+        assertThat(SeasonGameLogs.fromOrderedRows(data.season, Stream.empty()).rowCount()).isZero();
+    }
+
+    @Test
+    void rejectsRowsNotGroupedByPlayer() {
+        TestSeasonData data = TestSeasonData.small(44);
+        Stream<GameLogRow> rows = data.gameLogs.stream()
+                .sorted(Comparator.comparing(GameLog::getGameId))
+                .map(GameLogRow::of);
+
+        assertThatThrownBy(() -> SeasonGameLogs.fromOrderedRows(data.season, rows))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void columnsAreSmallerAndFasterToScanThanEntities() {
+        // A full season: 32 teams of 20 skaters over 82 game days
+        TestSeasonData data = TestSeasonData.generate(TestSeasonData.SEASON, 32, 20, 82, 45);
+        List<GameLog> gameLogs = data.gameLogs;
+        SeasonGameLogs columns = SeasonGameLogs.fromGameLogs(data.season, gameLogs);
+
+        long entityPoints = 0;
+        long columnarPoints = 0;
+        long entityNanos = Long.MAX_VALUE;
+        long columnarNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 20; round++) {
+            long startNanos = System.nanoTime();
+            entityPoints = 0;
+            for (GameLog gameLog : gameLogs) {
+                entityPoints += gameLog.getPoints() != null ? gameLog.getPoints() : 0;
+            }
+            entityNanos = Math.min(entityNanos, System.nanoTime() - startNanos);
+
+            startNanos = System.nanoTime();
+            columnarPoints = 0;
+            for (int row = 0; row < columns.rowCount(); row++) {
+                columnarPoints += columns.points(row);
+            }
+            columnarNanos = Math.min(columnarNanos, System.nanoTime() - startNanos);
+        }
+
+        long entityBytes = gameLogs.size() * ESTIMATED_ENTITY_BYTES;
+        System.out.printf("Game logs: %d rows. Footprint %d KB columnar vs ~%d KB as entities. "
+                        + "Points scan %d us columnar vs %d us entities%n",
+                columns.rowCount(), columns.footprintBytes() / 1024, entityBytes / 1024,
+                columnarNanos / 1_000, entityNanos / 1_000);
+        assertThat(columnarPoints).isEqualTo(entityPoints);
+        assertThat(columns.footprintBytes()).isLessThan(entityBytes / 3);
+    }
+}
@@ -2,6 +2,15 @@ import { ref } from 'vue'
 
 const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api'
 
+// Route NHL logos and headshots through the backend asset cache
+export function assetUrl(url, size = null) {
+  if (!url) {
+    return null
+  }
+  const sizeParam = size ? `&size=${size}` : ''
+  return `${API_BASE_URL}/assets?url=${encodeURIComponent(url)}${sizeParam}`
+}
+
 export function useApi() {
   const loading = ref(false)
   const error = ref(null)
@@ -37,9 +46,11 @@ export function useApi() {
 export function usePlayerStats() {
   const { loading, error, fetchData } = useApi()
 
-  const getTopScorers = async (limit = 10, season = null) => {
+  // fields: optional list of player fields to return instead of full players
+  const getTopScorers = async (limit = 10, season = null, fields = null) => {
     const seasonParam = season ? `&season=${season}` : ''
-    const data = await fetchData(`/players/standings?limit=${limit}${seasonParam}`)
+    const fieldsParam = fields ? `&fields=${fields.join(',')}` : ''
+    const data = await fetchData(`/players/standings?limit=${limit}${seasonParam}${fieldsParam}`)
     return data || []
   }
 
@@ -49,9 +60,10 @@ export function usePlayerStats() {
     return data || []
   }
 
-  const getHottestPlayers = async (games = 5, limit = 20, season = null) => {
+  const getHottestPlayers = async (games = 5, limit = 20, season = null, fields = null) => {
     const seasonParam = season ? `&season=${season}` : ''
-    const data = await fetchData(`/players/hot?games=${games}&limit=${limit}${seasonParam}`)
+    const fieldsParam = fields ? `&fields=${fields.join(',')}` : ''
+    const data = await fetchData(`/players/hot?games=${games}&limit=${limit}${seasonParam}${fieldsParam}`)
     return data || []
   }
 
@@ -66,6 +78,12 @@ export function usePlayerStats() {
     return data?.recentGames || []
   }
 
+  const getPlayerTrend = async (playerId, season = null) => {
+    const seasonParam = season ? `?season=${season}` : ''
+    const data = await fetchData(`/players/${playerId}/trend${seasonParam}`)
+    return data || []
+  }
+
   return {
     loading,
     error,
@@ -73,7 +91,8 @@ export function usePlayerStats() {
     getPlayerStreaks,
     getHottestPlayers,
     getPlayerDetails,
-    getPlayerGameLog
+    getPlayerGameLog,
+    getPlayerTrend
   }
 }
 